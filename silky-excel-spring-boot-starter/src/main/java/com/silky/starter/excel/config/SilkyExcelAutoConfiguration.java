@@ -1,7 +1,9 @@
 package com.silky.starter.excel.config;
 
+import com.silky.starter.excel.core.engine.CsvExportWriter;
 import com.silky.starter.excel.core.engine.ExportEngine;
 import com.silky.starter.excel.core.engine.ImportEngine;
+import com.silky.starter.excel.core.metrics.ExcelMetrics;
 import com.silky.starter.excel.core.resolve.*;
 import com.silky.starter.excel.core.storage.StorageStrategy;
 import com.silky.starter.excel.core.storage.factory.StorageStrategyFactory;
@@ -17,6 +19,7 @@ import com.silky.starter.excel.template.ExcelTemplate;
 import com.silky.starter.excel.template.impl.DefaultExcelTemplate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -24,11 +27,15 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Silky Excel 自动配置类
@@ -57,6 +64,7 @@ public class SilkyExcelAutoConfiguration {
 
     /**
      * 异步任务线程池
+     * 队列已满时拒绝提交（AbortPolicy），提交方返回失败结果或由当前线程继续执行，导出不会在调用线程中执行
      */
     @Bean("silkyExcelTaskExecutor")
     @ConditionalOnMissingBean(name = "silkyExcelTaskExecutor")
@@ -69,7 +77,7 @@ public class SilkyExcelAutoConfiguration {
         executor.setQueueCapacity(threadPoolConfig.getQueueCapacity());
         executor.setKeepAliveSeconds(threadPoolConfig.getKeepAliveSeconds());
         executor.setThreadNamePrefix("silky-excel-");
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
@@ -102,8 +110,9 @@ public class SilkyExcelAutoConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean
-    public ExportRecordService exportRecordService() {
-        return new InMemoryExportRecordService();
+    public ExportRecordService exportRecordService(SilkyExcelProperties properties) {
+        SilkyExcelProperties.RecordStoreConfig config = properties.getRecordStore();
+        return new InMemoryExportRecordService(config.getMaxRecords(), getRetention(config));
     }
 
     /**
@@ -111,8 +120,9 @@ public class SilkyExcelAutoConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean
-    public ImportRecordService importRecordService() {
-        return new InMemoryImportRecordService();
+    public ImportRecordService importRecordService(SilkyExcelProperties properties) {
+        SilkyExcelProperties.RecordStoreConfig config = properties.getRecordStore();
+        return new InMemoryImportRecordService(config.getMaxRecords(), getRetention(config));
     }
 
     /**
@@ -124,6 +134,40 @@ public class SilkyExcelAutoConfiguration {
         return new CompressionServiceImpl(properties);
     }
 
+    /**
+     * 应用级字典缓存
+     * 所有导出任务共享，需开启 silky.excel.dict-cache.enabled
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "silky.excel.dict-cache", name = "enabled", havingValue = "true")
+    public DictionaryCache silkyExcelDictionaryCache(SilkyExcelProperties properties) {
+        SilkyExcelProperties.DictCacheConfig config = properties.getDictCache();
+        Map<String, Long> dictTtlMillis = new HashMap<>();
+        config.getDictTtlSeconds().forEach((dictCode, seconds) -> dictTtlMillis.put(dictCode, TimeUnit.SECONDS.toMillis(seconds)));
+        log.info("Silky Excel 字典缓存初始化完成: maxSize={}, ttlSeconds={}", config.getMaxSize(), config.getTtlSeconds());
+        return new DictionaryCache(config.getMaxSize(), TimeUnit.SECONDS.toMillis(config.getTtlSeconds()), dictTtlMillis);
+    }
+
+    /**
+     * 数据类元数据注册表
+     * 配置了 silky.excel.metadata.warmup-packages 时在启动阶段扫描并预先构建数据类元数据和 CSV 列布局；
+     * 容器关闭时清空缓存，释放对应用类加载器的引用
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public ExcelModelRegistry excelModelRegistry(SilkyExcelProperties properties) {
+        ExcelModelRegistry registry = new ExcelModelRegistry();
+        List<String> warmupPackages = properties.getMetadata().getWarmupPackages();
+        if (!warmupPackages.isEmpty()) {
+            for (Class<?> modelClass : registry.warmUp(warmupPackages.toArray(new String[0]))) {
+                // 同时构建 CSV 快速读写的列布局
+                CsvExportWriter.supports(modelClass, registry);
+            }
+        }
+        return registry;
+    }
+
     /**
      * 字段转换管道
      * 自动注册所有 ExcelFieldResolver 实现，按 Order 排序
@@ -131,19 +175,31 @@ public class SilkyExcelAutoConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean
-    public ExcelFieldResolverPipeline excelFieldResolverPipeline(ObjectProvider<DictionaryProvider> dictionaryProvider) {
+    public ExcelFieldResolverPipeline excelFieldResolverPipeline(ObjectProvider<DictionaryProvider> dictionaryProvider,
+                                                                 ObjectProvider<DictionaryCache> dictionaryCache,
+                                                                 SilkyExcelProperties properties,
+                                                                 ExcelModelRegistry excelModelRegistry) {
         List<ExcelFieldResolver> resolvers = new ArrayList<>();
-        resolvers.add(new EnumFieldResolver());
+        resolvers.add(new EnumFieldResolver(excelModelRegistry));
         // 仅在有 DictionaryProvider 时注册字典解析器
         DictionaryProvider provider = dictionaryProvider.getIfAvailable();
         if (provider != null) {
-            resolvers.add(new DictFieldResolver(provider));
+            resolvers.add(new DictFieldResolver(provider, dictionaryCache.getIfAvailable(), excelModelRegistry));
             log.info("已检测到 DictionaryProvider，启用字典翻译功能");
         }
-        resolvers.add(new MaskFieldResolver());
+        resolvers.add(new MaskFieldResolver(excelModelRegistry));
 
         log.info("ExcelFieldResolverPipeline 初始化完成, 解析器数量: {}", resolvers.size());
-        return new ExcelFieldResolverPipeline(resolvers);
+        SilkyExcelProperties.Export export = properties.getExport();
+        return new ExcelFieldResolverPipeline(resolvers, export.getResolveThreads(), export.getResolveMinChunkSize(),
+                excelModelRegistry);
+    }
+
+    /**
+     * 内存记录保留时间，未配置时不按时间淘汰
+     */
+    private static Duration getRetention(SilkyExcelProperties.RecordStoreConfig config) {
+        return config.getRetentionHours() > 0 ? Duration.ofHours(config.getRetentionHours()) : null;
     }
 
     /**
@@ -157,9 +213,12 @@ public class SilkyExcelAutoConfiguration {
                                      ThreadPoolTaskExecutor silkyExcelTaskExecutor,
                                      CompressionService compressionService,
                                      ExcelFieldResolverPipeline fieldResolverPipeline,
-                                     ScheduledExecutorService silkyExcelCleanupExecutor) {
-        return new ExportEngine(storageStrategyFactory, recordService, properties,
+                                     ScheduledExecutorService silkyExcelCleanupExecutor,
+                                     ExcelModelRegistry excelModelRegistry) {
+        ExportEngine exportEngine = new ExportEngine(storageStrategyFactory, recordService, properties,
                 silkyExcelTaskExecutor, compressionService, fieldResolverPipeline, silkyExcelCleanupExecutor);
+        exportEngine.setModelRegistry(excelModelRegistry);
+        return exportEngine;
     }
 
     /**
@@ -172,9 +231,30 @@ public class SilkyExcelAutoConfiguration {
                                      CompressionService compressionService,
                                      StorageStrategyFactory storageStrategyFactory,
                                      SilkyExcelProperties properties,
-                                     ScheduledExecutorService silkyExcelCleanupExecutor) {
-        return new ImportEngine(recordService, silkyExcelTaskExecutor, compressionService,
+                                     ScheduledExecutorService silkyExcelCleanupExecutor,
+                                     ExcelModelRegistry excelModelRegistry) {
+        ImportEngine importEngine = new ImportEngine(recordService, silkyExcelTaskExecutor, compressionService,
                 storageStrategyFactory, properties, silkyExcelCleanupExecutor);
+        importEngine.setModelRegistry(excelModelRegistry);
+        return importEngine;
+    }
+
+    /**
+     * 所有单例创建完成后为导出/导入引擎设置指标记录器
+     * 不在引擎工厂方法中获取 ExcelMetrics：MeterRegistry 初始化时会绑定依赖导出引擎的 MeterBinder，提前获取会形成循环依赖
+     */
+    @Bean
+    public SmartInitializingSingleton silkyExcelMetricsInitializer(ObjectProvider<ExcelMetrics> excelMetrics,
+                                                                   ObjectProvider<ExportEngine> exportEngine,
+                                                                   ObjectProvider<ImportEngine> importEngine) {
+        return () -> {
+            ExcelMetrics metrics = excelMetrics.getIfAvailable();
+            if (metrics == null) {
+                return;
+            }
+            exportEngine.ifAvailable(engine -> engine.setMetrics(metrics));
+            importEngine.ifAvailable(engine -> engine.setMetrics(metrics));
+        };
     }
 
     /**
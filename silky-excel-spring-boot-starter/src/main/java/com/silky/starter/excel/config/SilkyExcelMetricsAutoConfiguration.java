@@ -0,0 +1,56 @@
+package com.silky.starter.excel.config;
+
+import com.silky.starter.excel.core.engine.ExportEngine;
+import com.silky.starter.excel.core.engine.ImportEngine;
+import com.silky.starter.excel.core.metrics.ExcelMetrics;
+import com.silky.starter.excel.core.metrics.MicrometerExcelMetrics;
+import com.silky.starter.excel.core.metrics.SilkyExcelMeterBinder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Silky Excel 指标自动配置
+ * 引入 Micrometer 且存在 MeterRegistry 时，记录导出/导入各阶段耗时、行数、吞吐量，
+ * 并暴露执行中任务数、导出调度器排队数和 silkyExcelTaskExecutor 线程池饱和度
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+@AutoConfiguration(after = SilkyExcelAutoConfiguration.class, afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean({MeterRegistry.class, ExportEngine.class})
+@ConditionalOnProperty(prefix = "silky.excel.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SilkyExcelMetricsAutoConfiguration {
+
+    /**
+     * 导出/导入阶段指标记录器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExcelMetrics excelMetrics(MeterRegistry meterRegistry) {
+        log.info("Silky Excel 指标已启用");
+        return new MicrometerExcelMetrics(meterRegistry);
+    }
+
+    /**
+     * 任务数与线程池状态指标
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SilkyExcelMeterBinder silkyExcelMeterBinder(ExportEngine exportEngine,
+                                                       ObjectProvider<ImportEngine> importEngine,
+                                                       ThreadPoolTaskExecutor silkyExcelTaskExecutor) {
+        return new SilkyExcelMeterBinder(exportEngine, importEngine.getIfAvailable(), silkyExcelTaskExecutor);
+    }
+}
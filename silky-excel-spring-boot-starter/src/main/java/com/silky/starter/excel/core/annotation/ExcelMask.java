@@ -37,7 +37,7 @@ public @interface ExcelMask {
     String customPattern() default "";
 
     /**
-     * 替换字符
+     * 替换字符（仅 PARTIAL 和 CUSTOM 策略使用，其他策略固定使用 *）
      */
     char maskChar() default '*';
 
@@ -0,0 +1,177 @@
+package com.silky.starter.excel.core.engine;
+
+import com.silky.starter.excel.core.resolve.ExcelModelMetadata;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 自适应分页大小
+ * 按实测的分页查询耗时、抽样估算的单行内存占用和当前可用堆内存，在配置的上下限内调整单个Sheet的分页大小：
+ * 查询耗时低于目标耗时的一半且内存允许时分页大小翻倍，查询耗时超过目标耗时的两倍或在途分页的预计内存占用超过堆内存预算时减半。
+ * <p>
+ * 分页大小每次只调整为当前大小的 2 倍或二分之一，按页码查询的数据供应器由调用方在已查询行数能被新分页大小整除时才切换，
+ * 保证切换后 (页码 - 1) × 分页大小 仍指向下一条未查询的数据。每个Sheet独立持有，非线程安全。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+public class AdaptivePageSizer {
+
+    /**
+     * 每页抽样估算内存占用的行数
+     */
+    private static final int SAMPLE_ROWS = 8;
+
+    private static final int OBJECT_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int DEFAULT_VALUE_BYTES = 32;
+
+    private final int minPageSize;
+
+    private final int maxPageSize;
+
+    private final long targetFetchNanos;
+
+    private final double maxHeapRatio;
+
+    private final int pagesInFlight;
+
+    private final ExcelModelMetadata metadata;
+
+    /**
+     * 单行内存占用估算值（字节，指数平滑）
+     */
+    private long rowBytes;
+
+    /**
+     * 构造函数
+     *
+     * @param dataClass         数据类
+     * @param modelRegistry     数据类元数据注册表
+     * @param minPageSize       最小分页大小
+     * @param maxPageSize       最大分页大小
+     * @param targetFetchMillis 单页查询的目标耗时（毫秒）
+     * @param maxHeapRatio      在途分页最多占用可用堆内存的比例
+     * @param pagesInFlight     同时在内存中的分页数（预取深度 + 1，多Sheet并行拉取时为所有Sheet之和）
+     */
+    public AdaptivePageSizer(Class<?> dataClass, ExcelModelRegistry modelRegistry, int minPageSize, int maxPageSize,
+                             long targetFetchMillis, double maxHeapRatio, int pagesInFlight) {
+        if (minPageSize <= 0 || maxPageSize < minPageSize) {
+            throw new IllegalArgumentException("自适应分页大小上下限无效: min=" + minPageSize + ", max=" + maxPageSize);
+        }
+        if (targetFetchMillis <= 0) {
+            throw new IllegalArgumentException("自适应分页目标查询耗时必须大于0");
+        }
+        if (maxHeapRatio <= 0 || maxHeapRatio > 1) {
+            throw new IllegalArgumentException("自适应分页堆内存比例必须在 (0, 1] 之间");
+        }
+        this.minPageSize = minPageSize;
+        this.maxPageSize = maxPageSize;
+        this.targetFetchNanos = TimeUnit.MILLISECONDS.toNanos(targetFetchMillis);
+        this.maxHeapRatio = maxHeapRatio;
+        this.pagesInFlight = Math.max(pagesInFlight, 1);
+        this.metadata = modelRegistry.getMetadata(dataClass);
+    }
+
+    /**
+     * 根据刚查询到的分页计算下一页期望的分页大小
+     *
+     * @param currentPageSize 当前分页大小
+     * @param page            刚查询到的分页数据
+     * @param fetchNanos      本页查询耗时（纳秒）
+     * @return 期望的分页大小：当前大小、2 倍或二分之一
+     */
+    public int nextPageSize(int currentPageSize, List<?> page, long fetchNanos) {
+        long sampledBytes = estimateRowBytes(page);
+        rowBytes = rowBytes == 0 ? sampledBytes : (rowBytes * 3 + sampledBytes) / 4;
+        long maxRowsByHeap = getMaxRowsByHeap();
+
+        int smaller = currentPageSize / 2;
+        boolean canShrink = currentPageSize % 2 == 0 && smaller >= minPageSize;
+        if (canShrink && (currentPageSize > maxRowsByHeap || fetchNanos > targetFetchNanos * 2)) {
+            return smaller;
+        }
+        // 仅在整页返回时放大，末尾不足一页说明已接近数据末尾
+        boolean canGrow = page.size() >= currentPageSize && currentPageSize <= maxPageSize / 2;
+        if (canGrow && currentPageSize * 2L <= maxRowsByHeap && fetchNanos * 2 < targetFetchNanos) {
+            return currentPageSize * 2;
+        }
+        return currentPageSize;
+    }
+
+    /**
+     * 获取当前单行内存占用估算值（字节）
+     */
+    public long getRowBytes() {
+        return rowBytes;
+    }
+
+    /**
+     * 按当前可用堆内存和单行内存占用计算在途分页允许的最大分页大小
+     */
+    private long getMaxRowsByHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long available = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        long budget = (long) (available * maxHeapRatio);
+        return budget / (Math.max(rowBytes, 1) * pagesInFlight);
+    }
+
+    /**
+     * 在分页中均匀抽样估算单行内存占用（字段值的浅层大小之和）
+     */
+    private long estimateRowBytes(List<?> page) {
+        int step = Math.max(page.size() / SAMPLE_ROWS, 1);
+        long total = 0;
+        int sampled = 0;
+        for (int i = 0; i < page.size() && sampled < SAMPLE_ROWS; i += step) {
+            Object row = page.get(i);
+            if (row != null) {
+                total += estimateBytes(row);
+                sampled++;
+            }
+        }
+        return sampled > 0 ? total / sampled : OBJECT_HEADER_BYTES;
+    }
+
+    private long estimateBytes(Object row) {
+        long bytes = OBJECT_HEADER_BYTES;
+        for (ExcelModelMetadata.ModelField modelField : metadata.getFields()) {
+            Class<?> type = modelField.getField().getType();
+            if (type.isPrimitive()) {
+                bytes += 8;
+                continue;
+            }
+            bytes += REFERENCE_BYTES + estimateValueBytes(modelField.getAccessor().get(row));
+        }
+        return bytes;
+    }
+
+    private static long estimateValueBytes(Object value) {
+        if (value == null || value instanceof Enum) {
+            return 0;
+        }
+        if (value instanceof CharSequence) {
+            return 40 + 2L * ((CharSequence) value).length();
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 64;
+        }
+        if (value instanceof LocalDateTime) {
+            return 72;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return 16;
+        }
+        if (value instanceof Date || value instanceof LocalDate) {
+            return 24;
+        }
+        return DEFAULT_VALUE_BYTES;
+    }
+}
@@ -0,0 +1,355 @@
+package com.silky.starter.excel.core.engine;
+
+import com.silky.starter.excel.core.exception.ExcelExportException;
+import com.silky.starter.excel.core.resolve.ExcelModelMetadata;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 导出检查点分页编解码器
+ * 按数据类的实例字段（不含 static、transient 字段）逐个写入字段值的二进制形式，回放时直接写回字段，不经过 getter/setter，
+ * 恢复后的数据与查询时完全一致：BigDecimal 保留精度和标度，日期时间保留到纳秒，枚举按名称恢复。
+ * <p>
+ * 支持的字段类型：基本类型及其包装类、String、BigDecimal、BigInteger、java.util.Date、java.sql.Date、java.sql.Timestamp、
+ * LocalDate、LocalTime、LocalDateTime、Instant、OffsetDateTime 和枚举。数据类需有无参构造函数且字段不能为 final，
+ * 否则创建编解码器时抛出 {@link IllegalArgumentException}。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+public final class CheckpointRowCodec<T> {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final Map<Class<?>, ValueCodec> CODECS = new HashMap<>();
+
+    static {
+        register(ValueCodec.of((out, v) -> out.writeBoolean((Boolean) v), DataInputStream::readBoolean), boolean.class, Boolean.class);
+        register(ValueCodec.of((out, v) -> out.writeByte((Byte) v), DataInputStream::readByte), byte.class, Byte.class);
+        register(ValueCodec.of((out, v) -> out.writeShort((Short) v), DataInputStream::readShort), short.class, Short.class);
+        register(ValueCodec.of((out, v) -> out.writeChar((Character) v), DataInputStream::readChar), char.class, Character.class);
+        register(ValueCodec.of((out, v) -> out.writeInt((Integer) v), DataInputStream::readInt), int.class, Integer.class);
+        register(ValueCodec.of((out, v) -> out.writeLong((Long) v), DataInputStream::readLong), long.class, Long.class);
+        register(ValueCodec.of((out, v) -> out.writeFloat((Float) v), DataInputStream::readFloat), float.class, Float.class);
+        register(ValueCodec.of((out, v) -> out.writeDouble((Double) v), DataInputStream::readDouble), double.class, Double.class);
+        register(ValueCodec.of((out, v) -> writeString(out, (String) v), CheckpointRowCodec::readString), String.class);
+        register(ValueCodec.of((out, v) -> {
+            BigDecimal decimal = (BigDecimal) v;
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+            out.writeInt(decimal.scale());
+        }, in -> new BigDecimal(new BigInteger(readBytes(in)), in.readInt())), BigDecimal.class);
+        register(ValueCodec.of((out, v) -> writeBytes(out, ((BigInteger) v).toByteArray()),
+                in -> new BigInteger(readBytes(in))), BigInteger.class);
+        register(ValueCodec.of((out, v) -> out.writeLong(((Date) v).getTime()), in -> new Date(in.readLong())), Date.class);
+        register(ValueCodec.of((out, v) -> out.writeLong(((java.sql.Date) v).getTime()),
+                in -> new java.sql.Date(in.readLong())), java.sql.Date.class);
+        register(ValueCodec.of((out, v) -> {
+            java.sql.Timestamp timestamp = (java.sql.Timestamp) v;
+            out.writeLong(timestamp.getTime());
+            out.writeInt(timestamp.getNanos());
+        }, in -> {
+            java.sql.Timestamp timestamp = new java.sql.Timestamp(in.readLong());
+            timestamp.setNanos(in.readInt());
+            return timestamp;
+        }), java.sql.Timestamp.class);
+        register(ValueCodec.of((out, v) -> out.writeLong(((LocalDate) v).toEpochDay()),
+                in -> LocalDate.ofEpochDay(in.readLong())), LocalDate.class);
+        register(ValueCodec.of((out, v) -> out.writeLong(((LocalTime) v).toNanoOfDay()),
+                in -> LocalTime.ofNanoOfDay(in.readLong())), LocalTime.class);
+        register(ValueCodec.of((out, v) -> writeLocalDateTime(out, (LocalDateTime) v),
+                CheckpointRowCodec::readLocalDateTime), LocalDateTime.class);
+        register(ValueCodec.of((out, v) -> {
+            Instant instant = (Instant) v;
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        }, in -> Instant.ofEpochSecond(in.readLong(), in.readInt())), Instant.class);
+        register(ValueCodec.of((out, v) -> {
+            OffsetDateTime dateTime = (OffsetDateTime) v;
+            writeLocalDateTime(out, dateTime.toLocalDateTime());
+            out.writeInt(dateTime.getOffset().getTotalSeconds());
+        }, in -> OffsetDateTime.of(readLocalDateTime(in), ZoneOffset.ofTotalSeconds(in.readInt()))), OffsetDateTime.class);
+    }
+
+    private final Class<T> dataClass;
+
+    private final Constructor<T> constructor;
+
+    private final List<FieldCodec> fields;
+
+    /**
+     * 字段签名（字段名与类型），分段文件头部写入，回放时校验数据类是否变化
+     */
+    private final String signature;
+
+    private CheckpointRowCodec(Class<T> dataClass, Constructor<T> constructor, List<FieldCodec> fields, String signature) {
+        this.dataClass = dataClass;
+        this.constructor = constructor;
+        this.fields = fields;
+        this.signature = signature;
+    }
+
+    /**
+     * 为数据类创建编解码器
+     *
+     * @param dataClass     数据类
+     * @param modelRegistry 数据类元数据注册表
+     * @param <T>           数据类型
+     * @return 编解码器
+     * @throws IllegalArgumentException 数据类没有无参构造函数、包含 final 字段或不支持的字段类型
+     */
+    public static <T> CheckpointRowCodec<T> of(Class<T> dataClass, ExcelModelRegistry modelRegistry) {
+        Constructor<T> constructor;
+        try {
+            constructor = dataClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("导出检查点要求数据类有无参构造函数: " + dataClass.getName());
+        }
+        List<FieldCodec> fields = new ArrayList<>();
+        StringBuilder signature = new StringBuilder(dataClass.getName());
+        for (ExcelModelMetadata.ModelField modelField : modelRegistry.getMetadata(dataClass).getFields()) {
+            Field field = modelField.getField();
+            if (Modifier.isTransient(field.getModifiers())) {
+                continue;
+            }
+            if (Modifier.isFinal(field.getModifiers())) {
+                throw new IllegalArgumentException("导出检查点不支持 final 字段: " + dataClass.getName() + "." + field.getName());
+            }
+            fields.add(new FieldCodec(field, getValueCodec(dataClass, field)));
+            signature.append(';').append(field.getName()).append(':').append(field.getType().getName());
+        }
+        return new CheckpointRowCodec<>(dataClass, constructor, fields, signature.toString());
+    }
+
+    /**
+     * 写入分段头部（字段签名）
+     *
+     * @param out 输出流
+     * @throws IOException 写入失败
+     */
+    public void writeHeader(DataOutputStream out) throws IOException {
+        writeString(out, signature);
+    }
+
+    /**
+     * 读取并校验分段头部，数据类字段与写入时不一致时不能回放
+     *
+     * @param in 输入流
+     * @throws IOException 读取失败
+     */
+    public void readHeader(DataInputStream in) throws IOException {
+        String written = readString(in);
+        if (!signature.equals(written)) {
+            throw new ExcelExportException("数据类字段与导出检查点不一致，无法恢复导出: " + dataClass.getName());
+        }
+    }
+
+    /**
+     * 写入一页数据
+     *
+     * @param out  输出流
+     * @param page 分页数据
+     * @throws IOException 写入失败
+     */
+    public void writePage(DataOutputStream out, List<?> page) throws IOException {
+        out.writeInt(page.size());
+        for (Object row : page) {
+            if (row == null) {
+                out.writeBoolean(false);
+                continue;
+            }
+            out.writeBoolean(true);
+            for (FieldCodec field : fields) {
+                field.write(out, row);
+            }
+        }
+    }
+
+    /**
+     * 读取一页数据
+     *
+     * @param in 输入流
+     * @return 分页数据
+     * @throws IOException 读取失败
+     */
+    public List<T> readPage(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<T> page = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (!in.readBoolean()) {
+                page.add(null);
+                continue;
+            }
+            T row;
+            try {
+                row = constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new ExcelExportException("创建数据对象失败: " + dataClass.getName(), e);
+            }
+            for (FieldCodec field : fields) {
+                field.read(in, row);
+            }
+            page.add(row);
+        }
+        return page;
+    }
+
+    private static void register(ValueCodec codec, Class<?>... types) {
+        for (Class<?> type : types) {
+            CODECS.put(type, codec);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ValueCodec getValueCodec(Class<?> dataClass, Field field) {
+        Class<?> type = field.getType();
+        if (type.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+            return ValueCodec.of((out, v) -> writeString(out, ((Enum<?>) v).name()),
+                    in -> Enum.valueOf(enumType, readString(in)));
+        }
+        ValueCodec codec = CODECS.get(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("导出检查点不支持的字段类型: " + dataClass.getName() + "." + field.getName()
+                    + " (" + type.getName() + ")");
+        }
+        return codec;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeLocalDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+        out.writeLong(dateTime.toLocalDate().toEpochDay());
+        out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+    }
+
+    private static LocalDateTime readLocalDateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+    }
+
+    /**
+     * 字段编解码：基本类型字段直接写值，其余字段先写是否为 null
+     */
+    private static final class FieldCodec {
+
+        private final String name;
+
+        private final boolean primitive;
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private final ValueCodec codec;
+
+        FieldCodec(Field field, ValueCodec codec) {
+            this.name = field.getName();
+            this.primitive = field.getType().isPrimitive();
+            this.codec = codec;
+            try {
+                field.setAccessible(true);
+                this.getter = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+                this.setter = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("无法访问字段: " + field, e);
+            }
+        }
+
+        void write(DataOutputStream out, Object row) throws IOException {
+            Object value;
+            try {
+                value = getter.invokeExact(row);
+            } catch (Throwable e) {
+                throw new ExcelExportException("读取字段失败: " + name, e);
+            }
+            if (!primitive) {
+                out.writeBoolean(value != null);
+                if (value == null) {
+                    return;
+                }
+            }
+            codec.write(out, value);
+        }
+
+        void read(DataInputStream in, Object row) throws IOException {
+            // 字段有默认值时也需写回 null，与查询到的数据保持一致
+            Object value = primitive || in.readBoolean() ? codec.read(in) : null;
+            try {
+                setter.invokeExact(row, value);
+            } catch (Throwable e) {
+                throw new ExcelExportException("写入字段失败: " + name, e);
+            }
+        }
+    }
+
+    /**
+     * 字段值编解码
+     */
+    private interface ValueCodec {
+
+        void write(DataOutputStream out, Object value) throws IOException;
+
+        Object read(DataInputStream in) throws IOException;
+
+        static ValueCodec of(Writer writer, Reader reader) {
+            return new ValueCodec() {
+                @Override
+                public void write(DataOutputStream out, Object value) throws IOException {
+                    writer.write(out, value);
+                }
+
+                @Override
+                public Object read(DataInputStream in) throws IOException {
+                    return reader.read(in);
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out, Object value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        Object read(DataInputStream in) throws IOException;
+    }
+}
@@ -0,0 +1,298 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.idev.excel.enums.ByteOrderMarkEnum;
+import com.silky.starter.excel.core.exception.ExcelExportException;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
+import com.silky.starter.excel.core.resolve.ResolvedValueTable;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.text.DecimalFormat;
+import java.text.Format;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+
+/**
+ * CSV 快速写入器
+ * 不经过 FastExcel 的写入流程（表头/样式处理、单元格写入处理器、类型转换器查找），按数据类的列布局（{@link CsvModelLayout}），
+ * 通过预先生成的字段访问器取值后直接编码写入缓冲输出流。输出格式与 FastExcel 写出的 CSV 保持一致：
+ * 默认使用 JVM 默认字符集编码（与 FastExcel 相同），字符集为 UTF-8/UTF-16/UTF-32 时写入 BOM，CRLF 换行、仅在必要时加引号，支持 {@code @ExcelProperty} 表头/index/order、{@code @ExcelIgnore}、
+ * {@code @DateTimeFormat} 和 {@code @NumberFormat}。
+ * <p>
+ * 使用自定义转换器、多行表头或不支持的字段类型的数据类不能使用快速写入，见 {@link #supports(Class)}。
+ * CSV 没有 Sheet，不按每个Sheet最大行数拆分。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public class CsvExportWriter implements ExportSheetWriter {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private static final char DELIMITER = ',';
+
+    private static final char QUOTE = '"';
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String DEFAULT_DATE_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    private static final String DEFAULT_LOCAL_DATE_PATTERN = "yyyy-MM-dd";
+
+    private final Writer writer;
+
+    private final String name;
+
+    /**
+     * 数据类元数据注册表（列布局随元数据缓存）
+     */
+    private final ExcelModelRegistry modelRegistry;
+
+    /**
+     * 当前数据类的列布局
+     */
+    private CsvModelLayout layout;
+
+    /**
+     * 当前列布局各列的格式化器（SimpleDateFormat/DecimalFormat 非线程安全，每个写入器独立持有）
+     */
+    private Object[] formats;
+
+    private long totalRows;
+
+    private int currentSheetIndex;
+
+    /**
+     * 构造函数（输出流由调用方负责关闭）
+     *
+     * @param outputStream 输出流
+     * @param name         写入目标名称（用于日志）
+     */
+    public CsvExportWriter(OutputStream outputStream, String name) {
+        this(outputStream, name, ExcelModelRegistry.shared());
+    }
+
+    /**
+     * 构造函数（输出流由调用方负责关闭）
+     *
+     * @param outputStream  输出流
+     * @param name          写入目标名称（用于日志）
+     * @param modelRegistry 数据类元数据注册表
+     */
+    public CsvExportWriter(OutputStream outputStream, String name, ExcelModelRegistry modelRegistry) {
+        this(outputStream, name, modelRegistry, Charset.defaultCharset());
+    }
+
+    /**
+     * 构造函数（输出流由调用方负责关闭）
+     *
+     * @param outputStream  输出流
+     * @param name          写入目标名称（用于日志）
+     * @param modelRegistry 数据类元数据注册表
+     * @param charset       字符集
+     */
+    public CsvExportWriter(OutputStream outputStream, String name, ExcelModelRegistry modelRegistry, Charset charset) {
+        this.name = name;
+        this.modelRegistry = modelRegistry;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, charset), BUFFER_SIZE);
+        // 与 FastExcel 相同：仅为带 BOM 的 Unicode 字符集写入 BOM
+        ByteOrderMarkEnum byteOrderMark = ByteOrderMarkEnum.valueOfByCharsetName(charset.name());
+        if (byteOrderMark != null) {
+            try {
+                writer.write(byteOrderMark.getStringPrefix());
+            } catch (IOException e) {
+                throw new ExcelExportException("CSV写入器初始化失败: " + e.getMessage(), e);
+            }
+        }
+        log.debug("CSV快速写入器初始化成功: {}, 字符集: {}", name, charset);
+    }
+
+    /**
+     * 判断数据类能否使用 CSV 快速写入
+     *
+     * @param clazz 数据类
+     * @return 是否支持
+     */
+    public static boolean supports(Class<?> clazz) {
+        return supports(clazz, ExcelModelRegistry.shared());
+    }
+
+    /**
+     * 判断数据类能否使用 CSV 快速写入
+     *
+     * @param clazz         数据类
+     * @param modelRegistry 数据类元数据注册表
+     * @return 是否支持
+     */
+    public static boolean supports(Class<?> clazz, ExcelModelRegistry modelRegistry) {
+        return clazz != null && CsvModelLayout.of(modelRegistry, clazz).unsupportedReason == null;
+    }
+
+    @Override
+    public <T> void write(List<T> data, Class<T> clazz, String sheetName, ResolvedValueTable resolvedValues) {
+        if (CollUtil.isEmpty(data)) {
+            return;
+        }
+        try {
+            if (layout == null || layout.dataClass != clazz) {
+                // 首次写入或数据类变化时写入表头
+                switchLayout(clazz);
+            }
+            ResolvedValueTable resolved = resolvedValues == null || resolvedValues.isEmpty() ? null : resolvedValues;
+            int row = 0;
+            for (T item : data) {
+                writeRow(item, row++, resolved);
+            }
+            totalRows += data.size();
+        } catch (IOException e) {
+            log.error("CSV数据写入失败: {}", name, e);
+            throw new ExcelExportException("CSV数据写入失败: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int getCurrentSheetIndex() {
+        return currentSheetIndex;
+    }
+
+    @Override
+    public void close() {
+        try {
+            // 只刷新缓冲区，输出流由调用方关闭
+            writer.flush();
+            log.debug("CSV快速写入器关闭成功: {}, 总写入行数: {}", name, totalRows);
+        } catch (IOException e) {
+            log.error("关闭CSV写入器失败: {}", name, e);
+            throw new ExcelExportException("关闭CSV写入器失败: " + e.getMessage(), e);
+        }
+    }
+
+    private void switchLayout(Class<?> clazz) throws IOException {
+        CsvModelLayout newLayout = CsvModelLayout.of(modelRegistry, clazz);
+        if (newLayout.unsupportedReason != null) {
+            throw new ExcelExportException("数据类不支持CSV快速写入: " + clazz.getName() + ", " + newLayout.unsupportedReason);
+        }
+        layout = newLayout;
+        formats = new Object[layout.columns.length];
+        currentSheetIndex++;
+        for (int i = 0; i < layout.columns.length; i++) {
+            if (i > 0) {
+                writer.write(DELIMITER);
+            }
+            if (layout.columns[i] != null) {
+                writeEscaped(layout.columns[i].head);
+            }
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeRow(Object item, int row, ResolvedValueTable resolved) throws IOException {
+        CsvModelLayout.Column[] columns = layout.columns;
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(DELIMITER);
+            }
+            CsvModelLayout.Column column = columns[i];
+            if (column == null || item == null || !column.readable) {
+                continue;
+            }
+            Object resolvedValue = resolved != null ? resolved.get(row, column.fieldName) : null;
+            if (resolvedValue != null) {
+                writeEscaped(String.valueOf(resolvedValue));
+                continue;
+            }
+            Object value = column.accessor.get(item);
+            if (value != null) {
+                writeEscaped(format(i, column, value));
+            }
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private String format(int index, CsvModelLayout.Column column, Object value) {
+        switch (column.kind) {
+            case NUMBER:
+                if (column.format != null) {
+                    return ((Format) getFormat(index, column)).format(value);
+                }
+                return value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+            case DATE:
+                return ((Format) getFormat(index, column)).format(value);
+            case TEMPORAL:
+                return ((DateTimeFormatter) getFormat(index, column)).format((TemporalAccessor) value);
+            default:
+                return value.toString();
+        }
+    }
+
+    private Object getFormat(int index, CsvModelLayout.Column column) {
+        Object format = formats[index];
+        if (format == null) {
+            if (column.kind == CsvModelLayout.ColumnKind.DATE) {
+                format = new SimpleDateFormat(column.format != null ? column.format : DEFAULT_DATE_PATTERN);
+            } else if (column.kind == CsvModelLayout.ColumnKind.TEMPORAL) {
+                String pattern = column.format != null ? column.format
+                        : column.type == LocalDate.class ? DEFAULT_LOCAL_DATE_PATTERN : DEFAULT_DATE_PATTERN;
+                format = DateTimeFormatter.ofPattern(pattern);
+            } else {
+                DecimalFormat decimalFormat = new DecimalFormat(column.format);
+                decimalFormat.setRoundingMode(column.roundingMode);
+                format = decimalFormat;
+            }
+            formats[index] = format;
+        }
+        return format;
+    }
+
+    /**
+     * 按需加引号写入字段值，规则与 FastExcel 使用的 commons-csv 最小引号模式一致：
+     * 包含分隔符、引号、换行，首字符不大于 '#' 或末字符为空白时加引号，值中的引号双写
+     */
+    private void writeEscaped(String value) throws IOException {
+        int length = value.length();
+        if (length == 0) {
+            return;
+        }
+        boolean quote = value.charAt(0) <= '#' || value.charAt(length - 1) <= ' ';
+        int quoteCount = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                quoteCount++;
+                quote = true;
+            } else if (c == DELIMITER || c == '\r' || c == '\n') {
+                quote = true;
+            }
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        if (quoteCount == 0) {
+            writer.write(value);
+        } else {
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) == QUOTE) {
+                    writer.write(value, start, i + 1 - start);
+                    writer.write(QUOTE);
+                    start = i + 1;
+                }
+            }
+            writer.write(value, start, length - start);
+        }
+        writer.write(QUOTE);
+    }
+}
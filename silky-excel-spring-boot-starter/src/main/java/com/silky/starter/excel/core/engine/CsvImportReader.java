@@ -0,0 +1,535 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.idev.excel.enums.ByteOrderMarkEnum;
+import cn.idev.excel.exception.ExcelDataConvertException;
+import cn.idev.excel.metadata.data.ReadCellData;
+import cn.idev.excel.util.DateUtils;
+import com.silky.starter.excel.core.exception.ExcelExportException;
+import com.silky.starter.excel.core.listener.BaseAnalysisListeners;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.text.DecimalFormat;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV 快速读取器
+ * 不经过 FastExcel 的读取流程（逐行构建单元格 Map、类型转换器查找），以大缓冲区顺序读取文件，
+ * 在缓冲区内原地切分字段（引号字段原地反转义，不为整行或单元格创建中间对象），按数据类的列布局（{@link CsvModelLayout}）
+ * 直接转换后通过字段访问器写入数据对象，再交给导入监听器按批次导入。
+ * <p>
+ * 列绑定、空行、去除首尾空白和类型转换规则与 FastExcel 一致：指定 index 或未指定表头名称的字段按列位置绑定，
+ * 指定表头名称的字段按表头行匹配；转换失败的行交给监听器的 onException 记录错误后跳过。
+ * 与 FastExcel 一样，文件默认按 JVM 默认字符集解码，字符集为 UTF-8/UTF-16/UTF-32 时去除开头的 BOM；
+ * 监听器方法收到的 AnalysisContext 为 null。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public class CsvImportReader<T> {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private static final char DELIMITER = ',';
+
+    private static final char QUOTE = '"';
+
+    private static final char BOM = '\uFEFF';
+
+    private final File file;
+
+    /**
+     * 表头行数
+     */
+    private final int headRowNumber;
+
+    private final CsvModelLayout layout;
+
+    private final BaseAnalysisListeners<T> listener;
+
+    private final Charset charset;
+
+    private Reader reader;
+
+    private char[] buffer;
+
+    /**
+     * 缓冲区中有效字符的结尾
+     */
+    private int limit;
+
+    /**
+     * 当前记录在缓冲区中的起始位置，补充缓冲区时此前的字符被丢弃
+     */
+    private int recordStart;
+
+    private boolean eof;
+
+    /**
+     * 当前记录各字段在缓冲区中的起始位置和长度
+     */
+    private int[] fieldStarts = new int[64];
+
+    private int[] fieldLengths = new int[64];
+
+    private int fieldCount;
+
+    /**
+     * 各列的数字格式（DecimalFormat 非线程安全，每个读取器独立持有）
+     */
+    private DecimalFormat[] numberFormats;
+
+    /**
+     * 构造函数
+     *
+     * @param file          CSV 文件
+     * @param headRowNumber 表头行数
+     * @param dataClass     数据类
+     * @param listener      导入监听器
+     */
+    public CsvImportReader(File file, int headRowNumber, Class<T> dataClass, BaseAnalysisListeners<T> listener) {
+        this(file, headRowNumber, dataClass, listener, ExcelModelRegistry.shared());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param file          CSV 文件
+     * @param headRowNumber 表头行数
+     * @param dataClass     数据类
+     * @param listener      导入监听器
+     * @param modelRegistry 数据类元数据注册表
+     */
+    public CsvImportReader(File file, int headRowNumber, Class<T> dataClass, BaseAnalysisListeners<T> listener,
+                           ExcelModelRegistry modelRegistry) {
+        this(file, headRowNumber, dataClass, listener, modelRegistry, Charset.defaultCharset());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param file          CSV 文件
+     * @param headRowNumber 表头行数
+     * @param dataClass     数据类
+     * @param listener      导入监听器
+     * @param modelRegistry 数据类元数据注册表
+     * @param charset       字符集
+     */
+    public CsvImportReader(File file, int headRowNumber, Class<T> dataClass, BaseAnalysisListeners<T> listener,
+                           ExcelModelRegistry modelRegistry, Charset charset) {
+        if (!supports(dataClass, modelRegistry)) {
+            throw new IllegalArgumentException("数据类不支持CSV快速读取: " + dataClass);
+        }
+        this.file = file;
+        this.headRowNumber = headRowNumber;
+        this.layout = CsvModelLayout.of(modelRegistry, dataClass);
+        this.listener = listener;
+        this.charset = charset;
+    }
+
+    /**
+     * 判断数据类能否使用 CSV 快速读取
+     *
+     * @param clazz 数据类
+     * @return 是否支持
+     */
+    public static boolean supports(Class<?> clazz) {
+        return supports(clazz, ExcelModelRegistry.shared());
+    }
+
+    /**
+     * 判断数据类能否使用 CSV 快速读取
+     *
+     * @param clazz         数据类
+     * @param modelRegistry 数据类元数据注册表
+     * @return 是否支持
+     */
+    public static boolean supports(Class<?> clazz, ExcelModelRegistry modelRegistry) {
+        if (clazz == null) {
+            return false;
+        }
+        CsvModelLayout layout = CsvModelLayout.of(modelRegistry, clazz);
+        return layout.unsupportedReason == null && layout.constructor != null;
+    }
+
+    /**
+     * 读取全部数据
+     */
+    public void read() {
+        try (Reader in = new InputStreamReader(Files.newInputStream(file.toPath()), charset)) {
+            this.reader = in;
+            this.buffer = new char[BUFFER_SIZE];
+            this.numberFormats = new DecimalFormat[layout.columns.length];
+            // 与 FastExcel 相同：仅带 BOM 的 Unicode 字符集去除 BOM
+            boolean stripBom = ByteOrderMarkEnum.valueOfByCharsetName(charset.name()) != null;
+            if (fill() && stripBom && buffer[0] == BOM) {
+                recordStart = 1;
+            }
+
+            CsvModelLayout.Column[] bindings = layout.columns;
+            int rowIndex = 0;
+            while (nextRecord()) {
+                int currentRow = rowIndex++;
+                if (currentRow < headRowNumber) {
+                    Map<Integer, String> headMap = readHeadMap();
+                    bindings = bindByHead(headMap);
+                    listener.invokeHeadMap(headMap, null);
+                    continue;
+                }
+                T data = readData(bindings, currentRow);
+                if (data == null) {
+                    continue;
+                }
+                try {
+                    listener.invoke(data, null);
+                } catch (Exception e) {
+                    listener.onException(e, null);
+                }
+            }
+            listener.doAfterAllAnalysed(null);
+            log.debug("CSV 快速读取完成: {}, 总行数: {}", file.getName(), rowIndex);
+        } catch (IOException e) {
+            throw new ExcelExportException("CSV文件读取失败: " + e.getMessage(), e);
+        } finally {
+            this.reader = null;
+            this.buffer = null;
+        }
+    }
+
+    /**
+     * 将当前记录转换为数据对象
+     *
+     * @return 数据对象，转换失败时返回 null（错误已交给监听器）
+     */
+    @SuppressWarnings("unchecked")
+    private T readData(CsvModelLayout.Column[] bindings, int rowIndex) {
+        T data;
+        try {
+            data = (T) layout.constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new ExcelExportException("创建导入数据对象失败: " + layout.dataClass.getName(), e);
+        }
+        int columns = Math.min(bindings.length, fieldCount);
+        for (int i = 0; i < columns; i++) {
+            CsvModelLayout.Column column = bindings[i];
+            if (column == null) {
+                continue;
+            }
+            // 与 FastExcel 一致，去除首尾空白后为空的单元格不赋值
+            int start = fieldStarts[i];
+            int end = start + fieldLengths[i];
+            while (start < end && buffer[start] <= ' ') {
+                start++;
+            }
+            while (end > start && buffer[end - 1] <= ' ') {
+                end--;
+            }
+            if (start == end) {
+                continue;
+            }
+            Object value;
+            try {
+                value = convert(column, start, end - start);
+            } catch (Exception e) {
+                String text = new String(buffer, start, end - start);
+                listener.onException(new ExcelDataConvertException(rowIndex, i, new ReadCellData<>(text), null,
+                        String.format("Error at row %d, column %d: Convert data %s to %s error ", rowIndex, i, text, column.type), e), null);
+                return null;
+            }
+            column.accessor.set(data, value);
+        }
+        return data;
+    }
+
+    private Object convert(CsvModelLayout.Column column, int start, int length) throws Exception {
+        switch (column.kind) {
+            case TEXT:
+                return new String(buffer, start, length);
+            case BOOLEAN:
+                return length == 4 && Character.toLowerCase(buffer[start]) == 't'
+                        && Character.toLowerCase(buffer[start + 1]) == 'r'
+                        && Character.toLowerCase(buffer[start + 2]) == 'u'
+                        && Character.toLowerCase(buffer[start + 3]) == 'e';
+            case NUMBER:
+                return convertNumber(column, start, length);
+            case DATE:
+                return DateUtils.parseDate(new String(buffer, start, length), column.format);
+            case TEMPORAL:
+                String text = new String(buffer, start, length);
+                return column.type == LocalDate.class
+                        ? DateUtils.parseLocalDate(text, column.format, Locale.getDefault())
+                        : DateUtils.parseLocalDateTime(text, column.format, Locale.getDefault());
+            default:
+                throw new IllegalStateException("未知的列类型: " + column.kind);
+        }
+    }
+
+    /**
+     * 转换数字，规则与 FastExcel 一致：未指定格式时按 BigDecimal 解析后取对应类型的值（整数类型截断小数），
+     * 纯整数文本直接在缓冲区中解析，不创建字符串和 BigDecimal
+     */
+    private Object convertNumber(CsvModelLayout.Column column, int start, int length) throws Exception {
+        Class<?> type = column.type;
+        BigDecimal decimal;
+        if (column.format != null) {
+            DecimalFormat format = numberFormats[column.position];
+            if (format == null) {
+                format = new DecimalFormat(column.format);
+                format.setRoundingMode(column.roundingMode);
+                format.setParseBigDecimal(true);
+                numberFormats[column.position] = format;
+            }
+            decimal = (BigDecimal) format.parse(new String(buffer, start, length));
+        } else {
+            if (type == int.class || type == Integer.class || type == long.class || type == Long.class
+                    || type == short.class || type == Short.class || type == byte.class || type == Byte.class) {
+                long value = parsePlainLong(start, length);
+                if (value != Long.MIN_VALUE) {
+                    return narrow(type, value);
+                }
+            }
+            decimal = new BigDecimal(buffer, start, length);
+        }
+        if (type == BigDecimal.class) {
+            return decimal;
+        }
+        if (type == BigInteger.class) {
+            return decimal.toBigInteger();
+        }
+        if (type == double.class || type == Double.class) {
+            return decimal.doubleValue();
+        }
+        if (type == float.class || type == Float.class) {
+            return decimal.floatValue();
+        }
+        return narrow(type, decimal.longValue());
+    }
+
+    private static Object narrow(Class<?> type, long value) {
+        if (type == int.class || type == Integer.class) {
+            return (int) value;
+        }
+        if (type == short.class || type == Short.class) {
+            return (short) value;
+        }
+        if (type == byte.class || type == Byte.class) {
+            return (byte) value;
+        }
+        return value;
+    }
+
+    /**
+     * 解析不超过18位的纯整数文本（可带正负号），不是纯整数时返回 Long.MIN_VALUE
+     */
+    private long parsePlainLong(int start, int length) {
+        int i = start;
+        int end = start + length;
+        boolean negative = false;
+        if (buffer[i] == '-' || buffer[i] == '+') {
+            negative = buffer[i] == '-';
+            i++;
+        }
+        if (i == end || end - i > 18) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            char c = buffer[i];
+            if (c < '0' || c > '9') {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 按表头行绑定列，规则与 FastExcel 一致：指定 index 或未指定表头名称的字段保持列位置，
+     * 指定表头名称的字段绑定到名称相同的列，未匹配的字段不读取；按字段顺序处理，后处理的字段覆盖同一列
+     */
+    private CsvModelLayout.Column[] bindByHead(Map<Integer, String> headMap) {
+        Map<Integer, CsvModelLayout.Column> bound = new LinkedHashMap<>();
+        int maxIndex = -1;
+        for (int i = 0; i < layout.columns.length; i++) {
+            CsvModelLayout.Column column = layout.columns[i];
+            if (column == null) {
+                continue;
+            }
+            if (column.forceIndex || !column.forceName) {
+                bound.put(i, column);
+                maxIndex = Math.max(maxIndex, i);
+                continue;
+            }
+            for (Map.Entry<Integer, String> entry : headMap.entrySet()) {
+                if (!entry.getValue().isEmpty() && column.head.equals(entry.getValue())) {
+                    bound.put(entry.getKey(), column);
+                    maxIndex = Math.max(maxIndex, entry.getKey());
+                    break;
+                }
+            }
+        }
+        CsvModelLayout.Column[] bindings = new CsvModelLayout.Column[maxIndex + 1];
+        bound.forEach((index, column) -> bindings[index] = column);
+        return bindings;
+    }
+
+    private Map<Integer, String> readHeadMap() {
+        Map<Integer, String> headMap = new LinkedHashMap<>();
+        for (int i = 0; i < fieldCount; i++) {
+            headMap.put(i, new String(buffer, fieldStarts[i], fieldLengths[i]).trim());
+        }
+        return headMap;
+    }
+
+    /**
+     * 读取下一条记录并切分字段，跳过空行
+     *
+     * @return 文件已读完时返回 false
+     */
+    private boolean nextRecord() throws IOException {
+        while (true) {
+            // 第一遍：找到不在引号内的换行，记录不完整时补充缓冲区（偏移量相对于记录起始位置）
+            int offset = 0;
+            int eolLength = 0;
+            boolean fieldStart = true;
+            boolean quoted = false;
+            while (true) {
+                if (recordStart + offset >= limit && !fill()) {
+                    if (offset == 0) {
+                        return false;
+                    }
+                    break;
+                }
+                char c = buffer[recordStart + offset];
+                if (quoted) {
+                    if (c == QUOTE) {
+                        if (recordStart + offset + 1 < limit || fill()) {
+                            if (buffer[recordStart + offset + 1] == QUOTE) {
+                                offset += 2;
+                                continue;
+                            }
+                        }
+                        quoted = false;
+                    }
+                    offset++;
+                    continue;
+                }
+                if (c == '\n' || c == '\r') {
+                    eolLength = 1;
+                    if (c == '\r' && (recordStart + offset + 1 < limit || fill())
+                            && buffer[recordStart + offset + 1] == '\n') {
+                        eolLength = 2;
+                    }
+                    break;
+                }
+                if (c == DELIMITER) {
+                    fieldStart = true;
+                } else {
+                    quoted = fieldStart && c == QUOTE;
+                    fieldStart = false;
+                }
+                offset++;
+            }
+            int start = recordStart;
+            recordStart += offset + eolLength;
+            if (offset == 0) {
+                // 空行
+                continue;
+            }
+            // 第二遍：在缓冲区内原地切分字段
+            tokenize(start, start + offset);
+            return true;
+        }
+    }
+
+    /**
+     * 切分 [start, end) 范围内的一条完整记录，引号字段原地反转义
+     */
+    private void tokenize(int start, int end) {
+        fieldCount = 0;
+        int pos = start;
+        while (true) {
+            if (fieldCount == fieldStarts.length) {
+                fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+                fieldLengths = Arrays.copyOf(fieldLengths, fieldCount * 2);
+            }
+            int fieldStart;
+            int fieldEnd;
+            if (pos < end && buffer[pos] == QUOTE) {
+                fieldStart = pos + 1;
+                int write = fieldStart;
+                int read = fieldStart;
+                while (read < end) {
+                    char c = buffer[read++];
+                    if (c == QUOTE) {
+                        if (read < end && buffer[read] == QUOTE) {
+                            read++;
+                        } else {
+                            break;
+                        }
+                    }
+                    buffer[write++] = c;
+                }
+                // 结束引号与分隔符之间的字符原样保留
+                while (read < end && buffer[read] != DELIMITER) {
+                    buffer[write++] = buffer[read++];
+                }
+                fieldEnd = write;
+                pos = read;
+            } else {
+                fieldStart = pos;
+                while (pos < end && buffer[pos] != DELIMITER) {
+                    pos++;
+                }
+                fieldEnd = pos;
+            }
+            fieldStarts[fieldCount] = fieldStart;
+            fieldLengths[fieldCount] = fieldEnd - fieldStart;
+            fieldCount++;
+            if (pos >= end) {
+                return;
+            }
+            // 跳过分隔符
+            pos++;
+        }
+    }
+
+    /**
+     * 丢弃当前记录之前的字符并补充缓冲区，单条记录超过缓冲区大小时扩容
+     *
+     * @return 读取到新字符时返回 true
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (recordStart > 0) {
+            System.arraycopy(buffer, recordStart, buffer, 0, limit - recordStart);
+            limit -= recordStart;
+            recordStart = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+}
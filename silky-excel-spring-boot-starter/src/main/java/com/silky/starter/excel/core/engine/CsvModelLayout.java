@@ -0,0 +1,267 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.idev.excel.annotation.ExcelIgnore;
+import cn.idev.excel.annotation.ExcelIgnoreUnannotated;
+import cn.idev.excel.annotation.ExcelProperty;
+import cn.idev.excel.annotation.format.DateTimeFormat;
+import cn.idev.excel.annotation.format.NumberFormat;
+import cn.idev.excel.converters.AutoConverter;
+import com.silky.starter.excel.core.resolve.ExcelModelMetadata;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
+import com.silky.starter.excel.core.resolve.FieldAccessor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * CSV 数据类列布局
+ * 按 FastExcel 的规则确定数据类各字段所在的列：子类字段在前，同名字段以子类为准；
+ * 未指定 index 的字段按 order、声明顺序依次填入空闲列，指定 index 的字段固定在该列。
+ * 字段及字段访问器来自数据类元数据注册表（{@link ExcelModelRegistry}），列布局作为元数据的派生结构每个数据类只构建一次，
+ * 由 CSV 快速写入和快速读取共享，注册表清空时一起释放。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+final class CsvModelLayout {
+
+    /**
+     * 数据类
+     */
+    final Class<?> dataClass;
+
+    /**
+     * 列定义，下标即列位置，未占用的列为 null
+     */
+    final Column[] columns;
+
+    /**
+     * 无参构造函数（读取时创建数据对象），没有时为 null
+     */
+    final Constructor<?> constructor;
+
+    /**
+     * 不支持 CSV 快速读写的原因，为 null 时表示支持
+     */
+    final String unsupportedReason;
+
+    private CsvModelLayout(Class<?> dataClass, Column[] columns, Constructor<?> constructor, String unsupportedReason) {
+        this.dataClass = dataClass;
+        this.columns = columns;
+        this.constructor = constructor;
+        this.unsupportedReason = unsupportedReason;
+    }
+
+    /**
+     * 获取数据类的列布局
+     *
+     * @param modelRegistry 数据类元数据注册表
+     * @param clazz         数据类
+     * @return 列布局
+     */
+    static CsvModelLayout of(ExcelModelRegistry modelRegistry, Class<?> clazz) {
+        return modelRegistry.getMetadata(clazz).getDerived(CsvModelLayout.class, CsvModelLayout::build);
+    }
+
+    private static CsvModelLayout build(ExcelModelMetadata metadata) {
+        Class<?> clazz = metadata.getModelClass();
+        boolean ignoreUnannotated = clazz.isAnnotationPresent(ExcelIgnoreUnannotated.class);
+        List<ExcelModelMetadata.ModelField> fields = new ArrayList<>();
+        Set<String> fieldNames = new HashSet<>();
+        for (ExcelModelMetadata.ModelField modelField : metadata.getFields()) {
+            Field field = modelField.getField();
+            if (Modifier.isTransient(field.getModifiers())
+                    || field.isAnnotationPresent(ExcelIgnore.class)
+                    || (ignoreUnannotated && !field.isAnnotationPresent(ExcelProperty.class))
+                    || !fieldNames.add(field.getName())) {
+                continue;
+            }
+            fields.add(modelField);
+        }
+        // 稳定排序，order 相同时保持声明顺序
+        fields.sort(Comparator.comparingInt(modelField -> getOrder(modelField.getField())));
+
+        Map<Integer, Column> indexed = new TreeMap<>();
+        List<Column> unindexed = new ArrayList<>();
+        for (ExcelModelMetadata.ModelField modelField : fields) {
+            Field field = modelField.getField();
+            ExcelProperty property = field.getAnnotation(ExcelProperty.class);
+            if (property != null && property.converter() != AutoConverter.class) {
+                return unsupported(clazz, "字段使用了自定义转换器: " + field.getName());
+            }
+            if (property != null && property.value().length > 1) {
+                return unsupported(clazz, "字段使用了多行表头: " + field.getName());
+            }
+            Column column = buildColumn(modelField, property);
+            if (column == null) {
+                return unsupported(clazz, "不支持的字段类型: " + field.getName() + "(" + field.getType().getName() + ")");
+            }
+            if (column.forceIndex) {
+                if (indexed.containsKey(property.index())) {
+                    return unsupported(clazz, "字段 index 重复: " + property.index());
+                }
+                indexed.put(property.index(), column);
+            } else {
+                unindexed.add(column);
+            }
+        }
+
+        int columnCount = fields.size();
+        for (Integer index : indexed.keySet()) {
+            columnCount = Math.max(columnCount, index + 1);
+        }
+        Column[] columns = new Column[columnCount];
+        indexed.forEach((index, column) -> columns[index] = column);
+        Iterator<Column> remaining = unindexed.iterator();
+        for (int i = 0; i < columns.length && remaining.hasNext(); i++) {
+            if (columns[i] == null) {
+                columns[i] = remaining.next();
+            }
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] != null) {
+                columns[i].position = i;
+            }
+        }
+        return new CsvModelLayout(clazz, columns, findConstructor(clazz), null);
+    }
+
+    private static CsvModelLayout unsupported(Class<?> clazz, String reason) {
+        log.debug("数据类不支持CSV快速读写，使用FastExcel: {}, {}", clazz.getName(), reason);
+        return new CsvModelLayout(clazz, new Column[0], null, reason);
+    }
+
+    private static int getOrder(Field field) {
+        ExcelProperty property = field.getAnnotation(ExcelProperty.class);
+        return property != null ? property.order() : Integer.MAX_VALUE;
+    }
+
+    private static Column buildColumn(ExcelModelMetadata.ModelField modelField, ExcelProperty property) {
+        Field field = modelField.getField();
+        Class<?> type = field.getType();
+        ColumnKind kind;
+        if (type == String.class) {
+            kind = ColumnKind.TEXT;
+        } else if (type == boolean.class || type == Boolean.class) {
+            kind = ColumnKind.BOOLEAN;
+        } else if (isSupportedNumber(type)) {
+            kind = ColumnKind.NUMBER;
+        } else if (type == Date.class) {
+            kind = ColumnKind.DATE;
+        } else if (type == LocalDateTime.class || type == LocalDate.class) {
+            kind = ColumnKind.TEMPORAL;
+        } else {
+            return null;
+        }
+
+        Column column = new Column();
+        column.field = field;
+        column.fieldName = field.getName();
+        column.type = type;
+        column.kind = kind;
+        column.forceIndex = property != null && property.index() >= 0;
+        column.forceName = property != null && property.value().length == 1 && !property.value()[0].isEmpty();
+        column.head = column.forceName ? property.value()[0] : field.getName();
+        DateTimeFormat dateTimeFormat = field.getAnnotation(DateTimeFormat.class);
+        NumberFormat numberFormat = field.getAnnotation(NumberFormat.class);
+        if ((kind == ColumnKind.DATE || kind == ColumnKind.TEMPORAL)
+                && dateTimeFormat != null && !dateTimeFormat.value().isEmpty()) {
+            column.format = dateTimeFormat.value();
+        } else if (kind == ColumnKind.NUMBER && numberFormat != null && !numberFormat.value().isEmpty()) {
+            column.format = numberFormat.value();
+            column.roundingMode = numberFormat.roundingMode();
+        }
+        column.accessor = modelField.getAccessor();
+        column.readable = hasGetter(field);
+        return column;
+    }
+
+    private static boolean isSupportedNumber(Class<?> type) {
+        return type == int.class || type == Integer.class || type == long.class || type == Long.class
+                || type == short.class || type == Short.class || type == byte.class || type == Byte.class
+                || type == double.class || type == Double.class || type == float.class || type == Float.class
+                || type == BigDecimal.class || type == BigInteger.class;
+    }
+
+    private static boolean hasGetter(Field field) {
+        String name = field.getName();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        try {
+            Method method = field.getDeclaringClass().getMethod("get" + suffix);
+            return !Modifier.isStatic(method.getModifiers());
+        } catch (NoSuchMethodException e) {
+            if (field.getType() != boolean.class) {
+                return false;
+            }
+        }
+        try {
+            return !Modifier.isStatic(field.getDeclaringClass().getMethod("is" + suffix).getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Constructor<?> findConstructor(Class<?> clazz) {
+        if (Modifier.isAbstract(clazz.getModifiers())
+                || (clazz.getEnclosingClass() != null && !Modifier.isStatic(clazz.getModifiers()))) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    enum ColumnKind {
+        TEXT, BOOLEAN, NUMBER, DATE, TEMPORAL
+    }
+
+    /**
+     * 列定义
+     */
+    static final class Column {
+        Field field;
+        String fieldName;
+        Class<?> type;
+        /**
+         * 字段所在的列位置
+         */
+        int position;
+        ColumnKind kind;
+        /**
+         * 表头名称（{@code @ExcelProperty} 的值，未指定时为字段名）
+         */
+        String head;
+        /**
+         * 是否通过 {@code @ExcelProperty(index)} 指定了列位置
+         */
+        boolean forceIndex;
+        /**
+         * 是否通过 {@code @ExcelProperty(value)} 指定了表头名称，读取时按表头名称匹配列
+         */
+        boolean forceName;
+        /**
+         * {@code @DateTimeFormat} 或 {@code @NumberFormat} 指定的格式，未指定时为 null
+         */
+        String format;
+        RoundingMode roundingMode = RoundingMode.HALF_UP;
+        FieldAccessor accessor;
+        /**
+         * 是否有 getter，与 FastExcel 一致，没有 getter 的字段写出空值
+         */
+        boolean readable;
+    }
+}
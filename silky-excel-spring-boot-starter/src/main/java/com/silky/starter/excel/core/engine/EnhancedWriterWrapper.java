@@ -3,14 +3,17 @@ package com.silky.starter.excel.core.engine;
 import cn.hutool.core.collection.CollectionUtil;
 import cn.idev.excel.EasyExcel;
 import cn.idev.excel.ExcelWriter;
+import cn.idev.excel.support.ExcelTypeEnum;
 import cn.idev.excel.write.handler.WriteHandler;
 import cn.idev.excel.write.metadata.WriteSheet;
 import com.silky.starter.excel.core.exception.ExcelExportException;
+import com.silky.starter.excel.core.resolve.ResolveCellWriteHandler;
+import com.silky.starter.excel.core.resolve.ResolvedValueTable;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.Closeable;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -21,7 +24,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * @date 2025-10-24 16:01
  **/
 @Getter
-public class EnhancedWriterWrapper implements Closeable {
+public class EnhancedWriterWrapper implements ExportSheetWriter {
 
     private static final Logger log = LoggerFactory.getLogger(EnhancedWriterWrapper.class);
 
@@ -59,6 +62,11 @@ public class EnhancedWriterWrapper implements Closeable {
 
     private static final String DEFAULT_SHEET_NAME = "数据";
 
+    /**
+     * 解析值单元格写入处理器，单页数据跨 Sheet 拆分时需要告知其行偏移
+     */
+    private final ResolveCellWriteHandler resolveHandler;
+
     public EnhancedWriterWrapper(String filePath, long maxRowsPerSheet) {
         this(filePath, maxRowsPerSheet, null);
     }
@@ -73,6 +81,7 @@ public class EnhancedWriterWrapper implements Closeable {
     public EnhancedWriterWrapper(String filePath, long maxRowsPerSheet, WriteHandler writeHandler) {
         this.filePath = filePath;
         this.maxRowsPerSheet = maxRowsPerSheet;
+        this.resolveHandler = writeHandler instanceof ResolveCellWriteHandler ? (ResolveCellWriteHandler) writeHandler : null;
 
         try {
             cn.idev.excel.write.builder.ExcelWriterBuilder builder = EasyExcel.write(filePath)
@@ -89,6 +98,37 @@ public class EnhancedWriterWrapper implements Closeable {
         }
     }
 
+    /**
+     * 构造函数（写入输出流，输出流由调用方负责关闭）
+     *
+     * @param outputStream    输出流
+     * @param excelType       Excel文件类型
+     * @param name            写入目标名称（用于日志）
+     * @param maxRowsPerSheet 每个Sheet最大行数
+     * @param writeHandler    自定义写入处理器（可为 null）
+     */
+    public EnhancedWriterWrapper(OutputStream outputStream, ExcelTypeEnum excelType, String name,
+                                 long maxRowsPerSheet, WriteHandler writeHandler) {
+        this.filePath = name;
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        this.resolveHandler = writeHandler instanceof ResolveCellWriteHandler ? (ResolveCellWriteHandler) writeHandler : null;
+
+        try {
+            cn.idev.excel.write.builder.ExcelWriterBuilder builder = EasyExcel.write(outputStream)
+                    .excelType(excelType)
+                    .autoCloseStream(false);
+            if (writeHandler != null) {
+                builder.registerWriteHandler(writeHandler);
+            }
+            this.writer = builder.build();
+
+            log.debug("Excel流式写入器初始化成功: {}, 每Sheet最大行数: {}", name, maxRowsPerSheet);
+        } catch (Exception e) {
+            log.error("Excel流式写入器初始化失败: {}", name, e);
+            throw new ExcelExportException("Excel写入器初始化失败: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 写入数据
      *
@@ -122,11 +162,36 @@ public class EnhancedWriterWrapper implements Closeable {
             }
 
             List<T> batchData = data.subList(fromIndex, fromIndex + batchSize);
+            if (resolveHandler != null) {
+                resolveHandler.setRowOffset(fromIndex);
+            }
             writeBatchData(batchData);
             fromIndex += batchSize;
         }
     }
 
+    /**
+     * 写入一页数据，解析值由解析值单元格写入处理器在写入单元格时替换
+     *
+     * @param data           数据列表
+     * @param clazz          数据类
+     * @param sheetName      Sheet名称
+     * @param resolvedValues 与数据按行对齐的解析值表
+     */
+    @Override
+    public <T> void write(List<T> data, Class<T> clazz, String sheetName, ResolvedValueTable resolvedValues) {
+        if (resolveHandler != null) {
+            resolveHandler.setCurrentPage(resolvedValues);
+        }
+        try {
+            write(data, clazz, sheetName);
+        } finally {
+            if (resolveHandler != null) {
+                resolveHandler.clearCurrentPage();
+            }
+        }
+    }
+
     /**
      * 写入批次数据
      */
@@ -4,6 +4,7 @@ import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.io.FileUtil;
 import cn.idev.excel.ExcelReader;
 import cn.idev.excel.FastExcelFactory;
+import cn.idev.excel.read.builder.ExcelReaderBuilder;
 import cn.idev.excel.read.metadata.ReadSheet;
 import cn.idev.excel.support.ExcelTypeEnum;
 import com.silky.starter.excel.core.exception.ExcelExportException;
@@ -11,11 +12,15 @@ import com.silky.starter.excel.core.listener.BaseAnalysisListeners;
 import com.silky.starter.excel.core.listener.DefaultAnalysisListeners;
 import com.silky.starter.excel.core.model.AnalysisListenersContext;
 import com.silky.starter.excel.core.model.imports.ImportResult;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.Closeable;
 import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -38,23 +43,78 @@ public class ExcelReaderWrapper<T> implements Closeable {
      */
     private final List<ReadSheet> sheets;
 
+    /**
+     * CSV 快速读取器，仅在使用 CSV 快速读取时不为 null
+     */
+    private final CsvImportReader<T> csvReader;
+
     public ExcelReaderWrapper(String filePath, boolean skipHeader, AnalysisListenersContext<T> context) {
         this(filePath, skipHeader, new DefaultAnalysisListeners<>(context));
     }
 
+    public ExcelReaderWrapper(String filePath, boolean skipHeader, AnalysisListenersContext<T> context, boolean csvFastRead) {
+        this(filePath, skipHeader, new DefaultAnalysisListeners<>(context), csvFastRead);
+    }
+
     public ExcelReaderWrapper(String filePath, boolean skipHeader, BaseAnalysisListeners<T> baseAnalysisListeners) {
+        this(filePath, skipHeader, baseAnalysisListeners, false);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param filePath              文件路径
+     * @param skipHeader            是否跳过表头
+     * @param baseAnalysisListeners 导入监听器
+     * @param csvFastRead           是否对 .csv 文件使用 CSV 快速读取（数据类不支持时仍使用 FastExcel）
+     */
+    public ExcelReaderWrapper(String filePath, boolean skipHeader, BaseAnalysisListeners<T> baseAnalysisListeners,
+                              boolean csvFastRead) {
+        this(filePath, skipHeader, baseAnalysisListeners, csvFastRead, null);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param filePath              文件路径
+     * @param skipHeader            是否跳过表头
+     * @param baseAnalysisListeners 导入监听器
+     * @param csvFastRead           是否对 .csv 文件使用 CSV 快速读取（数据类不支持时仍使用 FastExcel）
+     * @param charset               .csv 文件的字符集，为 null 时与 FastExcel 一样使用 JVM 默认字符集
+     */
+    public ExcelReaderWrapper(String filePath, boolean skipHeader, BaseAnalysisListeners<T> baseAnalysisListeners,
+                              boolean csvFastRead, Charset charset) {
         File file = FileUtil.newFile(filePath);
         this.filePath = filePath;
         this.baseAnalysisListeners = baseAnalysisListeners;
+        Class<T> dataClass = baseAnalysisListeners.getImportRequest().getDataClass();
+        ExcelModelRegistry modelRegistry = baseAnalysisListeners.getContext().getModelRegistry() != null
+                ? baseAnalysisListeners.getContext().getModelRegistry() : ExcelModelRegistry.shared();
+        if (csvFastRead && this.getExcelType(filePath) == ExcelTypeEnum.CSV && CsvImportReader.supports(dataClass, modelRegistry)) {
+            this.reader = null;
+            this.sheets = Collections.emptyList();
+            this.csvReader = new CsvImportReader<>(file, skipHeader ? 1 : 0, dataClass, baseAnalysisListeners, modelRegistry,
+                    charset != null ? charset : Charset.defaultCharset());
+            log.info("Excel 读取器初始化成功（CSV快速读取）: {}", filePath);
+            return;
+        }
+        this.csvReader = null;
         try {
-            this.reader = FastExcelFactory
+            ExcelReaderBuilder builder = FastExcelFactory
                     .read()
                     .file(file)
                     .autoCloseStream(false)
                     .headRowNumber(skipHeader ? 1 : 0)
                     .excelType(this.getExcelType(filePath))
-                    .registerReadListener(baseAnalysisListeners)
-                    .build();
+                    .registerReadListener(baseAnalysisListeners);
+            if (charset != null) {
+                builder.charset(charset);
+            }
+            // 按数据类绑定列，未指定数据类时按行返回 Map<Integer, String>
+            if (dataClass != null) {
+                builder.head(dataClass);
+            }
+            this.reader = builder.build();
 
             // 初始化sheet列表
             this.sheets = reader.excelExecutor().sheetList();
@@ -70,18 +130,48 @@ public class ExcelReaderWrapper<T> implements Closeable {
      * 按Sheet读取数据
      */
     public void doRead() {
+        if (csvReader != null) {
+            csvReader.read();
+            return;
+        }
         for (ReadSheet sheet : this.sheets) {
             reader.read(sheet);
         }
     }
 
+    /**
+     * 只读取指定的Sheet
+     *
+     * @param sheetIndex Sheet在 {@link #getSheetNames()} 中的下标
+     */
+    public void doReadSheet(int sheetIndex) {
+        if (csvReader != null) {
+            csvReader.read();
+            return;
+        }
+        reader.read(this.sheets.get(sheetIndex));
+    }
+
     /**
      * 读取所有数据
      */
     public void doReadAll() {
+        if (csvReader != null) {
+            csvReader.read();
+            return;
+        }
         reader.readAll();
     }
 
+    /**
+     * 等待并行导入的剩余批次完成
+     *
+     * @param timeoutMillis 最长等待时间（毫秒）
+     */
+    public void awaitImportCompletion(long timeoutMillis) {
+        baseAnalysisListeners.awaitImportCompletion(timeoutMillis);
+    }
+
     /**
      * 获取总sheet数量
      */
@@ -89,6 +179,22 @@ public class ExcelReaderWrapper<T> implements Closeable {
         return CollUtil.isNotEmpty(sheets) ? sheets.size() : 1;
     }
 
+    /**
+     * 获取所有Sheet的名称
+     *
+     * @return Sheet名称列表，CSV 文件为空列表
+     */
+    public List<String> getSheetNames() {
+        if (CollUtil.isEmpty(sheets)) {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<>(sheets.size());
+        for (ReadSheet sheet : sheets) {
+            names.add(sheet.getSheetName());
+        }
+        return names;
+    }
+
     /**
      * 获取所有错误信息
      */
@@ -135,6 +241,7 @@ public class ExcelReaderWrapper<T> implements Closeable {
      */
     @Override
     public void close() {
+        baseAnalysisListeners.close();
         if (reader != null) {
             try {
                 reader.close();
@@ -165,7 +272,7 @@ public class ExcelReaderWrapper<T> implements Closeable {
     /**
      * 获取底层FastExcelReader实例
      *
-     * @return ExcelReader实例
+     * @return ExcelReader实例，使用 CSV 快速读取时为 null
      */
     public ExcelReader getFastExcelReader() {
         return this.reader;
@@ -0,0 +1,395 @@
+package com.silky.starter.excel.core.engine;
+
+import com.silky.starter.excel.core.exception.ExcelExportException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 导出准入控制器
+ * 按导出任务预估的行数、内存和磁盘占用进行准入：执行中任务的预估总量加上新任务超过任一预算时，新任务等待已有任务结束后再开始。
+ * <p>
+ * 没有执行中的任务时总是准入，超出预算的单个大任务不会永远等待。
+ * 排队执行的任务通过 {@link Ticket} 在出队前检查准入，等待预算期间不占用线程。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public class ExportAdmissionController {
+
+    /**
+     * 执行中任务的总行数预算，0 表示不限制
+     */
+    private final long maxRows;
+
+    /**
+     * 执行中任务的总内存预算（字节），0 表示不限制
+     */
+    private final long maxMemoryBytes;
+
+    /**
+     * 执行中任务的总磁盘预算（字节），0 表示不限制
+     */
+    private final long maxDiskBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition released = lock.newCondition();
+
+    private int runningCount;
+
+    private long runningRows;
+
+    private long runningMemoryBytes;
+
+    private long runningDiskBytes;
+
+    private boolean shutdown;
+
+    /**
+     * 预算归还后的回调
+     */
+    private volatile Runnable releaseListener;
+
+    /**
+     * 构造函数
+     *
+     * @param maxRows        执行中任务的总行数预算，0 表示不限制
+     * @param maxMemoryBytes 执行中任务的总内存预算（字节），0 表示不限制
+     * @param maxDiskBytes   执行中任务的总磁盘预算（字节），0 表示不限制
+     */
+    public ExportAdmissionController(long maxRows, long maxMemoryBytes, long maxDiskBytes) {
+        if (maxRows < 0 || maxMemoryBytes < 0 || maxDiskBytes < 0) {
+            throw new IllegalArgumentException("导出准入预算不能小于0");
+        }
+        this.maxRows = maxRows;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxDiskBytes = maxDiskBytes;
+    }
+
+    /**
+     * 尝试立即准入
+     *
+     * @param taskId 任务ID
+     * @param cost   任务预估开销
+     * @return 准入许可，预算不足时返回 null
+     */
+    public Permit tryAcquire(String taskId, ExportCost cost) {
+        lock.lock();
+        try {
+            return fits(cost) ? admit(taskId, cost) : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 等待准入
+     *
+     * @param taskId        任务ID
+     * @param cost          任务预估开销
+     * @param maxWaitMillis 最长等待时间（毫秒）
+     * @return 准入许可
+     * @throws ExcelExportException 等待超时或被中断
+     */
+    public Permit acquire(String taskId, ExportCost cost, long maxWaitMillis) {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        lock.lock();
+        try {
+            while (!fits(cost)) {
+                if (shutdown) {
+                    throw new ExcelExportException("导出引擎已关闭，停止等待准入");
+                }
+                if (remainingNanos <= 0) {
+                    throw new ExcelExportException("导出资源不足，等待准入超时: " + cost
+                            + "，执行中任务: " + runningCount + "，预估行数: " + runningRows);
+                }
+                remainingNanos = released.awaitNanos(remainingNanos);
+            }
+            return admit(taskId, cost);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelExportException("等待导出准入被中断", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 创建不阻塞的准入凭证，用于排队执行的任务在出队前检查准入
+     * 凭证创建时尚无预估开销，由任务首次出队后在工作线程上预估并通过 {@link Ticket#setCost} 设置
+     *
+     * @param taskId        任务ID
+     * @param maxWaitMillis 首次预算不足起的最长等待时间（毫秒）
+     * @return 准入凭证
+     */
+    public Ticket newTicket(String taskId, long maxWaitMillis) {
+        return new Ticket(taskId, maxWaitMillis);
+    }
+
+    /**
+     * 设置预算归还后的回调，在锁外调用，用于唤醒等待准入的排队任务
+     *
+     * @param releaseListener 回调，为 null 时清除
+     */
+    public void setReleaseListener(Runnable releaseListener) {
+        this.releaseListener = releaseListener;
+    }
+
+    /**
+     * 关闭准入控制器，唤醒所有等待准入的任务并使其失败，之后预算不足的任务不再等待
+     */
+    public void shutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 当前执行中的任务数
+     *
+     * @return 任务数
+     */
+    public int getRunningCount() {
+        lock.lock();
+        try {
+            return runningCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 当前执行中任务的预估总开销
+     *
+     * @return 预估总开销
+     */
+    public ExportCost getRunningCost() {
+        lock.lock();
+        try {
+            return new ExportCost(runningRows, runningMemoryBytes, runningDiskBytes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 判断任务能否准入（调用方持有锁）
+     */
+    private boolean fits(ExportCost cost) {
+        if (runningCount == 0) {
+            return true;
+        }
+        return withinBudget(runningRows, cost.rows, maxRows)
+                && withinBudget(runningMemoryBytes, cost.memoryBytes, maxMemoryBytes)
+                && withinBudget(runningDiskBytes, cost.diskBytes, maxDiskBytes);
+    }
+
+    private static boolean withinBudget(long running, long required, long budget) {
+        return budget <= 0 || running + required <= budget;
+    }
+
+    private Permit admit(String taskId, ExportCost cost) {
+        runningCount++;
+        runningRows += cost.rows;
+        runningMemoryBytes += cost.memoryBytes;
+        runningDiskBytes += cost.diskBytes;
+        log.debug("导出任务准入: {}, 预估开销: {}", taskId, cost);
+        return new Permit(cost);
+    }
+
+    private void release(ExportCost cost) {
+        lock.lock();
+        try {
+            runningCount--;
+            runningRows -= cost.rows;
+            runningMemoryBytes -= cost.memoryBytes;
+            runningDiskBytes -= cost.diskBytes;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        Runnable listener = releaseListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    private boolean isShutdown() {
+        lock.lock();
+        try {
+            return shutdown;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 导出任务预估开销
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class ExportCost {
+
+        /**
+         * 预估行数
+         */
+        private final long rows;
+
+        /**
+         * 预估内存占用（字节）
+         */
+        private final long memoryBytes;
+
+        /**
+         * 预估磁盘占用（字节）
+         */
+        private final long diskBytes;
+    }
+
+    /**
+     * 准入许可，任务结束时关闭以归还预算，可重复关闭
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final ExportCost cost;
+
+        private boolean closed;
+
+        private Permit(ExportCost cost) {
+            this.cost = cost;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            release(cost);
+        }
+    }
+
+    /**
+     * 排队任务的准入凭证
+     * 调度器出队前调用 {@link #tryAdmit()}，尚未预估开销时直接出队以便预估，之后准入成功或等待超时后任务才出队；
+     * 任务执行时通过 {@link #takePermit()} 取得许可，超时的任务在此失败；任务结束时关闭凭证以归还预算
+     */
+    public final class Ticket implements AutoCloseable {
+
+        private final String taskId;
+
+        private final long maxWaitNanos;
+
+        private ExportCost cost;
+
+        /**
+         * 首次预算不足的时间，0 表示尚未等待
+         */
+        private long waitStartNanos;
+
+        private Permit permit;
+
+        private ExcelExportException failure;
+
+        private Ticket(String taskId, long maxWaitMillis) {
+            this.taskId = taskId;
+            this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        }
+
+        /**
+         * 是否已设置预估开销
+         *
+         * @return 已设置时返回 true
+         */
+        public synchronized boolean hasCost() {
+            return cost != null;
+        }
+
+        /**
+         * 设置任务预估开销
+         *
+         * @param cost 任务预估开销
+         */
+        public synchronized void setCost(ExportCost cost) {
+            this.cost = cost;
+        }
+
+        /**
+         * 使凭证失败，之后 {@link #takePermit()} 抛出该异常
+         *
+         * @param failure 失败原因
+         */
+        public synchronized void fail(ExcelExportException failure) {
+            if (permit == null && this.failure == null) {
+                this.failure = failure;
+            }
+        }
+
+        /**
+         * 尝试准入，不阻塞
+         *
+         * @return 尚未预估开销、已准入或已确定失败时返回 true，任务可以出队
+         */
+        public synchronized boolean tryAdmit() {
+            if (cost == null || permit != null || failure != null) {
+                return true;
+            }
+            permit = tryAcquire(taskId, cost);
+            if (permit != null) {
+                return true;
+            }
+            long now = System.nanoTime();
+            if (waitStartNanos == 0) {
+                waitStartNanos = now;
+                log.info("导出资源预算不足，任务等待准入: {}, 预估开销: {}", taskId, cost);
+            }
+            if (isShutdown()) {
+                failure = new ExcelExportException("导出引擎已关闭，停止等待准入");
+            } else if (now - waitStartNanos >= maxWaitNanos) {
+                ExportCost running = getRunningCost();
+                failure = new ExcelExportException("导出资源不足，等待准入超时: " + cost
+                        + "，执行中任务: " + getRunningCount() + "，预估行数: " + running.rows);
+            }
+            return failure != null;
+        }
+
+        /**
+         * 取得准入许可
+         *
+         * @return 准入许可
+         * @throws ExcelExportException 尚未准入、等待超时或准入控制器已关闭
+         */
+        public synchronized Permit takePermit() {
+            if (permit != null) {
+                return permit;
+            }
+            throw failure != null ? failure : new ExcelExportException("导出任务尚未准入: " + taskId);
+        }
+
+        @Override
+        public void close() {
+            Permit acquired;
+            synchronized (this) {
+                acquired = permit;
+            }
+            // 在凭证锁外归还预算，归还回调会获取调度器锁
+            if (acquired != null) {
+                acquired.close();
+            }
+        }
+    }
+}
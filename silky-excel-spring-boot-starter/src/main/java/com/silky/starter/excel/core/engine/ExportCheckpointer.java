@@ -0,0 +1,454 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.hutool.core.io.FileUtil;
+import com.silky.starter.excel.core.exception.ExcelExportException;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
+import com.silky.starter.excel.core.storage.StorageStrategy;
+import com.silky.starter.excel.entity.ExportCheckpoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 导出检查点写入器
+ * 查询到的分页数据按Sheet追加到本地分段文件（gzip 压缩，由 {@link CheckpointRowCodec} 无损编码），累计指定页数后通过存储策略持久化，
+ * 并保存包含分段标识和下一次查询位置的检查点。恢复导出时先回放已持久化的分段，再从检查点位置继续查询。
+ * <p>
+ * 检查点只在分段持久化后推进，未持久化的分页在恢复时重新查询。分段上传在Sheet级别串行，不持有写入器的锁，
+ * 多Sheet并行拉取时一个Sheet的上传不会阻塞其他Sheet追加分页；检查点按生成顺序保存，较旧的检查点不会覆盖较新的检查点。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public class ExportCheckpointer implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".ckpt.gz";
+
+    private final String taskId;
+
+    private final StorageStrategy storageStrategy;
+
+    /**
+     * 每个分段包含的页数
+     */
+    private final int pagesPerSegment;
+
+    /**
+     * 检查点保存回调
+     */
+    private final Consumer<ExportCheckpoint> checkpointSaver;
+
+    /**
+     * 已持久化的检查点
+     */
+    private final ExportCheckpoint checkpoint;
+
+    /**
+     * 各Sheet的分页编解码器，按Sheet序号排列
+     */
+    private final List<CheckpointRowCodec<?>> codecs;
+
+    /**
+     * 各Sheet尚未持久化的分段
+     */
+    private final Map<Integer, PendingSegment> pendingSegments = new HashMap<>();
+
+    /**
+     * 各Sheet的分段持久化锁，同一Sheet的分段按顺序上传并记录
+     */
+    private final Map<Integer, Object> sealLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 检查点保存锁
+     */
+    private final Object saveLock = new Object();
+
+    /**
+     * 最新生成的检查点版本（持有写入器的锁时修改）
+     */
+    private long checkpointVersion;
+
+    /**
+     * 已保存的检查点版本（持有 saveLock 时修改）
+     */
+    private long savedVersion;
+
+    private final List<SegmentReplay<?>> replays = new ArrayList<>();
+
+    /**
+     * 构造函数
+     *
+     * @param taskId          任务ID
+     * @param storageStrategy 分段文件存储策略
+     * @param pagesPerSegment 每个分段包含的页数
+     * @param sheetClasses    各Sheet的数据类，按Sheet序号排列
+     * @param modelRegistry   数据类元数据注册表
+     * @param restored        恢复的检查点，为 null 时从头开始
+     * @param checkpointSaver 检查点保存回调
+     * @throws IllegalArgumentException 数据类不支持检查点编码（见 {@link CheckpointRowCodec}）
+     */
+    public ExportCheckpointer(String taskId, StorageStrategy storageStrategy, int pagesPerSegment,
+                              List<? extends Class<?>> sheetClasses, ExcelModelRegistry modelRegistry,
+                              ExportCheckpoint restored, Consumer<ExportCheckpoint> checkpointSaver) {
+        if (pagesPerSegment <= 0) {
+            throw new IllegalArgumentException("检查点分段页数必须大于0");
+        }
+        List<CheckpointRowCodec<?>> sheetCodecs = new ArrayList<>();
+        for (Class<?> sheetClass : sheetClasses) {
+            sheetCodecs.add(CheckpointRowCodec.of(sheetClass, modelRegistry));
+        }
+        this.codecs = sheetCodecs;
+        this.taskId = taskId;
+        this.storageStrategy = storageStrategy;
+        this.pagesPerSegment = pagesPerSegment;
+        this.checkpointSaver = checkpointSaver;
+        this.checkpoint = restored != null ? copy(restored) : ExportCheckpoint.builder()
+                .storageType(storageStrategy.getStorageType())
+                .build();
+    }
+
+    /**
+     * 获取Sheet的已持久化检查点
+     *
+     * @param sheetIndex Sheet序号
+     * @return 检查点，不存在时返回 null
+     */
+    public synchronized ExportCheckpoint.SheetCheckpoint getSheet(int sheetIndex) {
+        return findSheet(sheetIndex);
+    }
+
+    /**
+     * 打开Sheet已持久化分段的回放
+     *
+     * @param sheetIndex Sheet序号
+     * @param dataClass  数据类型
+     * @param <T>        数据类型
+     * @return 按查询顺序返回已持久化的分页数据
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> Iterator<List<T>> openReplay(int sheetIndex, Class<T> dataClass) {
+        ExportCheckpoint.SheetCheckpoint sheet = findSheet(sheetIndex);
+        List<String> keys = sheet != null ? new ArrayList<>(sheet.getSegmentKeys()) : Collections.emptyList();
+        SegmentReplay<T> replay = new SegmentReplay<>(keys, (CheckpointRowCodec<T>) codecs.get(sheetIndex));
+        replays.add(replay);
+        return replay;
+    }
+
+    /**
+     * 追加新查询到的分页，累计到分段页数或Sheet数据查询完成时持久化分段并保存检查点
+     *
+     * @param sheetIndex  Sheet序号
+     * @param data        分页数据
+     * @param nextPageNum 下一次查询的页码
+     * @param pageSize    下一次查询的分页大小
+     * @param nextCursor  下一次查询的游标
+     * @param exhausted   数据是否已全部查询完成
+     */
+    public void append(int sheetIndex, List<?> data, int nextPageNum, int pageSize, String nextCursor,
+                       boolean exhausted) {
+        synchronized (getSealLock(sheetIndex)) {
+            PendingSegment sealing;
+            synchronized (this) {
+                PendingSegment segment = pendingSegments.get(sheetIndex);
+                if (segment == null) {
+                    segment = new PendingSegment(codecs.get(sheetIndex));
+                    pendingSegments.put(sheetIndex, segment);
+                }
+                try {
+                    if (data != null && !data.isEmpty()) {
+                        segment.write(data);
+                        segment.rowCount += data.size();
+                    }
+                } catch (IOException e) {
+                    throw new ExcelExportException("写入导出检查点分段失败: " + e.getMessage(), e);
+                }
+                segment.nextPageNum = nextPageNum;
+                segment.pageSize = pageSize;
+                segment.nextCursor = nextCursor;
+                segment.exhausted = exhausted;
+                if (!exhausted && segment.pageCount < pagesPerSegment) {
+                    return;
+                }
+                pendingSegments.remove(sheetIndex);
+                sealing = segment;
+            }
+            seal(sheetIndex, sealing);
+        }
+    }
+
+    /**
+     * 持久化所有未持久化的分段（导出失败时调用，使恢复时少查询这部分数据）
+     */
+    public void sealAll() {
+        List<Integer> sheetIndexes;
+        synchronized (this) {
+            sheetIndexes = new ArrayList<>(pendingSegments.keySet());
+        }
+        for (Integer sheetIndex : sheetIndexes) {
+            synchronized (getSealLock(sheetIndex)) {
+                PendingSegment segment;
+                synchronized (this) {
+                    segment = pendingSegments.remove(sheetIndex);
+                }
+                if (segment == null) {
+                    continue;
+                }
+                try {
+                    seal(sheetIndex, segment);
+                } catch (Exception e) {
+                    log.warn("持久化导出检查点分段失败: {}, Sheet: {}", taskId, sheetIndex, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 导出成功后删除所有已持久化的分段并清空检查点
+     */
+    public synchronized void discard() {
+        for (ExportCheckpoint.SheetCheckpoint sheet : checkpoint.getSheets()) {
+            for (String key : sheet.getSegmentKeys()) {
+                try {
+                    storageStrategy.deleteFile(key);
+                } catch (Exception e) {
+                    log.warn("删除导出检查点分段失败: {}", key, e);
+                }
+            }
+        }
+        checkpoint.getSheets().clear();
+        checkpointSaver.accept(null);
+    }
+
+    /**
+     * 释放本地分段文件和回放资源
+     */
+    @Override
+    public synchronized void close() {
+        pendingSegments.values().forEach(PendingSegment::delete);
+        pendingSegments.clear();
+        replays.forEach(SegmentReplay::close);
+        replays.clear();
+    }
+
+    private Object getSealLock(int sheetIndex) {
+        return sealLocks.computeIfAbsent(sheetIndex, k -> new Object());
+    }
+
+    /**
+     * 上传已从待持久化列表移除的分段并保存检查点（调用方持有该Sheet的分段持久化锁，不持有写入器的锁）
+     */
+    private void seal(int sheetIndex, PendingSegment segment) {
+        String key = null;
+        try {
+            segment.finish();
+            if (segment.pageCount > 0) {
+                String fileName;
+                synchronized (this) {
+                    ExportCheckpoint.SheetCheckpoint sheet = findSheet(sheetIndex);
+                    fileName = taskId + "_" + sheetIndex + "_" + (sheet != null ? sheet.getSegmentKeys().size() : 0) + SEGMENT_SUFFIX;
+                }
+                key = storageStrategy.storeFile(segment.file, fileName, null).getKey();
+            }
+        } catch (IOException e) {
+            throw new ExcelExportException("持久化导出检查点分段失败: " + e.getMessage(), e);
+        } finally {
+            segment.delete();
+        }
+        ExportCheckpoint snapshot;
+        long version;
+        synchronized (this) {
+            ExportCheckpoint.SheetCheckpoint sheet = findSheet(sheetIndex);
+            if (sheet == null) {
+                sheet = new ExportCheckpoint.SheetCheckpoint();
+                sheet.setSheetIndex(sheetIndex);
+                checkpoint.getSheets().add(sheet);
+            }
+            if (key != null) {
+                sheet.getSegmentKeys().add(key);
+                sheet.setRowCount(sheet.getRowCount() + segment.rowCount);
+                checkpoint.setRowCount(checkpoint.getRowCount() + segment.rowCount);
+            }
+            sheet.setNextPageNum(segment.nextPageNum);
+            sheet.setPageSize(segment.pageSize);
+            sheet.setNextCursor(segment.nextCursor);
+            sheet.setExhausted(segment.exhausted);
+            checkpoint.setUpdateTime(LocalDateTime.now());
+            snapshot = copy(checkpoint);
+            version = ++checkpointVersion;
+        }
+        saveCheckpoint(snapshot, version);
+        log.debug("导出检查点已保存: {}, Sheet: {}, 下一页: {}, 已持久化行数: {}",
+                taskId, sheetIndex, segment.nextPageNum, snapshot.getRowCount());
+    }
+
+    /**
+     * 按版本顺序保存检查点，已保存更新版本时跳过
+     */
+    private void saveCheckpoint(ExportCheckpoint snapshot, long version) {
+        synchronized (saveLock) {
+            if (version <= savedVersion) {
+                return;
+            }
+            checkpointSaver.accept(snapshot);
+            savedVersion = version;
+        }
+    }
+
+    private ExportCheckpoint.SheetCheckpoint findSheet(int sheetIndex) {
+        for (ExportCheckpoint.SheetCheckpoint sheet : checkpoint.getSheets()) {
+            if (sheet.getSheetIndex() == sheetIndex) {
+                return sheet;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 复制检查点，保存到记录服务的检查点不再随导出过程变化
+     */
+    private static ExportCheckpoint copy(ExportCheckpoint source) {
+        List<ExportCheckpoint.SheetCheckpoint> sheets = new ArrayList<>();
+        for (ExportCheckpoint.SheetCheckpoint sheet : source.getSheets()) {
+            sheets.add(new ExportCheckpoint.SheetCheckpoint(sheet.getSheetIndex(), sheet.getNextPageNum(),
+                    sheet.getPageSize(), sheet.getNextCursor(), sheet.isExhausted(), new ArrayList<>(sheet.getSegmentKeys()), sheet.getRowCount()));
+        }
+        return ExportCheckpoint.builder()
+                .storageType(source.getStorageType())
+                .sheets(sheets)
+                .rowCount(source.getRowCount())
+                .updateTime(source.getUpdateTime())
+                .build();
+    }
+
+    /**
+     * 尚未持久化的本地分段
+     */
+    private static final class PendingSegment {
+        final CheckpointRowCodec<?> codec;
+        File file;
+        DataOutputStream writer;
+        int pageCount;
+        long rowCount;
+        int nextPageNum;
+        int pageSize;
+        String nextCursor;
+        boolean exhausted;
+
+        PendingSegment(CheckpointRowCodec<?> codec) {
+            this.codec = codec;
+        }
+
+        void write(List<?> page) throws IOException {
+            if (writer == null) {
+                file = File.createTempFile("silky_checkpoint_", SEGMENT_SUFFIX);
+                writer = new DataOutputStream(new BufferedOutputStream(
+                        new GZIPOutputStream(Files.newOutputStream(file.toPath()), 64 * 1024), 64 * 1024));
+                codec.writeHeader(writer);
+            }
+            writer.writeBoolean(true);
+            codec.writePage(writer, page);
+            pageCount++;
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                // 分段结束标记
+                writer.writeBoolean(false);
+                writer.close();
+                writer = null;
+            }
+        }
+
+        void delete() {
+            try {
+                finish();
+            } catch (IOException e) {
+                log.debug("关闭导出检查点分段失败", e);
+            }
+            if (file != null) {
+                FileUtil.del(file);
+                file = null;
+            }
+        }
+    }
+
+    /**
+     * 已持久化分段的回放，逐个下载分段并按行读取分页
+     */
+    private final class SegmentReplay<T> implements Iterator<List<T>>, Closeable {
+
+        private final Iterator<String> keys;
+
+        private final CheckpointRowCodec<T> codec;
+
+        private File currentFile;
+
+        private DataInputStream reader;
+
+        private List<T> nextPage;
+
+        SegmentReplay(List<String> keys, CheckpointRowCodec<T> codec) {
+            this.keys = keys.iterator();
+            this.codec = codec;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (nextPage == null) {
+                    if (reader != null) {
+                        if (reader.readBoolean()) {
+                            nextPage = codec.readPage(reader);
+                            break;
+                        }
+                        close();
+                    }
+                    if (!keys.hasNext()) {
+                        return false;
+                    }
+                    currentFile = storageStrategy.downloadFile(keys.next());
+                    reader = new DataInputStream(new BufferedInputStream(
+                            new GZIPInputStream(Files.newInputStream(currentFile.toPath()), 64 * 1024), 64 * 1024));
+                    codec.readHeader(reader);
+                }
+                return true;
+            } catch (IOException e) {
+                throw new ExcelExportException("读取导出检查点分段失败: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public List<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<T> page = nextPage;
+            nextPage = null;
+            return page;
+        }
+
+        @Override
+        public void close() {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    log.debug("关闭导出检查点分段失败", e);
+                }
+                reader = null;
+            }
+            if (currentFile != null) {
+                FileUtil.del(currentFile);
+                currentFile = null;
+            }
+        }
+    }
+}
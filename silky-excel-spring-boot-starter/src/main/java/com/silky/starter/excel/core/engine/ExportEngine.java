@@ -4,14 +4,21 @@ import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.util.IdUtil;
 import cn.hutool.core.util.StrUtil;
+import cn.idev.excel.support.ExcelTypeEnum;
 import com.silky.starter.excel.core.exception.ExcelExportException;
+import com.silky.starter.excel.core.metrics.ExcelMetrics;
+import com.silky.starter.excel.core.metrics.ExcelStage;
 import com.silky.starter.excel.core.model.DataProcessor;
 import com.silky.starter.excel.core.model.export.*;
 import com.silky.starter.excel.core.resolve.ExcelFieldResolverPipeline;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
 import com.silky.starter.excel.core.resolve.ResolveCellWriteHandler;
+import com.silky.starter.excel.core.resolve.ResolvedValueTable;
 import com.silky.starter.excel.core.resolve.ResolveContext;
 import com.silky.starter.excel.core.storage.StorageObject;
+import com.silky.starter.excel.core.storage.StorageStrategy;
 import com.silky.starter.excel.core.storage.factory.StorageStrategyFactory;
+import com.silky.starter.excel.entity.ExportCheckpoint;
 import com.silky.starter.excel.entity.ExportRecord;
 import com.silky.starter.excel.enums.AsyncType;
 import com.silky.starter.excel.enums.ExportStatus;
@@ -26,18 +33,37 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
 
 /**
  * 导出引擎，负责协调导出任务的整个生命周期
@@ -49,7 +75,20 @@ import java.util.concurrent.ScheduledExecutorService;
 public class ExportEngine extends AbstractExcelEngine {
 
     private static final String TEMP_FILE_PREFIX = "silky_export_";
+    /**
+     * 任务扩展属性：排队时已保存导出记录
+     */
+    private static final String ATTR_RECORD_QUEUED = "silky.export.recordQueued";
+    /**
+     * 任务扩展属性：排队时创建的准入凭证
+     */
+    private static final String ATTR_ADMISSION_TICKET = "silky.export.admissionTicket";
+    /**
+     * 任务扩展属性：预估开销前已准备导出数据（值为 TRUE，准备失败时为异常）
+     */
+    private static final String ATTR_DATA_PREPARED = "silky.export.dataPrepared";
     private static final long EXCEL_MAX_ROWS_PER_SHEET = 1048576;
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
 
     /**
      * 导出任务缓存
@@ -80,6 +119,35 @@ public class ExportEngine extends AbstractExcelEngine {
      * 字段解析管道
      */
     private final ExcelFieldResolverPipeline fieldResolverPipeline;
+    /**
+     * 任务进度上报器
+     */
+    private final ProgressReporter progressReporter;
+    /**
+     * 异步导出调度器（为 null 时异步导出提交到 taskExecutor）
+     */
+    private final ExportTaskScheduler taskScheduler;
+    /**
+     * 导出准入控制器（为 null 时不做准入控制）
+     */
+    private final ExportAdmissionController admissionController;
+    /**
+     * 执行中的导出任务数
+     */
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    /**
+     * 已准备数据、因预算不足重新排队的任务
+     */
+    private final ConcurrentMap<String, ExportTask<?>> deferredTasks = new java.util.concurrent.ConcurrentHashMap<>();
+    /**
+     * 阶段指标记录器
+     */
+    private volatile ExcelMetrics metrics = ExcelMetrics.NOOP;
+
+    /**
+     * 数据类元数据注册表
+     */
+    private volatile ExcelModelRegistry modelRegistry = ExcelModelRegistry.shared();
 
     /**
      * 默认存储类型
@@ -111,11 +179,46 @@ public class ExportEngine extends AbstractExcelEngine {
         this.taskExecutor = taskExecutor;
         this.compressionService = compressionService;
         this.fieldResolverPipeline = fieldResolverPipeline;
+        SilkyExcelProperties.ProgressConfig progressConfig = properties.getProgress();
+        this.progressReporter = new ProgressReporter("导出引擎", sharedCleanupExecutor,
+                progressConfig.getFlushIntervalMillis(), progressConfig.getFlushRowDelta());
+        SilkyExcelProperties.Export.Scheduler schedulerConfig = properties.getExport().getScheduler();
+        this.taskScheduler = schedulerConfig.isEnabled()
+                ? new ExportTaskScheduler(schedulerConfig.getWorkerThreads(), schedulerConfig.getMaxQueuedTasks(),
+                schedulerConfig.getMaxQueuedPerTenant(), schedulerConfig.getMaxRunningPerTenant())
+                : null;
+        SilkyExcelProperties.Export.Admission admissionConfig = properties.getExport().getAdmission();
+        this.admissionController = admissionConfig.isEnabled()
+                ? new ExportAdmissionController(admissionConfig.getMaxRunningRows(),
+                admissionConfig.getMaxMemoryMb() * 1024 * 1024, admissionConfig.getMaxDiskMb() * 1024 * 1024)
+                : null;
+        if (taskScheduler != null && admissionController != null) {
+            // 预算归还后唤醒调度器，重新检查等待准入的排队任务
+            admissionController.setReleaseListener(taskScheduler::wakeUp);
+        }
         this.defaultStorageType = properties.getStorage().getStorageType();
         this.defaultAsyncType = properties.getAsync().getAsyncType();
         this.defaultTimeout = properties.getExport().getTimeoutMinutes();
     }
 
+    /**
+     * 设置阶段指标记录器
+     *
+     * @param metrics 指标记录器，为 null 时不记录指标
+     */
+    public void setMetrics(ExcelMetrics metrics) {
+        this.metrics = metrics != null ? metrics : ExcelMetrics.NOOP;
+    }
+
+    /**
+     * 设置数据类元数据注册表
+     *
+     * @param modelRegistry 元数据注册表，为 null 时使用共享注册表
+     */
+    public void setModelRegistry(ExcelModelRegistry modelRegistry) {
+        this.modelRegistry = modelRegistry != null ? modelRegistry : ExcelModelRegistry.shared();
+    }
+
     /**
      * 同步导出
      *
@@ -128,7 +231,9 @@ public class ExportEngine extends AbstractExcelEngine {
     }
 
     /**
-     * 异步导出（提交到线程池执行）
+     * 异步导出（提交到导出调度器排队执行，调度器关闭时提交到线程池）
+     * 排队已满时直接返回失败结果，不会在调用线程中执行导出；
+     * 启用准入控制时任务首次出队后在工作线程上准备数据并预估开销，预算不足时重新排队，不占用调度器工作线程等待
      *
      * @param task 导出任务
      * @param <T>  数据类型
@@ -136,14 +241,52 @@ public class ExportEngine extends AbstractExcelEngine {
      */
     public <T> ExportResult exportAsync(ExportTask<T> task) {
         try {
-            taskExecutor.execute(() -> processExportTask(task));
+            if (taskScheduler != null) {
+                ExportRequest<T> request = task.getRequest();
+                if (!task.isResume()) {
+                    // 排队期间即可查询到导出记录，调度器关闭丢弃任务时据此置为失败
+                    createAndSaveExportRecord(task, ExportStatus.PENDING);
+                    task.setAttribute(ATTR_RECORD_QUEUED, Boolean.TRUE);
+                }
+                try {
+                    if (admissionController == null) {
+                        taskScheduler.submit(task.getTaskId(), getTenant(request), request.getPriority(),
+                                () -> processExportTask(task));
+                    } else {
+                        long maxWaitMillis = properties.getExport().getAdmission().getMaxWaitSeconds() * 1000;
+                        ExportAdmissionController.Ticket ticket = admissionController.newTicket(task.getTaskId(), maxWaitMillis);
+                        task.setAttribute(ATTR_ADMISSION_TICKET, ticket);
+                        submitScheduled(task, ticket);
+                    }
+                } catch (RejectedExecutionException e) {
+                    if (task.getAttribute(ATTR_RECORD_QUEUED) != null) {
+                        recordService.updateFailed(task.getTaskId(), "导出任务被拒绝: " + e.getMessage());
+                    }
+                    throw e;
+                }
+            } else {
+                taskExecutor.execute(() -> processExportTask(task));
+            }
             return ExportResult.asyncSuccess(task.getTaskId());
+        } catch (RejectedExecutionException e) {
+            log.warn("导出任务被拒绝: {}, 原因: {}", task.getTaskId(), e.getMessage());
+            return ExportResult.fail(task.getTaskId(), "导出任务被拒绝: " + e.getMessage());
         } catch (Exception e) {
             log.error("异步提交导出任务失败: {}", task.getTaskId(), e);
             return ExportResult.fail(task.getTaskId(), "异步提交失败: " + e.getMessage());
         }
     }
 
+    /**
+     * 获取调度租户标识：tenantId > createUser > 默认租户
+     */
+    private String getTenant(ExportRequest<?> request) {
+        if (StrUtil.isNotBlank(request.getTenantId())) {
+            return request.getTenantId();
+        }
+        return StrUtil.isNotBlank(request.getCreateUser()) ? request.getCreateUser() : ExportTaskScheduler.DEFAULT_TENANT;
+    }
+
     /**
      * 处理导出任务主流程
      *
@@ -155,97 +298,630 @@ public class ExportEngine extends AbstractExcelEngine {
         ExportRequest<T> request = task.getRequest();
         String taskId = task.getTaskId();
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         File tempFile = null;
-        File finalFile = null;
+        ExportAdmissionController.Permit permit = null;
+        ExportCheckpointer checkpointer = null;
+        boolean success = false;
+        activeTasks.incrementAndGet();
         try {
             validateExportRequest(request);
             taskCache.put(taskId, task);
-            createAndSaveExportRecord(task);
-            prepareExportData(request);
-            tempFile = createTempFile(request.getFileName());
-
-            // 统一导出：单Sheet和多Sheet共用同一方法
-            ExportResult exportResult = executeExport(request, taskId, tempFile, task.getAsyncType());
+            ExportCheckpoint restored = task.isResume() ? prepareResume(taskId) : null;
+            if (restored == null && task.getAttribute(ATTR_RECORD_QUEUED) != null) {
+                recordService.updateStatus(taskId, ExportStatus.PROCESSING);
+            } else if (restored == null) {
+                createAndSaveExportRecord(task, ExportStatus.PROCESSING);
+            }
+            prepareExportDataIfNecessary(task);
+            permit = acquireAdmission(task);
+            ExportCheckpointer activeCheckpointer = createCheckpointer(task, restored);
+            checkpointer = activeCheckpointer;
 
-            // 处理压缩
-            if (request.isCompressionEnabled()) {
-                finalFile = compressFile(tempFile, request);
+            ExportResult exportResult;
+            StorageObject storageObject;
+            if (request.getPartitioner() != null) {
+                // 分区导出：各分区并行导出为独立文件后打包
+                String archiveName = FileUtil.mainName(request.getFileName()) + ".zip";
+                tempFile = createTempFile(archiveName);
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()), OUTPUT_BUFFER_SIZE)) {
+                    exportResult = exportPartitions(request, taskId, out, task.getAsyncType());
+                }
+                long uploadStart = System.nanoTime();
+                storageObject = getStorageStrategy(request).storeFile(tempFile, archiveName, request.getFileMetadata());
+                metrics.recordStage(ExcelStage.UPLOAD, request.getBusinessType(), System.nanoTime() - uploadStart);
+            } else if (isStreamingOutput(request)) {
+                // 流式导出：直接写入存储策略提供的输出流，不经过本地临时文件
+                AtomicReference<ExportResult> resultRef = new AtomicReference<>();
+                storageObject = getStorageStrategy(request).storeFile(request.getFileName(), request.getFileMetadata(),
+                        out -> resultRef.set(exportToStream(request, taskId, out, task.getAsyncType(), activeCheckpointer)));
+                exportResult = resultRef.get();
+            } else {
+                tempFile = createTempFile(request.getFileName());
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()), OUTPUT_BUFFER_SIZE)) {
+                    exportResult = exportToStream(request, taskId, out, task.getAsyncType(), activeCheckpointer);
+                }
+                storageObject = uploadExportFile(tempFile, request);
             }
-            StorageObject storageObject = uploadExportFile(finalFile != null ? finalFile : tempFile, request);
             String fileUrl = storageObject.getUrl();
             long fileSize = storageObject.getSize();
             updateRecordOnSuccess(taskId, fileUrl, fileSize, exportResult);
+            if (checkpointer != null) {
+                checkpointer.discard();
+            }
             long costTime = System.currentTimeMillis() - startTime;
             incrementSuccess();
+            success = true;
             log.debug("导出任务完成: {}, 文件URL: {}, 耗时: {}ms", taskId, fileUrl, costTime);
             return exportResult.setFileUrl(fileUrl).setFileSize(fileSize).setCostTime(costTime);
         } catch (Exception e) {
             log.error("导出任务失败: {}", taskId, e);
+            if (checkpointer != null) {
+                // 持久化已查询的分页，恢复导出时不再重新查询
+                checkpointer.sealAll();
+            }
             incrementFailed();
             recordService.updateFailed(taskId, "导出失败: " + e.getMessage());
             return ExportResult.fail(taskId, "导出失败: " + e.getMessage());
         } finally {
-            cleanupExportResources(request, tempFile, finalFile);
+            if (checkpointer != null) {
+                checkpointer.close();
+            }
+            if (permit != null) {
+                permit.close();
+            }
+            cleanupExportResources(request, tempFile);
             incrementTotalProcessed();
+            activeTasks.decrementAndGet();
+            metrics.recordTask(ExcelMetrics.EXPORT, request.getBusinessType(), success, System.nanoTime() - startNanos);
         }
     }
 
     /**
-     * 统一执行导出（合并单Sheet和多Sheet逻辑）
+     * 准备恢复导出：读取导出记录中的检查点并将记录置为处理中
+     *
+     * @param taskId 任务ID
+     * @return 检查点
+     */
+    private ExportCheckpoint prepareResume(String taskId) {
+        ExportRecord record = recordService.getByTaskId(taskId);
+        if (record == null || record.getCheckpoint() == null) {
+            throw new ExcelExportException("导出任务不存在可恢复的检查点: " + taskId);
+        }
+        recordService.update(taskId, r -> {
+            r.setStatus(ExportStatus.PROCESSING);
+            r.setErrorMsg(null);
+            r.setFinishTime(null);
+        });
+        log.info("从检查点恢复导出任务: {}, 已持久化行数: {}", taskId, record.getCheckpoint().getRowCount());
+        return record.getCheckpoint();
+    }
+
+    /**
+     * 创建检查点写入器，恢复导出时沿用检查点的存储类型
+     *
+     * @param task     导出任务
+     * @param restored 恢复的检查点
+     * @param <T>      数据类型
+     * @return 检查点写入器，未启用检查点时返回 null
+     */
+    private <T> ExportCheckpointer createCheckpointer(ExportTask<T> task, ExportCheckpoint restored) {
+        ExportRequest<T> request = task.getRequest();
+        // 分区导出的各分区独立写入，不支持检查点
+        if (request.getPartitioner() != null || (restored == null && !isCheckpointEnabled(request))) {
+            return null;
+        }
+        String taskId = task.getTaskId();
+        StorageStrategy storageStrategy = restored != null && restored.getStorageType() != null
+                ? storageStrategyFactory.getStrategy(restored.getStorageType())
+                : getStorageStrategy(request);
+        List<Class<T>> sheetClasses = buildSheetContexts(request).stream()
+                .map(sheetCtx -> sheetCtx.dataClass)
+                .collect(Collectors.toList());
+        try {
+            return new ExportCheckpointer(taskId, storageStrategy, properties.getExport().getCheckpoint().getPagesPerSegment(),
+                    sheetClasses, modelRegistry, restored,
+                    checkpoint -> recordService.update(taskId, record -> record.setCheckpoint(checkpoint)));
+        } catch (IllegalArgumentException e) {
+            if (restored != null || request.getCheckpointEnabled() != null) {
+                throw e;
+            }
+            // 全局开启检查点时，不支持检查点编码的数据类仍按普通导出执行
+            log.warn("导出任务不启用检查点: {}, 原因: {}", taskId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 按检查点恢复各Sheet的查询位置和待回放的分页
+     *
+     * @param sheetContexts Sheet上下文列表
+     * @param checkpointer  检查点写入器
+     * @param <T>           数据类型
+     */
+    private <T> void restoreFromCheckpoint(List<SheetExportContext<T>> sheetContexts, ExportCheckpointer checkpointer) {
+        for (SheetExportContext<T> sheetCtx : sheetContexts) {
+            sheetCtx.checkpointer = checkpointer;
+            ExportCheckpoint.SheetCheckpoint sheetCheckpoint = checkpointer.getSheet(sheetCtx.index);
+            if (sheetCheckpoint == null) {
+                continue;
+            }
+            sheetCtx.nextPageNum = sheetCheckpoint.getNextPageNum();
+            if (sheetCheckpoint.getPageSize() > 0) {
+                sheetCtx.pageSize = sheetCheckpoint.getPageSize();
+            }
+            sheetCtx.nextCursor = sheetCheckpoint.getNextCursor();
+            sheetCtx.replayExhausted = sheetCheckpoint.isExhausted();
+            if (sheetCheckpoint.getSegmentKeys().isEmpty()) {
+                sheetCtx.exhausted = sheetCheckpoint.isExhausted();
+            } else {
+                sheetCtx.replay = checkpointer.openReplay(sheetCtx.index, sheetCtx.dataClass);
+            }
+        }
+    }
+
+    /**
+     * 导出准入：排队执行的任务使用出队前取得的许可；其他任务预估开销，预算不足时将记录置为等待中，直到执行中的任务释放预算
+     *
+     * @param task 导出任务
+     * @param <T>  数据类型
+     * @return 准入许可，未启用准入控制时返回 null
+     */
+    private <T> ExportAdmissionController.Permit acquireAdmission(ExportTask<T> task) {
+        if (admissionController == null) {
+            return null;
+        }
+        Object ticket = task.getAttribute(ATTR_ADMISSION_TICKET);
+        if (ticket != null) {
+            // 调度器出队前已完成准入
+            return ((ExportAdmissionController.Ticket) ticket).takePermit();
+        }
+        String taskId = task.getTaskId();
+        ExportAdmissionController.ExportCost cost = estimateExportCost(task.getRequest());
+        ExportAdmissionController.Permit permit = admissionController.tryAcquire(taskId, cost);
+        if (permit != null) {
+            return permit;
+        }
+        log.info("导出资源预算不足，任务等待准入: {}, 预估开销: {}", taskId, cost);
+        recordService.updateStatus(taskId, ExportStatus.PENDING);
+        long maxWaitMillis = properties.getExport().getAdmission().getMaxWaitSeconds() * 1000;
+        permit = admissionController.acquire(taskId, cost, maxWaitMillis);
+        recordService.updateStatus(taskId, ExportStatus.PROCESSING);
+        return permit;
+    }
+
+    /**
+     * 提交带准入凭证的排队任务，调度器出队前据凭证检查准入
+     *
+     * @param task   导出任务
+     * @param ticket 准入凭证
+     * @param <T>    数据类型
+     * @throws RejectedExecutionException 调度器已关闭或排队已满
+     */
+    private <T> void submitScheduled(ExportTask<T> task, ExportAdmissionController.Ticket ticket) {
+        ExportRequest<T> request = task.getRequest();
+        taskScheduler.submit(task.getTaskId(), getTenant(request), request.getPriority(),
+                ticket::tryAdmit, () -> runScheduled(task, ticket));
+    }
+
+    /**
+     * 执行出队的排队任务
+     * 首次出队时在工作线程上准备数据并预估开销（数据供应器的计数查询在 prepare 之后执行，不占用提交线程），
+     * 预算不足时保持已准备的状态重新排队，由调度器在预算归还后再出队，不占用工作线程等待
+     *
+     * @param task   导出任务
+     * @param ticket 准入凭证
+     * @param <T>    数据类型
+     */
+    private <T> void runScheduled(ExportTask<T> task, ExportAdmissionController.Ticket ticket) {
+        String taskId = task.getTaskId();
+        deferredTasks.remove(taskId);
+        // 任务在取得许可前失败时也要归还出队时占用的预算
+        try {
+            if (!ticket.hasCost() && !estimateBeforeAdmission(task, ticket)) {
+                deferredTasks.put(taskId, task);
+                try {
+                    submitScheduled(task, ticket);
+                    log.info("导出资源预算不足，任务重新排队等待准入: {}", taskId);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    deferredTasks.remove(taskId);
+                    ticket.fail(new ExcelExportException("导出任务重新排队被拒绝: " + e.getMessage()));
+                }
+            }
+            processExportTask(task);
+        } finally {
+            ticket.close();
+        }
+    }
+
+    /**
+     * 准备导出数据并预估开销，随后尝试立即准入
+     *
+     * @param task   导出任务
+     * @param ticket 准入凭证
+     * @param <T>    数据类型
+     * @return 已准入、准备失败（由导出主流程报告）时返回 true，预算不足时返回 false
+     */
+    private <T> boolean estimateBeforeAdmission(ExportTask<T> task, ExportAdmissionController.Ticket ticket) {
+        ExportRequest<T> request = task.getRequest();
+        try {
+            prepareExportData(request);
+            task.setAttribute(ATTR_DATA_PREPARED, Boolean.TRUE);
+        } catch (RuntimeException e) {
+            task.setAttribute(ATTR_DATA_PREPARED, e);
+            return true;
+        }
+        ticket.setCost(estimateExportCost(request));
+        return ticket.tryAdmit();
+    }
+
+    /**
+     * 准备导出数据，排队任务在预估开销前已准备时不再重复准备
+     *
+     * @param task 导出任务
+     * @param <T>  数据类型
+     */
+    private <T> void prepareExportDataIfNecessary(ExportTask<T> task) {
+        Object prepared = task.getAttribute(ATTR_DATA_PREPARED);
+        if (prepared instanceof RuntimeException) {
+            throw (RuntimeException) prepared;
+        }
+        if (prepared == null) {
+            prepareExportData(task.getRequest());
+        }
+    }
+
+    /**
+     * 预估导出开销
+     * 行数取数据供应器的预估总数；内存按同时在途的分页数估算，磁盘按总行数估算
+     *
+     * @param request 导出请求
+     * @param <T>     数据类型
+     * @return 预估开销
+     */
+    private <T> ExportAdmissionController.ExportCost estimateExportCost(ExportRequest<T> request) {
+        SilkyExcelProperties.Export.Admission config = properties.getExport().getAdmission();
+        List<SheetExportContext<T>> sheetContexts = buildSheetContexts(request);
+        long rows = 0;
+        for (SheetExportContext<T> sheetContext : sheetContexts) {
+            long sheetRows = estimateRowCount(sheetContext.dataSupplier, request.getParams());
+            rows += sheetRows >= 0 ? sheetRows : config.getDefaultEstimatedRows();
+        }
+        long pagesInFlight = getPagesInFlight(request, sheetContexts.size());
+        long rowsInFlight = Math.min(rows, pagesInFlight * Math.max(request.getPageSize(), 1));
+        return new ExportAdmissionController.ExportCost(rows,
+                rowsInFlight * config.getMemoryBytesPerRow(), rows * config.getDiskBytesPerRow());
+    }
+
+    /**
+     * 同时在内存中的分页数：预取深度 + 1，多Sheet并行拉取时为所有Sheet之和
+     *
+     * @param request    导出请求
+     * @param sheetCount Sheet数量
+     * @param <T>        数据类型
+     * @return 在途分页数
+     */
+    private <T> int getPagesInFlight(ExportRequest<T> request, int sheetCount) {
+        int prefetchDepth = getPrefetchDepth(request);
+        return sheetCount > 1 && isParallelSheetFetch(request)
+                ? sheetCount * (Math.max(prefetchDepth, 1) + 1)
+                : Math.max(prefetchDepth, 0) + 1;
+    }
+
+    /**
+     * 预估数据总量，优先使用 {@link PageableDataSupplier#estimateTotalCount}
+     *
+     * @return 数据总量，无法获取时返回 -1
+     */
+    private <T> long estimateRowCount(ExportDataSupplier<T> supplier, Map<String, Object> params) {
+        if (supplier == null) {
+            return -1L;
+        }
+        try {
+            if (supplier instanceof PageableDataSupplier) {
+                long count = ((PageableDataSupplier<T>) supplier).estimateTotalCount(params);
+                if (count >= 0) {
+                    return count;
+                }
+            }
+            return supplier.getTotalCount(params);
+        } catch (Exception e) {
+            log.debug("获取导出数据总量失败，使用默认预估行数", e);
+            return -1L;
+        }
+    }
+
+    /**
+     * 分区导出：按分区函数拆分后由多个线程并行导出，每个分区导出为独立文件，最后打包为 ZIP 写入输出流
+     * 各线程导出完当前分区后继续领取剩余分区，分区大小不均时不会出现线程空等；当前线程也参与导出，线程池繁忙时退化为串行
      *
      * @param request   导出请求
      * @param taskId    任务ID
-     * @param tempFile  临时文件
+     * @param out       输出流（由调用方关闭）
      * @param asyncType 异步类型
      * @param <T>       数据类型
+     * @return 合并后的导出结果
+     */
+    private <T> ExportResult exportPartitions(ExportRequest<T> request, String taskId,
+                                              OutputStream out, AsyncType asyncType) throws IOException {
+        if (compressionService == null) {
+            throw new ExcelExportException("分区导出需要压缩服务");
+        }
+        List<ExportPartition<T>> partitions = request.getPartitioner().partition(request.getParams());
+        if (CollUtil.isEmpty(partitions)) {
+            throw new ExcelExportException("分区函数未返回任何分区");
+        }
+        int partitionCount = partitions.size();
+        // 开始导出前校验分区名称，重复时不做任何导出
+        String[] entryNames = new String[partitionCount];
+        Set<String> distinctNames = new HashSet<>();
+        for (int i = 0; i < partitionCount; i++) {
+            entryNames[i] = getPartitionFileName(request, partitions.get(i));
+            if (!distinctNames.add(entryNames[i])) {
+                throw new ExcelExportException("分区名称重复: " + partitions.get(i).getName());
+            }
+        }
+        // 已完成的分区文件；导出结束后各位置被置为 released，之后完成的分区由导出线程自行删除文件
+        File released = new File("");
+        AtomicReferenceArray<File> partFiles = new AtomicReferenceArray<>(partitionCount);
+        ExportResult[] partResults = new ExportResult[partitionCount];
+        ConcurrentLinkedQueue<Integer> pending = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < partitionCount; i++) {
+            pending.add(i);
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(partitionCount);
+        AtomicLong exportedRows = new AtomicLong();
+        ProgressReporter.TaskProgress progress = request.isEnableProgress()
+                ? progressReporter.register(taskId, (processed, success, failed) ->
+                recordService.updateProgress(taskId, processed, success, failed))
+                : null;
+        Runnable worker = () -> {
+            Integer index;
+            while ((index = pending.poll()) != null) {
+                File partFile = null;
+                try {
+                    // 已有分区失败时不再导出剩余分区
+                    if (failure.get() == null) {
+                        partFile = createTempFile(entryNames[index]);
+                        partResults[index] = exportPartition(request, partitions.get(index), taskId, partFile);
+                        if (partFiles.compareAndSet(index, null, partFile)) {
+                            partFile = null;
+                        }
+                        long rows = exportedRows.addAndGet(partResults[index].getTotalCount());
+                        if (progress != null) {
+                            progress.report(rows, rows, 0);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    // 导出失败或导出已结束时删除本分区文件
+                    cleanupTempFile(partFile);
+                    done.countDown();
+                }
+            }
+        };
+        try {
+            int parallelism = Math.min(getPartitionParallelism(request), partitionCount);
+            for (int i = 1; i < parallelism; i++) {
+                try {
+                    taskExecutor.execute(worker);
+                } catch (RejectedExecutionException e) {
+                    log.debug("分区导出线程提交被拒绝，由当前线程继续导出: {}", taskId);
+                    break;
+                }
+            }
+            worker.run();
+            done.await();
+            Throwable cause = failure.get();
+            if (cause != null) {
+                throw new ExcelExportException("分区导出失败: " + cause.getMessage(), cause);
+            }
+            Map<String, File> entries = new LinkedHashMap<>();
+            for (int i = 0; i < partitionCount; i++) {
+                entries.put(entryNames[i], partFiles.get(i));
+            }
+            long compressStart = System.nanoTime();
+            compressionService.writeArchive(entries, buildCompressionConfig(request), out);
+            metrics.recordStage(ExcelStage.COMPRESS, request.getBusinessType(), System.nanoTime() - compressStart);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+            throw new ExcelExportException("分区导出被中断", e);
+        } finally {
+            if (progress != null) {
+                progress.complete();
+            }
+            // 剩余分区不再导出，执行中的分区完成后由导出线程删除文件
+            failure.compareAndSet(null, new ExcelExportException("分区导出已结束"));
+            for (int i = 0; i < partitionCount; i++) {
+                File partFile = partFiles.getAndSet(i, released);
+                if (partFile != released) {
+                    cleanupTempFile(partFile);
+                }
+            }
+        }
+
+        long totalRows = exportedRows.get();
+        log.debug("分区导出完成: {}, 分区数: {}, 总行数: {}", taskId, partitionCount, totalRows);
+        if (asyncType != null && asyncType.isAsync()) {
+            return ExportResult.asyncSuccess(taskId);
+        }
+        int sheetCount = 0;
+        for (ExportResult partResult : partResults) {
+            sheetCount += partResult.getSheetCount() != null ? partResult.getSheetCount() : 0;
+        }
+        return ExportResult.success(taskId)
+                .setTotalCount(totalRows).setSuccessCount(totalRows)
+                .setFailedCount(0L).setSheetCount(sheetCount);
+    }
+
+    /**
+     * 导出单个分区到文件
+     * 分区沿用请求的数据类、分页和处理器配置，查询参数与分区参数合并
+     *
+     * @param request   导出请求
+     * @param partition 分区
+     * @param taskId    任务ID（用于超时检查）
+     * @param file      分区文件
+     * @param <T>       数据类型
+     * @return 分区导出结果
+     */
+    private <T> ExportResult exportPartition(ExportRequest<T> request, ExportPartition<T> partition,
+                                             String taskId, File file) throws IOException {
+        Map<String, Object> params = new HashMap<>();
+        if (request.getParams() != null) {
+            params.putAll(request.getParams());
+        }
+        if (partition.getParams() != null) {
+            params.putAll(partition.getParams());
+        }
+        ExportDataSupplier<T> dataSupplier = partition.getDataSupplier() != null
+                ? partition.getDataSupplier() : request.getDataSupplier();
+        if (dataSupplier == null) {
+            throw new IllegalArgumentException("分区[" + partition.getName() + "]的数据供应器不能为null");
+        }
+        ExportRequest<T> partRequest = new ExportRequest<>();
+        partRequest.setDataClass(request.getDataClass());
+        partRequest.setFileName(getPartitionFileName(request, partition));
+        partRequest.setBusinessType(request.getBusinessType());
+        partRequest.setDataSupplier(dataSupplier);
+        partRequest.setPageSize(request.getPageSize());
+        partRequest.setParams(params);
+        partRequest.setProcessors(request.getProcessors());
+        partRequest.setTimeout(request.getTimeout());
+        partRequest.setMaxRowsPerSheet(request.getMaxRowsPerSheet());
+        partRequest.setPrefetchDepth(request.getPrefetchDepth());
+        partRequest.setAdaptivePageSize(request.getAdaptivePageSize());
+        // 进度由分区导出统一上报
+        partRequest.setEnableProgress(false);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file.toPath()), OUTPUT_BUFFER_SIZE)) {
+            return executeExport(partRequest, taskId, out, AsyncType.SYNC, null);
+        }
+    }
+
+    /**
+     * 分区文件名：原文件名 + "_" + 分区名称 + 原扩展名
+     */
+    private <T> String getPartitionFileName(ExportRequest<T> request, ExportPartition<T> partition) {
+        String extension = FileUtil.extName(request.getFileName());
+        String baseName = FileUtil.mainName(request.getFileName()) + "_" + partition.getName();
+        return StrUtil.isNotBlank(extension) ? baseName + "." + extension : baseName;
+    }
+
+    /**
+     * 导出到输出流，启用压缩时写入器输出经压缩流实时压缩
+     *
+     * @param request   导出请求
+     * @param taskId    任务ID
+     * @param out       输出流（由调用方关闭）
+     * @param asyncType    异步类型
+     * @param checkpointer 检查点写入器（未启用检查点时为 null）
+     * @param <T>          数据类型
+     * @return 导出结果
+     */
+    private <T> ExportResult exportToStream(ExportRequest<T> request, String taskId, OutputStream out,
+                                            AsyncType asyncType, ExportCheckpointer checkpointer) throws IOException {
+        if (!request.isCompressionEnabled()) {
+            return executeExport(request, taskId, out, asyncType, checkpointer);
+        }
+        // 边写边压缩：无需在导出完成后再完整读写一遍文件
+        // 压缩流内的耗时（含压缩结束时的收尾）在关闭时记为压缩阶段，前置缓冲使计时按缓冲块而不是按单次写入进行
+        try (OutputStream compressed = new BufferedOutputStream(new TimedOutputStream(compressionService.wrapOutputStream(out,
+                buildCompressionConfig(request), request.getFileName()),
+                nanos -> metrics.recordStage(ExcelStage.COMPRESS, request.getBusinessType(), nanos)), OUTPUT_BUFFER_SIZE)) {
+            return executeExport(request, taskId, compressed, asyncType, checkpointer);
+        }
+    }
+
+    /**
+     * 统一执行导出（合并单Sheet和多Sheet逻辑）
+     *
+     * @param request   导出请求
+     * @param taskId    任务ID
+     * @param out       输出流（由调用方关闭）
+     * @param asyncType    异步类型
+     * @param checkpointer 检查点写入器（未启用检查点时为 null）
+     * @param <T>          数据类型
      * @return 导出结果
      */
     private <T> ExportResult executeExport(ExportRequest<T> request, String taskId,
-                                           File tempFile, AsyncType asyncType) {
-        ResolveCellWriteHandler resolveHandler = (fieldResolverPipeline != null)
-                ? new ResolveCellWriteHandler() : null;
-        try (EnhancedWriterWrapper writer = new EnhancedWriterWrapper(tempFile.getAbsolutePath(),
-                getMaxRowsPerSheet(request), resolveHandler)) {
+                                           OutputStream out, AsyncType asyncType, ExportCheckpointer checkpointer) {
+        try (ExportSheetWriter writer = createSheetWriter(request, out)) {
             ResolveContext resolveContext = new ResolveContext();
 
             // 构建统一的Sheet列表
             List<SheetExportContext<T>> sheetContexts = buildSheetContexts(request);
+            sheetContexts.forEach(sheetCtx -> sheetCtx.pageSize = request.getPageSize());
+            if (checkpointer != null) {
+                restoreFromCheckpoint(sheetContexts, checkpointer);
+            }
+            if (isAdaptivePageSize(request)) {
+                initPageSizers(sheetContexts, getPagesInFlight(request, sheetContexts.size()));
+            }
+            int prefetchDepth = getPrefetchDepth(request);
+            boolean parallelSheets = sheetContexts.size() > 1 && isParallelSheetFetch(request);
+            List<ExportPagePrefetcher<ExportBatch<T>>> prefetchers = new ArrayList<>();
+            ProgressReporter.TaskProgress progress = request.isEnableProgress()
+                    ? progressReporter.register(taskId, (processed, success, failed) ->
+                    recordService.updateProgress(taskId, processed, success, failed))
+                    : null;
             long totalRows = 0;
+            long startNanos = System.nanoTime();
 
-            for (SheetExportContext<T> sheetCtx : sheetContexts) {
-                int pageNum = 1;
-                while (true) {
-                    checkTaskTimeout(taskId, request.getTimeout());
-                    ExportPageData<T> pageData = sheetCtx.dataSupplier.getPageData(
-                            pageNum, request.getPageSize(), request.getParams());
-                    if (CollUtil.isEmpty(pageData.getData())) {
-                        break;
-                    }
-                    // 字段解析
-                    if (fieldResolverPipeline != null) {
-                        fieldResolverPipeline.resolve(pageData.getData(), sheetCtx.dataClass, resolveContext);
-                        resolveHandler.setCurrentPageData(pageData.getData(), fieldResolverPipeline);
+            try {
+                if (parallelSheets) {
+                    // 多Sheet并行拉取：所有Sheet同时开始查询与解析，写入仍由当前线程按Sheet顺序串行完成
+                    int sheetBufferDepth = Math.max(prefetchDepth, 1);
+                    for (SheetExportContext<T> sheetCtx : sheetContexts) {
+                        // 解析上下文非线程安全，每个Sheet独立持有
+                        ResolveContext sheetResolveContext = new ResolveContext();
+                        sheetCtx.prefetcher = new ExportPagePrefetcher<>(taskId + "#" + sheetCtx.sheetName, sheetBufferDepth,
+                                () -> loadNextBatch(sheetCtx, request, taskId, sheetResolveContext));
+                        prefetchers.add(sheetCtx.prefetcher);
                     }
-                    // 数据处理器
-                    List<T> processedData = processPageData(pageData.getData(), request.getProcessors());
-                    // 写入Excel
-                    writer.write(processedData, sheetCtx.dataClass, sheetCtx.sheetName);
-                    // 清理旁路存储
-                    if (fieldResolverPipeline != null) {
-                        fieldResolverPipeline.clearResolvedValues(processedData);
+                    prefetchers.forEach(prefetcher -> prefetcher.start(taskExecutor));
+                }
+
+                for (SheetExportContext<T> sheetCtx : sheetContexts) {
+                    ExportPagePrefetcher.PageLoader<ExportBatch<T>> loader =
+                            () -> loadNextBatch(sheetCtx, request, taskId, resolveContext);
+                    // 流水线模式：分页查询与字段解析提前在线程池中执行，与写入重叠
+                    if (sheetCtx.prefetcher == null && prefetchDepth > 0) {
+                        sheetCtx.prefetcher = new ExportPagePrefetcher<>(taskId + "#" + sheetCtx.sheetName, prefetchDepth, loader);
+                        prefetchers.add(sheetCtx.prefetcher);
+                        sheetCtx.prefetcher.start(taskExecutor);
                     }
-                    totalRows += processedData.size();
+                    ExportPagePrefetcher.PageLoader<ExportBatch<T>> source =
+                            sheetCtx.prefetcher != null ? sheetCtx.prefetcher::next : loader;
+                    ExportBatch<T> batch;
+                    while ((batch = source.load()) != null) {
+                        checkTaskTimeout(taskId, request.getTimeout());
+                        long writeStart = System.nanoTime();
+                        writer.write(batch.data, sheetCtx.dataClass, sheetCtx.sheetName, batch.resolvedValues);
+                        metrics.recordStage(ExcelStage.WRITE, request.getBusinessType(), System.nanoTime() - writeStart);
+                        totalRows += batch.data.size();
 
-                    // 更新进度
-                    if (request.isEnableProgress()) {
-                        recordService.updateProgress(taskId, totalRows, processedData.size(), 0);
+                        // 更新进度（合并后由后台线程写入记录服务）
+                        if (progress != null) {
+                            progress.report(totalRows, totalRows, 0);
+                        }
                     }
-                    pageNum++;
-                    if (!pageData.isHasNext()) {
-                        break;
+                    // 当前Sheet写完后立即释放其预取资源
+                    if (sheetCtx.prefetcher != null) {
+                        sheetCtx.prefetcher.close();
                     }
                 }
+            } finally {
+                prefetchers.forEach(ExportPagePrefetcher::close);
+                // 写入最终进度
+                if (progress != null) {
+                    progress.complete();
+                }
             }
+            metrics.recordRows(ExcelMetrics.EXPORT, request.getBusinessType(), totalRows, System.nanoTime() - startNanos);
 
             // 返回结果
             if (asyncType != null && asyncType.isAsync()) {
@@ -260,6 +936,150 @@ public class ExportEngine extends AbstractExcelEngine {
         }
     }
 
+    /**
+     * 加载下一批待写入数据（分页查询 -> 字段解析 -> 数据处理器）
+     * 流水线模式下在预取线程执行，否则在导出线程执行
+     *
+     * @param sheetCtx       Sheet上下文
+     * @param request        导出请求
+     * @param taskId         任务ID
+     * @param resolveContext 解析上下文
+     * @param <T>            数据类型
+     * @return 待写入批次，没有更多数据时返回 null
+     */
+    private <T> ExportBatch<T> loadNextBatch(SheetExportContext<T> sheetCtx, ExportRequest<T> request,
+                                             String taskId, ResolveContext resolveContext) {
+        if (sheetCtx.exhausted) {
+            return null;
+        }
+        checkTaskTimeout(taskId, request.getTimeout());
+        ExportPageData<T> pageData;
+        if (sheetCtx.replay != null && sheetCtx.replay.hasNext()) {
+            // 恢复导出：先回放检查点中已持久化的分页，不再查询
+            List<T> page = sheetCtx.replay.next();
+            pageData = new ExportPageData<>(page, sheetCtx.replay.hasNext() || !sheetCtx.replayExhausted);
+        } else {
+            long fetchStart = System.nanoTime();
+            pageData = fetchNextPage(sheetCtx, request);
+            long fetchNanos = System.nanoTime() - fetchStart;
+            metrics.recordStage(ExcelStage.FETCH, request.getBusinessType(), fetchNanos);
+            boolean exhausted = pageData == null || CollUtil.isEmpty(pageData.getData()) || !pageData.isHasNext();
+            if (sheetCtx.pageSizer != null && !exhausted) {
+                resizePage(sheetCtx, sheetCtx.pageSizer.nextPageSize(sheetCtx.pageSize, pageData.getData(), fetchNanos));
+            }
+            if (sheetCtx.checkpointer != null) {
+                sheetCtx.checkpointer.append(sheetCtx.index, pageData != null ? pageData.getData() : null,
+                        sheetCtx.nextPageNum, sheetCtx.pageSize, sheetCtx.nextCursor, exhausted);
+            }
+        }
+        if (pageData == null || CollUtil.isEmpty(pageData.getData())) {
+            sheetCtx.exhausted = true;
+            return null;
+        }
+        if (!pageData.isHasNext()) {
+            sheetCtx.exhausted = true;
+        }
+        // 字段解析，类型不兼容的解析值随批次传递，不在任务间共享
+        ResolvedValueTable resolvedValues = ResolvedValueTable.EMPTY;
+        if (fieldResolverPipeline != null) {
+            long resolveStart = System.nanoTime();
+            resolvedValues = fieldResolverPipeline.resolvePage(pageData.getData(), sheetCtx.dataClass, resolveContext);
+            metrics.recordStage(ExcelStage.RESOLVE, request.getBusinessType(), System.nanoTime() - resolveStart);
+        }
+        // 数据处理器
+        List<T> processedData = processPageData(pageData.getData(), request.getProcessors());
+        return new ExportBatch<>(processedData, resolvedValues.alignTo(pageData.getData(), processedData));
+    }
+
+    /**
+     * 拉取下一页数据并推进Sheet的读取位置
+     * 游标数据供应器按上一页返回的游标查询，其余按页码查询
+     *
+     * @param sheetCtx Sheet上下文
+     * @param request  导出请求
+     * @param <T>      数据类型
+     * @return 分页数据
+     */
+    private <T> ExportPageData<T> fetchNextPage(SheetExportContext<T> sheetCtx, ExportRequest<T> request) {
+        if (!(sheetCtx.dataSupplier instanceof CursorDataSupplier)) {
+            ExportPageData<T> pageData = sheetCtx.dataSupplier.getPageData(
+                    sheetCtx.nextPageNum, sheetCtx.pageSize, request.getParams());
+            sheetCtx.nextPageNum++;
+            return pageData;
+        }
+        CursorPageData<T> cursorPage = ((CursorDataSupplier<T>) sheetCtx.dataSupplier).getNextPage(
+                sheetCtx.nextCursor, sheetCtx.pageSize, request.getParams());
+        if (cursorPage == null) {
+            return null;
+        }
+        if (cursorPage.isHasNext() && StrUtil.isBlank(cursorPage.getNextCursor())) {
+            throw new ExcelExportException("游标数据供应器返回了下一页标识但未提供下一页游标, Sheet: " + sheetCtx.sheetName);
+        }
+        sheetCtx.nextPageNum++;
+        sheetCtx.nextCursor = cursorPage.getNextCursor();
+        return new ExportPageData<>(cursorPage.getData(), cursorPage.isHasNext());
+    }
+
+    /**
+     * 为各Sheet创建自适应分页大小
+     *
+     * @param sheetContexts Sheet上下文列表
+     * @param pagesInFlight 同时在内存中的分页数
+     * @param <T>           数据类型
+     */
+    private <T> void initPageSizers(List<SheetExportContext<T>> sheetContexts, int pagesInFlight) {
+        SilkyExcelProperties.Export.AdaptivePageSize config = properties.getExport().getAdaptivePageSize();
+        for (SheetExportContext<T> sheetCtx : sheetContexts) {
+            sheetCtx.pageSizer = new AdaptivePageSizer(sheetCtx.dataClass, modelRegistry, config.getMinPageSize(),
+                    config.getMaxPageSize(), config.getTargetFetchMillis(), config.getMaxHeapRatio(), pagesInFlight);
+        }
+    }
+
+    /**
+     * 切换Sheet的分页大小
+     * 按页码查询时仅在已查询行数能被新分页大小整除时切换，并换算下一页页码，保证偏移量连续；不能整除时保持当前大小，下一页再尝试
+     *
+     * @param sheetCtx    Sheet上下文
+     * @param newPageSize 新分页大小
+     * @param <T>         数据类型
+     */
+    private <T> void resizePage(SheetExportContext<T> sheetCtx, int newPageSize) {
+        if (newPageSize == sheetCtx.pageSize) {
+            return;
+        }
+        if (!(sheetCtx.dataSupplier instanceof CursorDataSupplier)) {
+            long fetchedRows = (long) (sheetCtx.nextPageNum - 1) * sheetCtx.pageSize;
+            if (fetchedRows % newPageSize != 0) {
+                return;
+            }
+            sheetCtx.nextPageNum = (int) (fetchedRows / newPageSize) + 1;
+        }
+        log.debug("导出分页大小调整: Sheet: {}, {} -> {}, 单行预估: {} 字节",
+                sheetCtx.sheetName, sheetCtx.pageSize, newPageSize, sheetCtx.pageSizer.getRowBytes());
+        sheetCtx.pageSize = newPageSize;
+    }
+
+    /**
+     * 创建导出数据写入器
+     * 单Sheet的 CSV 导出在数据类支持时使用 CSV 快速写入，其余使用 FastExcel 写入
+     *
+     * @param request 导出请求
+     * @param out     输出流（由调用方关闭）
+     * @param <T>     数据类型
+     * @return 导出数据写入器
+     */
+    private <T> ExportSheetWriter createSheetWriter(ExportRequest<T> request, OutputStream out) {
+        ExcelTypeEnum excelType = getExcelType(request.getFileName());
+        if (excelType == ExcelTypeEnum.CSV && properties.getExport().isCsvFastWrite()
+                && CollUtil.isEmpty(request.getSheets()) && CsvExportWriter.supports(request.getDataClass(), modelRegistry)) {
+            return new CsvExportWriter(out, request.getFileName(), modelRegistry);
+        }
+        ResolveCellWriteHandler resolveHandler = (fieldResolverPipeline != null)
+                ? new ResolveCellWriteHandler() : null;
+        return new EnhancedWriterWrapper(out, excelType, request.getFileName(),
+                getMaxRowsPerSheet(request), resolveHandler);
+    }
+
     /**
      * 构建Sheet导出上下文列表（统一单Sheet和多Sheet）
      *
@@ -272,8 +1092,10 @@ public class ExportEngine extends AbstractExcelEngine {
         if (CollUtil.isNotEmpty(request.getSheets())) {
             // 多Sheet模式
             for (ExportSheet<T> sheet : request.getSheets()) {
-                contexts.add(new SheetExportContext<>(
-                        sheet.getSheetName(), sheet.getDataClass(), sheet.getDataSupplier()));
+                SheetExportContext<T> context = new SheetExportContext<>(
+                        sheet.getSheetName(), sheet.getDataClass(), sheet.getDataSupplier());
+                context.index = contexts.size();
+                contexts.add(context);
             }
         } else {
             // 单Sheet模式
@@ -290,6 +1112,46 @@ public class ExportEngine extends AbstractExcelEngine {
         final String sheetName;
         final Class<T> dataClass;
         final ExportDataSupplier<T> dataSupplier;
+        /**
+         * 下一次拉取的页码
+         */
+        int nextPageNum = 1;
+        /**
+         * 下一次拉取的分页大小
+         */
+        int pageSize;
+        /**
+         * 自适应分页大小（未启用自适应分页时为 null）
+         */
+        AdaptivePageSizer pageSizer;
+        /**
+         * 下一次拉取的游标（仅游标数据供应器使用）
+         */
+        String nextCursor;
+        /**
+         * 数据是否已拉取完毕
+         */
+        boolean exhausted;
+        /**
+         * 分页预取器（未启用预取时为 null）
+         */
+        ExportPagePrefetcher<ExportBatch<T>> prefetcher;
+        /**
+         * Sheet序号
+         */
+        int index;
+        /**
+         * 检查点写入器（未启用检查点时为 null）
+         */
+        ExportCheckpointer checkpointer;
+        /**
+         * 检查点已持久化分页的回放（恢复导出时使用）
+         */
+        Iterator<List<T>> replay;
+        /**
+         * 检查点记录的数据是否已全部查询完成
+         */
+        boolean replayExhausted;
 
         SheetExportContext(String sheetName, Class<T> dataClass, ExportDataSupplier<T> dataSupplier) {
             this.sheetName = sheetName;
@@ -298,6 +1160,69 @@ public class ExportEngine extends AbstractExcelEngine {
         }
     }
 
+    /**
+     * 待写入批次
+     */
+    private static class ExportBatch<T> {
+        /**
+         * 经过数据处理器后的待写入数据
+         */
+        final List<T> data;
+        /**
+         * 与待写入数据按行对齐的解析值表
+         */
+        final ResolvedValueTable resolvedValues;
+
+        ExportBatch(List<T> data, ResolvedValueTable resolvedValues) {
+            this.data = data;
+            this.resolvedValues = resolvedValues;
+        }
+    }
+
+    /**
+     * 累计写入耗时的输出流，关闭时回调累计耗时
+     * 只对块写入、刷新和关闭计时，由前置的缓冲输出流保证写入以缓冲块为单位到达
+     */
+    private static class TimedOutputStream extends FilterOutputStream {
+        private final LongConsumer onClose;
+        private long elapsedNanos;
+
+        TimedOutputStream(OutputStream out, LongConsumer onClose) {
+            super(out);
+            this.onClose = onClose;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            out.write(b, off, len);
+            elapsedNanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            long start = System.nanoTime();
+            out.flush();
+            elapsedNanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void close() throws IOException {
+            long start = System.nanoTime();
+            try {
+                out.close();
+            } finally {
+                elapsedNanos += System.nanoTime() - start;
+                onClose.accept(elapsedNanos);
+            }
+        }
+    }
+
     /**
      * 处理页面数据（执行数据处理器链）
      *
@@ -318,22 +1243,24 @@ public class ExportEngine extends AbstractExcelEngine {
     }
 
     /**
-     * 压缩导出文件
+     * 构建导出压缩配置（请求中未指定的项使用全局压缩配置）
      *
-     * @param sourceFile 源文件
-     * @param request    导出请求
-     * @return 压缩后的文件
+     * @param request 导出请求
+     * @return 压缩配置
      */
-    private <T> File compressFile(File sourceFile, ExportRequest<T> request) throws IOException {
-        SilkyExcelProperties.CompressionConfig config = SilkyExcelProperties.CompressionConfig.builder()
+    private <T> SilkyExcelProperties.CompressionConfig buildCompressionConfig(ExportRequest<T> request) {
+        SilkyExcelProperties.CompressionConfig defaults = properties.getCompression();
+        return SilkyExcelProperties.CompressionConfig.builder()
                 .enabled(true)
-                .type(request.getCompressionType())
-                .compressionLevel(request.getCompressionLevel())
+                .type(Objects.isNull(request.getCompressionType()) ? defaults.getType() : request.getCompressionType())
+                .compressionLevel(Objects.isNull(request.getCompressionLevel()) ? defaults.getCompressionLevel() : request.getCompressionLevel())
+                .bufferSize(defaults.getBufferSize())
+                .mode(defaults.getMode())
+                .parallelThreads(defaults.getParallelThreads())
+                .blockSize(defaults.getBlockSize())
                 .splitLargeFiles(request.isSplitLargeFiles())
                 .splitSize(request.getSplitSize())
                 .build();
-        String compressedPath = sourceFile.getAbsolutePath() + "_compressed";
-        return compressionService.compressFile(sourceFile, config, compressedPath);
     }
 
     /**
@@ -402,8 +1329,37 @@ public class ExportEngine extends AbstractExcelEngine {
      * @return 存储对象
      */
     private <T> StorageObject uploadExportFile(File tempFile, ExportRequest<T> request) {
+        long startNanos = System.nanoTime();
+        StorageObject storageObject = getStorageStrategy(request).storeFile(tempFile, request.getFileName(), request.getFileMetadata());
+        metrics.recordStage(ExcelStage.UPLOAD, request.getBusinessType(), System.nanoTime() - startNanos);
+        return storageObject;
+    }
+
+    /**
+     * 获取导出请求对应的存储策略
+     *
+     * @param request 导出请求
+     * @return 存储策略
+     */
+    private <T> StorageStrategy getStorageStrategy(ExportRequest<T> request) {
         StorageType storageType = request.getStorageType() == null ? defaultStorageType : request.getStorageType();
-        return storageStrategyFactory.getStrategy(storageType).storeFile(tempFile, request.getFileName(), request.getFileMetadata());
+        return storageStrategyFactory.getStrategy(storageType);
+    }
+
+    /**
+     * 根据文件名获取导出文件类型，无法识别时默认为 xlsx
+     *
+     * @param fileName 文件名
+     * @return Excel文件类型
+     */
+    private ExcelTypeEnum getExcelType(String fileName) {
+        String lowerName = FileUtil.getName(fileName).toLowerCase();
+        if (lowerName.endsWith(".xls")) {
+            return ExcelTypeEnum.XLS;
+        } else if (lowerName.endsWith(".csv")) {
+            return ExcelTypeEnum.CSV;
+        }
+        return ExcelTypeEnum.XLSX;
     }
 
     /**
@@ -424,15 +1380,11 @@ public class ExportEngine extends AbstractExcelEngine {
     /**
      * 清理所有导出资源
      *
-     * @param request   导出请求
-     * @param tempFile  临时文件
-     * @param finalFile 最终文件（压缩后）
+     * @param request  导出请求
+     * @param tempFile 临时文件
      */
-    private void cleanupExportResources(ExportRequest<?> request, File tempFile, File finalFile) {
+    private void cleanupExportResources(ExportRequest<?> request, File tempFile) {
         cleanupTempFile(tempFile);
-        if (finalFile != null && !finalFile.equals(tempFile)) {
-            cleanupTempFile(finalFile);
-        }
         cleanupExportData(request);
     }
 
@@ -468,8 +1420,16 @@ public class ExportEngine extends AbstractExcelEngine {
         if (StrUtil.isBlank(request.getFileName())) {
             throw new IllegalArgumentException("文件名不能为空");
         }
-        // 单Sheet模式下数据供应器不能为空
-        if (CollUtil.isEmpty(request.getSheets()) && request.getDataSupplier() == null) {
+        // 分区模式下各分区可以使用独立的数据供应器
+        if (request.getPartitioner() != null) {
+            if (CollUtil.isNotEmpty(request.getSheets())) {
+                throw new IllegalArgumentException("分区导出不能与多Sheet导出同时使用");
+            }
+            if (request.getDataClass() == null) {
+                throw new IllegalArgumentException("分区导出的数据类类型不能为null");
+            }
+        } else if (CollUtil.isEmpty(request.getSheets()) && request.getDataSupplier() == null) {
+            // 单Sheet模式下数据供应器不能为空
             throw new IllegalArgumentException("数据供应器不能为null");
         }
         // 多Sheet模式下各Sheet数据供应器不能为空
@@ -494,10 +1454,11 @@ public class ExportEngine extends AbstractExcelEngine {
     /**
      * 创建并保存导出记录
      *
-     * @param task 导出任务
+     * @param task   导出任务
+     * @param status 初始状态
      * @return 导出记录
      */
-    private <T> ExportRecord createAndSaveExportRecord(ExportTask<T> task) {
+    private <T> ExportRecord createAndSaveExportRecord(ExportTask<T> task, ExportStatus status) {
         String taskId = task.getTaskId();
         ExportRequest<T> request = task.getRequest();
         ExportRecord record = ExportRecord.builder()
@@ -507,7 +1468,7 @@ public class ExportEngine extends AbstractExcelEngine {
                 .storageType(Objects.isNull(request.getStorageType()) ? defaultStorageType : request.getStorageType())
                 .asyncType(Objects.isNull(task.getAsyncType()) ? defaultAsyncType : task.getAsyncType())
                 .createUser(request.getCreateUser())
-                .status(ExportStatus.PROCESSING)
+                .status(status)
                 .createTime(LocalDateTime.now())
                 .params(request.getParams())
                 .totalCount(0L)
@@ -529,6 +1490,68 @@ public class ExportEngine extends AbstractExcelEngine {
         return Objects.isNull(request.getMaxRowsPerSheet()) ? properties.getExport().getMaxRowsPerSheet() : request.getMaxRowsPerSheet();
     }
 
+    /**
+     * 获取预取深度（优先使用请求中的值，其次使用全局配置）
+     *
+     * @param request 导出请求
+     * @return 预取深度，小于等于0表示不启用流水线导出
+     */
+    private <T> int getPrefetchDepth(ExportRequest<T> request) {
+        return Objects.isNull(request.getPrefetchDepth()) ? properties.getExport().getPrefetchDepth() : request.getPrefetchDepth();
+    }
+
+    /**
+     * 是否流式写入存储（优先使用请求中的值，其次使用全局配置）
+     *
+     * @param request 导出请求
+     * @return 是否流式写入
+     */
+    private <T> boolean isStreamingOutput(ExportRequest<T> request) {
+        return Objects.isNull(request.getStreamingOutput()) ? properties.getExport().isStreamingOutput() : request.getStreamingOutput();
+    }
+
+    /**
+     * 获取分区导出并行度（优先使用请求中的值，其次使用全局配置）
+     *
+     * @param request 导出请求
+     * @return 并行度
+     */
+    private <T> int getPartitionParallelism(ExportRequest<T> request) {
+        int parallelism = Objects.isNull(request.getPartitionParallelism())
+                ? properties.getExport().getPartitionParallelism() : request.getPartitionParallelism();
+        return Math.max(parallelism, 1);
+    }
+
+    /**
+     * 是否启用导出检查点（优先使用请求中的值，其次使用全局配置）
+     *
+     * @param request 导出请求
+     * @return 是否启用检查点
+     */
+    private <T> boolean isCheckpointEnabled(ExportRequest<T> request) {
+        return Objects.isNull(request.getCheckpointEnabled()) ? properties.getExport().getCheckpoint().isEnabled() : request.getCheckpointEnabled();
+    }
+
+    /**
+     * 是否启用自适应分页（优先使用请求中的值，其次使用全局配置）
+     *
+     * @param request 导出请求
+     * @return 是否启用自适应分页
+     */
+    private <T> boolean isAdaptivePageSize(ExportRequest<T> request) {
+        return Objects.isNull(request.getAdaptivePageSize()) ? properties.getExport().getAdaptivePageSize().isEnabled() : request.getAdaptivePageSize();
+    }
+
+    /**
+     * 是否并行拉取多个Sheet的数据（优先使用请求中的值，其次使用全局配置）
+     *
+     * @param request 导出请求
+     * @return 是否并行拉取
+     */
+    private <T> boolean isParallelSheetFetch(ExportRequest<T> request) {
+        return Objects.isNull(request.getParallelSheetFetch()) ? properties.getExport().isParallelSheetFetch() : request.getParallelSheetFetch();
+    }
+
     /**
      * 检查任务是否超时
      *
@@ -544,7 +1567,7 @@ public class ExportEngine extends AbstractExcelEngine {
 
     @Override
     protected void cleanupExpiredCaches() {
-        long expireTime = System.currentTimeMillis() - java.util.concurrent.TimeUnit.MINUTES.toMillis(5);
+        long expireTime = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(5);
         cleanExpiredEntries(taskCache, task -> {
             Long finishTime = ((ExportTask<?>) task).getFinishTime();
             return finishTime != null && finishTime < expireTime;
@@ -559,6 +1582,30 @@ public class ExportEngine extends AbstractExcelEngine {
     @Override
     public void shutdown() {
         log.info("开始关闭导出引擎...");
+        if (taskScheduler != null) {
+            // 已返回提交成功的排队任务不再执行，记录置为失败，调用方可通过导出记录得知结果
+            for (String taskId : taskScheduler.shutdown()) {
+                recordService.updateFailed(taskId, "导出引擎关闭，排队中的导出任务已取消");
+                // 预算不足重新排队的任务已准备过数据，需要清理
+                ExportTask<?> deferred = deferredTasks.remove(taskId);
+                if (deferred != null) {
+                    cleanupExportData(deferred.getRequest());
+                }
+            }
+        }
+        if (admissionController != null) {
+            // 等待准入的任务立即失败并归还预算，不再等待到超时
+            admissionController.shutdown();
+        }
+        if (taskScheduler != null) {
+            // 等待执行中的任务写完并保存结果，超时仍未完成的任务记录置为失败，不会一直停留在处理中
+            long timeoutMillis = TimeUnit.SECONDS.toMillis(properties.getExport().getScheduler().getAwaitTerminationSeconds());
+            for (String taskId : taskScheduler.awaitTermination(timeoutMillis)) {
+                log.warn("导出引擎关闭时任务仍未完成: {}", taskId);
+                recordService.updateFailed(taskId, "导出引擎关闭，导出任务未在等待时间内完成");
+            }
+        }
+        progressReporter.shutdown();
         shutdownCleanupExecutor();
         taskCache.clear();
         log.info("导出引擎已关闭, 统计: 总={}, 成功={}, 失败={}",
@@ -579,9 +1626,32 @@ public class ExportEngine extends AbstractExcelEngine {
                 .failedTasks((long) data[3])
                 .cachedTasks((int) data[4])
                 .uptime((long) data[5])
+                .activeTasks(getActiveTaskCount())
+                .queuedTasks(getQueuedTaskCount())
                 .build();
     }
 
+    /**
+     * 获取执行中的导出任务数
+     */
+    public int getActiveTaskCount() {
+        return activeTasks.get();
+    }
+
+    /**
+     * 获取导出调度器中排队的任务数（未启用调度器时为 0）
+     */
+    public int getQueuedTaskCount() {
+        return taskScheduler != null ? taskScheduler.getQueuedCount() : 0;
+    }
+
+    /**
+     * 获取导出调度器中执行中的任务数（未启用调度器时为 0）
+     */
+    public int getScheduledRunningCount() {
+        return taskScheduler != null ? taskScheduler.getRunningCount() : 0;
+    }
+
     /**
      * 导出上下文（单Sheet模式翻页控制）
      */
@@ -639,6 +1709,14 @@ public class ExportEngine extends AbstractExcelEngine {
          * 运行时长（毫秒）
          */
         private long uptime;
+        /**
+         * 执行中的任务数
+         */
+        private int activeTasks;
+        /**
+         * 导出调度器中排队的任务数
+         */
+        private int queuedTasks;
 
         /**
          * 计算成功率
@@ -0,0 +1,245 @@
+package com.silky.starter.excel.core.engine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 导出分页预取器
+ * 在线程池中提前拉取后续分页数据并写入有界队列，使数据查询/字段解析与 Excel 写入重叠执行
+ * <p>
+ * 若预取任务迟迟未被线程池调度，或被 CallerRunsPolicy 退回到调用方线程执行，
+ * 消费方会接管拉取并退化为同步模式，避免线程池饥饿导致的死锁。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public class ExportPagePrefetcher<E> implements Closeable {
+
+    private static final int STATE_NEW = 0;
+    private static final int STATE_RUNNING = 1;
+    private static final int STATE_INLINE = 2;
+
+    /**
+     * 消费方等待预取任务启动的时间（毫秒），超时后由消费方接管
+     */
+    private static final long START_WAIT_MILLIS = 200;
+
+    /**
+     * 生产方入队重试间隔（毫秒）
+     */
+    private static final long OFFER_INTERVAL_MILLIS = 100;
+
+    /**
+     * 关闭时等待预取线程退出的最长时间（秒）
+     */
+    private static final long CLOSE_WAIT_SECONDS = 30;
+
+    /**
+     * 数据结束标记
+     */
+    private static final Object END = new Object();
+
+    private final String name;
+
+    private final PageLoader<E> loader;
+
+    private final BlockingQueue<Object> queue;
+
+    private final AtomicInteger state = new AtomicInteger(STATE_NEW);
+
+    private final CountDownLatch producerExited = new CountDownLatch(1);
+
+    private volatile Thread ownerThread;
+
+    private volatile boolean closed;
+
+    /**
+     * 预取线程未能入队的结束标记（END 或 Failure），如预取线程被中断时；消费方在预取线程退出且队列为空时读取
+     */
+    private volatile Object terminal;
+
+    /**
+     * 是否已读取到末尾（仅消费方线程访问）
+     */
+    private boolean finished;
+
+    /**
+     * 构造函数
+     *
+     * @param name   预取器名称（用于日志）
+     * @param depth  预取深度，即队列中最多缓存的分页数
+     * @param loader 分页加载器，返回 null 表示没有更多数据
+     */
+    public ExportPagePrefetcher(String name, int depth, PageLoader<E> loader) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException("预取深度必须大于0");
+        }
+        this.name = name;
+        this.loader = loader;
+        this.queue = new ArrayBlockingQueue<>(depth);
+    }
+
+    /**
+     * 启动预取
+     *
+     * @param executor 预取任务执行线程池
+     */
+    public void start(Executor executor) {
+        this.ownerThread = Thread.currentThread();
+        try {
+            executor.execute(this::produce);
+        } catch (RejectedExecutionException e) {
+            log.debug("预取任务提交被拒绝，将使用同步拉取: {}", name);
+        }
+    }
+
+    /**
+     * 获取下一页数据
+     *
+     * @return 下一页数据，没有更多数据时返回 null
+     * @throws Exception 分页加载过程中的异常
+     */
+    public E next() throws Exception {
+        if (finished) {
+            return null;
+        }
+        while (true) {
+            if (state.get() == STATE_INLINE) {
+                E page = loader.load();
+                if (page == null) {
+                    finished = true;
+                }
+                return page;
+            }
+            Object item = queue.poll(START_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            if (item != null) {
+                return unwrap(item);
+            }
+            if (state.get() == STATE_RUNNING && producerExited.getCount() == 0) {
+                // 预取线程已退出：先取完已入队的分页，再使用其未能入队的结束标记
+                item = queue.poll();
+                return unwrap(item != null ? item : terminal != null ? terminal : END);
+            }
+            if (state.compareAndSet(STATE_NEW, STATE_INLINE)) {
+                producerExited.countDown();
+                log.debug("预取任务未能及时启动，切换为同步拉取: {}", name);
+            }
+        }
+    }
+
+    /**
+     * 关闭预取器，通知预取线程退出并等待其结束
+     */
+    @Override
+    public void close() {
+        closed = true;
+        queue.clear();
+        if (state.compareAndSet(STATE_NEW, STATE_INLINE)) {
+            producerExited.countDown();
+            return;
+        }
+        try {
+            if (!producerExited.await(CLOSE_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("等待预取线程退出超时: {}", name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 预取线程主循环
+     */
+    private void produce() {
+        // CallerRunsPolicy 会在提交线程上直接执行，此时必须放弃，否则队列写满后会阻塞消费方自身
+        if (Thread.currentThread() == ownerThread || !state.compareAndSet(STATE_NEW, STATE_RUNNING)) {
+            return;
+        }
+        Object outcome = END;
+        try {
+            E page;
+            while (!closed && (page = loader.load()) != null) {
+                if (!put(page)) {
+                    outcome = closed ? END : new Failure(new InterruptedException("预取线程被中断: " + name));
+                    return;
+                }
+            }
+        } catch (Throwable e) {
+            outcome = new Failure(e);
+        } finally {
+            // 被中断时入队立即失败（中断标记保留），由消费方在预取线程退出后读取 terminal
+            if (!put(outcome)) {
+                terminal = outcome;
+            }
+            producerExited.countDown();
+        }
+    }
+
+    /**
+     * 入队，队列满时阻塞等待，预取器关闭或预取线程被中断后放弃（保留中断标记）
+     */
+    private boolean put(Object item) {
+        try {
+            while (!closed) {
+                if (queue.offer(item, OFFER_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E unwrap(Object item) throws Exception {
+        if (item == END) {
+            finished = true;
+            return null;
+        }
+        if (item instanceof Failure) {
+            finished = true;
+            Throwable cause = ((Failure) item).cause;
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw (Error) cause;
+        }
+        return (E) item;
+    }
+
+    /**
+     * 分页加载器
+     */
+    @FunctionalInterface
+    public interface PageLoader<E> {
+
+        /**
+         * 加载下一页
+         *
+         * @return 分页数据，没有更多数据时返回 null
+         * @throws Exception 加载异常
+         */
+        E load() throws Exception;
+    }
+
+    /**
+     * 预取异常包装
+     */
+    private static class Failure {
+        final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.silky.starter.excel.core.engine;
+
+import com.silky.starter.excel.core.resolve.ResolvedValueTable;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * 导出数据写入器
+ * 导出引擎按页写入数据，具体格式由实现决定（FastExcel 写入 xlsx/xls/csv，或 CSV 快速写入）
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+public interface ExportSheetWriter extends Closeable {
+
+    /**
+     * 写入一页数据
+     *
+     * @param data           数据列表
+     * @param clazz          数据类
+     * @param sheetName      Sheet名称
+     * @param resolvedValues 与数据按行对齐的解析值表，写入时覆盖对应单元格
+     * @param <T>            数据类型
+     */
+    <T> void write(List<T> data, Class<T> clazz, String sheetName, ResolvedValueTable resolvedValues);
+
+    /**
+     * 获取已创建的Sheet数量
+     *
+     * @return Sheet数量
+     */
+    int getCurrentSheetIndex();
+
+    /**
+     * 完成写入并释放资源
+     */
+    @Override
+    void close();
+}
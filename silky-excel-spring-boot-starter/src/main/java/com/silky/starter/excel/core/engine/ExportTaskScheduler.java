@@ -0,0 +1,444 @@
+package com.silky.starter.excel.core.engine;
+
+import com.silky.starter.excel.enums.ExportPriority;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 导出任务调度器
+ * 固定数量的工作线程按优先级从排队任务中取任务执行：高优先级任务总是先于低优先级任务出队，
+ * 同一优先级内各租户轮流出队，单个租户的大量任务不会阻塞其他租户。
+ * 提交时可附带准入条件，条件不满足的任务留在队列中由后续任务先出队，不占用工作线程等待。
+ * <p>
+ * 排队已满时直接拒绝提交，任务不会在提交线程中执行。
+ * 未指定租户的任务归入 {@link #DEFAULT_TENANT}，只受总排队数限制，不受单租户排队数和并发数限制。
+ * 关闭时丢弃排队任务，通过 {@link #awaitTermination(long)} 等待执行中的任务完成。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public class ExportTaskScheduler {
+
+    /**
+     * 有排队任务未能出队时工作线程重新检查的间隔（毫秒），使准入等待超时的任务能及时出队
+     */
+    private static final long DEFERRED_RECHECK_MILLIS = 1000;
+
+    /**
+     * 默认租户，未指定租户的任务共用，不受单租户排队数和并发数限制
+     */
+    public static final String DEFAULT_TENANT = "default";
+
+    private final int workerThreads;
+
+    /**
+     * 最大排队任务数
+     */
+    private final int maxQueuedTasks;
+
+    /**
+     * 单个租户最大排队任务数，0 表示不限制
+     */
+    private final int maxQueuedPerTenant;
+
+    /**
+     * 单个租户最大并发执行任务数，0 表示不限制
+     */
+    private final int maxRunningPerTenant;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition available = lock.newCondition();
+
+    /**
+     * 各优先级的排队任务
+     */
+    private final Map<ExportPriority, TenantQueues> queues = new EnumMap<>(ExportPriority.class);
+
+    private final Map<String, Integer> queuedByTenant = new HashMap<>();
+
+    private final Map<String, Integer> runningByTenant = new HashMap<>();
+
+    private final AtomicInteger workerCounter = new AtomicInteger();
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    /**
+     * 执行中的任务ID
+     */
+    private final Set<String> runningTaskIds = new LinkedHashSet<>();
+
+    private int queuedCount;
+
+    private int runningCount;
+
+    private long rejectedCount;
+
+    private boolean shutdown;
+
+    /**
+     * 构造函数
+     *
+     * @param workerThreads       工作线程数
+     * @param maxQueuedTasks      最大排队任务数
+     * @param maxQueuedPerTenant  单个租户最大排队任务数，0 表示不限制
+     * @param maxRunningPerTenant 单个租户最大并发执行任务数，0 表示不限制
+     */
+    public ExportTaskScheduler(int workerThreads, int maxQueuedTasks, int maxQueuedPerTenant, int maxRunningPerTenant) {
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("导出调度工作线程数必须大于0");
+        }
+        if (maxQueuedTasks <= 0) {
+            throw new IllegalArgumentException("导出调度最大排队任务数必须大于0");
+        }
+        if (maxQueuedPerTenant < 0 || maxRunningPerTenant < 0) {
+            throw new IllegalArgumentException("租户排队数和并发数限制不能小于0");
+        }
+        this.workerThreads = workerThreads;
+        this.maxQueuedTasks = maxQueuedTasks;
+        this.maxQueuedPerTenant = maxQueuedPerTenant;
+        this.maxRunningPerTenant = maxRunningPerTenant;
+        for (ExportPriority priority : ExportPriority.values()) {
+            queues.put(priority, new TenantQueues());
+        }
+    }
+
+    /**
+     * 提交任务
+     *
+     * @param taskId   任务ID（用于日志）
+     * @param tenant   租户标识
+     * @param priority 优先级，为 null 时使用 NORMAL
+     * @param task     任务
+     * @throws RejectedExecutionException 调度器已关闭或排队已满
+     */
+    public void submit(String taskId, String tenant, ExportPriority priority, Runnable task) {
+        submit(taskId, tenant, priority, null, task);
+    }
+
+    /**
+     * 提交带准入条件的任务
+     * 任务到达队首时才检查准入条件，条件不满足时留在队列中，其他租户和更低优先级的任务先出队，
+     * 同一租户的后续任务仍排在其后，不会因反复插队而让该任务一直等待；
+     * 条件可能变为满足时调用 {@link #wakeUp()} 让工作线程重新检查
+     *
+     * @param taskId    任务ID（用于日志）
+     * @param tenant    租户标识
+     * @param priority  优先级，为 null 时使用 NORMAL
+     * @param admission 准入条件，为 null 时不检查；在调度器锁内调用，须快速返回，返回 true 后任务立即出队
+     * @param task      任务
+     * @throws RejectedExecutionException 调度器已关闭或排队已满
+     */
+    public void submit(String taskId, String tenant, ExportPriority priority, BooleanSupplier admission, Runnable task) {
+        ExportPriority actualPriority = priority != null ? priority : ExportPriority.NORMAL;
+        lock.lock();
+        try {
+            if (shutdown) {
+                rejectedCount++;
+                throw new RejectedExecutionException("导出调度器已关闭");
+            }
+            if (queuedCount >= maxQueuedTasks) {
+                rejectedCount++;
+                throw new RejectedExecutionException("导出任务排队已满(" + maxQueuedTasks + ")，请稍后重试");
+            }
+            int tenantQueued = queuedByTenant.getOrDefault(tenant, 0);
+            if (maxQueuedPerTenant > 0 && !DEFAULT_TENANT.equals(tenant) && tenantQueued >= maxQueuedPerTenant) {
+                rejectedCount++;
+                throw new RejectedExecutionException("租户[" + tenant + "]排队的导出任务已达上限(" + maxQueuedPerTenant + ")，请稍后重试");
+            }
+            queues.get(actualPriority).offer(tenant, new QueuedTask(taskId, tenant, admission, task));
+            queuedByTenant.put(tenant, tenantQueued + 1);
+            queuedCount++;
+            startWorkersIfNecessary();
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        log.debug("导出任务已排队: {}, 租户: {}, 优先级: {}", taskId, tenant, actualPriority);
+    }
+
+    /**
+     * 唤醒空闲的工作线程重新检查排队任务，用于准入条件可能已变化时（如导出预算被归还）
+     */
+    public void wakeUp() {
+        lock.lock();
+        try {
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 关闭调度器，丢弃尚未开始的排队任务，正在执行的任务继续执行完成（不等待）
+     *
+     * @return 被丢弃的任务ID
+     */
+    public List<String> shutdown() {
+        List<String> dropped = new ArrayList<>();
+        lock.lock();
+        try {
+            if (shutdown) {
+                return dropped;
+            }
+            shutdown = true;
+            for (TenantQueues tenantQueues : queues.values()) {
+                tenantQueues.drainTo(dropped);
+            }
+            queuedByTenant.clear();
+            queuedCount = 0;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (!dropped.isEmpty()) {
+            log.warn("导出调度器关闭，丢弃 {} 个排队任务: {}", dropped.size(), dropped);
+        }
+        return dropped;
+    }
+
+    /**
+     * 等待执行中的任务完成，需先调用 {@link #shutdown()}
+     *
+     * @param timeoutMillis 最长等待时间（毫秒）
+     * @return 超时后仍在执行的任务ID
+     */
+    public List<String> awaitTermination(long timeoutMillis) {
+        List<Thread> snapshot;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(workers);
+        } finally {
+            lock.unlock();
+        }
+        long deadline = System.currentTimeMillis() + Math.max(timeoutMillis, 0);
+        try {
+            for (Thread worker : snapshot) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    break;
+                }
+                worker.join(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            return new ArrayList<>(runningTaskIds);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 当前排队任务数
+     *
+     * @return 排队任务数
+     */
+    public int getQueuedCount() {
+        lock.lock();
+        try {
+            return queuedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 当前执行中的任务数
+     *
+     * @return 执行中的任务数
+     */
+    public int getRunningCount() {
+        lock.lock();
+        try {
+            return runningCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 累计拒绝的任务数
+     *
+     * @return 拒绝数
+     */
+    public long getRejectedCount() {
+        lock.lock();
+        try {
+            return rejectedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 首次提交时启动工作线程（调用方持有锁）
+     */
+    private void startWorkersIfNecessary() {
+        if (!workers.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < workerThreads; i++) {
+            Thread worker = new Thread(this::runWorker, "silky-excel-export-" + workerCounter.incrementAndGet());
+            // 关闭时由 awaitTermination 等待执行中的任务，超时仍未完成的任务不阻止 JVM 退出
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    private void runWorker() {
+        while (true) {
+            QueuedTask next = null;
+            lock.lock();
+            try {
+                while (!shutdown && (next = poll()) == null) {
+                    if (queuedCount > 0) {
+                        // 排队任务被租户并发或准入条件挡住，定时重新检查以便准入等待超时的任务出队
+                        awaitQuietly(DEFERRED_RECHECK_MILLIS);
+                    } else {
+                        available.awaitUninterruptibly();
+                    }
+                }
+                if (next == null) {
+                    return;
+                }
+                runningCount++;
+                runningByTenant.merge(next.tenant, 1, Integer::sum);
+                runningTaskIds.add(next.taskId);
+            } finally {
+                lock.unlock();
+            }
+            try {
+                next.task.run();
+            } catch (Throwable e) {
+                log.error("导出任务执行异常: {}", next.taskId, e);
+            } finally {
+                lock.lock();
+                try {
+                    runningCount--;
+                    runningTaskIds.remove(next.taskId);
+                    runningByTenant.computeIfPresent(next.tenant, (k, v) -> v > 1 ? v - 1 : null);
+                    // 租户并发名额释放后，之前被跳过的任务可能已可执行
+                    available.signal();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * 限时等待唤醒，工作线程不响应中断（调用方持有锁）
+     */
+    private void awaitQuietly(long millis) {
+        try {
+            available.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            log.debug("导出调度工作线程等待被中断，继续等待");
+        }
+    }
+
+    /**
+     * 取出下一个可执行的任务（调用方持有锁）
+     */
+    private QueuedTask poll() {
+        for (TenantQueues tenantQueues : queues.values()) {
+            QueuedTask task = tenantQueues.poll(this::canRun);
+            if (task != null) {
+                queuedCount--;
+                queuedByTenant.computeIfPresent(task.tenant, (k, v) -> v > 1 ? v - 1 : null);
+                return task;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 判断任务能否出队：先检查租户并发数，再检查准入条件（调用方持有锁）
+     */
+    private boolean canRun(QueuedTask task) {
+        if (maxRunningPerTenant > 0 && !DEFAULT_TENANT.equals(task.tenant)
+                && runningByTenant.getOrDefault(task.tenant, 0) >= maxRunningPerTenant) {
+            return false;
+        }
+        return task.admission == null || task.admission.getAsBoolean();
+    }
+
+    /**
+     * 同一优先级下按租户分组的任务队列，各租户轮流出队
+     */
+    private static final class TenantQueues {
+
+        private final Map<String, Deque<QueuedTask>> tasksByTenant = new HashMap<>();
+
+        /**
+         * 有排队任务的租户，队首为下一个出队的租户
+         */
+        private final Deque<String> rotation = new ArrayDeque<>();
+
+        void offer(String tenant, QueuedTask task) {
+            Deque<QueuedTask> tasks = tasksByTenant.get(tenant);
+            if (tasks == null) {
+                tasks = new ArrayDeque<>();
+                tasksByTenant.put(tenant, tasks);
+                rotation.addLast(tenant);
+            }
+            tasks.addLast(task);
+        }
+
+        QueuedTask poll(Predicate<QueuedTask> canRun) {
+            for (int i = rotation.size(); i > 0; i--) {
+                String tenant = rotation.pollFirst();
+                Deque<QueuedTask> tasks = tasksByTenant.get(tenant);
+                if (!canRun.test(tasks.peekFirst())) {
+                    rotation.addLast(tenant);
+                    continue;
+                }
+                QueuedTask task = tasks.pollFirst();
+                if (tasks.isEmpty()) {
+                    tasksByTenant.remove(tenant);
+                } else {
+                    rotation.addLast(tenant);
+                }
+                return task;
+            }
+            return null;
+        }
+
+        void drainTo(List<String> taskIds) {
+            for (Deque<QueuedTask> tasks : tasksByTenant.values()) {
+                for (QueuedTask task : tasks) {
+                    taskIds.add(task.taskId);
+                }
+            }
+            tasksByTenant.clear();
+            rotation.clear();
+        }
+    }
+
+    private static final class QueuedTask {
+        final String taskId;
+        final String tenant;
+        final BooleanSupplier admission;
+        final Runnable task;
+
+        QueuedTask(String taskId, String tenant, BooleanSupplier admission, Runnable task) {
+            this.taskId = taskId;
+            this.tenant = tenant;
+            this.admission = admission;
+            this.task = task;
+        }
+    }
+}
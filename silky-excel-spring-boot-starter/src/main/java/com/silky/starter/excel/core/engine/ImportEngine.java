@@ -4,11 +4,16 @@ import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.util.IdUtil;
 import cn.hutool.core.util.StrUtil;
 import com.silky.starter.excel.core.exception.ExcelExportException;
+import com.silky.starter.excel.core.listener.DefaultAnalysisListeners;
+import com.silky.starter.excel.core.listener.ImportBatchDispatcher;
+import com.silky.starter.excel.core.listener.SharedImportCounter;
+import com.silky.starter.excel.core.metrics.ExcelMetrics;
 import com.silky.starter.excel.core.model.AnalysisListenersContext;
 import com.silky.starter.excel.core.model.DataProcessor;
 import com.silky.starter.excel.core.model.imports.ImportRequest;
 import com.silky.starter.excel.core.model.imports.ImportResult;
 import com.silky.starter.excel.core.model.imports.ImportTask;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
 import com.silky.starter.excel.core.storage.factory.StorageStrategyFactory;
 import com.silky.starter.excel.entity.ImportRecord;
 import com.silky.starter.excel.enums.AsyncType;
@@ -25,9 +30,18 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.io.File;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 导入引擎核心类，负责协调整个导入流程，包括文件下载、数据读取、数据处理和数据导入
@@ -69,6 +83,26 @@ public class ImportEngine extends AbstractExcelEngine {
      */
     private final StorageType defaultStorageType;
 
+    /**
+     * 任务进度上报器
+     */
+    private final ProgressReporter progressReporter;
+
+    /**
+     * 执行中的导入任务数
+     */
+    private final AtomicInteger activeTasks = new AtomicInteger();
+
+    /**
+     * 阶段指标记录器
+     */
+    private volatile ExcelMetrics metrics = ExcelMetrics.NOOP;
+
+    /**
+     * 数据类元数据注册表
+     */
+    private volatile ExcelModelRegistry modelRegistry = ExcelModelRegistry.shared();
+
     /**
      * 构造函数（使用共享清理执行器）
      */
@@ -85,6 +119,27 @@ public class ImportEngine extends AbstractExcelEngine {
         this.storageStrategyFactory = storageStrategyFactory;
         this.silkyExcelProperties = properties;
         this.defaultStorageType = properties.getStorage().getStorageType();
+        SilkyExcelProperties.ProgressConfig progressConfig = properties.getProgress();
+        this.progressReporter = new ProgressReporter("导入引擎", sharedCleanupExecutor,
+                progressConfig.getFlushIntervalMillis(), progressConfig.getFlushRowDelta());
+    }
+
+    /**
+     * 设置阶段指标记录器
+     *
+     * @param metrics 指标记录器，为 null 时不记录指标
+     */
+    public void setMetrics(ExcelMetrics metrics) {
+        this.metrics = metrics != null ? metrics : ExcelMetrics.NOOP;
+    }
+
+    /**
+     * 设置数据类元数据注册表
+     *
+     * @param modelRegistry 元数据注册表，为 null 时使用共享注册表
+     */
+    public void setModelRegistry(ExcelModelRegistry modelRegistry) {
+        this.modelRegistry = modelRegistry != null ? modelRegistry : ExcelModelRegistry.shared();
     }
 
     /**
@@ -127,11 +182,14 @@ public class ImportEngine extends AbstractExcelEngine {
         ImportRequest<T> request = task.getRequest();
         String taskId = task.getTaskId();
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
 
         log.info("开始处理导入任务: {}, 业务类型: {}", taskId, request.getBusinessType());
 
         File downloadedFile = null;
         File decompressedFile = null;
+        boolean success = false;
+        activeTasks.incrementAndGet();
 
         try {
             validateImportRequest(request);
@@ -152,9 +210,11 @@ public class ImportEngine extends AbstractExcelEngine {
             long costTime = System.currentTimeMillis() - startTime;
 
             log.info("导入任务完成: {}, 结果: {}, 总耗时: {}ms", taskId, result.getSummary(), costTime);
+            recordService.updateSuccess(taskId, result);
 
             if (result.isSuccess()) {
                 incrementSuccess();
+                success = true;
             } else {
                 incrementFailed();
             }
@@ -170,6 +230,8 @@ public class ImportEngine extends AbstractExcelEngine {
             cleanupDataImporter(request);
             cleanupTempFiles(downloadedFile, decompressedFile);
             incrementTotalProcessed();
+            activeTasks.decrementAndGet();
+            metrics.recordTask(ExcelMetrics.IMPORT, request.getBusinessType(), success, System.nanoTime() - startNanos);
         }
     }
 
@@ -206,17 +268,14 @@ public class ImportEngine extends AbstractExcelEngine {
      * @return 导入结果
      */
     private <T> ImportResult doImport(ImportRequest<T> request, String taskId, File tempFile, AsyncType asyncType) {
-        AnalysisListenersContext<T> context = AnalysisListenersContext.<T>builder()
-                .maxErrorCount(getMaxErrorCount(request.getMaxErrorCount()))
-                .pageSize(getPageSize(request.getPageSize()))
-                .request(request)
-                .TotalCount(0)
-                .SuccessCount(0)
-                .FailCount(0)
-                .build();
+        ProgressReporter.TaskProgress progress = progressReporter.register(taskId, (processed, success, failed) ->
+                recordService.updateProgress(taskId, processed, success, failed));
+        AnalysisListenersContext<T> context = buildListenersContext(request, taskId, progress);
 
-        try (ExcelReaderWrapper<T> reader = new ExcelReaderWrapper<>(tempFile.getAbsolutePath(), request.isSkipHeader(), context)) {
+        try (ExcelReaderWrapper<T> reader = new ExcelReaderWrapper<>(tempFile.getAbsolutePath(), request.isSkipHeader(), context,
+                silkyExcelProperties.getImports().isCsvFastRead())) {
             long startImportTime = System.currentTimeMillis();
+            long startImportNanos = System.nanoTime();
             long skippedCount = 0;
 
             // 开始事务
@@ -229,19 +288,34 @@ public class ImportEngine extends AbstractExcelEngine {
                 throw new ExcelExportException("任务执行超时，已中断");
             }
 
-            // 读取Excel数据
-            if (AsyncType.THREAD_POOL.equals(asyncType)) {
-                reader.doReadAll();
+            long successCount;
+            long failedCount;
+            List<ImportResult.ImportError> errors;
+            int sheetParallelism = getSheetParallelism(request);
+            if (sheetParallelism > 1 && reader.getSheetNames().size() > 1) {
+                // 多Sheet并行读取
+                SharedImportCounter counter = new SharedImportCounter();
+                errors = importSheets(request, taskId, tempFile, reader.getSheetNames(), sheetParallelism, progress, counter);
+                successCount = counter.getSuccessCount();
+                failedCount = counter.getFailCount();
             } else {
-                reader.doRead();
+                // 读取Excel数据
+                if (AsyncType.THREAD_POOL.equals(asyncType)) {
+                    reader.doReadAll();
+                } else {
+                    reader.doRead();
+                }
+                // 等待导入工作线程处理完剩余批次
+                reader.awaitImportCompletion(getImportTimeoutMillis());
+                successCount = reader.getSuccessRowCount();
+                failedCount = reader.getFailRowCount();
+                errors = reader.getAllErrors();
             }
+            long totalCount = successCount + failedCount;
 
-            long successCount = reader.getSuccessRowCount();
-            long failedCount = reader.getFailRowCount();
-            long totalCount = reader.getAllCount();
-
-            // 更新进度
-            recordService.updateProgress(taskId, totalCount, successCount, failedCount);
+            // 写入最终进度
+            progress.complete(totalCount, successCount, failedCount);
+            metrics.recordRows(ExcelMetrics.IMPORT, request.getBusinessType(), totalCount, System.nanoTime() - startImportNanos);
             log.debug("数据处理完成: 数据量={}, 成功={}, 失败={}, 耗时={}ms",
                     totalCount, successCount, failedCount, System.currentTimeMillis() - startImportTime);
 
@@ -255,7 +329,7 @@ public class ImportEngine extends AbstractExcelEngine {
                 return ImportResult.success(taskId, totalCount, successCount)
                         .withCostTime(System.currentTimeMillis() - startImportTime);
             } else {
-                return ImportResult.partialSuccess(taskId, totalCount, successCount, failedCount, reader.getAllErrors())
+                return ImportResult.partialSuccess(taskId, totalCount, successCount, failedCount, errors)
                         .withCostTime(System.currentTimeMillis() - startImportTime)
                         .withSkippedCount(skippedCount);
             }
@@ -269,9 +343,160 @@ public class ImportEngine extends AbstractExcelEngine {
                 }
             }
             throw e;
+        } finally {
+            // 写入尚未写入的进度
+            progress.complete();
         }
     }
 
+    /**
+     * 并行读取多Sheet工作簿
+     * 每个Sheet使用独立的读取器和监听器，各线程读取完当前Sheet后继续领取剩余Sheet；当前线程也参与读取，
+     * 线程池繁忙时退化为串行。成功/失败行数、最大错误数量和进度通过共享计数器按整个任务汇总，
+     * 任一Sheet失败时其余Sheet停止读取。启用并行导入时各Sheet共享同一个导入批次分发器，
+     * 所有Sheet读取完成后统一等待入库完成
+     *
+     * @param request     导入请求
+     * @param taskId      任务ID
+     * @param file        导入文件
+     * @param sheetNames  Sheet名称列表
+     * @param parallelism 并行读取数
+     * @param progress    任务进度
+     * @param counter     共享计数器
+     * @param <T>         数据类型
+     * @return 按Sheet顺序合并的错误信息
+     */
+    private <T> List<ImportResult.ImportError> importSheets(ImportRequest<T> request, String taskId, File file,
+                                                            List<String> sheetNames, int parallelism,
+                                                            ProgressReporter.TaskProgress progress,
+                                                            SharedImportCounter counter) {
+        int sheetCount = sheetNames.size();
+        List<List<ImportResult.ImportError>> sheetErrors = new ArrayList<>(Collections.nCopies(sheetCount, null));
+        ConcurrentLinkedQueue<Integer> pending = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < sheetCount; i++) {
+            pending.add(i);
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(sheetCount);
+        int importWorkers = getImportWorkers(request);
+        ImportBatchDispatcher<T> dispatcher = importWorkers > 0
+                ? new ImportBatchDispatcher<>(taskId, importWorkers, silkyExcelProperties.getImports().getImportQueueCapacity())
+                : null;
+        Runnable worker = () -> {
+            Integer index;
+            while ((index = pending.poll()) != null) {
+                try {
+                    // 已有Sheet失败时不再读取剩余Sheet
+                    if (failure.get() == null) {
+                        sheetErrors.set(index, importSheet(request, taskId, file, index, sheetNames.get(index),
+                                progress, counter, dispatcher));
+                    }
+                } catch (Throwable e) {
+                    if (failure.compareAndSet(null, e)) {
+                        counter.abort();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+        int threads = Math.min(parallelism, sheetCount);
+        try {
+            for (int i = 1; i < threads; i++) {
+                try {
+                    taskExecutor.execute(worker);
+                } catch (RejectedExecutionException e) {
+                    log.debug("Sheet读取线程提交被拒绝，由当前线程继续读取: {}", taskId);
+                    break;
+                }
+            }
+            worker.run();
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                counter.abort();
+                throw new ExcelExportException("多Sheet导入被中断", e);
+            }
+            Throwable cause = failure.get();
+            if (cause != null) {
+                throw cause instanceof RuntimeException ? (RuntimeException) cause
+                        : new ExcelExportException("多Sheet导入失败: " + cause.getMessage(), cause);
+            }
+            // 等待导入工作线程处理完所有Sheet剩余的批次
+            if (dispatcher != null) {
+                dispatcher.awaitCompletion(getImportTimeoutMillis());
+            }
+        } finally {
+            if (dispatcher != null) {
+                dispatcher.close();
+            }
+        }
+        List<ImportResult.ImportError> errors = new ArrayList<>();
+        for (List<ImportResult.ImportError> error : sheetErrors) {
+            errors.addAll(error);
+        }
+        log.debug("多Sheet并行读取完成: {}, Sheet数: {}, 并行数: {}", taskId, sheetCount, threads);
+        return errors;
+    }
+
+    /**
+     * 使用独立的读取器读取单个Sheet，未使用共享分发器时等待该Sheet入库完成
+     *
+     * @param request    导入请求
+     * @param taskId     任务ID
+     * @param file       导入文件
+     * @param sheetIndex Sheet下标
+     * @param sheetName  Sheet名称
+     * @param progress   任务进度
+     * @param counter    共享计数器
+     * @param dispatcher 共享的导入批次分发器（未启用并行导入时为 null）
+     * @param <T>        数据类型
+     * @return 该Sheet的错误信息
+     */
+    private <T> List<ImportResult.ImportError> importSheet(ImportRequest<T> request, String taskId, File file,
+                                                           int sheetIndex, String sheetName,
+                                                           ProgressReporter.TaskProgress progress,
+                                                           SharedImportCounter counter,
+                                                           ImportBatchDispatcher<T> dispatcher) {
+        AnalysisListenersContext<T> context = buildListenersContext(request, taskId, progress)
+                .setSharedCounter(counter)
+                .setSharedDispatcher(dispatcher);
+        DefaultAnalysisListeners<T> listeners = new DefaultAnalysisListeners<>(context);
+        listeners.setCurrentSheetName(sheetName);
+        try (ExcelReaderWrapper<T> reader = new ExcelReaderWrapper<>(file.getAbsolutePath(), request.isSkipHeader(), listeners)) {
+            reader.doReadSheet(sheetIndex);
+            reader.awaitImportCompletion(getImportTimeoutMillis());
+            return reader.getAllErrors();
+        }
+    }
+
+    /**
+     * 构建导入监听器上下文
+     *
+     * @param request  导入请求
+     * @param taskId   任务ID
+     * @param progress 任务进度
+     * @return 监听器上下文
+     */
+    private <T> AnalysisListenersContext<T> buildListenersContext(ImportRequest<T> request, String taskId,
+                                                                  ProgressReporter.TaskProgress progress) {
+        return AnalysisListenersContext.<T>builder()
+                .maxErrorCount(getMaxErrorCount(request.getMaxErrorCount()))
+                .pageSize(getPageSize(request.getPageSize()))
+                .request(request)
+                .taskId(taskId)
+                .importWorkers(getImportWorkers(request))
+                .importQueueCapacity(silkyExcelProperties.getImports().getImportQueueCapacity())
+                .progress(progress)
+                .metrics(metrics)
+                .modelRegistry(modelRegistry)
+                .TotalCount(0)
+                .SuccessCount(0)
+                .FailCount(0)
+                .build();
+    }
+
     /**
      * 下载导入文件
      *
@@ -434,6 +659,45 @@ public class ImportEngine extends AbstractExcelEngine {
         return Objects.isNull(maxErrorCount) ? silkyExcelProperties.getImports().getMaxErrorCount() : maxErrorCount;
     }
 
+    /**
+     * 获取导入工作线程数，启用事务时强制为0（事务通常与线程绑定，只能在当前线程入库）
+     *
+     * @param request 导入请求
+     * @return 导入工作线程数
+     */
+    private <T> int getImportWorkers(ImportRequest<T> request) {
+        int workers = Objects.isNull(request.getImportWorkers())
+                ? silkyExcelProperties.getImports().getImportWorkers() : request.getImportWorkers();
+        if (workers > 0 && request.isEnableTransaction()) {
+            log.debug("导入已启用事务，忽略并行导入配置: importWorkers={}", workers);
+            return 0;
+        }
+        return Math.max(workers, 0);
+    }
+
+    /**
+     * 获取多Sheet并行读取数，启用事务时强制为1（事务通常与线程绑定，只能在当前线程入库）
+     *
+     * @param request 导入请求
+     * @return 并行读取数
+     */
+    private <T> int getSheetParallelism(ImportRequest<T> request) {
+        int parallelism = Objects.isNull(request.getSheetParallelism())
+                ? silkyExcelProperties.getImports().getSheetParallelism() : request.getSheetParallelism();
+        if (parallelism > 1 && request.isEnableTransaction()) {
+            log.debug("导入已启用事务，忽略多Sheet并行读取配置: sheetParallelism={}", parallelism);
+            return 1;
+        }
+        return Math.max(parallelism, 1);
+    }
+
+    /**
+     * 获取等待导入完成的最长时间（毫秒）
+     */
+    private long getImportTimeoutMillis() {
+        return TimeUnit.MINUTES.toMillis(silkyExcelProperties.getImports().getTimeoutMinutes());
+    }
+
     /**
      * 获取分页大小
      *
@@ -472,6 +736,7 @@ public class ImportEngine extends AbstractExcelEngine {
     @Override
     public void shutdown() {
         log.info("开始关闭导入引擎...");
+        progressReporter.shutdown();
         shutdownCleanupExecutor();
         taskCache.clear();
         log.info("导入引擎已关闭, 统计: 总={}, 成功={}, 失败={}",
@@ -492,9 +757,17 @@ public class ImportEngine extends AbstractExcelEngine {
                 .failedTasks((long) data[3])
                 .cachedTasks((int) data[4])
                 .uptime((long) data[5])
+                .activeTasks(getActiveTaskCount())
                 .build();
     }
 
+    /**
+     * 获取执行中的导入任务数
+     */
+    public int getActiveTaskCount() {
+        return activeTasks.get();
+    }
+
     /**
      * 导入引擎状态
      */
@@ -525,6 +798,10 @@ public class ImportEngine extends AbstractExcelEngine {
          * 运行时长（毫秒）
          */
         private long uptime;
+        /**
+         * 执行中的任务数
+         */
+        private int activeTasks;
 
         /**
          * 计算成功率
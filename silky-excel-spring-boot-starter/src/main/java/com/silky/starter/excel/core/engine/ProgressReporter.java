@@ -0,0 +1,248 @@
+package com.silky.starter.excel.core.engine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 合并式进度上报器
+ * 任务进度先缓存在内存中，按时间间隔或处理行数增量由后台线程写入记录服务，任务结束时同步写入最终进度，
+ * 避免每页一次的记录写入对持久化记录服务造成压力。
+ * <p>
+ * 同一任务的写入串行执行且按上报顺序进行，不会出现旧进度覆盖新进度。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public class ProgressReporter {
+
+    private final String name;
+
+    /**
+     * 后台写入线程（为 null 时只在达到行数增量或任务结束时由上报线程写入）
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 达到该处理行数增量时立即触发写入
+     */
+    private final long flushRowDelta;
+
+    /**
+     * 进行中的任务进度
+     */
+    private final Map<String, TaskProgress> tasks = new ConcurrentHashMap<>();
+
+    private final ScheduledFuture<?> periodicFlush;
+
+    /**
+     * 构造函数
+     *
+     * @param name                上报器名称（用于日志）
+     * @param scheduler           后台写入线程
+     * @param flushIntervalMillis 定时写入间隔（毫秒）
+     * @param flushRowDelta       触发立即写入的处理行数增量
+     */
+    public ProgressReporter(String name, ScheduledExecutorService scheduler, long flushIntervalMillis, long flushRowDelta) {
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("进度写入间隔必须大于0");
+        }
+        if (flushRowDelta <= 0) {
+            throw new IllegalArgumentException("进度写入行数增量必须大于0");
+        }
+        this.name = name;
+        this.scheduler = scheduler;
+        this.flushRowDelta = flushRowDelta;
+        this.periodicFlush = scheduler == null ? null
+                : scheduler.scheduleWithFixedDelay(this::flushAll, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 注册任务进度
+     *
+     * @param taskId 任务ID
+     * @param sink   进度写入目标
+     * @return 任务进度
+     */
+    public TaskProgress register(String taskId, ProgressSink sink) {
+        TaskProgress progress = new TaskProgress(taskId, sink);
+        tasks.put(taskId, progress);
+        return progress;
+    }
+
+    /**
+     * 写入所有待写入的任务进度
+     */
+    public void flushAll() {
+        for (TaskProgress progress : tasks.values()) {
+            progress.flush();
+        }
+    }
+
+    /**
+     * 停止定时写入，并写入所有待写入的任务进度
+     */
+    public void shutdown() {
+        if (periodicFlush != null) {
+            periodicFlush.cancel(false);
+        }
+        flushAll();
+    }
+
+    /**
+     * 当前进行中的任务数量
+     *
+     * @return 任务数量
+     */
+    public int getActiveTaskCount() {
+        return tasks.size();
+    }
+
+    /**
+     * 进度写入目标
+     */
+    @FunctionalInterface
+    public interface ProgressSink {
+
+        /**
+         * 写入进度
+         *
+         * @param processedCount 已处理数据量
+         * @param successCount   成功数据量
+         * @param failedCount    失败数据量
+         */
+        void write(long processedCount, long successCount, long failedCount);
+    }
+
+    /**
+     * 单个任务的进度
+     */
+    public final class TaskProgress {
+
+        private final String taskId;
+
+        private final ProgressSink sink;
+
+        /**
+         * 写入锁，保证同一任务的写入串行且有序
+         */
+        private final Object writeLock = new Object();
+
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+        private long processedCount;
+
+        private long successCount;
+
+        private long failedCount;
+
+        private long flushedProcessedCount;
+
+        private boolean dirty;
+
+        private boolean completed;
+
+        private TaskProgress(String taskId, ProgressSink sink) {
+            this.taskId = taskId;
+            this.sink = sink;
+        }
+
+        /**
+         * 上报最新进度（累计值）
+         *
+         * @param processedCount 已处理数据量
+         * @param successCount   成功数据量
+         * @param failedCount    失败数据量
+         */
+        public void report(long processedCount, long successCount, long failedCount) {
+            boolean reachDelta;
+            synchronized (this) {
+                if (completed) {
+                    return;
+                }
+                this.processedCount = processedCount;
+                this.successCount = successCount;
+                this.failedCount = failedCount;
+                this.dirty = true;
+                reachDelta = processedCount - flushedProcessedCount >= flushRowDelta;
+            }
+            if (reachDelta && flushScheduled.compareAndSet(false, true)) {
+                scheduleFlush();
+            }
+        }
+
+        /**
+         * 写入最终进度并注销任务
+         *
+         * @param processedCount 已处理数据量
+         * @param successCount   成功数据量
+         * @param failedCount    失败数据量
+         */
+        public void complete(long processedCount, long successCount, long failedCount) {
+            report(processedCount, successCount, failedCount);
+            complete();
+        }
+
+        /**
+         * 写入尚未写入的进度并注销任务，可重复调用
+         */
+        public void complete() {
+            synchronized (writeLock) {
+                flush();
+                synchronized (this) {
+                    completed = true;
+                }
+            }
+            tasks.remove(taskId, this);
+        }
+
+        /**
+         * 写入待写入的进度
+         */
+        private void flush() {
+            synchronized (writeLock) {
+                long processed;
+                long success;
+                long failed;
+                synchronized (this) {
+                    if (!dirty || completed) {
+                        return;
+                    }
+                    processed = processedCount;
+                    success = successCount;
+                    failed = failedCount;
+                    flushedProcessedCount = processed;
+                    dirty = false;
+                }
+                try {
+                    sink.write(processed, success, failed);
+                } catch (Exception e) {
+                    log.warn("{}写入任务进度失败: {}", name, taskId, e);
+                }
+            }
+        }
+
+        private void scheduleFlush() {
+            if (scheduler != null) {
+                try {
+                    scheduler.execute(() -> {
+                        flushScheduled.set(false);
+                        flush();
+                    });
+                    return;
+                } catch (RejectedExecutionException e) {
+                    log.debug("{}后台写入线程不可用，由上报线程写入进度: {}", name, taskId);
+                }
+            }
+            flushScheduled.set(false);
+            flush();
+        }
+    }
+}
@@ -5,12 +5,15 @@ import cn.idev.excel.context.AnalysisContext;
 import cn.idev.excel.event.AnalysisEventListener;
 import cn.idev.excel.exception.ExcelDataConvertException;
 import com.silky.starter.excel.core.exception.ExcelExportException;
+import com.silky.starter.excel.core.metrics.ExcelMetrics;
+import com.silky.starter.excel.core.metrics.ExcelStage;
 import com.silky.starter.excel.core.model.AnalysisListenersContext;
 import com.silky.starter.excel.core.model.DataProcessor;
 import com.silky.starter.excel.core.model.imports.DataImporterSupplier;
 import com.silky.starter.excel.core.model.imports.ImportRequest;
 import com.silky.starter.excel.core.model.imports.ImportResult;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
@@ -48,6 +51,7 @@ public abstract class BaseAnalysisListeners<T> extends AnalysisEventListener<T>
 
     private final AtomicLong failCount = new AtomicLong(0);
 
+    @Setter
     private String currentSheetName;
 
     private final List<DataProcessor<T>> processors;
@@ -58,6 +62,31 @@ public abstract class BaseAnalysisListeners<T> extends AnalysisEventListener<T>
 
     private final AnalysisListenersContext<T> context;
 
+    /**
+     * 导入批次分发器（未启用并行导入时为 null）
+     */
+    private final ImportBatchDispatcher<T> importDispatcher;
+
+    /**
+     * 分发器是否由当前监听器创建（共享的分发器由创建方等待完成和关闭）
+     */
+    private final boolean ownsDispatcher;
+
+    /**
+     * 并行读取多个Sheet时共享的计数器（未并行读取时为 null）
+     */
+    private final SharedImportCounter sharedCounter;
+
+    /**
+     * 阶段指标记录器
+     */
+    private final ExcelMetrics metrics;
+
+    /**
+     * 当前批次开始解析的时间（纳秒），0 表示当前批次尚未开始
+     */
+    private long batchStartNanos;
+
     public BaseAnalysisListeners(AnalysisListenersContext<T> context) {
         context.validate();
         this.context = context;
@@ -66,6 +95,18 @@ public abstract class BaseAnalysisListeners<T> extends AnalysisEventListener<T>
         this.processors = context.getRequest().getProcessors();
         this.importRequest = context.getRequest();
         this.dataImporterSupplier = context.getRequest().getDataImporterSupplier();
+        if (context.getSharedDispatcher() != null) {
+            this.importDispatcher = context.getSharedDispatcher();
+            this.ownsDispatcher = false;
+        } else {
+            this.importDispatcher = context.getImportWorkers() > 0
+                    ? new ImportBatchDispatcher<>(context.getTaskId(), context.getImportWorkers(),
+                    context.getImportQueueCapacity(), this::importBatch)
+                    : null;
+            this.ownsDispatcher = true;
+        }
+        this.sharedCounter = context.getSharedCounter();
+        this.metrics = context.getMetrics() != null ? context.getMetrics() : ExcelMetrics.NOOP;
     }
 
     @Override
@@ -77,21 +118,30 @@ public abstract class BaseAnalysisListeners<T> extends AnalysisEventListener<T>
 
     @Override
     public void invoke(T t, AnalysisContext analysisContext) {
+        // 其他Sheet已失败，中止当前Sheet的读取
+        if (sharedCounter != null && sharedCounter.isAborted()) {
+            throw new ExcelExportException("导入已中止");
+        }
+        if (batchStartNanos == 0) {
+            batchStartNanos = System.nanoTime();
+        }
         dataList.add(t);
         if (dataList.size() >= pageSize) {
-            List<T> processedData = dataList;
-            // 数据导入前处理，比如加解密、数据转换等
-            processImportData(processedData, processors);
-            // 数据导入
-            dataImporterSupplier.importData(processedData, importRequest.getParams());
-            dataList.clear();
+            flushBatch();
         }
         successCount.incrementAndGet();
+        if (sharedCounter != null) {
+            sharedCounter.incrementSuccess();
+        }
         currentSheetRowCount.incrementAndGet();
     }
 
     @Override
     public void doAfterAllAnalysed(AnalysisContext analysisContext) {
+        // 导入末尾不足一页的数据
+        if (!dataList.isEmpty()) {
+            flushBatch();
+        }
         context.setTotalCount((int) (successCount.get() + failCount.get()));
         context.setSuccessCount((int) successCount.get());
         context.setFailCount((int) failCount.get());
@@ -99,6 +149,12 @@ public abstract class BaseAnalysisListeners<T> extends AnalysisEventListener<T>
 
     @Override
     public void onException(Exception exception, AnalysisContext context) {
+        // 导入工作线程或其他Sheet已失败，直接中止解析
+        if ((importDispatcher != null && importDispatcher.isFailed())
+                || (sharedCounter != null && sharedCounter.isAborted())) {
+            throw exception instanceof RuntimeException ? (RuntimeException) exception
+                    : new ExcelExportException(exception.getMessage(), exception);
+        }
         failCount.incrementAndGet();
 
         int rowIndex = -1;
@@ -131,12 +187,71 @@ public abstract class BaseAnalysisListeners<T> extends AnalysisEventListener<T>
             currentSheetErrors.add(error);
         }
 
-        if (allErrors.size() > maxErrorCount) {
+        // 并行读取多个Sheet时按整个导入任务的失败行数判断
+        long errorCount = sharedCounter != null ? sharedCounter.incrementFail() : allErrors.size();
+        if (errorCount > maxErrorCount) {
             throw new ExcelExportException("导入错误数量超过最大限制: " + maxErrorCount);
         }
     }
 
 
+    /**
+     * 等待导入工作线程处理完所有已提交的批次（未启用并行导入或使用共享分发器时直接返回）
+     *
+     * @param timeoutMillis 最长等待时间（毫秒）
+     */
+    public void awaitImportCompletion(long timeoutMillis) {
+        if (importDispatcher != null && ownsDispatcher) {
+            importDispatcher.awaitCompletion(timeoutMillis);
+        }
+    }
+
+    /**
+     * 释放导入工作线程
+     */
+    public void close() {
+        if (importDispatcher != null && ownsDispatcher) {
+            importDispatcher.close();
+        }
+    }
+
+    /**
+     * 将缓冲区中的数据作为一个批次导入，启用并行导入时交给导入工作线程
+     */
+    private void flushBatch() {
+        if (batchStartNanos != 0) {
+            metrics.recordStage(ExcelStage.PARSE, importRequest.getBusinessType(), System.nanoTime() - batchStartNanos);
+            batchStartNanos = 0;
+        }
+        List<T> batch = new ArrayList<>(dataList);
+        dataList.clear();
+        if (importDispatcher != null) {
+            metrics.recordImportQueueDepth(importRequest.getBusinessType(), importDispatcher.getQueuedBatchCount());
+            importDispatcher.submit(batch, this::importBatch);
+        } else {
+            importBatch(batch);
+        }
+        if (context.getProgress() != null) {
+            long success = sharedCounter != null ? sharedCounter.getSuccessCount() : successCount.get();
+            long failed = sharedCounter != null ? sharedCounter.getFailCount() : failCount.get();
+            context.getProgress().report(success + failed, success, failed);
+        }
+    }
+
+    /**
+     * 导入一个批次
+     *
+     * @param batch 数据批次
+     */
+    private void importBatch(List<T> batch) {
+        long startNanos = System.nanoTime();
+        // 数据导入前处理，比如加解密、数据转换等
+        List<T> processedData = processImportData(batch, processors);
+        // 数据导入
+        dataImporterSupplier.importData(processedData, importRequest.getParams());
+        metrics.recordStage(ExcelStage.IMPORT_BATCH, importRequest.getBusinessType(), System.nanoTime() - startNanos);
+    }
+
     /**
      * 获取当前sheet的错误信息
      */
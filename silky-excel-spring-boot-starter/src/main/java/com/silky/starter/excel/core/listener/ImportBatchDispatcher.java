@@ -0,0 +1,168 @@
+package com.silky.starter.excel.core.listener;
+
+import com.silky.starter.excel.core.exception.ExcelExportException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 导入批次分发器
+ * 解析线程将数据批次放入有界队列，由多个导入工作线程并行消费（数据处理 + 持久化），
+ * 队列满时解析线程阻塞等待，形成背压，避免解析速度远快于入库时内存无限增长。
+ * <p>
+ * 每个导入任务独占一个分发器，任务结束后关闭；并行读取多个Sheet时各Sheet的监听器共享同一个分发器，
+ * 单个任务的导入工作线程数不随并行读取的Sheet数增加。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public class ImportBatchDispatcher<T> implements Closeable {
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 默认的批次处理逻辑（共享分发器为 null，由提交方指定）
+     */
+    private final Consumer<List<T>> batchHandler;
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * 构造由多个监听器共享的分发器，批次处理逻辑在提交时指定
+     *
+     * @param name          分发器名称（用于线程命名）
+     * @param workers       导入工作线程数
+     * @param queueCapacity 等待导入的批次队列容量
+     */
+    public ImportBatchDispatcher(String name, int workers, int queueCapacity) {
+        this(name, workers, queueCapacity, null);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param name          分发器名称（用于线程命名）
+     * @param workers       导入工作线程数
+     * @param queueCapacity 等待导入的批次队列容量
+     * @param batchHandler  批次处理逻辑
+     */
+    public ImportBatchDispatcher(String name, int workers, int queueCapacity, Consumer<List<T>> batchHandler) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("导入工作线程数必须大于0");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("导入队列容量必须大于0");
+        }
+        this.batchHandler = batchHandler;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> new Thread(r, "silky-excel-import-" + name + "-" + counter.incrementAndGet()),
+                (r, pool) -> {
+                    // 队列已满：阻塞解析线程直到有空位（背压）
+                    if (pool.isShutdown()) {
+                        throw new RejectedExecutionException("导入分发器已关闭");
+                    }
+                    try {
+                        pool.getQueue().put(r);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("等待导入队列空位时被中断", e);
+                    }
+                });
+    }
+
+    /**
+     * 提交一个批次，队列满时阻塞
+     *
+     * @param batch 数据批次（提交后调用方不应再修改）
+     */
+    public void submit(List<T> batch) {
+        submit(batch, batchHandler);
+    }
+
+    /**
+     * 提交一个批次并指定处理逻辑，队列满时阻塞
+     *
+     * @param batch   数据批次（提交后调用方不应再修改）
+     * @param handler 批次处理逻辑
+     */
+    public void submit(List<T> batch, Consumer<List<T>> handler) {
+        if (handler == null) {
+            throw new IllegalArgumentException("批次处理逻辑不能为空");
+        }
+        checkFailure();
+        executor.execute(() -> {
+            if (failure.get() != null) {
+                return;
+            }
+            try {
+                handler.accept(batch);
+            } catch (Throwable e) {
+                if (failure.compareAndSet(null, e)) {
+                    log.error("导入批次处理失败，将中止后续导入", e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 获取排队等待导入的批次数
+     */
+    public int getQueuedBatchCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 是否已有批次处理失败
+     */
+    public boolean isFailed() {
+        return failure.get() != null;
+    }
+
+    /**
+     * 等待所有已提交批次处理完成
+     *
+     * @param timeoutMillis 最长等待时间（毫秒）
+     */
+    public void awaitCompletion(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+                throw new ExcelExportException("等待导入工作线程完成超时");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            throw new ExcelExportException("等待导入工作线程完成时被中断", e);
+        }
+        checkFailure();
+    }
+
+    /**
+     * 关闭分发器，丢弃尚未开始的批次
+     */
+    @Override
+    public void close() {
+        if (!executor.isTerminated()) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void checkFailure() {
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw new ExcelExportException("导入数据失败: " + cause.getMessage(), cause);
+        }
+    }
+}
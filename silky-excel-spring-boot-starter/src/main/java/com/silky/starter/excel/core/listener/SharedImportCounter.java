@@ -0,0 +1,64 @@
+package com.silky.starter.excel.core.listener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 导入共享计数器
+ * 并行读取多个Sheet时，各Sheet的监听器各自缓冲和导入数据，成功/失败行数和中止标记通过该计数器汇总，
+ * 使最大错误数量和进度上报按整个导入任务计算。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+public class SharedImportCounter {
+
+    private final AtomicLong successCount = new AtomicLong();
+
+    private final AtomicLong failCount = new AtomicLong();
+
+    private volatile boolean aborted;
+
+    /**
+     * 记录一行导入成功
+     */
+    public void incrementSuccess() {
+        successCount.incrementAndGet();
+    }
+
+    /**
+     * 记录一行导入失败
+     *
+     * @return 累计失败行数
+     */
+    public long incrementFail() {
+        return failCount.incrementAndGet();
+    }
+
+    /**
+     * 中止导入，其余Sheet的监听器在处理下一行时停止读取
+     */
+    public void abort() {
+        this.aborted = true;
+    }
+
+    /**
+     * 是否已中止
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * 获取成功行数
+     */
+    public long getSuccessCount() {
+        return successCount.get();
+    }
+
+    /**
+     * 获取失败行数
+     */
+    public long getFailCount() {
+        return failCount.get();
+    }
+}
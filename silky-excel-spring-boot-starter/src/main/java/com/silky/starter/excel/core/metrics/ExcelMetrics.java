@@ -0,0 +1,69 @@
+package com.silky.starter.excel.core.metrics;
+
+/**
+ * 导出/导入指标记录器
+ * 导出引擎、导入引擎和导入监听器在各流水线阶段结束时调用，默认实现（{@link #NOOP}）不记录任何指标；
+ * 引入 Micrometer 且存在 MeterRegistry 时自动使用 {@link MicrometerExcelMetrics}。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+public interface ExcelMetrics {
+
+    /**
+     * 操作：导出
+     */
+    String EXPORT = "export";
+
+    /**
+     * 操作：导入
+     */
+    String IMPORT = "import";
+
+    /**
+     * 不记录任何指标
+     */
+    ExcelMetrics NOOP = new ExcelMetrics() {
+    };
+
+    /**
+     * 记录一次阶段耗时
+     *
+     * @param stage         阶段
+     * @param businessType  业务类型
+     * @param durationNanos 耗时（纳秒）
+     */
+    default void recordStage(ExcelStage stage, String businessType, long durationNanos) {
+    }
+
+    /**
+     * 记录处理的行数及吞吐量
+     *
+     * @param operation     操作：export / import
+     * @param businessType  业务类型
+     * @param rows          行数
+     * @param durationNanos 处理这些行的耗时（纳秒）
+     */
+    default void recordRows(String operation, String businessType, long rows, long durationNanos) {
+    }
+
+    /**
+     * 记录一个任务的结果及总耗时
+     *
+     * @param operation     操作：export / import
+     * @param businessType  业务类型
+     * @param success       是否成功
+     * @param durationNanos 总耗时（纳秒）
+     */
+    default void recordTask(String operation, String businessType, boolean success, long durationNanos) {
+    }
+
+    /**
+     * 记录导入批次队列深度（提交批次时的排队批次数）
+     *
+     * @param businessType 业务类型
+     * @param depth        排队批次数
+     */
+    default void recordImportQueueDepth(String businessType, int depth) {
+    }
+}
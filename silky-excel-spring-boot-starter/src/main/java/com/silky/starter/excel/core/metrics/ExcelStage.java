@@ -0,0 +1,63 @@
+package com.silky.starter.excel.core.metrics;
+
+import lombok.Getter;
+
+/**
+ * 导出/导入流水线阶段
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Getter
+public enum ExcelStage {
+
+    /**
+     * 导出：数据供应器分页查询
+     */
+    FETCH(ExcelMetrics.EXPORT, "fetch"),
+
+    /**
+     * 导出：字段解析（枚举/字典翻译、脱敏）
+     */
+    RESOLVE(ExcelMetrics.EXPORT, "resolve"),
+
+    /**
+     * 导出：写入 Excel/CSV（启用压缩时包含边写边压缩）
+     */
+    WRITE(ExcelMetrics.EXPORT, "write"),
+
+    /**
+     * 导出：压缩（边写边压缩时为压缩流内的耗时，分区导出时为打包耗时）
+     */
+    COMPRESS(ExcelMetrics.EXPORT, "compress"),
+
+    /**
+     * 导出：导出文件上传到存储（流式写入存储时与写入重叠，不单独记录）
+     */
+    UPLOAD(ExcelMetrics.EXPORT, "upload"),
+
+    /**
+     * 导入：解析一个批次的数据行
+     */
+    PARSE(ExcelMetrics.IMPORT, "parse"),
+
+    /**
+     * 导入：数据处理器 + 数据导入器处理一个批次
+     */
+    IMPORT_BATCH(ExcelMetrics.IMPORT, "import_batch");
+
+    /**
+     * 所属操作：export / import
+     */
+    private final String operation;
+
+    /**
+     * 指标标签值
+     */
+    private final String tag;
+
+    ExcelStage(String operation, String tag) {
+        this.operation = operation;
+        this.tag = tag;
+    }
+}
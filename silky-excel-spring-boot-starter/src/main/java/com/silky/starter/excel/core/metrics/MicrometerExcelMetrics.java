@@ -0,0 +1,109 @@
+package com.silky.starter.excel.core.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Micrometer 的导出/导入指标记录器
+ * <ul>
+ *     <li>{@code silky.excel.stage}：各流水线阶段耗时（Timer），标签 operation、stage、businessType</li>
+ *     <li>{@code silky.excel.task}：任务总耗时（Timer），标签 operation、businessType、outcome</li>
+ *     <li>{@code silky.excel.rows}：处理行数（Counter），标签 operation、businessType</li>
+ *     <li>{@code silky.excel.throughput}：每秒处理行数（DistributionSummary），标签 operation、businessType</li>
+ *     <li>{@code silky.excel.import.queue.depth}：提交导入批次时的排队批次数（DistributionSummary），标签 businessType</li>
+ * </ul>
+ * 指标按标签缓存，逐页记录时不再重复构建指标ID。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+public class MicrometerExcelMetrics implements ExcelMetrics {
+
+    private static final String TAG_OPERATION = "operation";
+    private static final String TAG_STAGE = "stage";
+    private static final String TAG_BUSINESS_TYPE = "businessType";
+    private static final String TAG_OUTCOME = "outcome";
+    private static final String UNKNOWN_BUSINESS_TYPE = "unknown";
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> taskTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> rowCounters = new ConcurrentHashMap<>();
+
+    private final Map<String, DistributionSummary> throughputSummaries = new ConcurrentHashMap<>();
+
+    private final Map<String, DistributionSummary> queueDepthSummaries = new ConcurrentHashMap<>();
+
+    public MicrometerExcelMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void recordStage(ExcelStage stage, String businessType, long durationNanos) {
+        String type = getBusinessType(businessType);
+        stageTimers.computeIfAbsent(stage.name() + '|' + type, key -> Timer.builder("silky.excel.stage")
+                        .description("Silky Excel 导出/导入各阶段耗时")
+                        .tag(TAG_OPERATION, stage.getOperation())
+                        .tag(TAG_STAGE, stage.getTag())
+                        .tag(TAG_BUSINESS_TYPE, type)
+                        .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRows(String operation, String businessType, long rows, long durationNanos) {
+        String type = getBusinessType(businessType);
+        String key = operation + '|' + type;
+        rowCounters.computeIfAbsent(key, k -> Counter.builder("silky.excel.rows")
+                        .description("Silky Excel 导出/导入处理行数")
+                        .tag(TAG_OPERATION, operation)
+                        .tag(TAG_BUSINESS_TYPE, type)
+                        .register(registry))
+                .increment(rows);
+        if (rows > 0 && durationNanos > 0) {
+            throughputSummaries.computeIfAbsent(key, k -> DistributionSummary.builder("silky.excel.throughput")
+                            .description("Silky Excel 导出/导入每秒处理行数")
+                            .baseUnit("rows/s")
+                            .tag(TAG_OPERATION, operation)
+                            .tag(TAG_BUSINESS_TYPE, type)
+                            .register(registry))
+                    .record(rows * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos);
+        }
+    }
+
+    @Override
+    public void recordTask(String operation, String businessType, boolean success, long durationNanos) {
+        String type = getBusinessType(businessType);
+        String outcome = success ? "success" : "failure";
+        taskTimers.computeIfAbsent(operation + '|' + type + '|' + outcome, key -> Timer.builder("silky.excel.task")
+                        .description("Silky Excel 导出/导入任务总耗时")
+                        .tag(TAG_OPERATION, operation)
+                        .tag(TAG_BUSINESS_TYPE, type)
+                        .tag(TAG_OUTCOME, outcome)
+                        .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordImportQueueDepth(String businessType, int depth) {
+        String type = getBusinessType(businessType);
+        queueDepthSummaries.computeIfAbsent(type, key -> DistributionSummary.builder("silky.excel.import.queue.depth")
+                        .description("Silky Excel 提交导入批次时的排队批次数")
+                        .tag(TAG_BUSINESS_TYPE, type)
+                        .register(registry))
+                .record(depth);
+    }
+
+    private static String getBusinessType(String businessType) {
+        return businessType != null ? businessType : UNKNOWN_BUSINESS_TYPE;
+    }
+}
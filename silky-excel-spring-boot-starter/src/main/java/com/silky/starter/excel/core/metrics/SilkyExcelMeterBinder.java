@@ -0,0 +1,85 @@
+package com.silky.starter.excel.core.metrics;
+
+import com.silky.starter.excel.core.engine.ExportEngine;
+import com.silky.starter.excel.core.engine.ImportEngine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Silky Excel 运行状态指标
+ * <ul>
+ *     <li>{@code silky.excel.tasks.active}：执行中的导出/导入任务数，标签 operation</li>
+ *     <li>{@code silky.excel.export.scheduler.queued} / {@code running}：导出调度器排队/执行中的任务数</li>
+ *     <li>{@code silky.excel.executor.*}：silkyExcelTaskExecutor 的活跃线程、线程数、队列长度、剩余容量和饱和度（活跃线程 / 最大线程数）</li>
+ * </ul>
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+public class SilkyExcelMeterBinder implements MeterBinder {
+
+    private static final String EXECUTOR_NAME = "silkyExcelTaskExecutor";
+
+    private final ExportEngine exportEngine;
+
+    private final ImportEngine importEngine;
+
+    private final ThreadPoolTaskExecutor taskExecutor;
+
+    public SilkyExcelMeterBinder(ExportEngine exportEngine, ImportEngine importEngine, ThreadPoolTaskExecutor taskExecutor) {
+        this.exportEngine = exportEngine;
+        this.importEngine = importEngine;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (exportEngine != null) {
+            Gauge.builder("silky.excel.tasks.active", exportEngine, ExportEngine::getActiveTaskCount)
+                    .description("执行中的任务数")
+                    .tag("operation", ExcelMetrics.EXPORT)
+                    .register(registry);
+            Gauge.builder("silky.excel.export.scheduler.queued", exportEngine, ExportEngine::getQueuedTaskCount)
+                    .description("导出调度器排队任务数")
+                    .register(registry);
+            Gauge.builder("silky.excel.export.scheduler.running", exportEngine, ExportEngine::getScheduledRunningCount)
+                    .description("导出调度器执行中的任务数")
+                    .register(registry);
+        }
+        if (importEngine != null) {
+            Gauge.builder("silky.excel.tasks.active", importEngine, ImportEngine::getActiveTaskCount)
+                    .description("执行中的任务数")
+                    .tag("operation", ExcelMetrics.IMPORT)
+                    .register(registry);
+        }
+        if (taskExecutor != null) {
+            Tags tags = Tags.of("name", EXECUTOR_NAME);
+            registerExecutorGauge(registry, "silky.excel.executor.active", "活跃线程数", tags,
+                    ThreadPoolExecutor::getActiveCount);
+            registerExecutorGauge(registry, "silky.excel.executor.pool.size", "当前线程数", tags,
+                    ThreadPoolExecutor::getPoolSize);
+            registerExecutorGauge(registry, "silky.excel.executor.pool.max", "最大线程数", tags,
+                    ThreadPoolExecutor::getMaximumPoolSize);
+            registerExecutorGauge(registry, "silky.excel.executor.queue.size", "排队任务数", tags,
+                    executor -> executor.getQueue().size());
+            registerExecutorGauge(registry, "silky.excel.executor.queue.remaining", "队列剩余容量", tags,
+                    executor -> executor.getQueue().remainingCapacity());
+            registerExecutorGauge(registry, "silky.excel.executor.saturation", "饱和度（活跃线程 / 最大线程数）", tags,
+                    executor -> (double) executor.getActiveCount() / Math.max(executor.getMaximumPoolSize(), 1));
+        }
+    }
+
+    private void registerExecutorGauge(MeterRegistry registry, String name, String description, Tags tags,
+                                       ToDoubleFunction<ThreadPoolExecutor> value) {
+        Gauge.builder(name, taskExecutor, executor -> value.applyAsDouble(executor.getThreadPoolExecutor()))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
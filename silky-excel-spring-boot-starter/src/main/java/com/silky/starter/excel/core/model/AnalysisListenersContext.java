@@ -1,6 +1,11 @@
 package com.silky.starter.excel.core.model;
 
+import com.silky.starter.excel.core.engine.ProgressReporter;
+import com.silky.starter.excel.core.listener.ImportBatchDispatcher;
+import com.silky.starter.excel.core.listener.SharedImportCounter;
+import com.silky.starter.excel.core.metrics.ExcelMetrics;
 import com.silky.starter.excel.core.model.imports.ImportRequest;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -35,6 +40,47 @@ public class AnalysisListenersContext<T> {
      */
     private ImportRequest<T> request;
 
+    /**
+     * 任务ID
+     */
+    private String taskId;
+
+    /**
+     * 导入工作线程数，0表示在解析线程中同步导入
+     */
+    private int importWorkers;
+
+    /**
+     * 等待导入的批次队列容量
+     */
+    private int importQueueCapacity;
+
+    /**
+     * 并行读取多个Sheet时共享的导入批次分发器（为 null 时监听器按 importWorkers 自行创建，
+     * 共享时由创建方等待完成和关闭）
+     */
+    private ImportBatchDispatcher<T> sharedDispatcher;
+
+    /**
+     * 任务进度（为 null 时不上报批次进度）
+     */
+    private ProgressReporter.TaskProgress progress;
+
+    /**
+     * 并行读取多个Sheet时共享的计数器（为 null 时各监听器独立计数）
+     */
+    private SharedImportCounter sharedCounter;
+
+    /**
+     * 阶段指标记录器（为 null 时不记录指标）
+     */
+    private ExcelMetrics metrics;
+
+    /**
+     * 数据类元数据注册表（为 null 时使用共享注册表）
+     */
+    private ExcelModelRegistry modelRegistry;
+
     /**
      * 总记录数
      */
@@ -63,5 +109,8 @@ public class AnalysisListenersContext<T> {
         if (this.request == null) {
             throw new IllegalArgumentException("request is null");
         }
+        if (this.importWorkers > 0 && this.importQueueCapacity <= 0) {
+            throw new IllegalArgumentException("importQueueCapacity must be greater than 0");
+        }
     }
 }
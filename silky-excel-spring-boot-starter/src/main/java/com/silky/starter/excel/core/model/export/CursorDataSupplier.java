@@ -0,0 +1,36 @@
+package com.silky.starter.excel.core.model.export;
+
+import com.silky.starter.excel.core.exception.ExcelExportException;
+
+import java.util.Map;
+
+/**
+ * 游标（键集）分页数据供应器
+ * 每次查询携带上一页返回的游标（如最后一条记录的排序键），避免 OFFSET 深分页带来的逐页变慢问题，
+ * 适用于百万级以上的大数据量导出
+ *
+ * @author zy
+ * @date 2026-10-16 10:20
+ **/
+@FunctionalInterface
+public interface CursorDataSupplier<T> extends ExportDataSupplier<T> {
+
+    /**
+     * 按游标获取下一页数据
+     * 此方法会被多次调用，直到返回的数据为空或hasNext为false
+     *
+     * @param cursor   上一页返回的游标，首次调用时为 null
+     * @param pageSize 每页数据大小，由ExportRequest中的pageSize参数指定
+     * @param params   查询参数，来自ExportRequest中的params参数
+     * @return 游标分页数据，包含当前页数据、下一页游标和是否有下一页的标识
+     */
+    CursorPageData<T> getNextPage(String cursor, int pageSize, Map<String, Object> params) throws ExcelExportException;
+
+    /**
+     * 游标数据供应器不支持按页码查询，由导出引擎统一通过 {@link #getNextPage} 驱动
+     */
+    @Override
+    default ExportPageData<T> getPageData(int pageNum, int pageSize, Map<String, Object> params) throws ExcelExportException {
+        throw new ExcelExportException("游标数据供应器不支持按页码查询，请使用 getNextPage");
+    }
+}
@@ -0,0 +1,37 @@
+package com.silky.starter.excel.core.model.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 游标分页数据
+ *
+ * @author zy
+ * @date 2026-10-16 10:20
+ **/
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageData<T> {
+
+    /**
+     * 当前页的数据列表
+     * 不能为null，如果无数据应为空列表
+     */
+    private List<T> data;
+
+    /**
+     * 下一页的游标（不透明令牌，如当前页最后一条记录的排序键）
+     * hasNext为true时不能为空
+     */
+    private String nextCursor;
+
+    /**
+     * 是否还有下一页数据
+     * true表示还有更多数据，false表示这是最后一页
+     */
+    private boolean hasNext;
+}
@@ -0,0 +1,44 @@
+package com.silky.starter.excel.core.model.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 分区导出的单个分区定义
+ * 每个分区导出为独立的 Excel 文件，最终打包为一个压缩包
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportPartition<T> {
+
+    /**
+     * 分区名称，作为分区文件名的后缀，如 "2024-01"
+     */
+    private String name;
+
+    /**
+     * 分区查询参数，与请求的查询参数合并后传给数据供应器（同名参数以分区为准）
+     */
+    private Map<String, Object> params;
+
+    /**
+     * 分区数据供应器（可选），为 null 时使用请求的数据供应器
+     */
+    private ExportDataSupplier<T> dataSupplier;
+
+    public static <T> ExportPartition<T> of(String name, Map<String, Object> params) {
+        return ExportPartition.<T>builder()
+                .name(name)
+                .params(params)
+                .build();
+    }
+}
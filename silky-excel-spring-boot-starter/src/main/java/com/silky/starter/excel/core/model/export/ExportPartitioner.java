@@ -0,0 +1,22 @@
+package com.silky.starter.excel.core.model.export;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 导出分区函数，将一次导出按月份、地区等维度拆分为多个可并行导出的分区
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface ExportPartitioner<T> {
+
+    /**
+     * 拆分分区
+     *
+     * @param params 查询参数，来自ExportRequest中的params参数
+     * @return 分区列表，分区名称不能重复
+     */
+    List<ExportPartition<T>> partition(Map<String, Object> params);
+}
@@ -2,6 +2,7 @@ package com.silky.starter.excel.core.model.export;
 
 import com.silky.starter.excel.core.model.DataProcessor;
 import com.silky.starter.excel.enums.CompressionType;
+import com.silky.starter.excel.enums.ExportPriority;
 import com.silky.starter.excel.enums.StorageType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -108,6 +109,20 @@ public class ExportRequest<T> {
     @Builder.Default
     private boolean enableProgress = true;
 
+    /**
+     * 异步导出优先级
+     * 导出调度器总是先执行高优先级的排队任务，交互式的小数据量导出建议使用 HIGH
+     * 默认值：null（NORMAL）
+     */
+    private ExportPriority priority;
+
+    /**
+     * 租户标识
+     * 导出调度器按租户公平排队，同一优先级内各租户轮流执行
+     * 默认值：null（使用 createUser）
+     */
+    private String tenantId;
+
     /**
      * 超时时间（分钟）
      * 导出任务的最大执行时间，超时后任务会被取消
@@ -122,12 +137,63 @@ public class ExportRequest<T> {
      */
     private Long maxRowsPerSheet;
 
+    /**
+     * 分页预取深度
+     * 大于0时启用流水线导出，分页查询和字段解析提前执行，与Excel写入重叠
+     * 注意：开启后数据供应器和数据处理器将在线程池线程中执行，不能依赖 ThreadLocal 上下文
+     * 默认值：null（使用全局配置 silky.excel.export.prefetch-depth）
+     */
+    private Integer prefetchDepth;
+
+    /**
+     * 是否并行拉取多个Sheet的数据（仅多Sheet导出生效）
+     * 开启后各Sheet的数据供应器并发执行，数据处理器会被多个线程同时调用，需保证线程安全
+     * 默认值：null（使用全局配置 silky.excel.export.parallel-sheet-fetch）
+     */
+    private Boolean parallelSheetFetch;
+
+    /**
+     * 是否流式写入存储
+     * 开启后导出内容直接写入存储策略的输出流，省去临时文件和额外拷贝
+     * 默认值：null（使用全局配置 silky.excel.export.streaming-output）
+     */
+    private Boolean streamingOutput;
+
+    /**
+     * 是否启用导出检查点
+     * 开启后已查询的分页定期持久化到存储策略，导出中断后可通过 ExcelTemplate.resumeExport 从检查点继续，已查询的数据不再重新查询
+     * 注意：分页数据以 JSON 形式持久化，数据类需能通过 getter/setter 序列化
+     * 默认值：null（使用全局配置 silky.excel.export.checkpoint.enabled）
+     */
+    private Boolean checkpointEnabled;
+
+    /**
+     * 是否启用自适应分页
+     * 开启后以 pageSize 为初始分页大小，导出过程中按实测的分页查询耗时和内存占用在上下限内调整
+     * 注意：按页码查询的数据供应器需按 (pageNum - 1) × pageSize 计算偏移量，分页大小变化后仍能连续查询
+     * 默认值：null（使用全局配置 silky.excel.export.adaptive-page-size.enabled）
+     */
+    private Boolean adaptivePageSize;
+
     /**
      * 多 Sheet 导出定义（可选）
      * 当设置此字段时，将忽略 dataClass/dataSupplier，使用各 Sheet 独立的数据源
      */
     private List<ExportSheet<T>> sheets;
 
+    /**
+     * 分区函数（可选）
+     * 设置后按分区并行导出，每个分区导出为独立的 Excel 文件，最终打包为一个 ZIP 压缩包；不能与 sheets 同时使用
+     * 注意：数据供应器和数据处理器会被多个线程同时调用，需保证线程安全
+     */
+    private ExportPartitioner<T> partitioner;
+
+    /**
+     * 分区导出并行度
+     * 默认值：null（使用全局配置 silky.excel.export.partition-parallelism）
+     */
+    private Integer partitionParallelism;
+
     /**
      * 是否启用压缩
      */
@@ -135,13 +201,15 @@ public class ExportRequest<T> {
 
     /**
      * 压缩类型
+     * 默认值：null（使用全局配置 silky.excel.compression.type）
      */
     private CompressionType compressionType;
 
     /**
      * 压缩级别 0-9
+     * 默认值：null（使用全局配置 silky.excel.compression.compression-level）
      */
-    private int compressionLevel;
+    private Integer compressionLevel;
 
     /**
      * 是否分割大文件
@@ -73,6 +73,11 @@ public class ExportTask<T> extends BaseAsyncTask {
      */
     private Integer priority = 5;
 
+    /**
+     * 是否从导出记录的检查点恢复执行
+     */
+    private boolean resume;
+
     /**
      * 扩展属性
      */
@@ -107,6 +107,20 @@ public class ImportRequest<T> {
      */
     private Integer maxReadCount;
 
+    /**
+     * 导入工作线程数
+     * 大于0时解析与入库并行，数据导入器和数据处理器会被多个线程同时调用，需保证线程安全
+     * 默认值：null（使用全局配置 silky.excel.imports.import-workers）
+     */
+    private Integer importWorkers;
+
+    /**
+     * 多Sheet并行读取数
+     * 大于1时各Sheet同时读取和入库，数据导入器和数据处理器会被多个线程同时调用，需保证线程安全
+     * 默认值：null（使用全局配置 silky.excel.imports.sheet-parallelism）
+     */
+    private Integer sheetParallelism;
+
     /**
      * 压缩类型
      */
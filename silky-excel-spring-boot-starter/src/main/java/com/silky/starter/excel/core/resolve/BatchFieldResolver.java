@@ -0,0 +1,34 @@
+package com.silky.starter.excel.core.resolve;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+/**
+ * 支持按页批量预加载的字段解析器
+ * <p>
+ * 管道在解析每一页数据前，先对该页所有行执行 {@link #collect} 收集需要查询的键，
+ * 再调用一次 {@link #batchLoad} 批量加载到解析上下文，之后逐个单元格执行 {@link #resolve} 时直接命中缓存，
+ * 避免逐单元格查询外部数据源。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+public interface BatchFieldResolver extends ExcelFieldResolver {
+
+    /**
+     * 收集单元格需要预加载的键
+     *
+     * @param field      字段
+     * @param annotation 注解
+     * @param fieldValue 字段原始值（非 null）
+     * @param context    解析上下文
+     */
+    void collect(Field field, Annotation annotation, Object fieldValue, ResolveContext context);
+
+    /**
+     * 批量加载本页收集到的键
+     *
+     * @param context 解析上下文
+     */
+    void batchLoad(ResolveContext context);
+}
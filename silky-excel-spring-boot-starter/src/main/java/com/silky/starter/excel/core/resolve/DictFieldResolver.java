@@ -8,10 +8,10 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 字典翻译解析器
@@ -24,22 +24,53 @@ import java.util.concurrent.ConcurrentHashMap;
  * </ol>
  * <p>
  * 执行顺序：原值 -> 枚举翻译 -> 字典翻译
+ * <p>
+ * 字典查询模式下，管道会先收集整页的字典值，每个字典编码每页只调用一次 {@link DictionaryProvider#batchQuery}
  *
  * @author zy
  * @since 1.1.0
  */
 @Slf4j
-public class DictFieldResolver implements ExcelFieldResolver {
+public class DictFieldResolver implements BatchFieldResolver {
 
     private final DictionaryProvider dictionaryProvider;
 
     /**
-     * 表达式模式缓存：readConverterExp -> (code -> label)
+     * 应用级字典缓存（可为 null）
+     */
+    private final DictionaryCache dictionaryCache;
+
+    /**
+     * 数据类元数据注册表（表达式模式的翻译表按表达式只解析一次）
      */
-    private final Map<String, Map<String, String>> converterExpCache = new ConcurrentHashMap<>();
+    private final ExcelModelRegistry modelRegistry;
 
     public DictFieldResolver(DictionaryProvider dictionaryProvider) {
+        this(dictionaryProvider, null);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param dictionaryProvider 字典数据提供者
+     * @param dictionaryCache    应用级字典缓存，为 null 时每次导出都直接查询 DictionaryProvider
+     */
+    public DictFieldResolver(DictionaryProvider dictionaryProvider, DictionaryCache dictionaryCache) {
+        this(dictionaryProvider, dictionaryCache, ExcelModelRegistry.shared());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param dictionaryProvider 字典数据提供者
+     * @param dictionaryCache    应用级字典缓存，为 null 时每次导出都直接查询 DictionaryProvider
+     * @param modelRegistry      数据类元数据注册表
+     */
+    public DictFieldResolver(DictionaryProvider dictionaryProvider, DictionaryCache dictionaryCache,
+                             ExcelModelRegistry modelRegistry) {
         this.dictionaryProvider = dictionaryProvider;
+        this.dictionaryCache = dictionaryCache;
+        this.modelRegistry = modelRegistry;
     }
 
     /**
@@ -105,28 +136,105 @@ public class DictFieldResolver implements ExcelFieldResolver {
             return label;
         }
 
-        // 收集待查询的字典键
-        context.collectDictKey(dictCode, codeStr);
+        // 已批量查询过但未命中，或本页批量查询失败，不再逐单元格重复查询
+        if (context.isDictMiss(dictCode, codeStr) || context.isDictFailure(dictCode, codeStr)) {
+            return handleMiss(excelDict, fieldValue);
+        }
+
+        // 未经过预加载的值（如单独调用解析器），按单元格查询；页内并行解析时需串行化
+        synchronized (context) {
+            context.collectDictKey(dictCode, codeStr);
+            loadPendingKeys(dictCode, context);
+            label = context.getDictLabel(dictCode, codeStr);
+        }
+        if (label != null) {
+            return label;
+        }
+
+        // 未命中处理
+        return handleMiss(excelDict, fieldValue);
+    }
+
+    /**
+     * 收集字典查询模式下需要查询的字典值
+     *
+     * @param field      字段
+     * @param annotation 注解
+     * @param fieldValue 字段值
+     * @param context    解析上下文
+     */
+    @Override
+    public void collect(Field field, Annotation annotation, Object fieldValue, ResolveContext context) {
+        ExcelDict excelDict = (ExcelDict) annotation;
+        String dictCode = excelDict.dictCode();
+        if (!excelDict.readConverterExp().isEmpty() || dictCode.isEmpty()) {
+            return;
+        }
+        String codeStr = String.valueOf(fieldValue);
+        if (context.getDictLabel(dictCode, codeStr) == null && !context.isDictMiss(dictCode, codeStr)) {
+            context.collectDictKey(dictCode, codeStr);
+        }
+    }
+
+    /**
+     * 每个字典编码执行一次批量查询
+     *
+     * @param context 解析上下文
+     */
+    @Override
+    public void batchLoad(ResolveContext context) {
+        // 上一页查询失败的字典值已重新收集，本页重试
+        context.clearDictFailures();
+        for (String dictCode : new ArrayList<>(context.getPendingDictKeys().keySet())) {
+            loadPendingKeys(dictCode, context);
+        }
+    }
 
-        // 执行批量查询
+    /**
+     * 批量查询指定字典编码下待查询的字典值，并记录未命中的值
+     *
+     * @param dictCode 字典编码
+     * @param context  解析上下文
+     */
+    private void loadPendingKeys(String dictCode, ResolveContext context) {
+        Set<String> pendingKeys = context.getPendingDictKeys().get(dictCode);
+        if (pendingKeys == null || pendingKeys.isEmpty()) {
+            return;
+        }
         try {
-            Set<String> pendingKeys = context.getPendingDictKeys().get(dictCode);
-            if (pendingKeys != null && !pendingKeys.isEmpty()) {
-                Map<String, String> result = dictionaryProvider.batchQuery(dictCode, new ArrayList<>(pendingKeys));
-                context.putDictResult(dictCode, result);
-                context.clearPendingDictKeys(dictCode);
-
-                label = result.get(codeStr);
-                if (label != null) {
-                    return label;
+            List<String> queryKeys = new ArrayList<>(pendingKeys);
+            // 先查应用级缓存，只查询缓存中没有的字典值
+            if (dictionaryCache != null) {
+                Map<String, String> cached = dictionaryCache.getAll(dictCode, queryKeys);
+                cached.forEach((key, label) -> {
+                    if (label != null) {
+                        context.putDictResult(dictCode, Collections.singletonMap(key, label));
+                    } else {
+                        context.markDictMiss(dictCode, key);
+                    }
+                });
+                queryKeys.removeIf(cached::containsKey);
+                if (queryKeys.isEmpty()) {
+                    return;
                 }
             }
+            Map<String, String> result = dictionaryProvider.batchQuery(dictCode, queryKeys);
+            context.putDictResult(dictCode, result);
+            for (String key : queryKeys) {
+                if (result == null || result.get(key) == null) {
+                    context.markDictMiss(dictCode, key);
+                }
+            }
+            if (dictionaryCache != null) {
+                dictionaryCache.putAll(dictCode, queryKeys, result);
+            }
         } catch (Exception e) {
-            log.warn("字典批量查询失败: dictCode={}, keys={}", dictCode, context.getPendingDictKeys().get(dictCode), e);
+            log.warn("字典批量查询失败: dictCode={}, keys={}", dictCode, pendingKeys, e);
+            // 本页剩余单元格按未命中处理，避免每个单元格各自再查询一次失败的字典
+            context.markDictFailure(dictCode, new HashSet<>(pendingKeys));
+        } finally {
+            context.clearPendingDictKeys(dictCode);
         }
-
-        // 未命中处理
-        return handleMiss(excelDict, fieldValue);
     }
 
     /**
@@ -143,7 +251,7 @@ public class DictFieldResolver implements ExcelFieldResolver {
      */
     private String resolveByConverterExp(ExcelDict excelDict, String codeStr) {
         String converterExp = excelDict.readConverterExp();
-        Map<String, String> expMap = converterExpCache.computeIfAbsent(converterExp, this::parseConverterExp);
+        Map<String, String> expMap = modelRegistry.getConverterExp(converterExp);
 
         String separator = excelDict.separator();
 
@@ -169,33 +277,6 @@ public class DictFieldResolver implements ExcelFieldResolver {
         return translated != null ? translated : handleMissStr(excelDict, codeStr);
     }
 
-    /**
-     * 解析表达式字符串
-     * <p>
-     * 格式：code=label，多个用逗号分隔。
-     * 例如："0=男,1=女,2=未知" -> {0: "男", 1: "女", 2: "未知"}
-     *
-     * @param converterExp 表达式字符串
-     * @return code -> label 映射
-     */
-    private Map<String, String> parseConverterExp(String converterExp) {
-        Map<String, String> map = new HashMap<>();
-        String[] pairs = converterExp.split(",");
-        for (String pair : pairs) {
-            String trimmed = pair.trim();
-            if (trimmed.isEmpty()) {
-                continue;
-            }
-            int eqIndex = trimmed.indexOf('=');
-            if (eqIndex > 0) {
-                String code = trimmed.substring(0, eqIndex).trim();
-                String label = trimmed.substring(eqIndex + 1).trim();
-                map.put(code, label);
-            }
-        }
-        return map;
-    }
-
     /**
      * 未命中处理（Object 返回值）
      */
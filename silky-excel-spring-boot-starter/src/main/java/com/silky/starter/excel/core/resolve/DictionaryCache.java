@@ -0,0 +1,260 @@
+package com.silky.starter.excel.core.resolve;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 应用级字典缓存
+ * 所有导出任务共享，按 LRU 淘汰并限制总条目数，每个条目按字典编码设置过期时间。
+ * 字典查询未命中的值同样会被缓存（负缓存），避免反复查询不存在的字典值。
+ * <p>
+ * 字典数据变更后可调用 {@link #invalidate(String)} / {@link #invalidate(String, String)} / {@link #invalidateAll()} 主动失效。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public class DictionaryCache {
+
+    /**
+     * 最大缓存条目数
+     */
+    private final int maxSize;
+
+    /**
+     * 默认过期时间（毫秒）
+     */
+    private final long defaultTtlMillis;
+
+    /**
+     * 按字典编码单独设置的过期时间（毫秒）
+     */
+    private final Map<String, Long> dictTtlMillis;
+
+    /**
+     * 缓存条目（访问顺序，用于 LRU 淘汰），所有访问需持有锁
+     */
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * 构造函数
+     *
+     * @param maxSize          最大缓存条目数
+     * @param defaultTtlMillis 默认过期时间（毫秒）
+     * @param dictTtlMillis    按字典编码单独设置的过期时间（毫秒，可为 null）
+     */
+    public DictionaryCache(int maxSize, long defaultTtlMillis, Map<String, Long> dictTtlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("字典缓存最大条目数必须大于0");
+        }
+        if (defaultTtlMillis <= 0) {
+            throw new IllegalArgumentException("字典缓存过期时间必须大于0");
+        }
+        this.maxSize = maxSize;
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.dictTtlMillis = dictTtlMillis != null ? new HashMap<>(dictTtlMillis) : Collections.emptyMap();
+    }
+
+    /**
+     * 批量获取缓存的字典文本
+     * 返回结果只包含已缓存的字典值；值为 null 表示该字典值已确认不存在
+     *
+     * @param dictCode 字典编码
+     * @param codes    字典值集合
+     * @return 字典值 -> 字典文本（可能为 null）
+     */
+    public Map<String, String> getAll(String dictCode, Collection<String> codes) {
+        Map<String, String> result = new HashMap<>();
+        long now = System.currentTimeMillis();
+        long hits = 0;
+        synchronized (entries) {
+            for (String code : codes) {
+                CacheKey key = new CacheKey(dictCode, code);
+                CacheEntry entry = entries.get(key);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.expireAt <= now) {
+                    entries.remove(key);
+                    continue;
+                }
+                result.put(code, entry.label);
+                hits++;
+            }
+        }
+        hitCount.addAndGet(hits);
+        missCount.addAndGet(codes.size() - hits);
+        return result;
+    }
+
+    /**
+     * 缓存一次批量查询的结果
+     * 查询了但未返回的字典值按不存在缓存
+     *
+     * @param dictCode 字典编码
+     * @param codes    本次查询的字典值
+     * @param labels   查询结果：字典值 -> 字典文本
+     */
+    public void putAll(String dictCode, Collection<String> codes, Map<String, String> labels) {
+        long expireAt = System.currentTimeMillis() + dictTtlMillis.getOrDefault(dictCode, defaultTtlMillis);
+        synchronized (entries) {
+            for (String code : codes) {
+                String label = labels != null ? labels.get(code) : null;
+                entries.put(new CacheKey(dictCode, code), new CacheEntry(label, expireAt));
+            }
+            evictIfNecessary();
+        }
+    }
+
+    /**
+     * 失效指定字典编码下的所有缓存
+     *
+     * @param dictCode 字典编码
+     */
+    public void invalidate(String dictCode) {
+        int removed = 0;
+        synchronized (entries) {
+            Iterator<CacheKey> iterator = entries.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().dictCode.equals(dictCode)) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        log.debug("字典缓存已失效: dictCode={}, 条目数={}", dictCode, removed);
+    }
+
+    /**
+     * 失效指定字典值的缓存
+     *
+     * @param dictCode 字典编码
+     * @param code     字典值
+     */
+    public void invalidate(String dictCode, String code) {
+        synchronized (entries) {
+            entries.remove(new CacheKey(dictCode, code));
+        }
+    }
+
+    /**
+     * 清空所有缓存
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        log.debug("字典缓存已全部失效");
+    }
+
+    /**
+     * 当前缓存条目数（包含尚未清理的过期条目）
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 缓存命中次数（按字典值计）
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * 缓存未命中次数（按字典值计）
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * 因容量不足被淘汰的条目数
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * 缓存命中率
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0D : (double) hits / total;
+    }
+
+    /**
+     * 超出容量时按最久未访问淘汰（过期条目在访问时惰性清理）
+     */
+    private void evictIfNecessary() {
+        Iterator<CacheEntry> iterator = entries.values().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 缓存键
+     */
+    private static final class CacheKey {
+        final String dictCode;
+        final String code;
+
+        CacheKey(String dictCode, String code) {
+            this.dictCode = dictCode;
+            this.code = code;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return dictCode.equals(that.dictCode) && Objects.equals(code, that.code);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * dictCode.hashCode() + Objects.hashCode(code);
+        }
+    }
+
+    /**
+     * 缓存条目
+     */
+    private static final class CacheEntry {
+        /**
+         * 字典文本，null 表示字典值不存在
+         */
+        final String label;
+        final long expireAt;
+
+        CacheEntry(String label, long expireAt) {
+            this.label = label;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -5,9 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 枚举翻译解析器
@@ -21,7 +19,23 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class EnumFieldResolver implements ExcelFieldResolver {
 
-    private final Map<String, EnumMeta> enumMetaCache = new ConcurrentHashMap<>();
+    /**
+     * 数据类元数据注册表（枚举翻译表按枚举类只构建一次）
+     */
+    private final ExcelModelRegistry modelRegistry;
+
+    public EnumFieldResolver() {
+        this(ExcelModelRegistry.shared());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param modelRegistry 数据类元数据注册表
+     */
+    public EnumFieldResolver(ExcelModelRegistry modelRegistry) {
+        this.modelRegistry = modelRegistry;
+    }
 
     /**
      * 枚举翻译支持判断
@@ -56,13 +70,10 @@ public class EnumFieldResolver implements ExcelFieldResolver {
         String labelField = excelEnum.labelField();
 
         try {
-            EnumMeta meta = enumMetaCache.computeIfAbsent(
-                    enumClass.getName(),
-                    k -> buildEnumMeta(enumClass, codeField, labelField)
-            );
+            Map<String, String> labels = modelRegistry.getEnumLabels(enumClass, codeField, labelField);
 
             String codeStr = String.valueOf(fieldValue);
-            String label = meta.codeToLabel.get(codeStr);
+            String label = labels.get(codeStr);
 
             if (label == null) {
                 switch (excelEnum.onMiss()) {
@@ -92,50 +103,4 @@ public class EnumFieldResolver implements ExcelFieldResolver {
     public int getOrder() {
         return Ordered.HIGHEST_PRECEDENCE;
     }
-
-    /**
-     * 构建枚举元数据
-     *
-     * @param enumClass   枚举类
-     * @param codeField   枚举值字段
-     * @param labelField  枚举文本字段
-     * @return 枚举元数据
-     */
-    private EnumMeta buildEnumMeta(Class<? extends Enum<?>> enumClass, String codeField, String labelField) {
-        EnumMeta meta = new EnumMeta();
-        Method codeGetter = findGetter(enumClass, codeField);
-        Method labelGetter = findGetter(enumClass, labelField);
-
-        for (Enum<?> enumConstant : enumClass.getEnumConstants()) {
-            try {
-                Object codeValue = codeGetter.invoke(enumConstant);
-                Object labelValue = labelGetter.invoke(enumConstant);
-                meta.codeToLabel.put(String.valueOf(codeValue), String.valueOf(labelValue));
-            } catch (Exception e) {
-                log.warn("解析枚举值失败: {}, field={}", enumClass.getSimpleName(), codeField, e);
-            }
-        }
-        return meta;
-    }
-
-    private Method findGetter(Class<?> clazz, String fieldName) {
-        String getterName = "get" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
-        try {
-            return clazz.getMethod(getterName);
-        } catch (NoSuchMethodException e) {
-            // 尝试 is 前缀（boolean）
-            if (boolean.class.isAssignableFrom(clazz) || Boolean.class.isAssignableFrom(clazz)) {
-                String isGetter = "is" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
-                try {
-                    return clazz.getMethod(isGetter);
-                } catch (NoSuchMethodException ignored) {
-                }
-            }
-            throw new IllegalArgumentException("无法找到字段 " + fieldName + " 的 getter 方法: " + getterName);
-        }
-    }
-
-    private static class EnumMeta {
-        final Map<String, String> codeToLabel = new ConcurrentHashMap<>();
-    }
 }
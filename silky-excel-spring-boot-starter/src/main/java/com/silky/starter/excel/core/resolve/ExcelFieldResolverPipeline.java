@@ -1,14 +1,18 @@
 package com.silky.starter.excel.core.resolve;
 
-import com.silky.starter.excel.core.annotation.ExcelDict;
-import com.silky.starter.excel.core.annotation.ExcelEnum;
-import com.silky.starter.excel.core.annotation.ExcelMask;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 字段转换管道
@@ -20,8 +24,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * 管道会按优先级依次执行所有匹配的解析器。
  * <p>
  * 对于类型兼容的字段（如 String），直接修改原字段值；
- * 对于类型不兼容的字段（如 Integer -> String），将转换值存储到 resolvedValueStore 中，
+ * 对于类型不兼容的字段（如 Integer -> String），将转换值存入当前页的 {@link ResolvedValueTable}，
  * 由 {@link ResolveCellWriteHandler} 在 Excel 单元格写入时替换。
+ * 管道本身不保存任何页数据，可被多个导出任务并发使用。
  *
  * @author zy
  * @since 1.1.0
@@ -34,16 +39,30 @@ public class ExcelFieldResolverPipeline {
      */
     private final List<ExcelFieldResolver> resolvers;
     /**
-     * 类字段注解缓存
+     * 类解析计划缓存
+     * 每个数据类只构建一次：字段访问器与匹配的解析器在此预先确定，逐行处理时不再反射、不再逐个判断 supports
      */
-    private final Map<Class<?>, List<FieldAnnotationInfo>> classFieldCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ResolvePlan> classPlanCache = new ConcurrentHashMap<>();
 
     /**
-     * 解析值旁路存储
-     * Key: 数据对象（IdentityHashMap 保证同一引用）
-     * Value: 字段名 -> 解析后的值（用于类型不兼容的场景）
+     * 数据类元数据注册表（字段、字段访问器和解析器注解）
      */
-    private final Map<Object, Map<String, Object>> resolvedValueStore = new IdentityHashMap<>();
+    private final ExcelModelRegistry modelRegistry;
+
+    /**
+     * 页内并行解析线程数，0 表示不开启
+     */
+    private final int parallelThreads;
+
+    /**
+     * 并行解析时每块的最小行数
+     */
+    private final int parallelMinChunkSize;
+
+    /**
+     * 并行解析线程池（首次使用时创建）
+     */
+    private volatile ExecutorService parallelExecutor;
 
     /**
      * 构造函数
@@ -51,15 +70,48 @@ public class ExcelFieldResolverPipeline {
      * @param resolvers 解析器列表
      */
     public ExcelFieldResolverPipeline(List<ExcelFieldResolver> resolvers) {
+        this(resolvers, 0, 0);
+    }
+
+    /**
+     * 构造函数（支持页内并行解析）
+     *
+     * @param resolvers            解析器列表
+     * @param parallelThreads      页内并行解析线程数，0 表示不开启
+     * @param parallelMinChunkSize 并行解析时每块的最小行数，单页不足两块时仍单线程解析
+     */
+    public ExcelFieldResolverPipeline(List<ExcelFieldResolver> resolvers, int parallelThreads, int parallelMinChunkSize) {
+        this(resolvers, parallelThreads, parallelMinChunkSize, ExcelModelRegistry.shared());
+    }
+
+    /**
+     * 构造函数（支持页内并行解析，指定数据类元数据注册表）
+     *
+     * @param resolvers            解析器列表
+     * @param parallelThreads      页内并行解析线程数，0 表示不开启
+     * @param parallelMinChunkSize 并行解析时每块的最小行数，单页不足两块时仍单线程解析
+     * @param modelRegistry        数据类元数据注册表
+     */
+    public ExcelFieldResolverPipeline(List<ExcelFieldResolver> resolvers, int parallelThreads, int parallelMinChunkSize,
+                                      ExcelModelRegistry modelRegistry) {
+        if (parallelThreads < 0) {
+            throw new IllegalArgumentException("并行解析线程数不能小于0");
+        }
+        if (parallelThreads > 0 && parallelMinChunkSize <= 0) {
+            throw new IllegalArgumentException("并行解析最小分块行数必须大于0");
+        }
         this.resolvers = new ArrayList<>(resolvers);
         this.resolvers.sort(Comparator.comparingInt(ExcelFieldResolver::getOrder));
-        log.info("ExcelFieldResolverPipeline 初始化完成, 解析器数量: {}", this.resolvers.size());
+        this.parallelThreads = parallelThreads;
+        this.parallelMinChunkSize = parallelMinChunkSize;
+        this.modelRegistry = modelRegistry;
+        log.info("ExcelFieldResolverPipeline 初始化完成, 解析器数量: {}, 页内并行线程数: {}", this.resolvers.size(), parallelThreads);
     }
 
     /**
      * 对数据对象进行字段转换处理
      * <p>
-     * 支持组合注解：同一字段的多个注解会依次经过匹配的解析器处理。
+     * 仅回写类型兼容的字段，类型不兼容的解析值会被丢弃，导出写入请使用 {@link #resolvePage}。
      *
      * @param data    数据对象列表
      * @param clazz   数据类
@@ -68,166 +120,297 @@ public class ExcelFieldResolverPipeline {
      * @return 处理后的数据列表（原列表修改）
      */
     public <T> List<T> resolve(List<T> data, Class<T> clazz, ResolveContext context) {
+        resolvePage(data, clazz, context);
+        return data;
+    }
+
+    /**
+     * 对一页数据进行字段转换处理
+     * <p>
+     * 支持组合注解：同一字段的多个注解会依次经过匹配的解析器处理。
+     *
+     * @param data    数据对象列表（类型兼容的字段直接修改）
+     * @param clazz   数据类
+     * @param context 解析上下文
+     * @param <T>     数据类型
+     * @return 当前页类型不兼容字段的解析值表，行下标与 data 一致
+     */
+    public <T> ResolvedValueTable resolvePage(List<T> data, Class<T> clazz, ResolveContext context) {
         if (data == null || data.isEmpty()) {
-            return data;
+            return ResolvedValueTable.EMPTY;
         }
 
-        List<FieldAnnotationInfo> fieldInfos = classFieldCache.computeIfAbsent(clazz, this::parseFields);
-        if (fieldInfos.isEmpty()) {
-            return data;
+        ResolvePlan plan = classPlanCache.computeIfAbsent(clazz, this::buildPlan);
+        if (plan.fields.isEmpty()) {
+            return ResolvedValueTable.EMPTY;
         }
 
-        for (T item : data) {
+        // 按行下标访问，非随机访问列表先复制
+        List<T> rows = data instanceof RandomAccess ? data : new ArrayList<>(data);
+
+        // 先收集整页需要预加载的键并批量加载，避免逐单元格查询
+        collectAndLoad(rows, plan, context);
+
+        int chunks = getParallelChunks(rows.size());
+        // 并行解析时各线程写入不同的行，预先分配所有列避免并发创建列数组
+        ResolvedValueTable table = new ResolvedValueTable(plan.columnIndex, rows.size(), chunks > 1);
+        if (chunks > 1) {
+            resolveInParallel(rows, plan, context, table, chunks);
+        } else {
+            resolveRows(rows, 0, rows.size(), plan, context, table);
+        }
+
+        return table;
+    }
+
+    /**
+     * 解析 [from, to) 范围内的数据行
+     *
+     * @param data    数据对象列表
+     * @param from    起始行（包含）
+     * @param to      结束行（不包含）
+     * @param plan    类解析计划
+     * @param context 解析上下文
+     * @param table   当前页解析值表
+     */
+    private <T> void resolveRows(List<T> data, int from, int to, ResolvePlan plan,
+                                 ResolveContext context, ResolvedValueTable table) {
+        for (int row = from; row < to; row++) {
+            T item = data.get(row);
             if (item == null) {
                 continue;
             }
-            Map<String, Object> itemResolvedValues = null;
-            for (FieldAnnotationInfo info : fieldInfos) {
-                try {
-                    Object fieldValue = info.field.get(item);
-                    if (fieldValue == null) {
-                        continue;
-                    }
-                    Object resolvedValue = fieldValue;
-                    // 遍历所有解析器，支持组合注解
-                    for (ExcelFieldResolver resolver : resolvers) {
-                        if (resolver.supports(info.field, info.annotation)) {
-                            resolvedValue = resolver.resolve(info.field, info.annotation, resolvedValue, context);
-                            if (resolvedValue == null) {
-                                break;
-                            }
-                        }
+            for (FieldPlan fieldPlan : plan.fields) {
+                Object fieldValue = fieldPlan.accessor.get(item);
+                if (fieldValue == null) {
+                    continue;
+                }
+                Object resolvedValue = fieldValue;
+                // 依次执行预先匹配的解析器，支持组合注解
+                for (ExcelFieldResolver resolver : fieldPlan.resolvers) {
+                    resolvedValue = resolver.resolve(fieldPlan.field, fieldPlan.annotation, resolvedValue, context);
+                    if (resolvedValue == null) {
+                        break;
                     }
-                    if (resolvedValue != null && !resolvedValue.equals(fieldValue)) {
-                        // 类型兼容：直接 set
-                        if (isTypeCompatible(info.field, resolvedValue)) {
-                            info.field.set(item, resolvedValue);
-                        } else {
-                            // 类型不兼容：存入旁路存储
-                            if (itemResolvedValues == null) {
-                                itemResolvedValues = new ConcurrentHashMap<>();
-                                resolvedValueStore.put(item, itemResolvedValues);
-                            }
-                            itemResolvedValues.put(info.field.getName(), resolvedValue);
-                        }
+                }
+                if (resolvedValue != null && !resolvedValue.equals(fieldValue)) {
+                    // 类型兼容：直接 set
+                    if (isTypeCompatible(fieldPlan.field, resolvedValue)) {
+                        fieldPlan.accessor.set(item, resolvedValue);
+                    } else {
+                        // 类型不兼容：存入当前页解析值表
+                        table.put(row, fieldPlan.column, resolvedValue);
                     }
-                } catch (IllegalAccessException e) {
-                    log.warn("字段访问失败: field={}", info.field.getName(), e);
                 }
             }
         }
-
-        return data;
     }
 
     /**
-     * 获取对象的解析值存储
+     * 将一页数据按行切分，在解析线程池中并行解析，当前线程负责第一块
+     * 批量预加载已在调用前完成，解析阶段对解析上下文基本只读
      *
-     * @param item 数据对象
-     * @return 字段名 -> 解析值映射
+     * @param data    数据对象列表
+     * @param plan    类解析计划
+     * @param context 解析上下文
+     * @param table   当前页解析值表
+     * @param chunks  分块数
      */
-    public Map<String, Object> getResolvedValues(Object item) {
-        return resolvedValueStore.get(item);
+    private <T> void resolveInParallel(List<T> data, ResolvePlan plan, ResolveContext context,
+                                       ResolvedValueTable table, int chunks) {
+        ExecutorService executor = getParallelExecutor();
+        int size = data.size();
+        int chunkSize = (size + chunks - 1) / chunks;
+        List<Future<?>> futures = new ArrayList<>(chunks - 1);
+        try {
+            for (int from = chunkSize; from < size; from += chunkSize) {
+                int start = from;
+                int end = Math.min(from + chunkSize, size);
+                futures.add(executor.submit(() -> resolveRows(data, start, end, plan, context, table)));
+            }
+            resolveRows(data, 0, Math.min(chunkSize, size), plan, context, table);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("并行字段解析被中断", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("并行字段解析失败: " + cause.getMessage(), cause);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
     }
 
     /**
-     * 获取指定对象的指定字段的解析值
-     *
-     * @param item      数据对象
-     * @param fieldName 字段名
-     * @return 解析后的值
+     * 计算分块数：未开启并行或单页不足两个最小分块时不拆分
      */
-    public Object getResolvedValue(Object item, String fieldName) {
-        Map<String, Object> values = resolvedValueStore.get(item);
-        return values != null ? values.get(fieldName) : null;
+    private int getParallelChunks(int rows) {
+        if (parallelThreads <= 0 || rows < parallelMinChunkSize * 2) {
+            return 1;
+        }
+        return Math.min(parallelThreads, rows / parallelMinChunkSize);
     }
 
     /**
-     * 判断解析值是否可以安全地 set 到字段上
+     * 获取并行解析线程池（首次使用时创建）
      */
-    private boolean isTypeCompatible(Field field, Object resolvedValue) {
-        if (resolvedValue == null) {
-            return false;
+    private ExecutorService getParallelExecutor() {
+        ExecutorService executor = parallelExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = parallelExecutor;
+                if (executor == null) {
+                    AtomicInteger counter = new AtomicInteger();
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelThreads, parallelThreads, 60L, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(), r -> {
+                        Thread thread = new Thread(r, "silky-excel-resolve-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    pool.allowCoreThreadTimeOut(true);
+                    parallelExecutor = executor = pool;
+                }
+            }
         }
-        Class<?> fieldType = field.getType();
-        if (fieldType == Object.class) {
-            return true;
+        return executor;
+    }
+
+    /**
+     * 关闭并行解析线程池
+     */
+    public void shutdown() {
+        ExecutorService executor = parallelExecutor;
+        if (executor != null) {
+            executor.shutdown();
         }
-        return fieldType.isInstance(resolvedValue);
     }
 
     /**
-     * 清理指定对象的解析值存储（防止内存泄漏）
+     * 收集阶段：遍历整页数据，由支持批量预加载的解析器收集键，再各自执行一次批量加载
      *
-     * @param items 数据对象列表
+     * @param data    数据对象列表
+     * @param plan    类解析计划
+     * @param context 解析上下文
      */
-    public void clearResolvedValues(List<?> items) {
-        for (Object item : items) {
-            resolvedValueStore.remove(item);
+    private <T> void collectAndLoad(List<T> data, ResolvePlan plan, ResolveContext context) {
+        if (plan.batchResolvers.isEmpty()) {
+            return;
+        }
+        for (T item : data) {
+            if (item == null) {
+                continue;
+            }
+            for (FieldPlan fieldPlan : plan.fields) {
+                if (fieldPlan.batchResolvers.isEmpty()) {
+                    continue;
+                }
+                Object fieldValue = fieldPlan.accessor.get(item);
+                if (fieldValue == null) {
+                    continue;
+                }
+                for (BatchFieldResolver resolver : fieldPlan.batchResolvers) {
+                    resolver.collect(fieldPlan.field, fieldPlan.annotation, fieldValue, context);
+                }
+            }
+        }
+        for (BatchFieldResolver resolver : plan.batchResolvers) {
+            resolver.batchLoad(context);
         }
     }
 
     /**
-     * 清理所有解析值存储
+     * 判断解析值是否可以安全地 set 到字段上
      */
-    public void clearAllResolvedValues() {
-        resolvedValueStore.clear();
+    private boolean isTypeCompatible(Field field, Object resolvedValue) {
+        if (resolvedValue == null) {
+            return false;
+        }
+        Class<?> fieldType = field.getType();
+        if (fieldType == Object.class) {
+            return true;
+        }
+        return fieldType.isInstance(resolvedValue);
     }
 
     /**
-     * 解析类上带有注解的字段
-     * 支持组合注解：一个字段可返回多个 FieldAnnotationInfo
+     * 构建类解析计划
+     * 字段及解析器注解来自数据类元数据注册表，这里只为各注解匹配解析器。
+     * 支持组合注解：一个字段可对应多个 FieldPlan，共享同一个字段访问器
      */
-    private List<FieldAnnotationInfo> parseFields(Class<?> clazz) {
-        List<FieldAnnotationInfo> infos = new ArrayList<>();
-        Class<?> current = clazz;
-        while (current != null && current != Object.class) {
-            for (Field field : current.getDeclaredFields()) {
-                // 收集字段上所有解析器注解
-                List<Annotation> annotations = findResolverAnnotations(field);
-                for (Annotation annotation : annotations) {
-                    field.setAccessible(true);
-                    infos.add(new FieldAnnotationInfo(field, annotation));
+    private ResolvePlan buildPlan(Class<?> clazz) {
+        List<FieldPlan> fields = new ArrayList<>();
+        Set<BatchFieldResolver> batchResolvers = new LinkedHashSet<>();
+        Map<String, Integer> columnIndex = new HashMap<>();
+        for (ExcelModelMetadata.ModelField modelField : modelRegistry.getMetadata(clazz).getResolvableFields()) {
+            Field field = modelField.getField();
+            FieldAccessor accessor = modelField.getAccessor();
+            int column = columnIndex.computeIfAbsent(field.getName(), k -> columnIndex.size());
+            for (Annotation annotation : modelField.getResolverAnnotations()) {
+                List<ExcelFieldResolver> matched = new ArrayList<>();
+                List<BatchFieldResolver> matchedBatch = new ArrayList<>();
+                for (ExcelFieldResolver resolver : resolvers) {
+                    if (resolver.supports(field, annotation)) {
+                        matched.add(resolver);
+                        if (resolver instanceof BatchFieldResolver) {
+                            matchedBatch.add((BatchFieldResolver) resolver);
+                        }
+                    }
+                }
+                if (!matched.isEmpty()) {
+                    fields.add(new FieldPlan(field, annotation, column, accessor, matched, matchedBatch));
+                    batchResolvers.addAll(matchedBatch);
                 }
             }
-            current = current.getSuperclass();
         }
-        return infos;
+        log.debug("构建字段解析计划: class={}, fields={}", clazz.getName(), fields.size());
+        return new ResolvePlan(fields, new ArrayList<>(batchResolvers), Collections.unmodifiableMap(columnIndex));
     }
 
     /**
-     * 查找字段上的所有解析器注解（支持组合注解）
-     * 按优先级排序：ExcelEnum > ExcelDict > ExcelMask
+     * 类解析计划
      */
-    private List<Annotation> findResolverAnnotations(Field field) {
-        List<Annotation> annotations = new ArrayList<>();
+    static class ResolvePlan {
+        final List<FieldPlan> fields;
+        final List<BatchFieldResolver> batchResolvers;
+        /**
+         * 字段名 -> 解析值表列下标
+         */
+        final Map<String, Integer> columnIndex;
 
-        ExcelEnum excelEnum = field.getAnnotation(ExcelEnum.class);
-        if (excelEnum != null) {
-            annotations.add(excelEnum);
+        ResolvePlan(List<FieldPlan> fields, List<BatchFieldResolver> batchResolvers, Map<String, Integer> columnIndex) {
+            this.fields = fields;
+            this.batchResolvers = batchResolvers;
+            this.columnIndex = columnIndex;
         }
-        ExcelDict excelDict = field.getAnnotation(ExcelDict.class);
-        if (excelDict != null) {
-            annotations.add(excelDict);
-        }
-        ExcelMask excelMask = field.getAnnotation(ExcelMask.class);
-        if (excelMask != null) {
-            annotations.add(excelMask);
-        }
-
-        return annotations;
     }
 
     /**
-     * 字段注解信息
+     * 字段解析计划：字段、注解、访问器及预先匹配的解析器
      */
-    static class FieldAnnotationInfo {
+    static class FieldPlan {
         final Field field;
         final Annotation annotation;
+        final int column;
+        final FieldAccessor accessor;
+        final List<ExcelFieldResolver> resolvers;
+        final List<BatchFieldResolver> batchResolvers;
 
-        FieldAnnotationInfo(Field field, Annotation annotation) {
+        FieldPlan(Field field, Annotation annotation, int column, FieldAccessor accessor,
+                  List<ExcelFieldResolver> resolvers, List<BatchFieldResolver> batchResolvers) {
             this.field = field;
             this.annotation = annotation;
+            this.column = column;
+            this.accessor = accessor;
+            this.resolvers = resolvers;
+            this.batchResolvers = batchResolvers;
         }
     }
 }
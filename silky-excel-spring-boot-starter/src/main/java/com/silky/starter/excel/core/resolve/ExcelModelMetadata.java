@@ -0,0 +1,166 @@
+package com.silky.starter.excel.core.resolve;
+
+import com.silky.starter.excel.core.annotation.ExcelDict;
+import com.silky.starter.excel.core.annotation.ExcelEnum;
+import com.silky.starter.excel.core.annotation.ExcelMask;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 导入导出数据类元数据
+ * 按子类到父类、声明顺序收集数据类的实例字段及其解析器注解，字段访问器在首次使用时生成并缓存。
+ * 由 {@link ExcelModelRegistry} 为每个数据类构建一次，字段转换管道和 CSV 快速读写共享；
+ * 基于元数据派生的结构（如 CSV 列布局）也挂在元数据上，随注册表一起清理。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+public final class ExcelModelMetadata {
+
+    private final Class<?> modelClass;
+
+    private final List<ModelField> fields;
+
+    private final List<ModelField> resolvableFields;
+
+    /**
+     * 派生结构缓存：结构类型 -> 结构
+     */
+    private final Map<Class<?>, Object> derived = new ConcurrentHashMap<>();
+
+    private ExcelModelMetadata(Class<?> modelClass, List<ModelField> fields, List<ModelField> resolvableFields) {
+        this.modelClass = modelClass;
+        this.fields = fields;
+        this.resolvableFields = resolvableFields;
+    }
+
+    /**
+     * 构建数据类元数据
+     *
+     * @param clazz 数据类
+     * @return 元数据
+     */
+    static ExcelModelMetadata build(Class<?> clazz) {
+        List<ModelField> fields = new ArrayList<>();
+        List<ModelField> resolvableFields = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                ModelField modelField = new ModelField(field, findResolverAnnotations(field));
+                fields.add(modelField);
+                if (!modelField.resolverAnnotations.isEmpty()) {
+                    resolvableFields.add(modelField);
+                }
+            }
+        }
+        return new ExcelModelMetadata(clazz, Collections.unmodifiableList(fields),
+                Collections.unmodifiableList(resolvableFields));
+    }
+
+    /**
+     * 查找字段上的所有解析器注解（支持组合注解）
+     * 按优先级排序：ExcelEnum > ExcelDict > ExcelMask
+     */
+    static List<Annotation> findResolverAnnotations(Field field) {
+        List<Annotation> annotations = new ArrayList<>(1);
+        ExcelEnum excelEnum = field.getAnnotation(ExcelEnum.class);
+        if (excelEnum != null) {
+            annotations.add(excelEnum);
+        }
+        ExcelDict excelDict = field.getAnnotation(ExcelDict.class);
+        if (excelDict != null) {
+            annotations.add(excelDict);
+        }
+        ExcelMask excelMask = field.getAnnotation(ExcelMask.class);
+        if (excelMask != null) {
+            annotations.add(excelMask);
+        }
+        return annotations.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(annotations);
+    }
+
+    /**
+     * 获取数据类
+     */
+    public Class<?> getModelClass() {
+        return modelClass;
+    }
+
+    /**
+     * 获取所有实例字段（子类字段在前，包含被子类同名字段隐藏的父类字段）
+     */
+    public List<ModelField> getFields() {
+        return fields;
+    }
+
+    /**
+     * 获取标注了解析器注解（@ExcelEnum/@ExcelDict/@ExcelMask）的字段
+     */
+    public List<ModelField> getResolvableFields() {
+        return resolvableFields;
+    }
+
+    /**
+     * 获取基于元数据派生的结构，首次获取时构建
+     *
+     * @param type    结构类型
+     * @param factory 构建逻辑
+     * @param <V>     结构类型
+     * @return 派生结构
+     */
+    public <V> V getDerived(Class<V> type, Function<ExcelModelMetadata, V> factory) {
+        return type.cast(derived.computeIfAbsent(type, key -> factory.apply(this)));
+    }
+
+    /**
+     * 数据类字段
+     */
+    public static final class ModelField {
+
+        private final Field field;
+
+        private final List<Annotation> resolverAnnotations;
+
+        private volatile FieldAccessor accessor;
+
+        ModelField(Field field, List<Annotation> resolverAnnotations) {
+            this.field = field;
+            this.resolverAnnotations = resolverAnnotations;
+        }
+
+        /**
+         * 获取字段
+         */
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * 获取字段访问器（首次调用时生成）
+         */
+        public FieldAccessor getAccessor() {
+            FieldAccessor current = accessor;
+            if (current == null) {
+                // 访问器不可变，并发时重复生成不影响正确性
+                accessor = current = FieldAccessor.of(field);
+            }
+            return current;
+        }
+
+        /**
+         * 获取解析器注解，按 ExcelEnum > ExcelDict > ExcelMask 排序
+         */
+        public List<Annotation> getResolverAnnotations() {
+            return resolverAnnotations;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.silky.starter.excel.core.resolve;
+
+import cn.idev.excel.annotation.ExcelProperty;
+import com.silky.starter.excel.core.annotation.ExcelDict;
+import com.silky.starter.excel.core.annotation.ExcelEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 数据类元数据注册表
+ * 每个数据类的字段、字段访问器和解析器注解只构建一次（{@link ExcelModelMetadata}），
+ * 枚举翻译表和字典表达式也按枚举类/表达式只解析一次，由字段转换管道、枚举/字典解析器和 CSV 快速读写共享。
+ * <p>
+ * Spring 环境下注册表是容器中的 Bean，由引擎、管道和解析器共同使用，容器关闭时调用 {@link #close()} 清空缓存，
+ * 避免缓存的数据类继续引用应用的类加载器；未注入注册表的组件使用进程内共享的注册表（{@link #shared()}）。
+ * 可在应用启动时通过 {@link #warmUp(String...)} 扫描指定包下的数据类提前构建，避免首次导出/导入时集中反射。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public class ExcelModelRegistry implements AutoCloseable {
+
+    private static final ExcelModelRegistry SHARED = new ExcelModelRegistry();
+
+    /**
+     * 数据类元数据缓存
+     */
+    private final Map<Class<?>, ExcelModelMetadata> metadataCache = new ConcurrentHashMap<>();
+
+    /**
+     * 枚举翻译表缓存：(枚举类, 值字段, 文本字段) -> (值 -> 文本)
+     */
+    private final Map<EnumKey, Map<String, String>> enumLabelCache = new ConcurrentHashMap<>();
+
+    /**
+     * 字典表达式缓存：readConverterExp -> (值 -> 文本)
+     */
+    private final Map<String, Map<String, String>> converterExpCache = new ConcurrentHashMap<>();
+
+    /**
+     * 获取进程内共享的注册表（未注入注册表时使用）
+     *
+     * @return 共享注册表
+     */
+    public static ExcelModelRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * 获取数据类元数据，首次获取时构建
+     *
+     * @param clazz 数据类
+     * @return 元数据
+     */
+    public ExcelModelMetadata getMetadata(Class<?> clazz) {
+        return metadataCache.computeIfAbsent(clazz, ExcelModelMetadata::build);
+    }
+
+    /**
+     * 获取枚举翻译表，首次获取时通过值字段和文本字段的 getter 读取所有枚举常量
+     *
+     * @param enumClass  枚举类
+     * @param codeField  值字段
+     * @param labelField 文本字段
+     * @return 值（字符串形式） -> 文本
+     */
+    public Map<String, String> getEnumLabels(Class<? extends Enum<?>> enumClass, String codeField, String labelField) {
+        return enumLabelCache.computeIfAbsent(new EnumKey(enumClass, codeField, labelField),
+                key -> buildEnumLabels(enumClass, codeField, labelField));
+    }
+
+    /**
+     * 获取字典表达式的翻译表，首次获取时解析
+     * <p>
+     * 格式：code=label，多个用逗号分隔。
+     * 例如："0=男,1=女,2=未知" -> {0: "男", 1: "女", 2: "未知"}
+     *
+     * @param converterExp 表达式字符串
+     * @return 值 -> 文本
+     */
+    public Map<String, String> getConverterExp(String converterExp) {
+        return converterExpCache.computeIfAbsent(converterExp, ExcelModelRegistry::parseConverterExp);
+    }
+
+    /**
+     * 扫描指定包下的数据类并预先构建元数据
+     * 包含 {@code @ExcelProperty}、{@code @ExcelEnum}、{@code @ExcelDict} 或 {@code @ExcelMask} 字段的类视为数据类
+     *
+     * @param basePackages 扫描的包
+     * @return 预热的数据类
+     */
+    public List<Class<?>> warmUp(String... basePackages) {
+        long startTime = System.currentTimeMillis();
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        List<Class<?>> modelClasses = new ArrayList<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                try {
+                    Class<?> clazz = ClassUtils.forName(candidate.getBeanClassName(), classLoader);
+                    if (isModelClass(clazz)) {
+                        modelClasses.add(clazz);
+                    }
+                } catch (Throwable e) {
+                    log.debug("跳过无法加载的类: {}", candidate.getBeanClassName(), e);
+                }
+            }
+        }
+        warmUp(modelClasses);
+        log.info("数据类元数据预热完成: packages={}, 数据类数量: {}, 耗时: {}ms",
+                Arrays.toString(basePackages), modelClasses.size(), System.currentTimeMillis() - startTime);
+        return modelClasses;
+    }
+
+    /**
+     * 预先构建数据类的元数据、字段访问器、枚举翻译表和字典表达式
+     *
+     * @param classes 数据类
+     */
+    public void warmUp(Collection<Class<?>> classes) {
+        for (Class<?> clazz : classes) {
+            try {
+                for (ExcelModelMetadata.ModelField modelField : getMetadata(clazz).getFields()) {
+                    modelField.getAccessor();
+                    for (Annotation annotation : modelField.getResolverAnnotations()) {
+                        if (annotation instanceof ExcelEnum) {
+                            ExcelEnum excelEnum = (ExcelEnum) annotation;
+                            getEnumLabels(excelEnum.enumClass(), excelEnum.codeField(), excelEnum.labelField());
+                        } else if (annotation instanceof ExcelDict && !((ExcelDict) annotation).readConverterExp().isEmpty()) {
+                            getConverterExp(((ExcelDict) annotation).readConverterExp());
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("数据类元数据预热失败: {}", clazz.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * 已构建元数据的数据类数量
+     *
+     * @return 数量
+     */
+    public int size() {
+        return metadataCache.size();
+    }
+
+    /**
+     * 清空所有缓存（如热部署后数据类被重新加载）
+     */
+    public void clear() {
+        metadataCache.clear();
+        enumLabelCache.clear();
+        converterExpCache.clear();
+    }
+
+    /**
+     * 关闭注册表，清空所有缓存（Spring 容器关闭时调用）
+     */
+    @Override
+    public void close() {
+        clear();
+        log.debug("数据类元数据注册表已清空");
+    }
+
+    private static boolean isModelClass(Class<?> clazz) {
+        if (clazz.isInterface() || clazz.isEnum() || clazz.isAnnotation()) {
+            return false;
+        }
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(ExcelProperty.class) || !ExcelModelMetadata.findResolverAnnotations(field).isEmpty()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, String> buildEnumLabels(Class<? extends Enum<?>> enumClass, String codeField, String labelField) {
+        Map<String, String> labels = new HashMap<>();
+        Method codeGetter = findGetter(enumClass, codeField);
+        Method labelGetter = findGetter(enumClass, labelField);
+        for (Enum<?> enumConstant : enumClass.getEnumConstants()) {
+            try {
+                Object codeValue = codeGetter.invoke(enumConstant);
+                Object labelValue = labelGetter.invoke(enumConstant);
+                labels.put(String.valueOf(codeValue), String.valueOf(labelValue));
+            } catch (Exception e) {
+                log.warn("解析枚举值失败: {}, field={}", enumClass.getSimpleName(), codeField, e);
+            }
+        }
+        return Collections.unmodifiableMap(labels);
+    }
+
+    private static Method findGetter(Class<?> clazz, String fieldName) {
+        String suffix = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        try {
+            return clazz.getMethod("get" + suffix);
+        } catch (NoSuchMethodException e) {
+            // 尝试 is 前缀（boolean）
+            try {
+                Method method = clazz.getMethod("is" + suffix);
+                if (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class) {
+                    return method;
+                }
+            } catch (NoSuchMethodException ignored) {
+            }
+            throw new IllegalArgumentException("无法找到字段 " + fieldName + " 的 getter 方法: get" + suffix);
+        }
+    }
+
+    private static Map<String, String> parseConverterExp(String converterExp) {
+        Map<String, String> map = new HashMap<>();
+        String[] pairs = converterExp.split(",");
+        for (String pair : pairs) {
+            String trimmed = pair.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int eqIndex = trimmed.indexOf('=');
+            if (eqIndex > 0) {
+                String code = trimmed.substring(0, eqIndex).trim();
+                String label = trimmed.substring(eqIndex + 1).trim();
+                map.put(code, label);
+            }
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 枚举翻译表缓存键
+     */
+    private static final class EnumKey {
+        private final Class<?> enumClass;
+        private final String codeField;
+        private final String labelField;
+
+        EnumKey(Class<?> enumClass, String codeField, String labelField) {
+            this.enumClass = enumClass;
+            this.codeField = codeField;
+            this.labelField = labelField;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EnumKey)) {
+                return false;
+            }
+            EnumKey other = (EnumKey) o;
+            return enumClass == other.enumClass && codeField.equals(other.codeField) && labelField.equals(other.labelField);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(enumClass, codeField, labelField);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.silky.starter.excel.core.resolve;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 字段访问器
+ * 优先通过 LambdaMetafactory 为 getter/setter 生成直接调用的函数对象（与 FastExcel 写入时通过 getter 取值保持一致），
+ * 无可用 getter/setter 或生成失败时退化为基于字段的 MethodHandle，避免逐单元格反射调用。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Function<Object, Object> getter;
+
+    private final BiConsumer<Object, Object> setter;
+
+    private FieldAccessor(Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * 读取字段值
+     *
+     * @param bean 数据对象
+     * @return 字段值
+     */
+    public Object get(Object bean) {
+        return getter.apply(bean);
+    }
+
+    /**
+     * 写入字段值
+     *
+     * @param bean  数据对象
+     * @param value 字段值
+     */
+    public void set(Object bean, Object value) {
+        setter.accept(bean, value);
+    }
+
+    /**
+     * 为字段创建访问器
+     *
+     * @param field 字段
+     * @return 字段访问器
+     */
+    public static FieldAccessor of(Field field) {
+        Function<Object, Object> getter = null;
+        BiConsumer<Object, Object> setter = null;
+        if (canGenerateLambda(field.getDeclaringClass())) {
+            getter = lambdaGetter(field);
+            setter = lambdaSetter(field);
+        }
+        if (getter == null || setter == null) {
+            field.setAccessible(true);
+            if (getter == null) {
+                getter = handleGetter(field);
+            }
+            if (setter == null) {
+                setter = handleSetter(field);
+            }
+        }
+        return new FieldAccessor(getter, setter);
+    }
+
+    /**
+     * 只有公共类且对本类的类加载器可见时才能安全生成 lambda（如 devtools 重启类加载器中的实体类则不行）
+     */
+    private static boolean canGenerateLambda(Class<?> beanClass) {
+        if (!Modifier.isPublic(beanClass.getModifiers())) {
+            return false;
+        }
+        for (Class<?> enclosing = beanClass.getEnclosingClass(); enclosing != null; enclosing = enclosing.getEnclosingClass()) {
+            if (!Modifier.isPublic(enclosing.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(beanClass.getName(), false, FieldAccessor.class.getClassLoader()) == beanClass;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> lambdaGetter(Field field) {
+        Method method = findMethod(field.getDeclaringClass(), getterName(field, "get"));
+        if (method == null && field.getType() == boolean.class) {
+            method = findMethod(field.getDeclaringClass(), getterName(field, "is"));
+        }
+        if (method == null || method.getReturnType() != field.getType()) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class), GETTER_TYPE, lookup.unreflect(method),
+                    MethodType.methodType(wrap(field.getType()), field.getDeclaringClass()));
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            log.debug("生成 getter 访问器失败，使用 MethodHandle: field={}", field, e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> lambdaSetter(Field field) {
+        Method method = findMethod(field.getDeclaringClass(), getterName(field, "set"), field.getType());
+        if (method == null) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class), SETTER_TYPE, lookup.unreflect(method),
+                    MethodType.methodType(void.class, field.getDeclaringClass(), wrap(field.getType())));
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            log.debug("生成 setter 访问器失败，使用 MethodHandle: field={}", field, e);
+            return null;
+        }
+    }
+
+    private static Function<Object, Object> handleGetter(Field field) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            return bean -> {
+                try {
+                    return handle.invokeExact(bean);
+                } catch (Throwable e) {
+                    throw new IllegalStateException("读取字段失败: " + field.getName(), e);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("无法访问字段: " + field, e);
+        }
+    }
+
+    /**
+     * 字段已 setAccessible(true)，final 实例字段（如 Lombok @Value 数据类）同样可以写入；
+     * 无法生成 MethodHandle 时退化为反射写入，与 {@link Field#set} 的行为一致
+     */
+    private static BiConsumer<Object, Object> handleSetter(Field field) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+            return (bean, value) -> {
+                try {
+                    handle.invokeExact(bean, value);
+                } catch (Throwable e) {
+                    throw new IllegalStateException("写入字段失败: " + field.getName(), e);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            log.debug("生成字段 setter 失败，使用反射写入: field={}", field, e);
+            return (bean, value) -> {
+                try {
+                    field.set(bean, value);
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException("写入字段失败: " + field.getName(), ex);
+                }
+            };
+        }
+    }
+
+    private static Method findMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = clazz.getMethod(name, parameterTypes);
+            return Modifier.isStatic(method.getModifiers()) ? null : method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static String getterName(Field field, String prefix) {
+        String name = field.getName();
+        return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return MethodType.methodType(type).wrap().returnType();
+    }
+}
@@ -6,14 +6,24 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * 数据脱敏解析器
  * 对敏感字段进行脱敏处理
  * <p>
  * 执行顺序：原值 -> 枚举翻译 -> 字典翻译 -> 脱敏
+ * <p>
+ * 每个字段的脱敏规则只编译一次：固定位置策略直接替换字符数组，自定义正则预先编译并缓存。
+ * 脱敏计划作为元数据的派生结构挂在数据类元数据注册表（{@link ExcelModelRegistry}）上，注册表清空时一起释放。
+ * <p>
+ * PHONE、ID_CARD、NAME 策略与 {@link DesensitizedUtil} 一致固定使用 {@code *}，{@code maskChar} 仅作用于 PARTIAL 和 CUSTOM 策略。
  *
  * @author zy
  * @since 1.1.0
@@ -21,6 +31,29 @@ import java.util.regex.Pattern;
 @Slf4j
 public class MaskFieldResolver implements ExcelFieldResolver {
 
+    /**
+     * 固定位置策略使用的脱敏字符，与 DesensitizedUtil 一致
+     */
+    private static final char DEFAULT_MASK_CHAR = '*';
+
+    /**
+     * 数据类元数据注册表（脱敏计划随字段所在类的元数据缓存）
+     */
+    private final ExcelModelRegistry modelRegistry;
+
+    public MaskFieldResolver() {
+        this(ExcelModelRegistry.shared());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param modelRegistry 数据类元数据注册表
+     */
+    public MaskFieldResolver(ExcelModelRegistry modelRegistry) {
+        this.modelRegistry = modelRegistry;
+    }
+
     /**
      * 支持的注解类型
      */
@@ -49,9 +82,11 @@ public class MaskFieldResolver implements ExcelFieldResolver {
             return strValue;
         }
 
-        ExcelMask excelMask = (ExcelMask) annotation;
+        UnaryOperator<String> maskPlan = modelRegistry.getMetadata(field.getDeclaringClass())
+                .getDerived(MaskPlans.class, metadata -> new MaskPlans())
+                .get(field, (ExcelMask) annotation);
         try {
-            return doMask(strValue, excelMask);
+            return maskPlan.apply(strValue);
         } catch (Exception e) {
             log.warn("脱敏处理失败: field={}, value={}", field.getName(), fieldValue, e);
             return fieldValue;
@@ -70,112 +105,122 @@ public class MaskFieldResolver implements ExcelFieldResolver {
     }
 
     /**
-     * 执行脱敏处理
+     * 编译字段的脱敏计划
      *
-     * @param value 待处理字段值
+     * @param field 字段
      * @param mask  脱敏注解
-     * @return 脱敏后的字段值
+     * @return 脱敏函数
      */
-    private String doMask(String value, ExcelMask mask) {
+    private static UnaryOperator<String> compile(Field field, ExcelMask mask) {
         char maskChar = mask.maskChar();
-        ExcelMask.MaskStrategy strategy = mask.strategy();
-
-        switch (strategy) {
+        switch (mask.strategy()) {
             case PHONE:
-                return DesensitizedUtil.mobilePhone(value);
+                // 保留前3位和后4位，与 DesensitizedUtil.mobilePhone 一致
+                return value -> maskByRange(value, 3, value.length() - 4, DEFAULT_MASK_CHAR);
             case ID_CARD:
-                return DesensitizedUtil.idCardNum(value, 3, 4);
+                // 保留前3位和后4位，长度不足时返回空串，与 DesensitizedUtil.idCardNum 一致
+                return value -> value.length() < 7 ? "" : maskByRange(value, 3, value.length() - 4, DEFAULT_MASK_CHAR);
             case EMAIL:
-                return DesensitizedUtil.email(value);
+                return DesensitizedUtil::email;
             case NAME:
-                return DesensitizedUtil.chineseName(value);
+                // 仅保留姓氏，与 DesensitizedUtil.chineseName 一致
+                return value -> maskByRange(value, 1, value.length(), DEFAULT_MASK_CHAR);
             case BANK_CARD:
-                return DesensitizedUtil.bankCard(value);
+                return DesensitizedUtil::bankCard;
             case PARTIAL:
                 int keepPrefix = mask.keepPrefix();
                 int keepSuffix = mask.keepSuffix();
-                if (value.length() <= keepPrefix + keepSuffix) {
-                    return value;
-                }
-                return maskByRange(value, keepPrefix, value.length() - keepSuffix, maskChar);
+                return value -> value.length() <= keepPrefix + keepSuffix
+                        ? value : maskByRange(value, keepPrefix, value.length() - keepSuffix, maskChar);
             case CUSTOM:
                 String pattern = mask.customPattern();
                 if (pattern == null || pattern.isEmpty()) {
-                    return value;
+                    return UnaryOperator.identity();
+                }
+                try {
+                    Pattern compiled = Pattern.compile(pattern);
+                    return value -> maskByPattern(value, compiled, maskChar);
+                } catch (PatternSyntaxException e) {
+                    log.warn("脱敏正则无效，字段将不做脱敏: field={}, pattern={}", field.getName(), pattern, e);
+                    return UnaryOperator.identity();
                 }
-                return maskByPattern(value, pattern, maskChar);
             default:
-                return value;
+                return UnaryOperator.identity();
         }
     }
 
     /**
-     * 按指定范围进行脱敏
+     * 将 [from, to) 范围内的字符替换为脱敏字符
+     * 含代理对字符（如生僻字、emoji）时按码点处理，避免拆开代理对
      *
-     * @param value      待处理字段值
-     * @param keepPrefix 保留前缀长度
-     * @param maskFrom   脱敏起始位置
-     * @param maskChar   脱敏字符
+     * @param value    待处理字段值
+     * @param from     脱敏起始位置（包含）
+     * @param to       脱敏结束位置（不包含）
+     * @param maskChar 脱敏字符
      * @return 脱敏后的字段值
      */
-    private String maskByRange(String value, int keepPrefix, int maskFrom, char maskChar) {
-        if (value.length() <= keepPrefix) {
+    private static String maskByRange(String value, int from, int to, char maskChar) {
+        if (from < 0 || from >= to || from >= value.length()) {
             return value;
         }
-        int maskEnd = Math.max(maskFrom, keepPrefix);
-        if (maskEnd >= value.length()) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isSurrogate(value.charAt(i))) {
+                return maskCodePoints(value, from, to, maskChar);
+            }
+        }
+        char[] chars = value.toCharArray();
+        Arrays.fill(chars, from, Math.min(to, chars.length), maskChar);
+        return new String(chars);
+    }
+
+    /**
+     * 按码点替换，位置以码点计
+     */
+    private static String maskCodePoints(String value, int from, int to, char maskChar) {
+        int[] codePoints = value.codePoints().toArray();
+        int end = Math.min(to, codePoints.length);
+        if (from >= end) {
             return value;
         }
-        return value.substring(0, keepPrefix)
-                + repeat(maskChar, maskEnd - keepPrefix)
-                + value.substring(maskEnd);
+        Arrays.fill(codePoints, from, end, maskChar);
+        return new String(codePoints, 0, codePoints.length);
     }
 
     /**
-     * 按指定正则进行脱敏
+     * 按预编译正则进行脱敏
+     * 保留分组1（及其之前的内容）和最后一个分组（及其之后的内容），中间替换为脱敏字符；
+     * 仅有一个分组时保留该分组之前及分组内容，没有分组时整体脱敏
      *
      * @param value    待处理字段值
-     * @param pattern  正则表达式
+     * @param pattern  预编译正则
      * @param maskChar 脱敏字符
      * @return 脱敏后的字段值
      */
-    private String maskByPattern(String value, String pattern, char maskChar) {
-        Matcher matcher = Pattern.compile(pattern).matcher(value);
+    private static String maskByPattern(String value, Pattern pattern, char maskChar) {
+        Matcher matcher = pattern.matcher(value);
         if (!matcher.matches()) {
             return value;
         }
-        StringBuilder sb = new StringBuilder();
-        int lastEnd = 0;
-        for (int i = 1; i <= matcher.groupCount(); i++) {
-            sb.append(value, lastEnd, matcher.start(i));
-            lastEnd = matcher.end(i);
-        }
-        // 中间部分替换
-        int maskStart = matcher.start(1) + matcher.group(1).length();
-        int maskEnd = matcher.start(matcher.groupCount());
-        if (maskEnd > maskStart) {
-            sb.append(repeat(maskChar, maskEnd - maskStart));
+        int groupCount = matcher.groupCount();
+        int maskStart = groupCount >= 1 && matcher.end(1) >= 0 ? matcher.end(1) : 0;
+        int maskEnd = groupCount >= 2 && matcher.start(groupCount) >= 0 ? matcher.start(groupCount) : value.length();
+        if (maskEnd <= maskStart) {
+            return value;
         }
-        // 最后一个分组
-        sb.append(matcher.group(matcher.groupCount()));
-        return sb.toString();
+        char[] chars = value.toCharArray();
+        Arrays.fill(chars, maskStart, maskEnd, maskChar);
+        return new String(chars);
     }
 
     /**
-     * 重复指定字符
-     *
-     * @param ch    字符
-     * @param count 重复次数
-     * @return 重复的字符串
+     * 数据类各字段的脱敏计划，作为 {@link ExcelModelMetadata} 的派生结构缓存
      */
-    private String repeat(char ch, int count) {
-        if (count <= 0) {
-            return "";
-        }
-        StringBuilder sb = new StringBuilder(count);
-        for (int i = 0; i < count; i++) {
-            sb.append(ch);
+    private static final class MaskPlans {
+
+        private final Map<Field, UnaryOperator<String>> plans = new ConcurrentHashMap<>();
+
+        UnaryOperator<String> get(Field field, ExcelMask mask) {
+            return plans.computeIfAbsent(field, key -> compile(key, mask));
         }
-        return sb.toString();
     }
 }
@@ -7,10 +7,7 @@ import cn.idev.excel.write.metadata.holder.WriteSheetHolder;
 import cn.idev.excel.write.metadata.holder.WriteTableHolder;
 import org.apache.poi.ss.usermodel.Cell;
 
-import java.util.Collections;
-import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 解析值单元格写入处理器
@@ -21,39 +18,41 @@ import java.util.Map;
 public class ResolveCellWriteHandler implements CellWriteHandler {
 
     /**
-     * 当前页数据引用 -> 行索引的映射
-     * 使用 IdentityHashMap 保证对象引用一致性
+     * 当前页解析值表
      */
-    private final Map<Object, Integer> dataRowMap = new IdentityHashMap<>();
+    private ResolvedValueTable currentTable = ResolvedValueTable.EMPTY;
 
     /**
-     * 行索引 -> (字段名 -> 解析值) 的映射
+     * 当前写入批次首行在当前页中的下标
+     * 单页数据跨 Sheet 拆分写入时，FastExcel 的 relativeRowIndex 相对于拆分后的子列表
      */
-    private Map<Integer, Map<String, Object>> rowIndexResolvedValues = Collections.emptyMap();
+    private int rowOffset;
 
     /**
-     * 设置当前页数据的解析值
+     * 设置当前页的解析值表
      * 在每页数据写入前调用
      *
-     * @param pageData              当前页数据列表
-     * @param fieldResolverPipeline 字段转换管道
+     * @param table 当前页解析值表，行下标需与写入数据一致
      */
-    public void setCurrentPageData(List<?> pageData, ExcelFieldResolverPipeline fieldResolverPipeline) {
-        dataRowMap.clear();
-        if (fieldResolverPipeline == null || pageData == null || pageData.isEmpty()) {
-            rowIndexResolvedValues = Collections.emptyMap();
-            return;
-        }
-        IdentityHashMap<Integer, Map<String, Object>> resolvedMap = new IdentityHashMap<>();
-        for (int i = 0; i < pageData.size(); i++) {
-            Object item = pageData.get(i);
-            dataRowMap.put(item, i);
-            Map<String, Object> resolved = fieldResolverPipeline.getResolvedValues(item);
-            if (resolved != null && !resolved.isEmpty()) {
-                resolvedMap.put(i, resolved);
-            }
-        }
-        rowIndexResolvedValues = resolvedMap;
+    public void setCurrentPage(ResolvedValueTable table) {
+        this.currentTable = table == null ? ResolvedValueTable.EMPTY : table;
+        this.rowOffset = 0;
+    }
+
+    /**
+     * 设置当前写入批次首行在当前页中的下标
+     *
+     * @param rowOffset 行偏移量
+     */
+    public void setRowOffset(int rowOffset) {
+        this.rowOffset = rowOffset;
+    }
+
+    /**
+     * 清除当前页
+     */
+    public void clearCurrentPage() {
+        setCurrentPage(ResolvedValueTable.EMPTY);
     }
 
     /**
@@ -79,12 +78,7 @@ public class ResolveCellWriteHandler implements CellWriteHandler {
         if (Boolean.TRUE.equals(isHead)) {
             return;
         }
-        if (relativeRowIndex == null || rowIndexResolvedValues.isEmpty()) {
-            return;
-        }
-
-        Map<String, Object> resolvedValues = rowIndexResolvedValues.get(relativeRowIndex);
-        if (resolvedValues == null || resolvedValues.isEmpty()) {
+        if (relativeRowIndex == null || currentTable.isEmpty()) {
             return;
         }
 
@@ -93,7 +87,7 @@ public class ResolveCellWriteHandler implements CellWriteHandler {
             return;
         }
 
-        Object resolvedValue = resolvedValues.get(head.getFieldName());
+        Object resolvedValue = currentTable.get(rowOffset + relativeRowIndex, head.getFieldName());
         if (resolvedValue != null) {
             // 用解析值覆盖单元格（转为 String 写入）
             cell.setCellValue(String.valueOf(resolvedValue));
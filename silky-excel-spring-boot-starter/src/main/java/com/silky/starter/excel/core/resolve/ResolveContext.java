@@ -2,14 +2,14 @@ package com.silky.starter.excel.core.resolve;
 
 import lombok.Getter;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 解析上下文
  * 在一次导出过程中共享，用于批量收集字典查询键值
+ * 页内并行解析时会被多个线程同时读取，内部使用并发容器
  *
  * @author zy
  * @since 1.1.0
@@ -20,19 +20,31 @@ public class ResolveContext {
      * 字典缓存：dictCode -> (code -> label)
      */
     @Getter
-    private final Map<String, Map<String, String>> dictCache = new HashMap<>();
+    private final Map<String, Map<String, String>> dictCache = new ConcurrentHashMap<>();
 
     /**
      * 待查询的字典键收集：dictCode -> Set<code>
      */
     @Getter
-    private final Map<String, Set<String>> pendingDictKeys = new HashMap<>();
+    private final Map<String, Set<String>> pendingDictKeys = new ConcurrentHashMap<>();
+
+    /**
+     * 已查询但未命中的字典键：dictCode -> Set<code>，避免重复查询
+     */
+    @Getter
+    private final Map<String, Set<String>> missedDictKeys = new ConcurrentHashMap<>();
+
+    /**
+     * 本页批量查询失败的字典键：dictCode -> Set<code>，本页内按未命中处理，下一页批量查询时重试
+     */
+    @Getter
+    private final Map<String, Set<String>> failedDictKeys = new ConcurrentHashMap<>();
 
     /**
      * 枚举缓存：enumClassName -> (code -> label)
      */
     @Getter
-    private final Map<String, Map<String, String>> enumCache = new HashMap<>();
+    private final Map<String, Map<String, String>> enumCache = new ConcurrentHashMap<>();
 
     /**
      * 收集待查询的字典键
@@ -41,7 +53,7 @@ public class ResolveContext {
      * @param code     字典值
      */
     public void collectDictKey(String dictCode, String code) {
-        pendingDictKeys.computeIfAbsent(dictCode, k -> new HashSet<>()).add(code);
+        pendingDictKeys.computeIfAbsent(dictCode, k -> ConcurrentHashMap.newKeySet()).add(code);
     }
 
     /**
@@ -65,10 +77,66 @@ public class ResolveContext {
      */
     public void putDictResult(String dictCode, Map<String, String> result) {
         if (result != null && !result.isEmpty()) {
-            dictCache.put(dictCode, result);
+            Map<String, String> dict = dictCache.computeIfAbsent(dictCode, k -> new ConcurrentHashMap<>());
+            result.forEach((code, label) -> {
+                if (code != null && label != null) {
+                    dict.put(code, label);
+                }
+            });
         }
     }
 
+    /**
+     * 记录已查询但未命中的字典键
+     *
+     * @param dictCode 字典编码
+     * @param code     字典值
+     */
+    public void markDictMiss(String dictCode, String code) {
+        missedDictKeys.computeIfAbsent(dictCode, k -> ConcurrentHashMap.newKeySet()).add(code);
+    }
+
+    /**
+     * 判断字典键是否已查询且未命中
+     *
+     * @param dictCode 字典编码
+     * @param code     字典值
+     * @return 是否已确认未命中
+     */
+    public boolean isDictMiss(String dictCode, String code) {
+        Set<String> missed = missedDictKeys.get(dictCode);
+        return missed != null && missed.contains(code);
+    }
+
+    /**
+     * 记录批量查询失败的字典键
+     *
+     * @param dictCode 字典编码
+     * @param codes    字典值
+     */
+    public void markDictFailure(String dictCode, Set<String> codes) {
+        failedDictKeys.computeIfAbsent(dictCode, k -> ConcurrentHashMap.newKeySet()).addAll(codes);
+    }
+
+    /**
+     * 判断字典键本页是否已批量查询失败
+     *
+     * @param dictCode 字典编码
+     * @param code     字典值
+     * @return 是否查询失败
+     */
+    public boolean isDictFailure(String dictCode, String code) {
+        Set<String> failed = failedDictKeys.get(dictCode);
+        return failed != null && failed.contains(code);
+    }
+
+    /**
+     * 清空批量查询失败的字典键（新的一页批量查询前调用，失败的值重新查询）
+     */
+    public void clearDictFailures() {
+        failedDictKeys.clear();
+    }
+
     /**
      * 清空待查询的字典键（批量查询后调用）
      *
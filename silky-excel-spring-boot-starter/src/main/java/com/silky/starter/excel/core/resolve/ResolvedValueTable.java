@@ -0,0 +1,145 @@
+package com.silky.starter.excel.core.resolve;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 单页解析值表
+ * 按 行 x 列 存储类型不兼容、无法回写字段的解析值（如 Integer 字段翻译后的字典标签），
+ * 由字段转换管道按页创建，随导出批次传递给 {@link ResolveCellWriteHandler}，不在任务之间共享。
+ * <p>
+ * 列按字段顺序分配，只有实际产生解析值的列才会分配数组。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+public final class ResolvedValueTable {
+
+    /**
+     * 空表
+     */
+    public static final ResolvedValueTable EMPTY = new ResolvedValueTable(Collections.emptyMap(), 0);
+
+    /**
+     * 字段名 -> 列下标（同一数据类的所有页共享）
+     */
+    private final Map<String, Integer> columnIndex;
+
+    private final int rowCount;
+
+    /**
+     * 列式存储：columns[列][行]
+     */
+    private final Object[][] columns;
+
+    /**
+     * 写入行 -> 解析值所在行，为 null 时两者一致
+     */
+    private final int[] rowMapping;
+
+    private boolean empty = true;
+
+    ResolvedValueTable(Map<String, Integer> columnIndex, int rowCount) {
+        this(columnIndex, rowCount, false);
+    }
+
+    /**
+     * @param columnIndex 字段名 -> 列下标
+     * @param rowCount    行数
+     * @param preallocate 是否预先分配所有列（多线程按行写入时需要）
+     */
+    ResolvedValueTable(Map<String, Integer> columnIndex, int rowCount, boolean preallocate) {
+        this.columnIndex = columnIndex;
+        this.rowCount = rowCount;
+        this.columns = new Object[columnIndex.size()][];
+        this.rowMapping = null;
+        if (preallocate) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = new Object[rowCount];
+            }
+        }
+    }
+
+    private ResolvedValueTable(ResolvedValueTable source, int[] rowMapping) {
+        this.columnIndex = source.columnIndex;
+        this.rowCount = rowMapping.length;
+        this.columns = source.columns;
+        this.rowMapping = rowMapping;
+        this.empty = source.empty;
+    }
+
+    /**
+     * 写入解析值
+     *
+     * @param row    行下标
+     * @param column 列下标
+     * @param value  解析值
+     */
+    void put(int row, int column, Object value) {
+        Object[] values = columns[column];
+        if (values == null) {
+            values = new Object[rowCount];
+            columns[column] = values;
+        }
+        values[row] = value;
+        empty = false;
+    }
+
+    /**
+     * 获取解析值
+     *
+     * @param row       行下标（相对于当前页）
+     * @param fieldName 字段名
+     * @return 解析值，不存在时返回 null
+     */
+    public Object get(int row, String fieldName) {
+        if (empty || row < 0 || row >= rowCount) {
+            return null;
+        }
+        Integer column = columnIndex.get(fieldName);
+        if (column == null || columns[column] == null) {
+            return null;
+        }
+        int sourceRow = rowMapping == null ? row : rowMapping[row];
+        return sourceRow < 0 ? null : columns[column][sourceRow];
+    }
+
+    /**
+     * 是否没有任何解析值
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * 将解析值表对齐到实际写入的数据行
+     * 数据处理器可能过滤或重排数据，按对象引用把写入行映射回解析时的行
+     *
+     * @param source 解析时的数据列表
+     * @param rows   实际写入的数据列表
+     * @return 对齐后的解析值表
+     */
+    public ResolvedValueTable alignTo(List<?> source, List<?> rows) {
+        if (empty || source == rows) {
+            return this;
+        }
+        Map<Object, Integer> sourceRows = new IdentityHashMap<>(source.size() * 2);
+        for (int i = 0; i < source.size(); i++) {
+            sourceRows.put(source.get(i), i);
+        }
+        int[] mapping = new int[rows.size()];
+        Arrays.fill(mapping, -1);
+        for (int i = 0; i < rows.size(); i++) {
+            Integer sourceRow = sourceRows.get(rows.get(i));
+            if (sourceRow != null) {
+                mapping[i] = sourceRow;
+            }
+        }
+        return new ResolvedValueTable(this, mapping);
+    }
+}
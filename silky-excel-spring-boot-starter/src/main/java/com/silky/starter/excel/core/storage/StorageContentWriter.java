@@ -0,0 +1,24 @@
+package com.silky.starter.excel.core.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 存储内容写入器
+ * 由调用方向存储策略提供的输出流推送文件内容，配合 {@link StorageStrategy#storeFile(String, java.util.Map, StorageContentWriter)} 使用
+ *
+ * @author zy
+ * @date 2026-10-16 11:05
+ **/
+@FunctionalInterface
+public interface StorageContentWriter {
+
+    /**
+     * 写入文件内容
+     * 输出流由存储策略负责关闭，实现方不应关闭该流
+     *
+     * @param outputStream 存储策略提供的输出流
+     * @throws IOException 写入异常
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+}
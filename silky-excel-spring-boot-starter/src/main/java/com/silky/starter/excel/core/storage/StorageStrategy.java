@@ -1,10 +1,15 @@
 package com.silky.starter.excel.core.storage;
 
+import cn.hutool.core.io.FileUtil;
 import com.silky.starter.excel.core.exception.ExcelExportException;
 import com.silky.starter.excel.enums.StorageType;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.Map;
 
 /**
@@ -40,6 +45,33 @@ public interface StorageStrategy {
         throw new UnsupportedOperationException("当前存储策略不支持通过输入流存储");
     }
 
+    /**
+     * 存储文件（推送式，由调用方向存储提供的输出流写入内容）
+     * 默认实现先写入本地临时文件再调用 {@link #storeFile(File, String, Map)}，
+     * 支持直接写入目标位置的存储策略应覆盖此方法以省去临时文件和额外拷贝
+     *
+     * @param fileName      原始文件名
+     * @param metadata      元数据
+     * @param contentWriter 内容写入器
+     * @return 存储对象
+     */
+    default StorageObject storeFile(String fileName, Map<String, Object> metadata, StorageContentWriter contentWriter) throws ExcelExportException {
+        File tempFile = null;
+        try {
+            tempFile = File.createTempFile("silky_stream_", null);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()), 64 * 1024)) {
+                contentWriter.writeTo(out);
+            }
+            return storeFile(tempFile, fileName, metadata);
+        } catch (IOException e) {
+            throw new ExcelExportException("写入存储内容失败: " + e.getMessage(), e);
+        } finally {
+            if (tempFile != null) {
+                FileUtil.del(tempFile);
+            }
+        }
+    }
+
     /**
      * 下载文件
      *
@@ -1,15 +1,21 @@
 package com.silky.starter.excel.core.storage.impl;
 
 import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.util.IdUtil;
 import com.silky.starter.excel.core.exception.ExcelExportException;
+import com.silky.starter.excel.core.storage.StorageContentWriter;
 import com.silky.starter.excel.core.storage.StorageObject;
 import com.silky.starter.excel.core.storage.StorageStrategy;
 import com.silky.starter.excel.enums.StorageType;
 import com.silky.starter.excel.properties.SilkyExcelProperties;
 import org.slf4j.Logger;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.Map;
 
 /**
@@ -22,6 +28,11 @@ public class LocalStorageStrategy implements StorageStrategy {
 
     private static final Logger log = org.slf4j.LoggerFactory.getLogger(LocalStorageStrategy.class);
 
+    /**
+     * 流式写入缓冲区大小
+     */
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
     private final SilkyExcelProperties properties;
 
     public LocalStorageStrategy(SilkyExcelProperties properties) {
@@ -64,6 +75,60 @@ public class LocalStorageStrategy implements StorageStrategy {
         }
     }
 
+    /**
+     * 存储文件（通过输入流）
+     *
+     * @param inputStream 文件输入流
+     * @param fileName    文件名称
+     * @param size        文件大小
+     * @param metadata    文件元数据
+     * @return 存储对象
+     */
+    @Override
+    public StorageObject storeFile(InputStream inputStream, String fileName, long size, Map<String, Object> metadata) {
+        return storeFile(fileName, metadata, out -> IoUtil.copy(inputStream, out, STREAM_BUFFER_SIZE));
+    }
+
+    /**
+     * 存储文件（推送式，直接写入目标文件，不经过临时文件）
+     *
+     * @param fileName      文件名称
+     * @param metadata      文件元数据
+     * @param contentWriter 内容写入器
+     * @return 存储对象
+     */
+    @Override
+    public StorageObject storeFile(String fileName, Map<String, Object> metadata, StorageContentWriter contentWriter) {
+        String exportPath = properties.getStorage().getLocal().getBasePath();
+        String fileKey = generateFileKey(fileName);
+        File targetFile = new File(exportPath, fileKey);
+        try {
+            // 确保目录存在
+            FileUtil.mkdir(exportPath);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(targetFile.toPath()), STREAM_BUFFER_SIZE)) {
+                contentWriter.writeTo(out);
+            }
+
+            long fileSize = targetFile.length();
+            String fileUrl = exportPath + File.separator + fileKey;
+
+            log.info("文件已写入本地: {}, 大小: {} bytes", targetFile.getAbsolutePath(), fileSize);
+
+            return StorageObject.builder()
+                    .key(fileKey)
+                    .url(fileUrl)
+                    .size(fileSize)
+                    .build();
+        } catch (ExcelExportException e) {
+            FileUtil.del(targetFile);
+            throw e;
+        } catch (Exception e) {
+            FileUtil.del(targetFile);
+            log.error("本地文件存储失败", e);
+            throw new ExcelExportException("本地文件存储失败: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 下载文件
      *
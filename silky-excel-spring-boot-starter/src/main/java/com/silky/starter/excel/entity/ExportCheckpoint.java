@@ -0,0 +1,95 @@
+package com.silky.starter.excel.entity;
+
+import com.silky.starter.excel.enums.StorageType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 导出检查点
+ * 记录各Sheet已持久化的分页数据分段及下一次查询的位置，导出中断后可从检查点恢复，已查询的数据不再重新查询
+ *
+ * @author zy
+ * @date 2026-10-16 21:40
+ **/
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 3816904457152870319L;
+
+    /**
+     * 分段文件的存储类型
+     */
+    private StorageType storageType;
+
+    /**
+     * 各Sheet的检查点
+     */
+    @Builder.Default
+    private List<SheetCheckpoint> sheets = new ArrayList<>();
+
+    /**
+     * 已持久化的数据总行数
+     */
+    private long rowCount;
+
+    /**
+     * 检查点更新时间
+     */
+    private LocalDateTime updateTime;
+
+    /**
+     * 单个Sheet的检查点
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SheetCheckpoint implements Serializable {
+
+        private static final long serialVersionUID = -2247513384201961843L;
+
+        /**
+         * Sheet序号，从0开始
+         */
+        private int sheetIndex;
+
+        /**
+         * 下一次查询的页码
+         */
+        private int nextPageNum;
+
+        /**
+         * 下一次查询的分页大小（启用自适应分页时页码按该大小计算，0 表示使用导出请求中的分页大小）
+         */
+        private int pageSize;
+
+        /**
+         * 下一次查询的游标（仅游标数据供应器使用）
+         */
+        private String nextCursor;
+
+        /**
+         * 数据是否已全部查询完成
+         */
+        private boolean exhausted;
+
+        /**
+         * 已持久化的分段文件存储标识，按查询顺序排列
+         */
+        private List<String> segmentKeys = new ArrayList<>();
+
+        /**
+         * 已持久化的数据行数
+         */
+        private long rowCount;
+    }
+}
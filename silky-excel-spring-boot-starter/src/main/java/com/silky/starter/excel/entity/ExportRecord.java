@@ -133,6 +133,12 @@ public class ExportRecord implements Serializable {
      */
     private Integer progress;
 
+    /**
+     * 导出检查点
+     * 启用检查点的导出在执行中定期更新，导出成功后清空，失败时保留以便恢复导出
+     */
+    private ExportCheckpoint checkpoint;
+
     /**
      * 计算进度百分比
      *
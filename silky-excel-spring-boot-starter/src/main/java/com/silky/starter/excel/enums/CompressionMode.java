@@ -0,0 +1,24 @@
+package com.silky.starter.excel.enums;
+
+import lombok.Getter;
+
+/**
+ * 压缩模式枚举
+ *
+ * @author zy
+ * @date 2026-10-16 14:10
+ **/
+@Getter
+public enum CompressionMode {
+
+    /**
+     * 标准单线程压缩（ZipOutputStream / GZIPOutputStream）
+     */
+    STANDARD,
+
+    /**
+     * 多线程分块并行压缩，输出标准 gzip/zip 格式
+     */
+    PARALLEL,
+
+}
@@ -0,0 +1,55 @@
+package com.silky.starter.excel.enums;
+
+import lombok.Getter;
+
+/**
+ * 导出任务优先级
+ * 调度器总是先执行高优先级的排队任务，同一优先级内按租户轮转
+ *
+ * @author zy
+ * @date 2026-10-16 21:05
+ **/
+@Getter
+public enum ExportPriority {
+
+    /**
+     * 高优先级 - 适用于交互式的小数据量导出
+     */
+    HIGH("高优先级"),
+
+    /**
+     * 普通优先级
+     */
+    NORMAL("普通优先级"),
+
+    /**
+     * 低优先级 - 适用于后台大数据量导出
+     */
+    LOW("低优先级"),
+
+    ;
+
+    /**
+     * 优先级描述
+     */
+    private final String description;
+
+    ExportPriority(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 根据编码获取枚举
+     *
+     * @param code 枚举编码
+     * @return 对应的枚举值，如果找不到返回null
+     */
+    public static ExportPriority getByCode(String code) {
+        for (ExportPriority priority : values()) {
+            if (priority.name().equals(code)) {
+                return priority;
+            }
+        }
+        return null;
+    }
+}
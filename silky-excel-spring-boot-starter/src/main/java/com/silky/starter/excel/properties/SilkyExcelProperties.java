@@ -1,12 +1,18 @@
 package com.silky.starter.excel.properties;
 
 import com.silky.starter.excel.enums.AsyncType;
+import com.silky.starter.excel.enums.CompressionMode;
 import com.silky.starter.excel.enums.CompressionType;
 import com.silky.starter.excel.enums.StorageType;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Silky Excel 配置属性
  *
@@ -47,6 +53,110 @@ public class SilkyExcelProperties {
      */
     private CompressionConfig compression = CompressionConfig.defaultConfig();
 
+    /**
+     * 字典缓存配置
+     */
+    private DictCacheConfig dictCache = new DictCacheConfig();
+
+    /**
+     * 任务进度上报配置
+     */
+    private ProgressConfig progress = new ProgressConfig();
+
+    /**
+     * 内存记录存储配置（仅对内置的内存导出/导入记录服务生效）
+     */
+    private RecordStoreConfig recordStore = new RecordStoreConfig();
+
+    /**
+     * 数据类元数据配置
+     */
+    private Metadata metadata = new Metadata();
+
+    /**
+     * 指标配置
+     */
+    private MetricsConfig metrics = new MetricsConfig();
+
+    @Data
+    public static class MetricsConfig {
+
+        /**
+         * 是否启用导出/导入指标（需引入 Micrometer 且存在 MeterRegistry）
+         * 默认值：true
+         */
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Metadata {
+
+        /**
+         * 启动时预热的数据类所在包，应用启动阶段扫描这些包下的数据类，
+         * 预先构建字段访问器、枚举翻译表、字典表达式和 CSV 列布局；为空时在首次使用时构建
+         */
+        private List<String> warmupPackages = new ArrayList<>();
+    }
+
+    @Data
+    public static class RecordStoreConfig {
+
+        /**
+         * 最大记录数，超出后淘汰最早的已结束记录，0 表示不限制
+         * 默认值：10000
+         */
+        private int maxRecords = 10000;
+
+        /**
+         * 已结束记录的保留时间（小时），0 表示不按时间淘汰
+         * 默认值：24
+         */
+        private long retentionHours = 24;
+    }
+
+    @Data
+    public static class ProgressConfig {
+
+        /**
+         * 进度写入间隔（毫秒），进度先缓存在内存中，按该间隔由后台线程写入记录服务
+         * 默认值：1000
+         */
+        private long flushIntervalMillis = 1000;
+
+        /**
+         * 处理行数增量达到该值时立即触发写入
+         * 默认值：50000
+         */
+        private long flushRowDelta = 50000;
+    }
+
+    @Data
+    public static class DictCacheConfig {
+
+        /**
+         * 是否启用应用级字典缓存（所有导出任务共享）
+         * 默认值：false
+         */
+        private boolean enabled = false;
+
+        /**
+         * 最大缓存条目数（按字典值计）
+         * 默认值：10000
+         */
+        private int maxSize = 10000;
+
+        /**
+         * 默认过期时间（秒）
+         * 默认值：600（10分钟）
+         */
+        private long ttlSeconds = 600;
+
+        /**
+         * 按字典编码单独设置的过期时间（秒），如 gender: 3600
+         */
+        private Map<String, Long> dictTtlSeconds = new HashMap<>();
+    }
+
     @Data
     public static class Storage {
 
@@ -133,6 +243,201 @@ public class SilkyExcelProperties {
          * 是否启用导出进度记录
          */
         private boolean enableProgress;
+
+        /**
+         * 分页预取深度（流水线导出）
+         * 大于0时分页查询与字段解析会提前在线程池中执行，最多缓存该数量的分页，与Excel写入重叠进行；
+         * 0表示关闭，按页串行执行
+         */
+        private int prefetchDepth = 0;
+
+        /**
+         * 多Sheet并行拉取
+         * 开启后多Sheet导出时所有Sheet的分页查询与字段解析同时在线程池中执行，写入仍按Sheet顺序串行；
+         * 每个Sheet最多缓存 max(prefetchDepth, 1) 个分页
+         */
+        private boolean parallelSheetFetch = false;
+
+        /**
+         * 流式写入存储
+         * 开启后导出内容直接写入存储策略提供的输出流，不再生成本地临时文件再拷贝；
+         * 启用压缩的导出在写入存储输出流时边写边压缩，同样不经过临时文件
+         */
+        private boolean streamingOutput = false;
+
+        /**
+         * 页内并行字段解析线程数
+         * 大于0时单页数据按行切分，在独立线程池中并行执行枚举、字典翻译和脱敏；0表示关闭
+         */
+        private int resolveThreads = 0;
+
+        /**
+         * 页内并行字段解析的最小分块行数
+         * 单页行数不足两个分块时仍在当前线程解析
+         */
+        private int resolveMinChunkSize = 2000;
+
+        /**
+         * CSV 快速写入
+         * 开启后 .csv 导出不经过 FastExcel 写入流程，按预先构建的列布局直接编码写入输出流；
+         * 数据类使用自定义转换器、多行表头或不支持的字段类型时仍使用 FastExcel 写入；
+         * 默认关闭，开启前请确认未标注 {@code @NumberFormat}/{@code @DateTimeFormat} 的数字、布尔和日期字段的输出符合预期
+         */
+        private boolean csvFastWrite = false;
+
+        /**
+         * 分区导出并行度
+         * 设置了分区函数的导出最多同时导出该数量的分区，空闲线程从剩余分区中继续领取
+         */
+        private int partitionParallelism = 4;
+
+        /**
+         * 异步导出调度配置
+         */
+        private Scheduler scheduler = new Scheduler();
+
+        @Data
+        public static class Scheduler {
+
+            /**
+             * 是否启用导出调度器
+             * 启用后异步导出按优先级和租户公平排队执行，排队已满时直接拒绝；关闭时提交到 silkyExcelTaskExecutor
+             */
+            private boolean enabled = true;
+
+            /**
+             * 工作线程数
+             */
+            private int workerThreads = 5;
+
+            /**
+             * 最大排队任务数
+             */
+            private int maxQueuedTasks = 100;
+
+            /**
+             * 单个租户最大排队任务数，0 表示不限制
+             * 未指定 tenantId 和 createUser 的任务共用默认租户，不受此限制，只受 maxQueuedTasks 限制
+             */
+            private int maxQueuedPerTenant = 20;
+
+            /**
+             * 单个租户最大并发执行任务数，0 表示不限制，默认租户不受此限制
+             */
+            private int maxRunningPerTenant = 0;
+
+            /**
+             * 关闭时等待执行中任务完成的最长时间（秒），超时仍未完成的任务记录置为失败
+             */
+            private long awaitTerminationSeconds = 60;
+        }
+
+        /**
+         * 导出准入控制配置
+         */
+        private Admission admission = new Admission();
+
+        @Data
+        public static class Admission {
+
+            /**
+             * 是否启用导出准入控制
+             * 启用后导出开始前按预估的行数、内存和磁盘占用准入，执行中任务的预估总量超过预算时新任务等待；
+             * 预估开销（数据供应器的总量查询）只在启用时执行，且在工作线程上准备数据之后执行，不占用提交线程；
+             * 经调度器排队的任务预算不足时重新排队等待，不占用调度器工作线程
+             */
+            private boolean enabled = false;
+
+            /**
+             * 执行中导出任务的总行数预算，0 表示不限制
+             */
+            private long maxRunningRows = 5000000;
+
+            /**
+             * 执行中导出任务的总内存预算（MB），0 表示不限制
+             */
+            private long maxMemoryMb = 512;
+
+            /**
+             * 执行中导出任务的总磁盘预算（MB），0 表示不限制
+             */
+            private long maxDiskMb = 10240;
+
+            /**
+             * 等待准入的最长时间（秒），超时后任务失败
+             */
+            private long maxWaitSeconds = 600;
+
+            /**
+             * 无法获取数据总量时使用的预估行数
+             */
+            private long defaultEstimatedRows = 100000;
+
+            /**
+             * 每行数据的预估内存占用（字节），用于按在途分页数估算内存
+             */
+            private int memoryBytesPerRow = 1024;
+
+            /**
+             * 每行数据的预估磁盘占用（字节），用于按总行数估算导出文件大小
+             */
+            private int diskBytesPerRow = 200;
+        }
+
+        /**
+         * 导出检查点配置
+         */
+        private Checkpoint checkpoint = new Checkpoint();
+
+        @Data
+        public static class Checkpoint {
+
+            /**
+             * 是否启用导出检查点
+             * 启用后已查询的分页定期持久化到存储策略，导出中断后可从检查点恢复
+             */
+            private boolean enabled = false;
+
+            /**
+             * 每个检查点分段包含的页数，累计到该页数时持久化分段并更新检查点
+             */
+            private int pagesPerSegment = 50;
+        }
+
+        /**
+         * 自适应分页配置
+         */
+        private AdaptivePageSize adaptivePageSize = new AdaptivePageSize();
+
+        @Data
+        public static class AdaptivePageSize {
+
+            /**
+             * 是否启用自适应分页
+             * 启用后导出过程中按实测的分页查询耗时、单行内存占用和可用堆内存，在上下限内将分页大小翻倍或减半
+             */
+            private boolean enabled = false;
+
+            /**
+             * 最小分页大小
+             */
+            private int minPageSize = 500;
+
+            /**
+             * 最大分页大小
+             */
+            private int maxPageSize = 20000;
+
+            /**
+             * 单页查询的目标耗时（毫秒），低于一半时放大分页，超过两倍时缩小分页
+             */
+            private long targetFetchMillis = 500;
+
+            /**
+             * 在途分页最多占用可用堆内存的比例，超过时缩小分页
+             */
+            private double maxHeapRatio = 0.1;
+        }
     }
 
     @Data
@@ -167,6 +472,34 @@ public class SilkyExcelProperties {
          * 是否跳过表头
          */
         private boolean skipHeader = false;
+
+        /**
+         * 导入工作线程数
+         * 大于0时解析出的数据批次放入有界队列，由该数量的工作线程并行执行数据处理和入库，与解析重叠；
+         * 0表示在解析线程中同步入库。启用事务时始终同步入库
+         */
+        private int importWorkers = 0;
+
+        /**
+         * 等待入库的批次队列容量，队列满时解析线程阻塞等待
+         */
+        private int importQueueCapacity = 4;
+
+        /**
+         * 多Sheet并行读取数
+         * 大于1时多Sheet工作簿的各Sheet由独立的读取器同时读取和入库，最多同时读取该数量的Sheet；
+         * 1表示按Sheet顺序读取。启用事务时始终按顺序读取。
+         * 各Sheet共享同一组导入工作线程，单个导入任务最多占用 sheetParallelism 个读取线程（含调用线程）和 importWorkers 个导入线程
+         */
+        private int sheetParallelism = 1;
+
+        /**
+         * CSV 快速读取
+         * 开启后 .csv 导入不经过 FastExcel 读取流程，按 JVM 默认字符集（与 FastExcel 相同）顺序读取并直接转换写入数据对象；
+         * 数据类使用自定义转换器、多行表头、不支持的字段类型或没有无参构造函数时仍使用 FastExcel 读取；
+         * 默认关闭，开启前请确认多行单元格、类型转换失败的错误信息和行号等符合预期
+         */
+        private boolean csvFastRead = false;
     }
 
 
@@ -227,12 +560,41 @@ public class SilkyExcelProperties {
          */
         private long splitSize;
 
+        /**
+         * 压缩读写缓冲区大小（字节）
+         * 默认值：65536（64KB）
+         */
+        private int bufferSize;
+
+        /**
+         * 压缩模式
+         * STANDARD：单线程压缩；PARALLEL：多线程分块并行压缩
+         * 默认值：STANDARD
+         */
+        private CompressionMode mode;
+
+        /**
+         * 并行压缩线程数，小于等于0时使用CPU核数
+         * 仅 mode=PARALLEL 时生效
+         */
+        private int parallelThreads;
+
+        /**
+         * 并行压缩分块大小（字节），不小于32KB
+         * 默认值：131072（128KB）
+         */
+        private int blockSize;
+
 
         public static CompressionConfig defaultConfig() {
             return CompressionConfig.builder()
                     .enabled(false)
                     .type(CompressionType.ZIP)
                     .compressionLevel(6)
+                    .bufferSize(64 * 1024)
+                    .mode(CompressionMode.STANDARD)
+                    .parallelThreads(0)
+                    .blockSize(128 * 1024)
                     .splitLargeFiles(false)
                     .splitSize(100 * 1024 * 1024)
                     .build();
@@ -2,8 +2,14 @@ package com.silky.starter.excel.service.compression;
 
 import com.silky.starter.excel.properties.SilkyExcelProperties;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * 压缩服务接口
@@ -32,4 +38,38 @@ public interface CompressionService {
      * @return 解压后的文件
      */
     File decompressFile(File compressedFile, SilkyExcelProperties.CompressionConfig config, String targetPath) throws IOException;
+
+    /**
+     * 包装输出流，写入的数据会被实时压缩后写入目标流
+     * 关闭返回的流只会结束压缩数据，不会关闭目标流
+     *
+     * @param target    目标输出流
+     * @param config    压缩配置
+     * @param entryName 压缩条目名称（ZIP格式使用）
+     * @return 压缩输出流
+     */
+    OutputStream wrapOutputStream(OutputStream target, SilkyExcelProperties.CompressionConfig config, String entryName) throws IOException;
+
+    /**
+     * 将多个文件打包为一个 ZIP 压缩包写入目标流
+     * 不会关闭目标流
+     *
+     * @param entries 压缩条目名称 -> 文件，按迭代顺序写入
+     * @param config  压缩配置（使用其中的压缩级别和缓冲区大小）
+     * @param target  目标输出流
+     */
+    default void writeArchive(Map<String, File> entries, SilkyExcelProperties.CompressionConfig config, OutputStream target) throws IOException {
+        int bufferSize = config.getBufferSize() > 0 ? config.getBufferSize() : 64 * 1024;
+        BufferedOutputStream buffered = new BufferedOutputStream(target, bufferSize);
+        ZipOutputStream zos = new ZipOutputStream(buffered);
+        zos.setLevel(config.getCompressionLevel());
+        for (Map.Entry<String, File> entry : entries.entrySet()) {
+            zos.putNextEntry(new ZipEntry(entry.getKey()));
+            Files.copy(entry.getValue().toPath(), zos);
+            zos.closeEntry();
+        }
+        // 只结束压缩包，不关闭目标流
+        zos.finish();
+        buffered.flush();
+    }
 }
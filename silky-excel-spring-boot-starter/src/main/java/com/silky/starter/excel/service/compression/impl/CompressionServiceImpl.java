@@ -1,16 +1,28 @@
 package com.silky.starter.excel.service.compression.impl;
 
+import cn.hutool.core.io.IoUtil;
+import com.silky.starter.excel.enums.CompressionMode;
 import com.silky.starter.excel.properties.SilkyExcelProperties;
 import com.silky.starter.excel.service.compression.CompressionService;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.*;
 
 /**
@@ -22,10 +34,25 @@ import java.util.zip.*;
 @Slf4j
 public class CompressionServiceImpl implements CompressionService {
 
+    /**
+     * 默认缓冲区大小
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 默认并行压缩分块大小
+     */
+    private static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
     private final SilkyExcelProperties properties;
 
     private final SilkyExcelProperties.CompressionConfig compressionConfig;
 
+    /**
+     * 并行压缩线程池（懒加载）
+     */
+    private volatile ExecutorService parallelExecutor;
+
     public CompressionServiceImpl(SilkyExcelProperties properties) {
         this.properties = properties;
         this.compressionConfig = properties.getCompression();
@@ -69,9 +96,41 @@ public class CompressionServiceImpl implements CompressionService {
         }
         switch (config.getType().name().toUpperCase()) {
             case "ZIP":
-                return decompressZip(compressedFile, targetPath);
+                return decompressZip(compressedFile, targetPath, getBufferSize(config));
             case "GZIP":
-                return decompressGzip(compressedFile, targetPath);
+                return decompressGzip(compressedFile, targetPath, getBufferSize(config));
+            default:
+                throw new IllegalArgumentException("不支持的压缩类型: " + config.getType());
+        }
+    }
+
+    /**
+     * 包装输出流，写入的数据会被实时压缩后写入目标流
+     *
+     * @param target    目标输出流
+     * @param config    压缩配置
+     * @param entryName 压缩条目名称（ZIP格式使用）
+     * @return 压缩输出流
+     */
+    @Override
+    public OutputStream wrapOutputStream(OutputStream target, SilkyExcelProperties.CompressionConfig config, String entryName) throws IOException {
+        int bufferSize = getBufferSize(config);
+        if (config.getMode() == CompressionMode.PARALLEL) {
+            int threads = getParallelThreads(config);
+            int blockSize = config.getBlockSize() > 0 ? config.getBlockSize() : DEFAULT_BLOCK_SIZE;
+            return new ParallelDeflateOutputStream(new BufferedOutputStream(target, bufferSize), config.getType(), entryName,
+                    config.getCompressionLevel(), blockSize, threads, getParallelExecutor(threads));
+        }
+        OutputStream shield = new BufferedOutputStream(new NonClosingOutputStream(target), bufferSize);
+        switch (config.getType().name().toUpperCase()) {
+            case "ZIP":
+                ZipOutputStream zos = new ZipOutputStream(shield);
+                zos.setLevel(config.getCompressionLevel());
+                zos.putNextEntry(new ZipEntry(entryName));
+                return new BufferedOutputStream(zos, bufferSize);
+            case "GZIP":
+                GZIPOutputStream gzos = new LevelGzipOutputStream(shield, bufferSize, config.getCompressionLevel());
+                return new BufferedOutputStream(gzos, bufferSize);
             default:
                 throw new IllegalArgumentException("不支持的压缩类型: " + config.getType());
         }
@@ -79,23 +138,7 @@ public class CompressionServiceImpl implements CompressionService {
 
     private File compressZip(File sourceFile, SilkyExcelProperties.CompressionConfig config, String targetPath) throws IOException {
         String zipFilePath = targetPath + ".zip";
-        try (FileOutputStream fos = new FileOutputStream(zipFilePath);
-             ZipOutputStream zos = new ZipOutputStream(fos)) {
-
-            zos.setLevel(config.getCompressionLevel());
-
-            ZipEntry zipEntry = new ZipEntry(sourceFile.getName());
-            zos.putNextEntry(zipEntry);
-
-            try (FileInputStream fis = new FileInputStream(sourceFile)) {
-                byte[] buffer = new byte[1024];
-                int length;
-                while ((length = fis.read(buffer)) > 0) {
-                    zos.write(buffer, 0, length);
-                }
-            }
-            zos.closeEntry();
-        }
+        copyCompressed(sourceFile, zipFilePath, config);
 
         File zipFile = new File(zipFilePath);
         log.info("文件压缩完成: {} -> {}, 压缩前: {} bytes, 压缩后: {} bytes",
@@ -114,16 +157,7 @@ public class CompressionServiceImpl implements CompressionService {
      */
     private File compressGzip(File sourceFile, SilkyExcelProperties.CompressionConfig config, String targetPath) throws IOException {
         String gzipFilePath = targetPath + ".gz";
-        try (FileInputStream fis = new FileInputStream(sourceFile);
-             FileOutputStream fos = new FileOutputStream(gzipFilePath);
-             GZIPOutputStream gzos = new GZIPOutputStream(fos)) {
-
-            byte[] buffer = new byte[1024];
-            int length;
-            while ((length = fis.read(buffer)) > 0) {
-                gzos.write(buffer, 0, length);
-            }
-        }
+        copyCompressed(sourceFile, gzipFilePath, config);
 
         File gzipFile = new File(gzipFilePath);
         log.info("文件GZIP压缩完成: {} -> {}, 压缩前: {} bytes, 压缩后: {} bytes",
@@ -132,14 +166,27 @@ public class CompressionServiceImpl implements CompressionService {
         return gzipFile;
     }
 
+    /**
+     * 读取源文件并压缩写入目标文件
+     */
+    private void copyCompressed(File sourceFile, String targetPath, SilkyExcelProperties.CompressionConfig config) throws IOException {
+        int bufferSize = getBufferSize(config);
+        try (InputStream in = Files.newInputStream(sourceFile.toPath());
+             OutputStream fos = Files.newOutputStream(Paths.get(targetPath));
+             OutputStream cos = wrapOutputStream(fos, config, sourceFile.getName())) {
+            IoUtil.copy(in, cos, bufferSize);
+        }
+    }
+
     /**
      * 解压文件
      *
      * @param compressedFile 压缩文件
      * @param targetPath     目标路径
+     * @param bufferSize     缓冲区大小
      * @return 解压后的文件
      */
-    private File decompressZip(File compressedFile, String targetPath) throws IOException {
+    private File decompressZip(File compressedFile, String targetPath, int bufferSize) throws IOException {
         try (ZipInputStream zis = new ZipInputStream(Files.newInputStream(compressedFile.toPath()))) {
             ZipEntry zipEntry = zis.getNextEntry();
             if (zipEntry == null) {
@@ -148,7 +195,7 @@ public class CompressionServiceImpl implements CompressionService {
 
             File outputFile = new File(targetPath);
             try (FileOutputStream fos = new FileOutputStream(outputFile)) {
-                byte[] buffer = new byte[1024];
+                byte[] buffer = new byte[bufferSize];
                 int length;
                 while ((length = zis.read(buffer)) > 0) {
                     fos.write(buffer, 0, length);
@@ -161,12 +208,12 @@ public class CompressionServiceImpl implements CompressionService {
         }
     }
 
-    private File decompressGzip(File compressedFile, String targetPath) throws IOException {
+    private File decompressGzip(File compressedFile, String targetPath, int bufferSize) throws IOException {
         try (FileInputStream fis = new FileInputStream(compressedFile);
-             GZIPInputStream gzis = new GZIPInputStream(fis);
+             GZIPInputStream gzis = new GZIPInputStream(fis, bufferSize);
              FileOutputStream fos = new FileOutputStream(targetPath)) {
 
-            byte[] buffer = new byte[1024];
+            byte[] buffer = new byte[bufferSize];
             int length;
             while ((length = gzis.read(buffer)) > 0) {
                 fos.write(buffer, 0, length);
@@ -178,6 +225,54 @@ public class CompressionServiceImpl implements CompressionService {
         return outputFile;
     }
 
+    /**
+     * 获取并行压缩线程数
+     */
+    private int getParallelThreads(SilkyExcelProperties.CompressionConfig config) {
+        return config.getParallelThreads() > 0 ? config.getParallelThreads() : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 获取并行压缩线程池（首次使用时创建，线程数按首次配置确定）
+     */
+    private ExecutorService getParallelExecutor(int threads) {
+        ExecutorService executor = parallelExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = parallelExecutor;
+                if (executor == null) {
+                    AtomicInteger counter = new AtomicInteger();
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(), r -> {
+                        Thread thread = new Thread(r, "silky-excel-deflate-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    pool.allowCoreThreadTimeOut(true);
+                    parallelExecutor = executor = pool;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * 关闭并行压缩线程池
+     */
+    public void shutdown() {
+        ExecutorService executor = parallelExecutor;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 获取缓冲区大小，未配置时使用默认值
+     */
+    private int getBufferSize(SilkyExcelProperties.CompressionConfig config) {
+        return config.getBufferSize() > 0 ? config.getBufferSize() : DEFAULT_BUFFER_SIZE;
+    }
+
     /**
      * 检查文件是否需要分割
      */
@@ -220,4 +315,35 @@ public class CompressionServiceImpl implements CompressionService {
         log.info("大文件分割完成: {} -> {}个部分", sourceFile.getName(), partCount);
         return parts;
     }
+
+    /**
+     * 关闭时只刷新不关闭目标流的输出流包装
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    /**
+     * 支持设置压缩级别的GZIP输出流
+     */
+    private static class LevelGzipOutputStream extends GZIPOutputStream {
+
+        LevelGzipOutputStream(OutputStream out, int size, int level) throws IOException {
+            super(out, size);
+            def.setLevel(level);
+        }
+    }
 }
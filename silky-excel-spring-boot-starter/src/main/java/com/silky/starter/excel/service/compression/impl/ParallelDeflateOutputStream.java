@@ -0,0 +1,370 @@
+package com.silky.starter.excel.service.compression.impl;
+
+import com.silky.starter.excel.enums.CompressionType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 多线程分块并行压缩输出流（类似 pigz）
+ * 输入按固定大小切块，各块以前一块末尾 32KB 作为预置字典并行 deflate，非末块以 SYNC_FLUSH 结束对齐到字节边界，
+ * 按顺序拼接后即为一个完整的 deflate 流，再按 gzip 或 zip 格式封装输出。
+ * <p>
+ * 关闭本流只写出压缩尾部并刷新目标流，不会关闭目标流。
+ *
+ * @author zy
+ * @date 2026-10-16 14:10
+ **/
+public class ParallelDeflateOutputStream extends OutputStream {
+
+    /**
+     * deflate 最大回溯窗口
+     */
+    private static final int DICT_SIZE = 32 * 1024;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private final OutputStream target;
+
+    private final CompressionType type;
+
+    private final String entryName;
+
+    private final int level;
+
+    private final int blockSize;
+
+    private final int maxInFlight;
+
+    private final Executor executor;
+
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * 按提交顺序排列的压缩中块
+     */
+    private final Deque<FutureTask<byte[]>> pending = new ArrayDeque<>();
+
+    private byte[] block;
+
+    private int blockLength;
+
+    private byte[] previousBlock;
+
+    private int previousLength;
+
+    private long uncompressedSize;
+
+    private long compressedSize;
+
+    /**
+     * 已写入目标流的字节数（用于计算 zip 目录偏移）
+     */
+    private long written;
+
+    private int dosTime;
+
+    private int dosDate;
+
+    private boolean closed;
+
+    /**
+     * 构造函数
+     *
+     * @param target      目标输出流
+     * @param type        封装格式
+     * @param entryName   压缩条目名称（ZIP格式使用）
+     * @param level       压缩级别
+     * @param blockSize   分块大小（字节），不小于 32KB
+     * @param parallelism 并行度，决定同时在途的压缩块数量
+     * @param executor    压缩线程池
+     * @throws IOException 写入头部失败
+     */
+    public ParallelDeflateOutputStream(OutputStream target, CompressionType type, String entryName, int level,
+                                       int blockSize, int parallelism, Executor executor) throws IOException {
+        if (blockSize < DICT_SIZE) {
+            throw new IllegalArgumentException("并行压缩分块大小不能小于 " + DICT_SIZE + " 字节");
+        }
+        this.target = target;
+        this.type = type;
+        this.entryName = entryName;
+        this.level = level;
+        this.blockSize = blockSize;
+        this.maxInFlight = Math.max(parallelism, 1) * 2;
+        this.executor = executor;
+        this.block = new byte[blockSize];
+        writeHeader();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (blockLength == blockSize) {
+                submitBlock(false);
+            }
+            int n = Math.min(len, blockSize - blockLength);
+            System.arraycopy(b, off, block, blockLength, n);
+            blockLength += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        // 只输出已完成的块，未满的块留待后续写入或关闭时处理
+        while (!pending.isEmpty() && pending.peekFirst().isDone()) {
+            writeCompressed(pending.pollFirst());
+        }
+        target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            submitBlock(true);
+            while (!pending.isEmpty()) {
+                writeCompressed(pending.pollFirst());
+            }
+            writeTrailer();
+            target.flush();
+        } finally {
+            pending.forEach(task -> task.cancel(true));
+            pending.clear();
+        }
+    }
+
+    /**
+     * 提交当前块进行压缩，在途块过多时等待最早的块完成并写出
+     */
+    private void submitBlock(boolean last) throws IOException {
+        byte[] data = block;
+        int length = blockLength;
+        byte[] dict = previousBlock;
+        int dictLength = previousLength;
+        crc.update(data, 0, length);
+        uncompressedSize += length;
+
+        FutureTask<byte[]> task = new FutureTask<>(() -> deflate(data, length, dict, dictLength, last));
+        pending.addLast(task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+        previousBlock = data;
+        previousLength = length;
+        block = last ? null : new byte[blockSize];
+        blockLength = 0;
+
+        while (pending.size() >= maxInFlight || (!pending.isEmpty() && pending.peekFirst().isDone())) {
+            writeCompressed(pending.pollFirst());
+        }
+    }
+
+    /**
+     * 压缩单个块
+     */
+    private byte[] deflate(byte[] data, int length, byte[] dict, int dictLength, boolean last) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (dict != null && dictLength > 0) {
+                int dictSize = Math.min(dictLength, DICT_SIZE);
+                deflater.setDictionary(dict, dictLength - dictSize, dictSize);
+            }
+            deflater.setInput(data, 0, length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2 + 64);
+            byte[] buf = new byte[Math.max(length / 4, 8 * 1024)];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(buf);
+                    out.write(buf, 0, n);
+                }
+            } else {
+                int n;
+                do {
+                    n = deflater.deflate(buf, 0, buf.length, Deflater.SYNC_FLUSH);
+                    out.write(buf, 0, n);
+                } while (n == buf.length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeCompressed(FutureTask<byte[]> task) throws IOException {
+        byte[] data;
+        try {
+            data = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("并行压缩被中断", e);
+        } catch (ExecutionException e) {
+            throw new IOException("并行压缩失败: " + e.getCause().getMessage(), e.getCause());
+        }
+        writeRaw(data);
+        compressedSize += data.length;
+    }
+
+    private void writeHeader() throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream(64);
+        if (type == CompressionType.GZIP) {
+            // ID1 ID2 CM FLG MTIME(4) XFL OS
+            header.write(new byte[]{0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff});
+        } else {
+            LocalDateTime now = LocalDateTime.now();
+            dosTime = (now.getHour() << 11) | (now.getMinute() << 5) | (now.getSecond() >> 1);
+            dosDate = ((now.getYear() - 1980) << 9) | (now.getMonthValue() << 5) | now.getDayOfMonth();
+            byte[] name = entryName.getBytes(StandardCharsets.UTF_8);
+            // 本地文件头，大小和CRC写在数据描述符中（通用标志位3），文件名使用UTF-8（通用标志位11）
+            writeInt(header, 0x04034b50L);
+            writeShort(header, 20);
+            writeShort(header, 0x0808);
+            writeShort(header, Deflater.DEFLATED);
+            writeShort(header, dosTime);
+            writeShort(header, dosDate);
+            writeInt(header, 0);
+            writeInt(header, 0);
+            writeInt(header, 0);
+            writeShort(header, name.length);
+            writeShort(header, 0);
+            header.write(name);
+        }
+        writeRaw(header.toByteArray());
+    }
+
+    private void writeTrailer() throws IOException {
+        ByteArrayOutputStream trailer = new ByteArrayOutputStream(128);
+        if (type == CompressionType.GZIP) {
+            writeInt(trailer, crc.getValue());
+            writeInt(trailer, uncompressedSize & ZIP64_MAGIC);
+            writeRaw(trailer.toByteArray());
+            return;
+        }
+        boolean zip64 = uncompressedSize >= ZIP64_MAGIC || compressedSize >= ZIP64_MAGIC;
+        // 数据描述符（与 ZipOutputStream 一致，超过4GB时使用8字节长度）
+        writeInt(trailer, 0x08074b50L);
+        writeInt(trailer, crc.getValue());
+        if (zip64) {
+            writeLong(trailer, compressedSize);
+            writeLong(trailer, uncompressedSize);
+        } else {
+            writeInt(trailer, compressedSize);
+            writeInt(trailer, uncompressedSize);
+        }
+        writeRaw(trailer.toByteArray());
+        trailer.reset();
+
+        // 中央目录
+        byte[] name = entryName.getBytes(StandardCharsets.UTF_8);
+        long centralOffset = written;
+        writeInt(trailer, 0x02014b50L);
+        writeShort(trailer, zip64 ? 45 : 20);
+        writeShort(trailer, zip64 ? 45 : 20);
+        writeShort(trailer, 0x0808);
+        writeShort(trailer, Deflater.DEFLATED);
+        writeShort(trailer, dosTime);
+        writeShort(trailer, dosDate);
+        writeInt(trailer, crc.getValue());
+        writeInt(trailer, zip64 ? ZIP64_MAGIC : compressedSize);
+        writeInt(trailer, zip64 ? ZIP64_MAGIC : uncompressedSize);
+        writeShort(trailer, name.length);
+        writeShort(trailer, zip64 ? 20 : 0);
+        writeShort(trailer, 0);
+        writeShort(trailer, 0);
+        writeShort(trailer, 0);
+        writeInt(trailer, 0);
+        writeInt(trailer, 0);
+        trailer.write(name);
+        if (zip64) {
+            writeShort(trailer, 0x0001);
+            writeShort(trailer, 16);
+            writeLong(trailer, uncompressedSize);
+            writeLong(trailer, compressedSize);
+        }
+        long centralSize = trailer.size();
+        writeRaw(trailer.toByteArray());
+        trailer.reset();
+
+        boolean zip64End = centralOffset >= ZIP64_MAGIC;
+        if (zip64End) {
+            long zip64EndOffset = written;
+            // ZIP64 中央目录结束记录
+            writeInt(trailer, 0x06064b50L);
+            writeLong(trailer, 44);
+            writeShort(trailer, 45);
+            writeShort(trailer, 45);
+            writeInt(trailer, 0);
+            writeInt(trailer, 0);
+            writeLong(trailer, 1);
+            writeLong(trailer, 1);
+            writeLong(trailer, centralSize);
+            writeLong(trailer, centralOffset);
+            // ZIP64 中央目录结束定位器
+            writeInt(trailer, 0x07064b50L);
+            writeInt(trailer, 0);
+            writeLong(trailer, zip64EndOffset);
+            writeInt(trailer, 1);
+        }
+        // 中央目录结束记录
+        writeInt(trailer, 0x06054b50L);
+        writeShort(trailer, 0);
+        writeShort(trailer, 0);
+        writeShort(trailer, 1);
+        writeShort(trailer, 1);
+        writeInt(trailer, centralSize);
+        writeInt(trailer, zip64End ? ZIP64_MAGIC : centralOffset);
+        writeShort(trailer, 0);
+        writeRaw(trailer.toByteArray());
+    }
+
+    private void writeRaw(byte[] data) throws IOException {
+        target.write(data);
+        written += data.length;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("压缩输出流已关闭");
+        }
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int v) {
+        out.write(v & 0xff);
+        out.write((v >>> 8) & 0xff);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, long v) {
+        writeShort(out, (int) (v & 0xffff));
+        writeShort(out, (int) ((v >>> 16) & 0xffff));
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long v) {
+        writeInt(out, v & ZIP64_MAGIC);
+        writeInt(out, (v >>> 32) & ZIP64_MAGIC);
+    }
+}
@@ -4,16 +4,18 @@ import cn.hutool.core.util.StrUtil;
 import com.silky.starter.excel.entity.ExportRecord;
 import com.silky.starter.excel.enums.ExportStatus;
 import com.silky.starter.excel.service.export.ExportRecordService;
+import com.silky.starter.excel.service.store.IndexedRecordStore;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /**
  * 基于内存的导出记录服务实现,注意：此实现仅用于示例和测试，生产环境应该使用数据库存储
+ * <p>
+ * 记录按状态、业务类型和创建时间建立索引，已结束的记录超过容量上限或保留时间后自动淘汰
  *
  * @author zy
  * @date 2025-10-24 15:19
@@ -21,11 +23,37 @@ import java.util.stream.Collectors;
 @Slf4j
 public class InMemoryExportRecordService implements ExportRecordService {
 
+    /**
+     * 默认最大记录数
+     */
+    private static final int DEFAULT_MAX_RECORDS = 10000;
+
+    /**
+     * 默认记录保留时间
+     */
+    private static final Duration DEFAULT_RETENTION = Duration.ofHours(24);
+
     /**
      * 导出记录存储
-     * key: taskId, value: ExportRecord
      */
-    private final Map<String, ExportRecord> recordMap = new ConcurrentHashMap<>();
+    private final IndexedRecordStore<ExportRecord, ExportStatus> recordStore;
+
+    public InMemoryExportRecordService() {
+        this(DEFAULT_MAX_RECORDS, DEFAULT_RETENTION);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param maxRecords 最大记录数，0 表示不限制
+     * @param retention  已结束记录的保留时间，为 null 表示不按时间淘汰
+     */
+    public InMemoryExportRecordService(int maxRecords, Duration retention) {
+        this.recordStore = new IndexedRecordStore<>(ExportRecord::getTaskId, ExportRecord::getStatus,
+                ExportRecord::getBusinessType, ExportRecord::getCreateTime,
+                record -> record.getStatus() != null && !record.getStatus().isInProgress(),
+                maxRecords, retention);
+    }
 
     /**
      * 保存导出记录
@@ -41,7 +69,7 @@ public class InMemoryExportRecordService implements ExportRecordService {
             throw new IllegalArgumentException("任务ID不能为空");
         }
 
-        recordMap.put(record.getTaskId(), record);
+        recordStore.put(record);
         log.debug("保存导出记录成功: {}, 状态: {}", record.getTaskId(), record.getStatus());
     }
 
@@ -57,7 +85,7 @@ public class InMemoryExportRecordService implements ExportRecordService {
             return null;
         }
 
-        ExportRecord record = recordMap.get(taskId);
+        ExportRecord record = recordStore.get(taskId);
         if (record == null) {
             log.debug("导出记录不存在: {}", taskId);
         }
@@ -160,11 +188,7 @@ public class InMemoryExportRecordService implements ExportRecordService {
             throw new IllegalArgumentException("更新函数不能为null");
         }
 
-        ExportRecord record = recordMap.get(taskId);
-        if (record != null) {
-            updater.accept(record);
-            recordMap.put(taskId, record);
-        } else {
+        if (recordStore.update(taskId, updater) == null) {
             log.warn("尝试更新不存在的导出记录: {}", taskId);
         }
     }
@@ -180,7 +204,7 @@ public class InMemoryExportRecordService implements ExportRecordService {
             return;
         }
 
-        ExportRecord removed = recordMap.remove(taskId);
+        ExportRecord removed = recordStore.remove(taskId);
         if (removed != null) {
             log.info("删除导出记录: {}", taskId);
         } else {
@@ -197,13 +221,9 @@ public class InMemoryExportRecordService implements ExportRecordService {
     @Override
     public List<ExportRecord> listByStatus(ExportStatus status) {
         if (status == null) {
-            return new ArrayList<>(recordMap.values());
+            return recordStore.listRecent(Integer.MAX_VALUE);
         }
-
-        return recordMap.values().stream()
-                .filter(record -> status.equals(record.getStatus()))
-                .sorted(Comparator.comparing(ExportRecord::getCreateTime).reversed())
-                .collect(Collectors.toList());
+        return recordStore.listByStatus(status);
     }
 
     /**
@@ -217,10 +237,7 @@ public class InMemoryExportRecordService implements ExportRecordService {
         if (StrUtil.isBlank(businessType)) {
             return Collections.emptyList();
         }
-        return recordMap.values().stream()
-                .filter(record -> businessType.equals(record.getBusinessType()))
-                .sorted(Comparator.comparing(ExportRecord::getCreateTime).reversed())
-                .collect(Collectors.toList());
+        return recordStore.listByBusinessType(businessType);
     }
 
     /**
@@ -237,15 +254,10 @@ public class InMemoryExportRecordService implements ExportRecordService {
 
         LocalDateTime expireDate = LocalDateTime.now().plusDays(-expireDays);
 
-        List<String> expiredTaskIds = recordMap.values().stream()
-                .filter(record -> record.getCreateTime().isBefore(expireDate))
-                .map(ExportRecord::getTaskId)
-                .collect(Collectors.toList());
-
-        expiredTaskIds.forEach(recordMap::remove);
+        int removed = recordStore.removeCreatedBefore(expireDate);
 
-        log.info("清理过期导出记录完成: 过期天数={}, 清理数量={}", expireDays, expiredTaskIds.size());
-        return expiredTaskIds.size();
+        log.info("清理过期导出记录完成: 过期天数={}, 清理数量={}", expireDays, removed);
+        return removed;
     }
 
     /**
@@ -254,7 +266,7 @@ public class InMemoryExportRecordService implements ExportRecordService {
      * @return 记录总数
      */
     public int getTotalCount() {
-        return recordMap.size();
+        return recordStore.size();
     }
 
     /**
@@ -263,11 +275,7 @@ public class InMemoryExportRecordService implements ExportRecordService {
      * @return 状态统计Map
      */
     public Map<ExportStatus, Long> getStatusStatistics() {
-        return recordMap.values().stream()
-                .collect(Collectors.groupingBy(
-                        ExportRecord::getStatus,
-                        Collectors.counting()
-                ));
+        return recordStore.countByStatus();
     }
 
     /**
@@ -276,11 +284,7 @@ public class InMemoryExportRecordService implements ExportRecordService {
      * @return 业务类型统计Map
      */
     public Map<String, Long> getBusinessTypeStatistics() {
-        return recordMap.values().stream()
-                .collect(Collectors.groupingBy(
-                        ExportRecord::getBusinessType,
-                        Collectors.counting()
-                ));
+        return recordStore.countByBusinessType();
     }
 
     /**
@@ -290,10 +294,7 @@ public class InMemoryExportRecordService implements ExportRecordService {
      * @return 导出记录列表
      */
     public List<ExportRecord> getRecentRecords(int limit) {
-        return recordMap.values().stream()
-                .sorted(Comparator.comparing(ExportRecord::getCreateTime).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
+        return recordStore.listRecent(limit);
     }
 
     /**
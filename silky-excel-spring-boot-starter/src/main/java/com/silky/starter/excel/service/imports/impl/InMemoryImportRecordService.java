@@ -1,18 +1,62 @@
 package com.silky.starter.excel.service.imports.impl;
 
+import cn.hutool.core.util.StrUtil;
 import com.silky.starter.excel.core.model.imports.ImportResult;
 import com.silky.starter.excel.entity.ImportRecord;
 import com.silky.starter.excel.enums.ImportStatus;
 import com.silky.starter.excel.service.imports.ImportRecordService;
+import com.silky.starter.excel.service.store.IndexedRecordStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 基于内存的导入记录服务实现,注意：此实现仅用于示例和测试，生产环境应该使用数据库存储
+ * <p>
+ * 记录按状态、业务类型和创建时间建立索引，已结束的记录超过容量上限或保留时间后自动淘汰
  *
  * @author zy
  * @date 2025-10-28 15:42
  **/
+@Slf4j
 public class InMemoryImportRecordService implements ImportRecordService {
 
+    /**
+     * 默认最大记录数
+     */
+    private static final int DEFAULT_MAX_RECORDS = 10000;
+
+    /**
+     * 默认记录保留时间
+     */
+    private static final Duration DEFAULT_RETENTION = Duration.ofHours(24);
+
+    /**
+     * 导入记录存储
+     */
+    private final IndexedRecordStore<ImportRecord, ImportStatus> recordStore;
+
+    public InMemoryImportRecordService() {
+        this(DEFAULT_MAX_RECORDS, DEFAULT_RETENTION);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param maxRecords 最大记录数，0 表示不限制
+     * @param retention  已结束记录的保留时间，为 null 表示不按时间淘汰
+     */
+    public InMemoryImportRecordService(int maxRecords, Duration retention) {
+        this.recordStore = new IndexedRecordStore<>(ImportRecord::getTaskId, ImportRecord::getStatus,
+                ImportRecord::getBusinessType, ImportRecord::getCreateTime,
+                record -> record.getStatus() == ImportStatus.COMPLETED || record.getStatus() == ImportStatus.FAILED,
+                maxRecords, retention);
+    }
+
     /**
      * 添加导入记录
      *
@@ -20,7 +64,14 @@ public class InMemoryImportRecordService implements ImportRecordService {
      */
     @Override
     public void addImportRecord(ImportRecord record) {
-
+        if (record == null) {
+            throw new IllegalArgumentException("导入记录不能为null");
+        }
+        if (StrUtil.isBlank(record.getTaskId())) {
+            throw new IllegalArgumentException("任务ID不能为空");
+        }
+        recordStore.put(record);
+        log.debug("保存导入记录成功: {}, 状态: {}", record.getTaskId(), record.getStatus());
     }
 
     /**
@@ -31,7 +82,7 @@ public class InMemoryImportRecordService implements ImportRecordService {
      */
     @Override
     public void updateStatus(String taskId, ImportStatus status) {
-
+        update(taskId, record -> record.setStatus(status));
     }
 
     /**
@@ -42,7 +93,14 @@ public class InMemoryImportRecordService implements ImportRecordService {
      */
     @Override
     public void updateSuccess(String taskId, ImportResult result) {
-
+        update(taskId, record -> {
+            record.setStatus(ImportStatus.COMPLETED);
+            if (result != null) {
+                record.setTotalCount(result.getTotalCount());
+                record.setSuccessCount(result.getSuccessCount());
+                record.setFailCount(result.getFailedCount());
+            }
+        });
     }
 
     /**
@@ -53,7 +111,8 @@ public class InMemoryImportRecordService implements ImportRecordService {
      */
     @Override
     public void updateFail(String taskId, String errorMsg) {
-
+        update(taskId, record -> record.setStatus(ImportStatus.FAILED));
+        log.debug("标记导入任务失败: {}, 错误信息: {}", taskId, errorMsg);
     }
 
     /**
@@ -66,6 +125,89 @@ public class InMemoryImportRecordService implements ImportRecordService {
      */
     @Override
     public void updateProgress(String taskId, Long totalCount, Long successCount, Long failedCount) {
+        update(taskId, record -> {
+            record.setTotalCount(totalCount);
+            record.setSuccessCount(successCount);
+            record.setFailCount(failedCount);
+        });
+    }
 
+    /**
+     * 根据任务ID查询导入记录
+     *
+     * @param taskId 任务ID
+     * @return 导入记录，如果不存在返回null
+     */
+    public ImportRecord getByTaskId(String taskId) {
+        return StrUtil.isBlank(taskId) ? null : recordStore.get(taskId);
+    }
+
+    /**
+     * 根据状态查询导入记录列表（最新在前）
+     *
+     * @param status 状态
+     * @return 导入记录列表
+     */
+    public List<ImportRecord> listByStatus(ImportStatus status) {
+        if (status == null) {
+            return recordStore.listRecent(Integer.MAX_VALUE);
+        }
+        return recordStore.listByStatus(status);
+    }
+
+    /**
+     * 根据业务类型查询导入记录列表（最新在前）
+     *
+     * @param businessType 业务类型
+     * @return 导入记录列表
+     */
+    public List<ImportRecord> listByBusinessType(String businessType) {
+        if (StrUtil.isBlank(businessType)) {
+            return Collections.emptyList();
+        }
+        return recordStore.listByBusinessType(businessType);
+    }
+
+    /**
+     * 获取最近N条导入记录
+     *
+     * @param limit 记录条数
+     * @return 导入记录列表
+     */
+    public List<ImportRecord> getRecentRecords(int limit) {
+        return recordStore.listRecent(limit);
+    }
+
+    /**
+     * 获取各种状态的记录数量统计
+     *
+     * @return 状态统计Map
+     */
+    public Map<ImportStatus, Long> getStatusStatistics() {
+        return recordStore.countByStatus();
+    }
+
+    /**
+     * 获取所有导入记录数量
+     *
+     * @return 记录总数
+     */
+    public int getTotalCount() {
+        return recordStore.size();
+    }
+
+    /**
+     * 更新导入记录
+     *
+     * @param taskId  任务ID
+     * @param updater 更新函数
+     */
+    private void update(String taskId, Consumer<ImportRecord> updater) {
+        if (StrUtil.isBlank(taskId)) {
+            return;
+        }
+        if (recordStore.update(taskId, updater) == null) {
+            log.debug("导入记录不存在: {}", taskId);
+        }
     }
 }
@@ -0,0 +1,393 @@
+package com.silky.starter.excel.service.store;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 带二级索引的内存记录存储
+ * 按状态、业务类型、创建时间维护有序索引，列表与统计查询的开销与结果数量成正比；
+ * 超过容量上限或超过保留时间的已结束记录会在写入和更新时被淘汰，进行中的记录不会被淘汰；
+ * 没有写入时，列表与统计查询发现最早的已结束记录已过保留时间也会触发淘汰，过期记录不会一直留在查询结果中。
+ * 已结束记录单独维护创建时间索引，淘汰时不需要跳过进行中的记录。
+ * <p>
+ * 写操作串行执行，读操作无锁（仅在需要淘汰过期记录时加锁）。
+ *
+ * @author zy
+ * @since 1.1.0
+ */
+@Slf4j
+public class IndexedRecordStore<R, S> {
+
+    /**
+     * 按创建时间倒序（最新在前），同一时间按写入顺序倒序
+     */
+    private static final Comparator<IndexKey> NEWEST_FIRST = Comparator
+            .comparing((IndexKey key) -> key.createTime).reversed()
+            .thenComparing(Comparator.comparingLong((IndexKey key) -> key.sequence).reversed());
+
+    private final Function<R, String> idGetter;
+
+    private final Function<R, S> statusGetter;
+
+    private final Function<R, String> businessTypeGetter;
+
+    private final Function<R, LocalDateTime> createTimeGetter;
+
+    /**
+     * 判断记录是否已结束（只有已结束的记录会被淘汰）
+     */
+    private final Predicate<R> finishedPredicate;
+
+    /**
+     * 最大记录数，0 表示不限制
+     */
+    private final int maxSize;
+
+    /**
+     * 记录保留时间，为 null 表示不按时间淘汰
+     */
+    private final Duration ttl;
+
+    private final Map<String, Entry<R, S>> records = new ConcurrentHashMap<>();
+
+    private final ConcurrentSkipListSet<IndexKey> createTimeIndex = new ConcurrentSkipListSet<>(NEWEST_FIRST);
+
+    /**
+     * 已结束记录的创建时间索引（淘汰候选）
+     */
+    private final ConcurrentSkipListSet<IndexKey> finishedIndex = new ConcurrentSkipListSet<>(NEWEST_FIRST);
+
+    private final Map<S, ConcurrentSkipListSet<IndexKey>> statusIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, ConcurrentSkipListSet<IndexKey>> businessTypeIndex = new ConcurrentHashMap<>();
+
+    private final Map<S, Long> statusCounts = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> businessTypeCounts = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * 构造函数
+     *
+     * @param idGetter           记录ID
+     * @param statusGetter       记录状态
+     * @param businessTypeGetter 记录业务类型
+     * @param createTimeGetter   记录创建时间
+     * @param finishedPredicate  记录是否已结束
+     * @param maxSize            最大记录数，0 表示不限制
+     * @param ttl                记录保留时间，为 null 表示不按时间淘汰
+     */
+    public IndexedRecordStore(Function<R, String> idGetter,
+                              Function<R, S> statusGetter,
+                              Function<R, String> businessTypeGetter,
+                              Function<R, LocalDateTime> createTimeGetter,
+                              Predicate<R> finishedPredicate,
+                              int maxSize,
+                              Duration ttl) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("最大记录数不能小于0");
+        }
+        this.idGetter = idGetter;
+        this.statusGetter = statusGetter;
+        this.businessTypeGetter = businessTypeGetter;
+        this.createTimeGetter = createTimeGetter;
+        this.finishedPredicate = finishedPredicate;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 保存记录（已存在时覆盖）
+     *
+     * @param record 记录
+     */
+    public synchronized void put(R record) {
+        String id = idGetter.apply(record);
+        Entry<R, S> old = records.remove(id);
+        if (old != null) {
+            unindex(old);
+        }
+        LocalDateTime createTime = createTimeGetter.apply(record);
+        IndexKey key = new IndexKey(id, createTime != null ? createTime : LocalDateTime.now(), sequence.incrementAndGet());
+        Entry<R, S> entry = new Entry<>(record, key);
+        records.put(id, entry);
+        index(entry);
+        evict();
+    }
+
+    /**
+     * 获取记录
+     *
+     * @param id 记录ID
+     * @return 记录，不存在时返回 null
+     */
+    public R get(String id) {
+        Entry<R, S> entry = records.get(id);
+        return entry != null ? entry.record : null;
+    }
+
+    /**
+     * 更新记录并同步索引
+     *
+     * @param id      记录ID
+     * @param updater 更新函数
+     * @return 更新后的记录，不存在时返回 null
+     */
+    public synchronized R update(String id, Consumer<R> updater) {
+        Entry<R, S> entry = records.get(id);
+        if (entry == null) {
+            return null;
+        }
+        updater.accept(entry.record);
+        S status = statusGetter.apply(entry.record);
+        String businessType = businessTypeGetter.apply(entry.record);
+        if (!Objects.equals(status, entry.status) || !Objects.equals(businessType, entry.businessType)
+                || finishedPredicate.test(entry.record) != entry.finished) {
+            unindex(entry);
+            index(entry);
+            // 记录结束后成为淘汰候选
+            if (entry.finished) {
+                evict();
+            }
+        }
+        return entry.record;
+    }
+
+    /**
+     * 删除记录
+     *
+     * @param id 记录ID
+     * @return 被删除的记录，不存在时返回 null
+     */
+    public synchronized R remove(String id) {
+        Entry<R, S> entry = records.remove(id);
+        if (entry == null) {
+            return null;
+        }
+        unindex(entry);
+        return entry.record;
+    }
+
+    /**
+     * 删除创建时间早于指定时间的记录
+     *
+     * @param time 时间
+     * @return 删除的记录数
+     */
+    public synchronized int removeCreatedBefore(LocalDateTime time) {
+        // 倒序集合中，早于 time 的记录都排在 (time, Long.MIN_VALUE) 之后
+        List<IndexKey> expired = new ArrayList<>(createTimeIndex.tailSet(new IndexKey(null, time, Long.MIN_VALUE), false));
+        for (IndexKey key : expired) {
+            remove(key.id);
+        }
+        return expired.size();
+    }
+
+    /**
+     * 按状态查询（最新在前）
+     *
+     * @param status 状态
+     * @return 记录列表
+     */
+    public List<R> listByStatus(S status) {
+        evictIfExpired();
+        return toRecords(statusIndex.get(status), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按业务类型查询（最新在前）
+     *
+     * @param businessType 业务类型
+     * @return 记录列表
+     */
+    public List<R> listByBusinessType(String businessType) {
+        evictIfExpired();
+        return toRecords(businessTypeIndex.get(businessType), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 查询最近创建的记录（最新在前）
+     *
+     * @param limit 最大条数
+     * @return 记录列表
+     */
+    public List<R> listRecent(int limit) {
+        evictIfExpired();
+        return toRecords(createTimeIndex, limit);
+    }
+
+    /**
+     * 按状态统计记录数
+     *
+     * @return 状态 -> 记录数
+     */
+    public Map<S, Long> countByStatus() {
+        evictIfExpired();
+        return new HashMap<>(statusCounts);
+    }
+
+    /**
+     * 按业务类型统计记录数
+     *
+     * @return 业务类型 -> 记录数
+     */
+    public Map<String, Long> countByBusinessType() {
+        evictIfExpired();
+        return new HashMap<>(businessTypeCounts);
+    }
+
+    /**
+     * 当前记录数
+     *
+     * @return 记录数
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * 累计淘汰的记录数
+     *
+     * @return 淘汰数
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * 最早的已结束记录超过保留时间时执行淘汰，未过期时不加锁
+     */
+    private void evictIfExpired() {
+        if (ttl == null) {
+            return;
+        }
+        Iterator<IndexKey> oldest = finishedIndex.descendingIterator();
+        if (oldest.hasNext() && oldest.next().createTime.isBefore(LocalDateTime.now().minus(ttl))) {
+            synchronized (this) {
+                evict();
+            }
+        }
+    }
+
+    /**
+     * 淘汰超过保留时间或超出容量的已结束记录，从最早的已结束记录开始
+     * 只遍历已结束记录的索引，每次遍历的条目都会被淘汰或直接结束遍历
+     */
+    private void evict() {
+        LocalDateTime expireBefore = ttl != null ? LocalDateTime.now().minus(ttl) : null;
+        Iterator<IndexKey> oldest = finishedIndex.descendingIterator();
+        while (oldest.hasNext()) {
+            IndexKey key = oldest.next();
+            boolean expired = expireBefore != null && key.createTime.isBefore(expireBefore);
+            boolean overCapacity = maxSize > 0 && records.size() > maxSize;
+            if (!expired && !overCapacity) {
+                return;
+            }
+            remove(key.id);
+            evictionCount.incrementAndGet();
+            log.debug("淘汰记录: {}", key.id);
+        }
+    }
+
+    private void index(Entry<R, S> entry) {
+        entry.status = statusGetter.apply(entry.record);
+        entry.businessType = businessTypeGetter.apply(entry.record);
+        entry.finished = finishedPredicate.test(entry.record);
+        createTimeIndex.add(entry.key);
+        if (entry.finished) {
+            finishedIndex.add(entry.key);
+        }
+        addTo(statusIndex, statusCounts, entry.status, entry.key);
+        addTo(businessTypeIndex, businessTypeCounts, entry.businessType, entry.key);
+    }
+
+    private void unindex(Entry<R, S> entry) {
+        createTimeIndex.remove(entry.key);
+        finishedIndex.remove(entry.key);
+        removeFrom(statusIndex, statusCounts, entry.status, entry.key);
+        removeFrom(businessTypeIndex, businessTypeCounts, entry.businessType, entry.key);
+    }
+
+    private static <K> void addTo(Map<K, ConcurrentSkipListSet<IndexKey>> index, Map<K, Long> counts, K value, IndexKey key) {
+        if (value == null) {
+            return;
+        }
+        if (index.computeIfAbsent(value, k -> new ConcurrentSkipListSet<>(NEWEST_FIRST)).add(key)) {
+            counts.merge(value, 1L, Long::sum);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, ConcurrentSkipListSet<IndexKey>> index, Map<K, Long> counts, K value, IndexKey key) {
+        if (value == null) {
+            return;
+        }
+        ConcurrentSkipListSet<IndexKey> keys = index.get(value);
+        if (keys != null && keys.remove(key)) {
+            // 计数归零时同时移除索引，保证统计结果不含空项
+            if (counts.merge(value, -1L, Long::sum) <= 0) {
+                counts.remove(value);
+                index.remove(value);
+            }
+        }
+    }
+
+    private List<R> toRecords(Set<IndexKey> keys, int limit) {
+        if (keys == null || limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<R> result = new ArrayList<>();
+        for (IndexKey key : keys) {
+            Entry<R, S> entry = records.get(key.id);
+            if (entry != null) {
+                result.add(entry.record);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 存储条目，记录当前被索引的状态与业务类型
+     */
+    private static final class Entry<R, S> {
+        final R record;
+        final IndexKey key;
+        S status;
+        String businessType;
+        boolean finished;
+
+        Entry(R record, IndexKey key) {
+            this.record = record;
+            this.key = key;
+        }
+    }
+
+    /**
+     * 索引键
+     */
+    private static final class IndexKey {
+        final String id;
+        final LocalDateTime createTime;
+        final long sequence;
+
+        IndexKey(String id, LocalDateTime createTime, long sequence) {
+            this.id = id;
+            this.createTime = createTime;
+            this.sequence = sequence;
+        }
+    }
+}
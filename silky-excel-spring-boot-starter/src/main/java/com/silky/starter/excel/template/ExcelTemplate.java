@@ -59,6 +59,16 @@ public interface ExcelTemplate {
      */
     <T> CompletableFuture<ExportResult> exportFuture(ExportRequest<T> request);
 
+    /**
+     * 从检查点恢复中断的导出任务
+     * 请求需与原任务一致（数据供应器、查询参数、Sheet定义），已持久化的分页直接回放，其余分页从检查点位置继续查询
+     *
+     * @param taskId    原导出任务ID
+     * @param request   导出请求
+     * @param asyncType 异步类型
+     */
+    <T> ExportResult resumeExport(String taskId, ExportRequest<T> request, AsyncType asyncType);
+
     /**
      * 同步导入数据（适合小数据量）
      *
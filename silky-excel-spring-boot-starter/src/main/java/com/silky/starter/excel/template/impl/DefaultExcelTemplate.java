@@ -18,6 +18,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
 /**
@@ -100,7 +101,30 @@ public class DefaultExcelTemplate implements ExcelTemplate, InitializingBean {
      */
     @Override
     public <T> CompletableFuture<ExportResult> exportFuture(ExportRequest<T> request) {
-        return CompletableFuture.supplyAsync(() -> exportSync(request), silkyExcelTaskExecutor);
+        try {
+            return CompletableFuture.supplyAsync(() -> exportSync(request), silkyExcelTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("异步导出任务被拒绝: {}", e.getMessage());
+            return CompletableFuture.completedFuture(ExportResult.fail(null, "导出任务被拒绝: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 从检查点恢复中断的导出任务
+     *
+     * @param taskId    原导出任务ID
+     * @param request   导出请求
+     * @param asyncType 异步类型
+     */
+    @Override
+    public <T> ExportResult resumeExport(String taskId, ExportRequest<T> request, AsyncType asyncType) {
+        if (StrUtil.isBlank(taskId)) {
+            throw new IllegalArgumentException("恢复导出的任务ID不能为空");
+        }
+        return exportInternal(request, asyncType, task -> {
+            task.setTaskId(taskId);
+            task.setResume(true);
+        });
     }
 
     /**
@@ -154,7 +178,12 @@ public class DefaultExcelTemplate implements ExcelTemplate, InitializingBean {
      */
     @Override
     public <T> CompletableFuture<ImportResult> importFuture(ImportRequest<T> request) {
-        return CompletableFuture.supplyAsync(() -> importSync(request), silkyExcelTaskExecutor);
+        try {
+            return CompletableFuture.supplyAsync(() -> importSync(request), silkyExcelTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("异步导入任务被拒绝: {}", e.getMessage());
+            return CompletableFuture.completedFuture(ImportResult.fail(null, "导入任务被拒绝: " + e.getMessage()));
+        }
     }
 
     /**
@@ -0,0 +1,79 @@
+package com.silky.starter.excel.config;
+
+import cn.hutool.core.io.FileUtil;
+import cn.idev.excel.annotation.ExcelProperty;
+import com.silky.starter.excel.core.metrics.SilkyExcelMeterBinder;
+import com.silky.starter.excel.core.model.export.ExportPageData;
+import com.silky.starter.excel.core.model.export.ExportRequest;
+import com.silky.starter.excel.core.model.export.ExportResult;
+import com.silky.starter.excel.enums.AsyncType;
+import com.silky.starter.excel.template.ExcelTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 指标自动配置测试：引入 actuator 时应用上下文正常启动，导出/导入引擎使用 Micrometer 记录指标
+ *
+ * @author zy
+ */
+public class SilkyExcelMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MetricsAutoConfiguration.class,
+                    SimpleMetricsExportAutoConfiguration.class, CompositeMeterRegistryAutoConfiguration.class,
+                    SilkyExcelAutoConfiguration.class, SilkyExcelMetricsAutoConfiguration.class));
+
+    /**
+     * MeterRegistry 初始化时绑定依赖导出引擎的 MeterBinder，不能与引擎获取指标记录器形成循环依赖
+     */
+    @Test
+    public void testContextStartsWithActuator() throws IOException {
+        Path storageDir = Files.createTempDirectory("silky-excel-metrics");
+        try {
+            contextRunner.withPropertyValues("silky.excel.storage.local.base-path=" + storageDir)
+                    .run(context -> {
+                        assertNull(context.getStartupFailure());
+                        assertNotNull(context.getBean(SilkyExcelMeterBinder.class));
+                        MeterRegistry registry = context.getBean(MeterRegistry.class);
+                        assertNotNull(registry.find("silky.excel.tasks.active").tag("operation", "export").gauge());
+                        assertNotNull(registry.find("silky.excel.tasks.active").tag("operation", "import").gauge());
+
+                        ExportRequest<MetricsRow> request = ExportRequest.<MetricsRow>builder()
+                                .dataClass(MetricsRow.class)
+                                .fileName("metrics.xlsx")
+                                .dataSupplier((pageNum, pageSize, params) ->
+                                        new ExportPageData<>(Collections.singletonList(new MetricsRow(1L)), false))
+                                .build();
+                        ExportResult result = context.getBean(ExcelTemplate.class).export(request, AsyncType.SYNC);
+                        assertTrue(result.isSuccess(), result.getMessage());
+                        assertNotNull(registry.find("silky.excel.task").tag("operation", "export").timer());
+                    });
+        } finally {
+            FileUtil.del(storageDir.toFile());
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MetricsRow {
+
+        @ExcelProperty("ID")
+        private Long id;
+    }
+}
@@ -0,0 +1,115 @@
+package com.silky.starter.excel.core.engine;
+
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdaptivePageSizer 测试：查询快时翻倍、查询慢或内存不足时减半，始终在上下限内，且只按 2 倍调整
+ *
+ * @author zy
+ */
+public class AdaptivePageSizerTest {
+
+    private static final long TARGET_MILLIS = 100;
+
+    private static final long FAST = 0;
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(TARGET_MILLIS * 3);
+
+    /**
+     * 查询耗时低于目标一半时逐页翻倍，翻倍会超过上限时停止
+     */
+    @Test
+    public void testGrowsUpToMaxPageSize() {
+        assertEquals(Arrays.asList(200, 400, 800, 800, 800), sizes(sizer(100, 1000, 1), 100, FAST, 5));
+        assertEquals(Arrays.asList(250, 500, 1000, 1000), sizes(sizer(125, 1000, 1), 125, FAST, 4));
+    }
+
+    /**
+     * 查询耗时超过目标两倍时逐页减半，减半会低于下限或当前大小为奇数时停止
+     */
+    @Test
+    public void testShrinksDownToMinPageSize() {
+        assertEquals(Arrays.asList(400, 200, 100, 100), sizes(sizer(100, 1000, 1), 800, SLOW, 4));
+        assertEquals(Arrays.asList(500, 250, 125, 125), sizes(sizer(100, 1000, 1), 1000, SLOW, 4));
+    }
+
+    /**
+     * 耗时在目标附近、末尾不足一页时保持不变
+     */
+    @Test
+    public void testKeepsSizeWithinTargetOrOnPartialPage() {
+        AdaptivePageSizer sizer = sizer(100, 1000, 1);
+        assertEquals(200, sizer.nextPageSize(200, rows(200), TimeUnit.MILLISECONDS.toNanos(TARGET_MILLIS)));
+        assertEquals(200, sizer.nextPageSize(200, rows(150), FAST), "末尾不足一页不放大");
+        assertTrue(sizer.getRowBytes() > 0);
+    }
+
+    /**
+     * 在途分页的预计内存超过堆内存预算时，即使查询很快也减半，但不低于下限
+     */
+    @Test
+    public void testHeapBudgetShrinksButNotBelowMin() {
+        AdaptivePageSizer sizer = new AdaptivePageSizer(Row.class, new ExcelModelRegistry(), 100, 1000,
+                TARGET_MILLIS, Double.MIN_VALUE, 1000);
+        assertEquals(Arrays.asList(400, 200, 100, 100), sizes(sizer, 800, FAST, 4));
+    }
+
+    /**
+     * 快慢交替时在上下限之间来回调整，不会越界
+     */
+    @Test
+    public void testAlternatingLatencyStaysWithinBounds() {
+        AdaptivePageSizer sizer = sizer(64, 512, 1);
+        int pageSize = 64;
+        for (int i = 0; i < 50; i++) {
+            long fetchNanos = (i / 5) % 2 == 0 ? FAST : SLOW;
+            int next = sizer.nextPageSize(pageSize, rows(pageSize), fetchNanos);
+            assertTrue(next >= 64 && next <= 512, "pageSize=" + next);
+            assertTrue(next == pageSize || next == pageSize * 2 || next * 2 == pageSize, pageSize + " -> " + next);
+            pageSize = next;
+        }
+    }
+
+    private static AdaptivePageSizer sizer(int min, int max, int pagesInFlight) {
+        return new AdaptivePageSizer(Row.class, new ExcelModelRegistry(), min, max, TARGET_MILLIS, 0.5, pagesInFlight);
+    }
+
+    /**
+     * 连续按整页查询 pages 页，返回每页之后的分页大小
+     */
+    private static List<Integer> sizes(AdaptivePageSizer sizer, int pageSize, long fetchNanos, int pages) {
+        List<Integer> sizes = new ArrayList<>();
+        for (int i = 0; i < pages; i++) {
+            pageSize = sizer.nextPageSize(pageSize, rows(pageSize), fetchNanos);
+            sizes.add(pageSize);
+        }
+        return sizes;
+    }
+
+    private static List<Row> rows(int count) {
+        List<Row> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row((long) i, "name-" + i));
+        }
+        return rows;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Row {
+
+        private Long id;
+
+        private String name;
+    }
+}
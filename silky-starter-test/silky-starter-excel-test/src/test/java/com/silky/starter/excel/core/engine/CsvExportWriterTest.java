@@ -0,0 +1,173 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelIgnore;
+import cn.idev.excel.annotation.ExcelProperty;
+import cn.idev.excel.annotation.format.DateTimeFormat;
+import cn.idev.excel.annotation.format.NumberFormat;
+import cn.idev.excel.support.ExcelTypeEnum;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CSV 快速写入测试：相同字符集下输出与 FastExcel 写出的 CSV 逐字节一致
+ *
+ * @author zy
+ */
+public class CsvExportWriterTest {
+
+    /**
+     * 需要转义的文本（引号、分隔符、换行、首尾空白）与 null 值的写出结果与 FastExcel 一致
+     */
+    @Test
+    public void testQuotingMatchesFastExcel() {
+        List<CsvRow> rows = new ArrayList<>();
+        String[] names = {"plain", "a,b", "say \"hi\"", "line1\nline2", "cr\rlf\r\n", " padded ", "", null, "中文,逗号", "\"", "#"};
+        for (int i = 0; i < names.length; i++) {
+            rows.add(row(i, names[i]));
+        }
+        rows.add(new CsvRow());
+
+        assertArrayEquals(writeWithFastExcel(rows, StandardCharsets.UTF_8), writeWithCsvWriter(rows, 1, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 非 Unicode 字符集（GBK）不写 BOM，编码与 FastExcel 一致
+     */
+    @Test
+    public void testGbkMatchesFastExcel() {
+        List<CsvRow> rows = Arrays.asList(row(1, "中文,逗号"), row(2, "汉字"));
+        Charset gbk = Charset.forName("GBK");
+
+        byte[] bytes = writeWithCsvWriter(rows, 1, gbk);
+        assertArrayEquals(writeWithFastExcel(rows, gbk), bytes);
+        assertTrue(new String(bytes, gbk).startsWith("编号,名称"));
+    }
+
+    /**
+     * 未指定字符集时与 FastExcel 一样使用 JVM 默认字符集
+     */
+    @Test
+    public void testDefaultCharsetMatchesFastExcel() {
+        List<CsvRow> rows = Arrays.asList(row(1, "中文"), row(2, "b"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvExportWriter writer = new CsvExportWriter(out, "test.csv");
+        writer.write(rows, CsvRow.class, null, null);
+        writer.close();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        FastExcel.write(expected, CsvRow.class).excelType(ExcelTypeEnum.CSV).sheet().doWrite(rows);
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+    }
+
+    /**
+     * 输出以 UTF-8 BOM 开头，表头和数据行以 CRLF 结尾
+     */
+    @Test
+    public void testBomAndLineSeparator() {
+        byte[] bytes = writeWithCsvWriter(Arrays.asList(row(1, "a"), row(2, "b")), 1, StandardCharsets.UTF_8);
+
+        assertEquals((byte) 0xEF, bytes[0]);
+        assertEquals((byte) 0xBB, bytes[1]);
+        assertEquals((byte) 0xBF, bytes[2]);
+        String text = new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8);
+        String[] lines = text.split("\r\n", -1);
+        assertEquals(4, lines.length, "表头 + 2 行数据 + 末尾空串");
+        assertEquals("", lines[3]);
+        assertFalse(text.replace("\r\n", "").contains("\n"));
+        assertTrue(lines[0].startsWith("编号,名称"), lines[0]);
+    }
+
+    /**
+     * 分多批写入与一次写入的结果相同，表头只写一次
+     */
+    @Test
+    public void testBatchedWritesMatchSingleWrite() {
+        List<CsvRow> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add(row(i, i % 10 == 0 ? "n,\"" + i + "\"" : "n" + i));
+        }
+
+        byte[] expected = writeWithFastExcel(rows, StandardCharsets.UTF_8);
+        assertArrayEquals(expected, writeWithCsvWriter(rows, 1, StandardCharsets.UTF_8));
+        assertArrayEquals(expected, writeWithCsvWriter(rows, 7, StandardCharsets.UTF_8));
+    }
+
+    private static byte[] writeWithFastExcel(List<CsvRow> rows, Charset charset) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FastExcel.write(out, CsvRow.class).excelType(ExcelTypeEnum.CSV).charset(charset).sheet().doWrite(rows);
+        return out.toByteArray();
+    }
+
+    private static byte[] writeWithCsvWriter(List<CsvRow> rows, int batches, Charset charset) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvExportWriter writer = new CsvExportWriter(out, "test.csv", ExcelModelRegistry.shared(), charset);
+        int batchSize = (rows.size() + batches - 1) / batches;
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            writer.write(rows.subList(from, Math.min(from + batchSize, rows.size())), CsvRow.class, null, null);
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static CsvRow row(int i, String name) {
+        CsvRow row = new CsvRow();
+        row.setId(i);
+        row.setName(name);
+        row.setAmount(new BigDecimal(i + ".50"));
+        row.setRate(i / 3.0);
+        row.setCreateTime(LocalDateTime.of(2024, 1, 2, 3, 4, 5).plusDays(i));
+        row.setBirthday(LocalDate.of(2000, 1, 1).plusDays(i));
+        row.setDate(new Date(1700000000000L + i * 1000L));
+        row.setActive(i % 2 == 0);
+        row.setRemark("ignored" + i);
+        return row;
+    }
+
+    @Data
+    public static class CsvRow {
+
+        @ExcelProperty("编号")
+        private Integer id;
+
+        @ExcelProperty("名称")
+        private String name;
+
+        @ExcelProperty("金额")
+        private BigDecimal amount;
+
+        @ExcelProperty("比率")
+        @NumberFormat("#.##%")
+        private Double rate;
+
+        @ExcelProperty("创建时间")
+        @DateTimeFormat("yyyy/MM/dd HH:mm")
+        private LocalDateTime createTime;
+
+        @ExcelProperty("生日")
+        private LocalDate birthday;
+
+        @ExcelProperty("日期")
+        private Date date;
+
+        @ExcelProperty("启用")
+        private Boolean active;
+
+        @ExcelIgnore
+        private String remark;
+    }
+}
@@ -0,0 +1,248 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.hutool.core.io.FileUtil;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelProperty;
+import cn.idev.excel.annotation.format.DateTimeFormat;
+import cn.idev.excel.support.ExcelTypeEnum;
+import com.silky.starter.excel.core.listener.DefaultAnalysisListeners;
+import com.silky.starter.excel.core.model.AnalysisListenersContext;
+import com.silky.starter.excel.core.model.imports.ImportRequest;
+import com.silky.starter.excel.core.model.imports.ImportResult;
+import lombok.Data;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CSV 快速读取测试：相同字符集下读取结果与 FastExcel 读取同一文件的结果一致
+ *
+ * @author zy
+ */
+public class CsvImportReaderTest {
+
+    private static final String BOM = "\uFEFF";
+
+    private Path dir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("silky-csv-import");
+        assertTrue(CsvImportReader.supports(CsvRow.class), "测试数据类应使用CSV快速读取");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        FileUtil.del(dir.toFile());
+    }
+
+    /**
+     * 读取 FastExcel 写出的 CSV（BOM、引号、跨行字段），结果与 FastExcel 读取一致并还原原始数据
+     */
+    @Test
+    public void testReadsFastExcelOutput() {
+        List<CsvRow> rows = new ArrayList<>();
+        String[] names = {"plain", "a,b", "say \"hi\"", "line1\nline2", "line1\r\nline2", "", null, "中文,逗号", "\"\""};
+        for (int i = 0; i < 600; i++) {
+            CsvRow row = new CsvRow();
+            row.setId(i);
+            row.setName(names[i % names.length]);
+            row.setAmount(new BigDecimal(i + ".25"));
+            row.setCreateTime(LocalDateTime.of(2024, 1, 2, 3, 4, 5).plusMinutes(i));
+            rows.add(row);
+        }
+        File file = dir.resolve("fastexcel.csv").toFile();
+        FastExcel.write(file, CsvRow.class).excelType(ExcelTypeEnum.CSV).charset(StandardCharsets.UTF_8).sheet().doWrite(rows);
+
+        Result fast = read(file, true);
+        assertEquals(read(file, false), fast);
+        assertEquals(rows.size(), fast.rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(rows.get(i).getId(), fast.rows.get(i).getId());
+            assertEquals(rows.get(i).getAmount(), fast.rows.get(i).getAmount());
+            assertEquals(rows.get(i).getCreateTime(), fast.rows.get(i).getCreateTime());
+        }
+    }
+
+    /**
+     * 手写的 CSV：带 BOM、LF 与 CRLF 混用、跨行引号字段、引号转义、首尾空白、空行、末行没有换行
+     */
+    @Test
+    public void testQuotedMultilineAndBomInputMatchesFastExcel() throws IOException {
+        String content = BOM + "编号,名称,金额,创建时间\r\n"
+                + "1,\"a,b\",1.50,2024-01-02 03:04:05\n"
+                + "2,\"say \"\"hi\"\"\",2,2024-01-02 03:04:05\r\n"
+                + "3,\"first\r\nsecond\nthird\",  3.5  ,2024-01-02 03:04:05\n"
+                + "\r\n"
+                + "4,  padded  ,,\n"
+                + "5,\"\",-0.01,2024-12-31 23:59:59\n"
+                + "6,\"中文\"";
+        assertSameAsFastExcel(write("manual.csv", content), 6);
+    }
+
+    /**
+     * 没有 BOM、只用 LF 换行时，结果与 FastExcel 一致
+     */
+    @Test
+    public void testInputWithoutBomMatchesFastExcel() throws IOException {
+        String content = "编号,名称,金额,创建时间\n"
+                + "1,x,1,2024-01-02 03:04:05\n"
+                + "2,\"y\nz\",2,2024-01-02 03:04:05\n";
+        assertSameAsFastExcel(write("no-bom.csv", content), 2);
+    }
+
+    /**
+     * 转换失败的行在两种读取方式下记录相同的行号并跳过
+     */
+    @Test
+    public void testConversionErrorsMatchFastExcel() throws IOException {
+        String content = BOM + "编号,名称,金额,创建时间\r\n"
+                + "1,ok,1,2024-01-02 03:04:05\r\n"
+                + "x,\"bad\nid\",1,2024-01-02 03:04:05\r\n"
+                + "3,ok,abc,2024-01-02 03:04:05\r\n"
+                + "4,ok,4,2024-01-02 03:04:05\r\n";
+        File file = write("errors.csv", content);
+        Result fast = read(file, true);
+        Result slow = read(file, false);
+
+        assertEquals(slow.rows, fast.rows);
+        assertEquals(2, fast.rows.size());
+        assertEquals(rowIndexes(slow.errors), rowIndexes(fast.errors));
+        assertEquals(2, fast.errors.size());
+    }
+
+    /**
+     * GBK 编码的 CSV 按 GBK 读取，结果与 FastExcel 一致，不把开头字符当作 BOM 去除
+     */
+    @Test
+    public void testGbkInputMatchesFastExcel() throws IOException {
+        Charset gbk = Charset.forName("GBK");
+        String content = "编号,名称,金额,创建时间\r\n"
+                + "1,\"中文,逗号\",1,2024-01-02 03:04:05\r\n"
+                + "2,汉字,2,2024-01-02 03:04:05\r\n";
+        Path path = dir.resolve("gbk.csv");
+        Files.write(path, content.getBytes(gbk));
+
+        Result fast = read(path.toFile(), true, gbk);
+        assertEquals(read(path.toFile(), false, gbk), fast);
+        assertEquals(2, fast.rows.size());
+        assertEquals("中文,逗号", fast.rows.get(0).getName());
+        assertEquals("汉字", fast.rows.get(1).getName());
+    }
+
+    private void assertSameAsFastExcel(File file, int expectedRows) {
+        Result fast = read(file, true);
+        assertEquals(read(file, false), fast);
+        assertEquals(expectedRows, fast.rows.size());
+        assertTrue(fast.errors.isEmpty(), String.valueOf(fast.errors));
+    }
+
+    private File write(String name, String content) throws IOException {
+        Path path = dir.resolve(name);
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path.toFile();
+    }
+
+    private static List<Integer> rowIndexes(List<ImportResult.ImportError> errors) {
+        List<Integer> indexes = new ArrayList<>();
+        for (ImportResult.ImportError error : errors) {
+            indexes.add(error.getRowIndex());
+        }
+        return indexes;
+    }
+
+    /**
+     * 按 UTF-8 读取文件
+     *
+     * @param file        CSV 文件
+     * @param csvFastRead 是否使用 CSV 快速读取，否则使用 FastExcel
+     * @return 导入的数据与错误
+     */
+    private static Result read(File file, boolean csvFastRead) {
+        return read(file, csvFastRead, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 读取文件
+     *
+     * @param file        CSV 文件
+     * @param csvFastRead 是否使用 CSV 快速读取，否则使用 FastExcel
+     * @param charset     字符集
+     * @return 导入的数据与错误
+     */
+    private static Result read(File file, boolean csvFastRead, Charset charset) {
+        Result result = new Result();
+        ImportRequest<CsvRow> request = ImportRequest.<CsvRow>builder()
+                .dataClass(CsvRow.class)
+                .fileName(file.getName())
+                .dataImporterSupplier((dataList, params) -> {
+                    result.rows.addAll(dataList);
+                    return null;
+                })
+                .build();
+        AnalysisListenersContext<CsvRow> context = AnalysisListenersContext.<CsvRow>builder()
+                .pageSize(100)
+                .maxErrorCount(100)
+                .taskId("csv-" + csvFastRead)
+                .request(request)
+                .build();
+        DefaultAnalysisListeners<CsvRow> listeners = new DefaultAnalysisListeners<>(context);
+        try (ExcelReaderWrapper<CsvRow> reader = new ExcelReaderWrapper<>(file.getAbsolutePath(), true, listeners, csvFastRead, charset)) {
+            reader.doRead();
+            result.errors.addAll(reader.getAllErrors());
+        }
+        return result;
+    }
+
+    private static class Result {
+
+        final List<CsvRow> rows = new ArrayList<>();
+
+        final List<ImportResult.ImportError> errors = new ArrayList<>();
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Result && rows.equals(((Result) o).rows) && errors.size() == ((Result) o).errors.size();
+        }
+
+        @Override
+        public int hashCode() {
+            return rows.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "rows=" + rows + ", errors=" + errors.size();
+        }
+    }
+
+    @Data
+    public static class CsvRow {
+
+        @ExcelProperty("编号")
+        private Integer id;
+
+        @ExcelProperty("名称")
+        private String name;
+
+        @ExcelProperty("金额")
+        private BigDecimal amount;
+
+        @ExcelProperty("创建时间")
+        @DateTimeFormat("yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime createTime;
+    }
+}
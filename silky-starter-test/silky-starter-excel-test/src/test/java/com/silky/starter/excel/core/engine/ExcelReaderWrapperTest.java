@@ -0,0 +1,141 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.hutool.core.io.FileUtil;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelProperty;
+import com.silky.starter.excel.core.model.imports.ImportRequest;
+import com.silky.starter.excel.core.model.imports.ImportResult;
+import com.silky.starter.excel.core.storage.factory.StorageStrategyFactory;
+import com.silky.starter.excel.core.storage.impl.LocalStorageStrategy;
+import com.silky.starter.excel.entity.ImportRecord;
+import com.silky.starter.excel.enums.ImportStatus;
+import com.silky.starter.excel.properties.SilkyExcelProperties;
+import com.silky.starter.excel.service.compression.impl.CompressionServiceImpl;
+import com.silky.starter.excel.service.imports.impl.InMemoryImportRecordService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExcelReaderWrapper 测试：XLSX 导入按数据类绑定列，监听器和数据导入器收到的是数据类实例而不是按列号的 Map
+ *
+ * @author zy
+ */
+public class ExcelReaderWrapperTest {
+
+    private Path storageDir;
+
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    private ScheduledExecutorService cleanupExecutor;
+
+    private InMemoryImportRecordService recordService;
+
+    private ImportEngine importEngine;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        storageDir = Files.createTempDirectory("silky-import-xlsx");
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.initialize();
+        cleanupExecutor = Executors.newSingleThreadScheduledExecutor();
+
+        SilkyExcelProperties properties = new SilkyExcelProperties();
+        properties.getStorage().getLocal().setBasePath(storageDir.toString());
+        StorageStrategyFactory storageStrategyFactory = new StorageStrategyFactory(
+                Collections.singletonList(new LocalStorageStrategy(properties)));
+        storageStrategyFactory.init();
+        recordService = new InMemoryImportRecordService();
+        importEngine = new ImportEngine(recordService, taskExecutor,
+                new CompressionServiceImpl(properties), storageStrategyFactory, properties, cleanupExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        importEngine.shutdown();
+        taskExecutor.shutdown();
+        cleanupExecutor.shutdownNow();
+        FileUtil.del(storageDir.toFile());
+    }
+
+    /**
+     * XLSX 按表头绑定到数据类字段，列顺序与数据类不同时也按表头匹配，数量转换为 Integer；
+     * 导入完成后导入记录更新为已完成并带上导入行数
+     */
+    @Test
+    public void testXlsxRowsAreBoundToDataClass() {
+        FastExcel.write(storageDir.resolve("rows.xlsx").toFile(), SourceRow.class).sheet("数据")
+                .doWrite(Arrays.asList(new SourceRow("3", "a"), new SourceRow("5", "b")));
+        List<Object> received = new ArrayList<>();
+        ImportRequest<ImportRow> request = ImportRequest.<ImportRow>builder()
+                .dataClass(ImportRow.class)
+                .fileName("rows.xlsx")
+                .fileUrl("rows.xlsx")
+                .pageSize(100)
+                .dataImporterSupplier((dataList, params) -> {
+                    // 按 Object 收集，收到 Map 时不会在此处抛出 ClassCastException
+                    received.addAll(dataList);
+                    return null;
+                })
+                .build();
+
+        ImportResult result = importEngine.importSync(request);
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals(2, received.size());
+        for (Object row : received) {
+            assertInstanceOf(ImportRow.class, row);
+        }
+        assertEquals(new ImportRow("a", 3), received.get(0));
+        assertEquals(new ImportRow("b", 5), received.get(1));
+
+        ImportRecord record = recordService.getByTaskId(result.getTaskId());
+        assertNotNull(record);
+        assertEquals(ImportStatus.COMPLETED, record.getStatus());
+        assertEquals(2L, record.getSuccessCount());
+        assertEquals(1L, recordService.getStatusStatistics().get(ImportStatus.COMPLETED));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportRow {
+
+        @ExcelProperty("编号")
+        private String id;
+
+        @ExcelProperty("数量")
+        private Integer quantity;
+    }
+
+    /**
+     * 数量列在编号列之前
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SourceRow {
+
+        @ExcelProperty("数量")
+        private String quantity;
+
+        @ExcelProperty("编号")
+        private String id;
+    }
+}
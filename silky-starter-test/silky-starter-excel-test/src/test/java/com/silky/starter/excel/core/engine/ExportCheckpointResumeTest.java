@@ -0,0 +1,280 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.hutool.core.io.FileUtil;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelIgnore;
+import cn.idev.excel.annotation.ExcelProperty;
+import cn.idev.excel.annotation.format.DateTimeFormat;
+import com.silky.starter.excel.core.model.export.*;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
+import com.silky.starter.excel.core.storage.factory.StorageStrategyFactory;
+import com.silky.starter.excel.core.storage.impl.LocalStorageStrategy;
+import com.silky.starter.excel.entity.ExportCheckpoint;
+import com.silky.starter.excel.enums.AsyncType;
+import com.silky.starter.excel.enums.TaskType;
+import com.silky.starter.excel.properties.SilkyExcelProperties;
+import com.silky.starter.excel.service.export.impl.InMemoryExportRecordService;
+import lombok.Data;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 导出检查点测试：中断后恢复的导出与一次完成的导出结果一致，检查点编码不丢失字段值
+ *
+ * @author zy
+ */
+public class ExportCheckpointResumeTest {
+
+    private static final int TOTAL_ROWS = 1000;
+
+    private static final int PAGE_SIZE = 37;
+
+    private static final int FAIL_AT_PAGE = 20;
+
+    private Path storageDir;
+
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    private ScheduledExecutorService cleanupExecutor;
+
+    private InMemoryExportRecordService recordService;
+
+    private ExportEngine exportEngine;
+
+    /**
+     * 查询失败的页码，-1 表示不失败
+     */
+    private volatile int failAtPage = -1;
+
+    /**
+     * 数据供应器被调用的次数
+     */
+    private final AtomicInteger fetchedPages = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        storageDir = Files.createTempDirectory("silky-export-checkpoint");
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.initialize();
+        cleanupExecutor = Executors.newSingleThreadScheduledExecutor();
+
+        SilkyExcelProperties properties = new SilkyExcelProperties();
+        properties.getStorage().getLocal().setBasePath(storageDir.toString());
+        properties.getExport().getCheckpoint().setPagesPerSegment(3);
+        properties.getExport().setPrefetchDepth(2);
+        StorageStrategyFactory storageStrategyFactory = new StorageStrategyFactory(
+                Collections.singletonList(new LocalStorageStrategy(properties)));
+        storageStrategyFactory.init();
+        recordService = new InMemoryExportRecordService();
+        exportEngine = new ExportEngine(storageStrategyFactory, recordService, properties,
+                taskExecutor, null, null, cleanupExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        exportEngine.shutdown();
+        taskExecutor.shutdown();
+        cleanupExecutor.shutdownNow();
+        FileUtil.del(storageDir.toFile());
+    }
+
+    /**
+     * CSV 导出中断后恢复，生成的文件与一次完成的导出逐字节相同
+     */
+    @Test
+    public void testResumedCsvExportEqualsUninterruptedExport() throws IOException {
+        ExportResult baseline = export("baseline", "resume.csv", false);
+        ExportResult resumed = interruptAndResume("resume.csv");
+
+        assertEquals(TOTAL_ROWS, resumed.getTotalCount());
+        assertArrayEquals(Files.readAllBytes(Paths.get(baseline.getFileUrl())),
+                Files.readAllBytes(Paths.get(resumed.getFileUrl())));
+    }
+
+    /**
+     * XLSX 导出中断后恢复，读出的单元格内容与一次完成的导出相同
+     */
+    @Test
+    public void testResumedXlsxExportEqualsUninterruptedExport() {
+        ExportResult baseline = export("baseline", "resume.xlsx", false);
+        ExportResult resumed = interruptAndResume("resume.xlsx");
+
+        List<Map<Integer, String>> expected = FastExcel.read(new File(baseline.getFileUrl())).headRowNumber(0).doReadAllSync();
+        List<Map<Integer, String>> actual = FastExcel.read(new File(resumed.getFileUrl())).headRowNumber(0).doReadAllSync();
+        assertEquals(TOTAL_ROWS + 1, expected.size(), "表头 + 数据行");
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * 检查点编码保留所有字段值：null、纳秒、BigDecimal 精度、被忽略的字段与只读字段
+     */
+    @Test
+    public void testRowCodecRoundTrip() throws IOException {
+        CheckpointRowCodec<CheckpointRow> codec = CheckpointRowCodec.of(CheckpointRow.class, new ExcelModelRegistry());
+        List<CheckpointRow> page = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            page.add(row(i));
+        }
+        page.add(null);
+        page.add(new CheckpointRow());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            codec.writeHeader(out);
+            codec.writePage(out, page);
+        }
+        List<CheckpointRow> decoded;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            codec.readHeader(in);
+            decoded = codec.readPage(in);
+        }
+
+        assertEquals(page, decoded);
+        assertEquals("1.50", decoded.get(3).getAmount().toPlainString());
+        assertNull(decoded.get(7).getName());
+        assertNull(decoded.get(page.size() - 1).getId());
+        assertEquals("default", decoded.get(page.size() - 1).getName());
+    }
+
+    /**
+     * 数据类包含无法无损编码的字段类型时拒绝创建检查点
+     */
+    @Test
+    public void testRowCodecRejectsUnsupportedFieldType() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> CheckpointRowCodec.of(UnsupportedRow.class, new ExcelModelRegistry()));
+        assertTrue(e.getMessage().contains("tags"), e.getMessage());
+    }
+
+    /**
+     * 第一次导出在 {@link #FAIL_AT_PAGE} 页查询失败，保留检查点后以同一任务ID恢复导出
+     */
+    private ExportResult interruptAndResume(String fileName) {
+        failAtPage = FAIL_AT_PAGE;
+        ExportResult interrupted = export("resume", fileName, false);
+        assertFalse(interrupted.isSuccess());
+        ExportCheckpoint checkpoint = recordService.getByTaskId("resume").getCheckpoint();
+        assertNotNull(checkpoint, "失败的导出应保留检查点");
+        assertTrue(checkpoint.getRowCount() > 0, "检查点应包含已查询的数据");
+
+        failAtPage = -1;
+        fetchedPages.set(0);
+        ExportResult resumed = export("resume", fileName, true);
+        assertTrue(resumed.isSuccess(), resumed.getMessage());
+        int totalPages = (TOTAL_ROWS + PAGE_SIZE - 1) / PAGE_SIZE;
+        assertTrue(fetchedPages.get() < totalPages, "恢复导出不应重新查询检查点中的分页: " + fetchedPages.get());
+        return resumed;
+    }
+
+    private ExportResult export(String taskId, String fileName, boolean resume) {
+        ExportRequest<CheckpointRow> request = ExportRequest.<CheckpointRow>builder()
+                .dataClass(CheckpointRow.class)
+                .fileName(fileName)
+                .pageSize(PAGE_SIZE)
+                .checkpointEnabled(true)
+                .dataSupplier(this::getPage)
+                .build();
+        ExportTask<CheckpointRow> task = new ExportTask<>();
+        task.setTaskId(taskId);
+        task.setTaskType(TaskType.EXPORT);
+        task.setAsyncType(AsyncType.SYNC);
+        task.setRequest(request);
+        task.setResume(resume);
+        task.setCreateTime(System.currentTimeMillis());
+        return exportEngine.exportSync(task);
+    }
+
+    private ExportPageData<CheckpointRow> getPage(int pageNum, int pageSize, Map<String, Object> params) {
+        fetchedPages.incrementAndGet();
+        if (pageNum == failAtPage) {
+            throw new IllegalStateException("第" + pageNum + "页查询失败");
+        }
+        List<CheckpointRow> rows = new ArrayList<>();
+        int from = (pageNum - 1) * pageSize;
+        for (int i = from; i < Math.min(from + pageSize, TOTAL_ROWS); i++) {
+            rows.add(row(i));
+        }
+        return new ExportPageData<>(rows, from + pageSize < TOTAL_ROWS);
+    }
+
+    private static CheckpointRow row(int i) {
+        CheckpointRow row = new CheckpointRow();
+        row.setId(i);
+        // 包含 null、引号、换行，以及覆盖字段默认值的情况
+        row.setName(i % 7 == 0 ? null : "n\"" + i + (i % 5 == 0 ? "\nline" : ""));
+        row.setTime(LocalDateTime.of(2024, 1, 1, 0, 0).plusNanos(i * 123456789L));
+        row.setAmount(new BigDecimal(i % 3 == 0 ? "1.50" : i + ".000"));
+        row.setDate(new Date(1700000000000L + i * 1001L));
+        row.setLevel(i % 2 == 0 ? Level.LOW : Level.HIGH);
+        row.setLevelText(row.getLevel().name());
+        row.readOnly = "ro" + i;
+        return row;
+    }
+
+    public enum Level {
+        LOW, HIGH
+    }
+
+    @Data
+    public static class CheckpointRow {
+
+        @ExcelProperty("编号")
+        private Integer id;
+
+        @ExcelProperty("名称")
+        private String name = "default";
+
+        @ExcelProperty("时间")
+        @DateTimeFormat("yyyy-MM-dd HH:mm:ss.SSSSSSSSS")
+        private LocalDateTime time;
+
+        @ExcelProperty("金额")
+        private BigDecimal amount;
+
+        @ExcelProperty("日期")
+        @DateTimeFormat("yyyy-MM-dd HH:mm:ss.SSS")
+        private Date date;
+
+        @ExcelProperty("级别")
+        private String levelText;
+
+        @ExcelIgnore
+        private Level level;
+
+        /**
+         * 只有 getter 的字段
+         */
+        @ExcelProperty("只读")
+        private String readOnly;
+
+        public String getReadOnly() {
+            return readOnly;
+        }
+    }
+
+    @Data
+    public static class UnsupportedRow {
+
+        @ExcelProperty("编号")
+        private Integer id;
+
+        @ExcelProperty("标签")
+        private List<String> tags;
+    }
+}
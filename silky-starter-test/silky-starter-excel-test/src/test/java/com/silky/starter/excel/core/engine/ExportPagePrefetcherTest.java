@@ -0,0 +1,193 @@
+package com.silky.starter.excel.core.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExportPagePrefetcher 测试：预取的分页按加载顺序返回，加载异常原样抛给消费方，预取线程被中断时消费方不会挂起
+ *
+ * @author zy
+ */
+public class ExportPagePrefetcherTest {
+
+    private static final int PAGE_COUNT = 50;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 加载耗时不均匀时，消费方仍按页码顺序拿到所有分页
+     */
+    @Test
+    public void testPagesKeepLoadOrder() throws Exception {
+        for (int depth : new int[]{1, 2, 8}) {
+            AtomicInteger pageNum = new AtomicInteger();
+            ExportPagePrefetcher<Integer> prefetcher = new ExportPagePrefetcher<>("order-" + depth, depth, () -> {
+                int page = pageNum.incrementAndGet();
+                if (page > PAGE_COUNT) {
+                    return null;
+                }
+                Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                return page;
+            });
+            prefetcher.start(executor);
+            try {
+                assertEquals(expectedPages(), drain(prefetcher), "预取深度: " + depth);
+                assertNull(prefetcher.next(), "读取到末尾后应一直返回 null");
+            } finally {
+                prefetcher.close();
+            }
+        }
+    }
+
+    /**
+     * 加载失败前的分页正常返回，随后抛出加载器的原始异常
+     */
+    @Test
+    public void testLoaderFailurePropagates() throws Exception {
+        IllegalStateException failure = new IllegalStateException("查询第6页失败");
+        AtomicInteger pageNum = new AtomicInteger();
+        ExportPagePrefetcher<Integer> prefetcher = new ExportPagePrefetcher<>("failure", 3, () -> {
+            int page = pageNum.incrementAndGet();
+            if (page == 6) {
+                throw failure;
+            }
+            return page;
+        });
+        prefetcher.start(executor);
+        try {
+            for (int page = 1; page <= 5; page++) {
+                assertEquals(page, prefetcher.next());
+            }
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, prefetcher::next);
+            assertSame(failure, thrown);
+        } finally {
+            prefetcher.close();
+        }
+        assertEquals(6, pageNum.get(), "加载失败后不应继续加载");
+    }
+
+    /**
+     * 线程池拒绝预取任务时由消费方同步加载，顺序和异常行为不变
+     */
+    @Test
+    public void testRejectedExecutorFallsBackToInlineLoading() throws Exception {
+        AtomicInteger pageNum = new AtomicInteger();
+        ExportPagePrefetcher<Integer> prefetcher = new ExportPagePrefetcher<>("inline", 2, () -> {
+            int page = pageNum.incrementAndGet();
+            return page <= PAGE_COUNT ? page : null;
+        });
+        prefetcher.start(command -> {
+            throw new RejectedExecutionException("busy");
+        });
+        try {
+            assertEquals(expectedPages(), drain(prefetcher));
+        } finally {
+            prefetcher.close();
+        }
+
+        Exception failure = new Exception("查询失败");
+        ExportPagePrefetcher<Integer> failing = new ExportPagePrefetcher<>("inline-failure", 2, () -> {
+            throw failure;
+        });
+        failing.start(command -> {
+            throw new RejectedExecutionException("busy");
+        });
+        try {
+            assertSame(failure, assertThrows(Exception.class, failing::next));
+        } finally {
+            failing.close();
+        }
+    }
+
+    /**
+     * 预取线程在队列已满等待入队时被中断（线程池 shutdownNow），消费方取完已入队的分页后收到中断异常，不会一直等待
+     */
+    @Test
+    public void testInterruptedProducerEndsConsumer() throws Exception {
+        AtomicInteger pageNum = new AtomicInteger();
+        ExportPagePrefetcher<Integer> prefetcher = new ExportPagePrefetcher<>("interrupted", 1, pageNum::incrementAndGet);
+        prefetcher.start(executor);
+        try {
+            assertEquals(1, prefetcher.next());
+            // 等预取线程填满队列并阻塞在入队上
+            while (pageNum.get() < 3) {
+                Thread.sleep(10);
+            }
+            executor.shutdownNow();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                assertEquals(2, prefetcher.next());
+                assertThrows(InterruptedException.class, prefetcher::next);
+                assertNull(prefetcher.next());
+            });
+        } finally {
+            prefetcher.close();
+        }
+    }
+
+    /**
+     * 加载器抛出 InterruptedException 且中断标记仍在时，异常仍交给消费方
+     */
+    @Test
+    public void testLoaderInterruptedExceptionPropagates() throws Exception {
+        InterruptedException interrupted = new InterruptedException("查询被中断");
+        AtomicInteger pageNum = new AtomicInteger();
+        ExportPagePrefetcher<Integer> prefetcher = new ExportPagePrefetcher<>("loader-interrupted", 2, () -> {
+            if (pageNum.incrementAndGet() == 2) {
+                Thread.currentThread().interrupt();
+                throw interrupted;
+            }
+            return pageNum.get();
+        });
+        prefetcher.start(executor);
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                assertEquals(1, prefetcher.next());
+                assertSame(interrupted, assertThrows(InterruptedException.class, prefetcher::next));
+            });
+        } finally {
+            prefetcher.close();
+        }
+    }
+
+    private static List<Integer> drain(ExportPagePrefetcher<Integer> prefetcher) throws Exception {
+        List<Integer> pages = new ArrayList<>();
+        Integer page;
+        while ((page = prefetcher.next()) != null) {
+            pages.add(page);
+        }
+        return pages;
+    }
+
+    private static List<Integer> expectedPages() {
+        List<Integer> pages = new ArrayList<>();
+        for (int page = 1; page <= PAGE_COUNT; page++) {
+            pages.add(page);
+        }
+        return pages;
+    }
+}
@@ -0,0 +1,286 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.hutool.core.io.FileUtil;
+import cn.idev.excel.annotation.ExcelProperty;
+import com.silky.starter.excel.core.model.export.*;
+import com.silky.starter.excel.core.storage.factory.StorageStrategyFactory;
+import com.silky.starter.excel.core.storage.impl.LocalStorageStrategy;
+import com.silky.starter.excel.enums.AsyncType;
+import com.silky.starter.excel.enums.TaskType;
+import com.silky.starter.excel.properties.SilkyExcelProperties;
+import com.silky.starter.excel.service.compression.CompressionService;
+import com.silky.starter.excel.service.export.impl.InMemoryExportRecordService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分区导出测试：分区名称在导出前校验，导出结束后不残留分区临时文件，自定义压缩服务可使用默认打包实现
+ *
+ * @author zy
+ */
+public class ExportPartitionTest {
+
+    private static final String TEMP_FILE_PREFIX = "silky_export_";
+
+    private Path storageDir;
+
+    private Path tempDir;
+
+    private String originalTempDir;
+
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    private ScheduledExecutorService cleanupExecutor;
+
+    private ExportEngine exportEngine;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        storageDir = Files.createTempDirectory("silky-export-partition");
+        // 导出临时文件写入独立目录，便于检查是否残留
+        tempDir = Files.createTempDirectory("silky-export-partition-tmp");
+        originalTempDir = System.getProperty("java.io.tmpdir");
+        System.setProperty("java.io.tmpdir", tempDir.toString());
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.initialize();
+        cleanupExecutor = Executors.newSingleThreadScheduledExecutor();
+
+        SilkyExcelProperties properties = new SilkyExcelProperties();
+        properties.getStorage().getLocal().setBasePath(storageDir.toString());
+        StorageStrategyFactory storageStrategyFactory = new StorageStrategyFactory(
+                Collections.singletonList(new LocalStorageStrategy(properties)));
+        storageStrategyFactory.init();
+        exportEngine = new ExportEngine(storageStrategyFactory, new InMemoryExportRecordService(), properties,
+                taskExecutor, new ArchiveOnlyCompressionService(), null, cleanupExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        exportEngine.shutdown();
+        taskExecutor.shutdown();
+        cleanupExecutor.shutdownNow();
+        System.setProperty("java.io.tmpdir", originalTempDir);
+        FileUtil.del(storageDir.toFile());
+        FileUtil.del(tempDir.toFile());
+    }
+
+    /**
+     * 自定义压缩服务未实现 writeArchive 时使用默认的 ZIP 打包，压缩包包含每个分区文件
+     */
+    @Test
+    public void testDefaultArchiveContainsEveryPartition() throws IOException {
+        ExportResult result = export(Arrays.asList("a", "b", "c"), (pageNum, pageSize, params) ->
+                new ExportPageData<>(Collections.singletonList(new PartRow((String) params.get("part"))), false));
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        try (ZipFile zip = new ZipFile(result.getFileUrl())) {
+            List<String> names = new ArrayList<>();
+            for (ZipEntry entry : Collections.list(zip.entries())) {
+                names.add(entry.getName());
+            }
+            assertEquals(Arrays.asList("parts_a.csv", "parts_b.csv", "parts_c.csv"), names);
+        }
+        assertEquals(Collections.emptyList(), leftoverTempFiles());
+    }
+
+    /**
+     * 分区名称重复时导出前即失败，不查询任何分区数据
+     */
+    @Test
+    public void testDuplicatePartitionNamesFailBeforeExport() {
+        AtomicInteger queries = new AtomicInteger();
+        ExportResult result = export(Arrays.asList("a", "b", "a"), (pageNum, pageSize, params) -> {
+            queries.incrementAndGet();
+            return new ExportPageData<>(Collections.singletonList(new PartRow("x")), false);
+        });
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().contains("分区名称重复"), result.getMessage());
+        assertEquals(0, queries.get());
+    }
+
+    /**
+     * 某个分区失败时，已完成分区的临时文件被删除
+     */
+    @Test
+    public void testFailedPartitionLeavesNoTempFiles() {
+        ExportResult result = export(Arrays.asList("a", "b", "c", "d"), (pageNum, pageSize, params) -> {
+            if ("c".equals(params.get("part"))) {
+                throw new IllegalStateException("分区 c 查询失败");
+            }
+            return new ExportPageData<>(Collections.singletonList(new PartRow("x")), false);
+        });
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().contains("分区 c 查询失败"), result.getMessage());
+        assertEquals(Collections.emptyList(), leftoverTempFiles());
+    }
+
+    /**
+     * 导出线程被中断时，已完成分区的文件被删除，中断时仍在导出的分区完成后也删除自己的文件
+     */
+    @Test
+    public void testInterruptedExportLeavesNoTempFiles() throws InterruptedException {
+        List<String> partNames = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            partNames.add("p" + i);
+        }
+        CountDownLatch workerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger exporterParts = new AtomicInteger();
+        AtomicReference<Thread> exporterThread = new AtomicReference<>();
+        AtomicReference<ExportResult> result = new AtomicReference<>();
+        Thread exporter = new Thread(() -> result.set(export(partNames, (pageNum, pageSize, params) -> {
+            if (Thread.currentThread() == exporterThread.get()) {
+                // 导出线程的分区正常完成，留给并行线程领取分区的时间
+                exporterParts.incrementAndGet();
+                sleepQuietly(20);
+            } else {
+                // 并行线程的分区一直执行到中断之后
+                workerBlocked.countDown();
+                awaitQuietly(release);
+            }
+            return new ExportPageData<>(Collections.singletonList(new PartRow("x")), false);
+        })));
+        exporterThread.set(exporter);
+        exporter.start();
+        try {
+            assertTrue(workerBlocked.await(5, TimeUnit.SECONDS));
+            // 等待导出线程写完其余分区，进入等待并行线程的状态
+            long deadline = System.currentTimeMillis() + 5000;
+            while (exporter.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertTrue(exporterParts.get() > 0);
+            exporter.interrupt();
+            exporter.join(10000);
+            assertFalse(exporter.isAlive());
+            assertFalse(result.get().isSuccess());
+            // 只剩并行线程仍在导出的分区文件
+            assertTrue(leftoverTempFiles().size() <= 1, String.valueOf(leftoverTempFiles()));
+        } finally {
+            release.countDown();
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!leftoverTempFiles().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(Collections.emptyList(), leftoverTempFiles(), "中断后完成的分区文件");
+    }
+
+    private ExportResult export(List<String> partNames, ExportDataSupplier<PartRow> supplier) {
+        ExportRequest<PartRow> request = ExportRequest.<PartRow>builder()
+                .dataClass(PartRow.class)
+                .fileName("parts.csv")
+                .dataSupplier(supplier)
+                .partitionParallelism(2)
+                .partitioner(params -> {
+                    List<ExportPartition<PartRow>> partitions = new ArrayList<>();
+                    for (String name : partNames) {
+                        partitions.add(ExportPartition.of(name, Collections.singletonMap("part", name)));
+                    }
+                    return partitions;
+                })
+                .build();
+        ExportTask<PartRow> task = new ExportTask<>();
+        task.setTaskId(UUID.randomUUID().toString());
+        task.setTaskType(TaskType.EXPORT);
+        task.setAsyncType(AsyncType.SYNC);
+        task.setRequest(request);
+        task.setCreateTime(System.currentTimeMillis());
+        return exportEngine.exportSync(task);
+    }
+
+    private List<String> leftoverTempFiles() {
+        List<String> names = new ArrayList<>();
+        File[] files = tempDir.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.getName().startsWith(TEMP_FILE_PREFIX)) {
+                    names.add(file.getName());
+                }
+            }
+        }
+        return names;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 等待放行，期间收到的中断在返回前恢复
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 只使用默认 writeArchive 的压缩服务
+     */
+    private static class ArchiveOnlyCompressionService implements CompressionService {
+
+        @Override
+        public File compressFile(File sourceFile, SilkyExcelProperties.CompressionConfig config, String targetPath) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public File decompressFile(File compressedFile, SilkyExcelProperties.CompressionConfig config, String targetPath) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OutputStream wrapOutputStream(OutputStream target, SilkyExcelProperties.CompressionConfig config, String entryName) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PartRow {
+
+        @ExcelProperty("名称")
+        private String name;
+    }
+}
@@ -0,0 +1,168 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelProperty;
+import com.silky.starter.excel.core.model.export.*;
+import com.silky.starter.excel.core.storage.factory.StorageStrategyFactory;
+import com.silky.starter.excel.core.storage.impl.LocalStorageStrategy;
+import com.silky.starter.excel.enums.AsyncType;
+import com.silky.starter.excel.enums.TaskType;
+import com.silky.starter.excel.properties.SilkyExcelProperties;
+import com.silky.starter.excel.service.export.impl.InMemoryExportRecordService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 多Sheet并行拉取测试：并行拉取、预取与串行导出写出相同的数据，任一Sheet查询失败时导出失败
+ *
+ * @author zy
+ */
+public class ExportSheetFetchTest {
+
+    private static final int SHEET_COUNT = 3;
+
+    private static final int ROWS_PER_SHEET = 530;
+
+    private Path storageDir;
+
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    private ScheduledExecutorService cleanupExecutor;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        storageDir = Files.createTempDirectory("silky-export-sheet-fetch");
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(8);
+        taskExecutor.initialize();
+        cleanupExecutor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskExecutor.shutdown();
+        cleanupExecutor.shutdownNow();
+        cn.hutool.core.io.FileUtil.del(storageDir.toFile());
+    }
+
+    /**
+     * 开启预取和多Sheet并行拉取后，写出的行与串行导出完全一致
+     */
+    @Test
+    public void testParallelFetchWritesSameRowsAsSerialExport() {
+        List<List<Object>> serial = readRows(export(0, false, -1));
+        assertEquals(SHEET_COUNT * ROWS_PER_SHEET + 1, serial.size(), "表头 + 所有Sheet的数据行");
+        assertEquals(serial, readRows(export(2, false, -1)), "仅预取");
+        assertEquals(serial, readRows(export(0, true, -1)), "仅并行拉取");
+        assertEquals(serial, readRows(export(3, true, -1)), "预取 + 并行拉取");
+    }
+
+    /**
+     * 某个Sheet的查询失败时，导出失败并带上原始错误信息
+     */
+    @Test
+    public void testSheetFailureFailsExport() {
+        ExportResult result = export(2, true, 5);
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().contains("Sheet 1 第5页查询失败"), result.getMessage());
+    }
+
+    private ExportResult export(int prefetchDepth, boolean parallelSheetFetch, int failAtPage) {
+        SilkyExcelProperties properties = new SilkyExcelProperties();
+        properties.getStorage().getLocal().setBasePath(storageDir.toString());
+        StorageStrategyFactory storageStrategyFactory = new StorageStrategyFactory(
+                Collections.singletonList(new LocalStorageStrategy(properties)));
+        storageStrategyFactory.init();
+        ExportEngine exportEngine = new ExportEngine(storageStrategyFactory, new InMemoryExportRecordService(), properties,
+                taskExecutor, null, null, cleanupExecutor);
+
+        List<ExportSheet<SheetRow>> sheets = new ArrayList<>();
+        for (int sheet = 0; sheet < SHEET_COUNT; sheet++) {
+            sheets.add(ExportSheet.of("Sheet" + sheet, SheetRow.class, supplier(sheet, sheet == 1 ? failAtPage : -1)));
+        }
+        ExportRequest<SheetRow> request = ExportRequest.<SheetRow>builder()
+                .dataClass(SheetRow.class)
+                .fileName("sheets.xlsx")
+                .pageSize(50)
+                .prefetchDepth(prefetchDepth)
+                .parallelSheetFetch(parallelSheetFetch)
+                .build();
+        request.setSheets(sheets);
+        ExportTask<SheetRow> task = new ExportTask<>();
+        task.setTaskId(UUID.randomUUID().toString());
+        task.setTaskType(TaskType.EXPORT);
+        task.setAsyncType(AsyncType.SYNC);
+        task.setRequest(request);
+        task.setCreateTime(System.currentTimeMillis());
+        try {
+            return exportEngine.exportSync(task);
+        } finally {
+            exportEngine.shutdown();
+        }
+    }
+
+    private static ExportDataSupplier<SheetRow> supplier(int sheet, int failAtPage) {
+        return (pageNum, pageSize, params) -> {
+            if (pageNum == failAtPage) {
+                throw new IllegalStateException("Sheet " + sheet + " 第" + pageNum + "页查询失败");
+            }
+            // 各Sheet查询耗时不同，并行拉取时分页到达写入器的顺序会交错
+            sleepQuietly(ThreadLocalRandom.current().nextInt(3));
+            List<SheetRow> rows = new ArrayList<>();
+            int from = (pageNum - 1) * pageSize;
+            for (int i = from; i < Math.min(from + pageSize, ROWS_PER_SHEET); i++) {
+                rows.add(new SheetRow(sheet, i, "S" + sheet + "-" + i));
+            }
+            return new ExportPageData<>(rows, from + pageSize < ROWS_PER_SHEET);
+        };
+    }
+
+    private static List<List<Object>> readRows(ExportResult result) {
+        assertTrue(result.isSuccess(), result.getMessage());
+        List<List<Object>> rows = new ArrayList<>();
+        List<Map<Integer, String>> maps = FastExcel.read(new File(result.getFileUrl())).headRowNumber(0).doReadAllSync();
+        for (Map<Integer, String> map : maps) {
+            rows.add(new ArrayList<>(map.values()));
+        }
+        return rows;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SheetRow {
+
+        @ExcelProperty("Sheet")
+        private Integer sheet;
+
+        @ExcelProperty("序号")
+        private Integer index;
+
+        @ExcelProperty("名称")
+        private String name;
+    }
+}
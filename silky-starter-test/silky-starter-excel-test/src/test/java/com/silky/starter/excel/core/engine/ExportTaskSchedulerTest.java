@@ -0,0 +1,573 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.hutool.core.io.FileUtil;
+import cn.idev.excel.annotation.ExcelProperty;
+import com.silky.starter.excel.core.model.export.ExportDataSupplier;
+import com.silky.starter.excel.core.model.export.ExportPageData;
+import com.silky.starter.excel.core.model.export.ExportRequest;
+import com.silky.starter.excel.core.model.export.ExportTask;
+import com.silky.starter.excel.core.storage.factory.StorageStrategyFactory;
+import com.silky.starter.excel.core.storage.impl.LocalStorageStrategy;
+import com.silky.starter.excel.entity.ExportRecord;
+import com.silky.starter.excel.enums.AsyncType;
+import com.silky.starter.excel.enums.ExportPriority;
+import com.silky.starter.excel.enums.ExportStatus;
+import com.silky.starter.excel.enums.TaskType;
+import com.silky.starter.excel.properties.SilkyExcelProperties;
+import com.silky.starter.excel.service.export.impl.InMemoryExportRecordService;
+import lombok.Data;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExportTaskScheduler 测试：按优先级出队，同一优先级内各租户轮流出队，租户并发数和排队数受限，
+ * 准入条件不满足的任务留在队列中，不占用工作线程
+ *
+ * @author zy
+ */
+public class ExportTaskSchedulerTest {
+
+    private ExportTaskScheduler scheduler;
+
+    @AfterEach
+    public void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * 高优先级任务先执行；同一优先级内租户 A、B、C 轮流执行，不会被提交最多的租户占满
+     */
+    @Test
+    public void testPriorityOrderAndTenantRoundRobin() throws InterruptedException {
+        scheduler = new ExportTaskScheduler(1, 100, 0, 0);
+        List<String> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch release = blockWorker(scheduler);
+
+        submit(scheduler, "l1", "A", ExportPriority.LOW, executed);
+        submit(scheduler, "a1", "A", ExportPriority.NORMAL, executed);
+        submit(scheduler, "a2", "A", ExportPriority.NORMAL, executed);
+        submit(scheduler, "a3", "A", ExportPriority.NORMAL, executed);
+        submit(scheduler, "b1", "B", ExportPriority.NORMAL, executed);
+        submit(scheduler, "b2", "B", ExportPriority.NORMAL, executed);
+        submit(scheduler, "c1", "C", null, executed);
+        submit(scheduler, "h1", "B", ExportPriority.HIGH, executed);
+        assertEquals(8, scheduler.getQueuedCount());
+
+        CountDownLatch done = new CountDownLatch(1);
+        scheduler.submit("last", "Z", ExportPriority.LOW, done::countDown);
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("h1", "a1", "b1", "c1", "a2", "b2", "a3", "l1"), executed);
+    }
+
+    /**
+     * 租户达到并发上限时跳过该租户的任务，空闲线程执行其他租户的任务
+     */
+    @Test
+    public void testMaxRunningPerTenantLetsOtherTenantsRun() throws InterruptedException {
+        scheduler = new ExportTaskScheduler(2, 100, 0, 1);
+        CountDownLatch a1Started = new CountDownLatch(1);
+        CountDownLatch a1Release = new CountDownLatch(1);
+        CountDownLatch a2Started = new CountDownLatch(1);
+        CountDownLatch b1Done = new CountDownLatch(1);
+
+        scheduler.submit("a1", "A", ExportPriority.NORMAL, () -> {
+            a1Started.countDown();
+            awaitQuietly(a1Release);
+        });
+        assertTrue(a1Started.await(5, TimeUnit.SECONDS));
+        scheduler.submit("a2", "A", ExportPriority.HIGH, a2Started::countDown);
+        scheduler.submit("b1", "B", ExportPriority.LOW, b1Done::countDown);
+
+        assertTrue(b1Done.await(5, TimeUnit.SECONDS), "租户 B 的任务应在空闲线程上执行");
+        assertEquals(1, a2Started.getCount(), "租户 A 已达并发上限，a2 不应开始");
+        assertEquals(1, scheduler.getQueuedCount());
+
+        a1Release.countDown();
+        assertTrue(a2Started.await(5, TimeUnit.SECONDS), "a1 结束后 a2 应开始执行");
+    }
+
+    /**
+     * 准入条件不满足的任务留在队列中，唯一的工作线程先执行后续任务；条件满足并唤醒后该任务出队
+     */
+    @Test
+    public void testDeferredTaskDoesNotOccupyWorker() throws InterruptedException {
+        scheduler = new ExportTaskScheduler(1, 100, 0, 0);
+        AtomicBoolean admitted = new AtomicBoolean();
+        CountDownLatch bigDone = new CountDownLatch(1);
+        CountDownLatch smallDone = new CountDownLatch(1);
+
+        scheduler.submit("big", "A", ExportPriority.HIGH, admitted::get, bigDone::countDown);
+        scheduler.submit("small", "A", ExportPriority.LOW, smallDone::countDown);
+
+        assertTrue(smallDone.await(5, TimeUnit.SECONDS), "未准入的任务不应占用工作线程");
+        assertEquals(1, bigDone.getCount());
+        assertEquals(1, scheduler.getQueuedCount());
+        assertEquals(0, scheduler.getRunningCount());
+
+        admitted.set(true);
+        scheduler.wakeUp();
+        assertTrue(bigDone.await(5, TimeUnit.SECONDS), "准入后任务应出队执行");
+    }
+
+    /**
+     * 导出预算不足的排队任务保持等待中，不占用唯一的调度线程，后提交的小任务先完成；
+     * 同步导出归还预算后，等待的任务出队完成
+     */
+    @Test
+    public void testEngineDefersTasksOverBudgetWithoutParkingWorker() throws IOException, InterruptedException {
+        Path storageDir = Files.createTempDirectory("silky-export-scheduler");
+        SilkyExcelProperties properties = admissionProperties(storageDir, 600);
+        StorageStrategyFactory storageStrategyFactory = new StorageStrategyFactory(
+                Collections.singletonList(new LocalStorageStrategy(properties)));
+        storageStrategyFactory.init();
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        // 分页预取使用该线程池，被阻塞的同步导出不能占满它
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.initialize();
+        ScheduledExecutorService cleanupExecutor = Executors.newSingleThreadScheduledExecutor();
+        InMemoryExportRecordService recordService = new InMemoryExportRecordService();
+        ExportEngine exportEngine = new ExportEngine(storageStrategyFactory, recordService, properties,
+                taskExecutor, null, null, cleanupExecutor);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread syncExport = null;
+        try {
+            // 同步导出占用 100 行预算直到放行
+            ExportTask<IdRow> running = countedTask("S0", 100, AsyncType.SYNC, () -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            syncExport = new Thread(() -> exportEngine.exportSync(running));
+            syncExport.start();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            exportEngine.exportAsync(countedTask("big", 100, AsyncType.THREAD_POOL, () -> { }));
+            exportEngine.exportAsync(countedTask("small", 10, AsyncType.THREAD_POOL, () -> { }));
+
+            awaitStatus(recordService, "small", ExportStatus.COMPLETED);
+            assertEquals(ExportStatus.PENDING, recordService.getByTaskId("big").getStatus());
+            assertEquals(1, exportEngine.getQueuedTaskCount());
+
+            release.countDown();
+            awaitStatus(recordService, "big", ExportStatus.COMPLETED);
+        } finally {
+            release.countDown();
+            if (syncExport != null) {
+                syncExport.join(5000);
+            }
+            exportEngine.shutdown();
+            taskExecutor.shutdown();
+            cleanupExecutor.shutdownNow();
+            FileUtil.del(storageDir.toFile());
+        }
+    }
+
+    /**
+     * 等待准入超过最长等待时间的排队任务出队后失败，不会一直排队
+     */
+    @Test
+    public void testEngineFailsQueuedTaskAfterAdmissionTimeout() throws IOException, InterruptedException {
+        Path storageDir = Files.createTempDirectory("silky-export-scheduler");
+        SilkyExcelProperties properties = admissionProperties(storageDir, 1);
+        StorageStrategyFactory storageStrategyFactory = new StorageStrategyFactory(
+                Collections.singletonList(new LocalStorageStrategy(properties)));
+        storageStrategyFactory.init();
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        // 分页预取使用该线程池，被阻塞的同步导出不能占满它
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.initialize();
+        ScheduledExecutorService cleanupExecutor = Executors.newSingleThreadScheduledExecutor();
+        InMemoryExportRecordService recordService = new InMemoryExportRecordService();
+        ExportEngine exportEngine = new ExportEngine(storageStrategyFactory, recordService, properties,
+                taskExecutor, null, null, cleanupExecutor);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread syncExport = null;
+        try {
+            ExportTask<IdRow> running = countedTask("S0", 100, AsyncType.SYNC, () -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            syncExport = new Thread(() -> exportEngine.exportSync(running));
+            syncExport.start();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            exportEngine.exportAsync(countedTask("big", 100, AsyncType.THREAD_POOL, () -> { }));
+            awaitStatus(recordService, "big", ExportStatus.FAILED);
+            assertTrue(recordService.getByTaskId("big").getErrorMsg().contains("等待准入超时"),
+                    recordService.getByTaskId("big").getErrorMsg());
+        } finally {
+            release.countDown();
+            if (syncExport != null) {
+                syncExport.join(5000);
+            }
+            exportEngine.shutdown();
+            taskExecutor.shutdown();
+            cleanupExecutor.shutdownNow();
+            FileUtil.del(storageDir.toFile());
+        }
+    }
+
+    /**
+     * 启用准入控制时，数据总量查询在工作线程上、数据准备之后执行，不在提交线程上执行，数据只准备一次
+     */
+    @Test
+    public void testEngineEstimatesCostOnWorkerAfterPrepare() throws IOException, InterruptedException {
+        Path storageDir = Files.createTempDirectory("silky-export-scheduler");
+        SilkyExcelProperties properties = admissionProperties(storageDir, 600);
+        StorageStrategyFactory storageStrategyFactory = new StorageStrategyFactory(
+                Collections.singletonList(new LocalStorageStrategy(properties)));
+        storageStrategyFactory.init();
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.initialize();
+        ScheduledExecutorService cleanupExecutor = Executors.newSingleThreadScheduledExecutor();
+        InMemoryExportRecordService recordService = new InMemoryExportRecordService();
+        ExportEngine exportEngine = new ExportEngine(storageStrategyFactory, recordService, properties,
+                taskExecutor, null, null, cleanupExecutor);
+
+        List<String> events = new CopyOnWriteArrayList<>();
+        Thread caller = Thread.currentThread();
+        ExportRequest<IdRow> request = ExportRequest.<IdRow>builder()
+                .dataClass(IdRow.class)
+                .fileName("lazy.csv")
+                .tenantId("lazy")
+                .dataSupplier(new ExportDataSupplier<IdRow>() {
+                    @Override
+                    public void prepare(Map<String, Object> params) {
+                        events.add("prepare@" + (Thread.currentThread() == caller ? "caller" : "worker"));
+                    }
+
+                    @Override
+                    public ExportPageData<IdRow> getPageData(int pageNum, int pageSize, Map<String, Object> params) {
+                        return new ExportPageData<>(Collections.singletonList(new IdRow()), false);
+                    }
+
+                    @Override
+                    public long getTotalCount(Map<String, Object> params) {
+                        events.add("count@" + (Thread.currentThread() == caller ? "caller" : "worker"));
+                        return 10;
+                    }
+                })
+                .build();
+        ExportTask<IdRow> task = new ExportTask<>();
+        task.setTaskId("lazy");
+        task.setTaskType(TaskType.EXPORT);
+        task.setAsyncType(AsyncType.THREAD_POOL);
+        task.setRequest(request);
+        task.setCreateTime(System.currentTimeMillis());
+        try {
+            exportEngine.exportAsync(task);
+            awaitStatus(recordService, "lazy", ExportStatus.COMPLETED);
+
+            assertFalse(events.isEmpty());
+            assertEquals("prepare@worker", events.get(0));
+            assertEquals(1, events.stream().filter(e -> e.startsWith("prepare")).count());
+            assertTrue(events.contains("count@worker"), events.toString());
+            assertFalse(events.contains("count@caller"), events.toString());
+        } finally {
+            exportEngine.shutdown();
+            taskExecutor.shutdown();
+            cleanupExecutor.shutdownNow();
+            FileUtil.del(storageDir.toFile());
+        }
+    }
+
+    /**
+     * 排队总数和单租户排队数超限时拒绝提交，关闭时返回未开始的任务并拒绝后续提交
+     */
+    @Test
+    public void testQueueLimitsAndShutdown() throws InterruptedException {
+        scheduler = new ExportTaskScheduler(1, 3, 2, 0);
+        CountDownLatch release = blockWorker(scheduler);
+        Runnable noop = () -> {
+        };
+
+        scheduler.submit("a1", "A", ExportPriority.NORMAL, noop);
+        scheduler.submit("a2", "A", ExportPriority.NORMAL, noop);
+        assertThrows(RejectedExecutionException.class, () -> scheduler.submit("a3", "A", ExportPriority.NORMAL, noop));
+        scheduler.submit("b1", "B", ExportPriority.NORMAL, noop);
+        assertThrows(RejectedExecutionException.class, () -> scheduler.submit("c1", "C", ExportPriority.NORMAL, noop));
+        assertEquals(2, scheduler.getRejectedCount());
+
+        List<String> dropped = scheduler.shutdown();
+        Collections.sort(dropped);
+        assertEquals(Arrays.asList("a1", "a2", "b1"), dropped);
+        assertEquals(0, scheduler.getQueuedCount());
+        assertThrows(RejectedExecutionException.class, () -> scheduler.submit("d1", "D", ExportPriority.HIGH, noop));
+        assertEquals(1, scheduler.getRunningCount(), "关闭不影响正在执行的任务");
+        release.countDown();
+    }
+
+    /**
+     * 默认租户不受单租户排队数限制，只受总排队数限制
+     */
+    @Test
+    public void testDefaultTenantIsNotCappedPerTenant() throws InterruptedException {
+        scheduler = new ExportTaskScheduler(1, 4, 2, 0);
+        CountDownLatch release = blockWorker(scheduler);
+        Runnable noop = () -> {
+        };
+
+        for (int i = 0; i < 4; i++) {
+            scheduler.submit("d" + i, ExportTaskScheduler.DEFAULT_TENANT, ExportPriority.NORMAL, noop);
+        }
+        assertEquals(4, scheduler.getQueuedCount());
+        assertThrows(RejectedExecutionException.class,
+                () -> scheduler.submit("d4", ExportTaskScheduler.DEFAULT_TENANT, ExportPriority.NORMAL, noop));
+        release.countDown();
+    }
+
+    /**
+     * 关闭后等待执行中的任务：超时返回仍在执行的任务ID，任务完成后返回空列表
+     */
+    @Test
+    public void testAwaitTerminationWaitsForRunningTasks() throws InterruptedException {
+        scheduler = new ExportTaskScheduler(2, 10, 0, 0);
+        CountDownLatch release = blockWorker(scheduler);
+        scheduler.shutdown();
+
+        assertEquals(Collections.singletonList("blocker"), scheduler.awaitTermination(100));
+        release.countDown();
+        assertEquals(Collections.emptyList(), scheduler.awaitTermination(5000));
+        assertEquals(0, scheduler.getRunningCount());
+    }
+
+    /**
+     * 导出引擎关闭时，调度器中尚未开始的导出任务记录标记为失败，并等待正在执行的任务完成
+     */
+    @Test
+    public void testEngineShutdownFailsQueuedRecords() throws IOException, InterruptedException {
+        Path storageDir = Files.createTempDirectory("silky-export-scheduler");
+        SilkyExcelProperties properties = new SilkyExcelProperties();
+        properties.getStorage().getLocal().setBasePath(storageDir.toString());
+        properties.getExport().getScheduler().setWorkerThreads(1);
+        StorageStrategyFactory storageStrategyFactory = new StorageStrategyFactory(
+                Collections.singletonList(new LocalStorageStrategy(properties)));
+        storageStrategyFactory.init();
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.initialize();
+        ScheduledExecutorService cleanupExecutor = Executors.newSingleThreadScheduledExecutor();
+        InMemoryExportRecordService recordService = new InMemoryExportRecordService();
+        ExportEngine exportEngine = new ExportEngine(storageStrategyFactory, recordService, properties,
+                taskExecutor, null, null, cleanupExecutor);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 3; i++) {
+                ExportRequest<IdRow> request = ExportRequest.<IdRow>builder()
+                        .dataClass(IdRow.class)
+                        .fileName("scheduled.csv")
+                        .dataSupplier((pageNum, pageSize, params) -> {
+                            started.countDown();
+                            awaitQuietly(release);
+                            return new ExportPageData<>(Collections.singletonList(new IdRow()), false);
+                        })
+                        .build();
+                ExportTask<IdRow> task = new ExportTask<>();
+                task.setTaskId("T" + i);
+                task.setTaskType(TaskType.EXPORT);
+                task.setAsyncType(AsyncType.THREAD_POOL);
+                task.setRequest(request);
+                task.setCreateTime(System.currentTimeMillis());
+                exportEngine.exportAsync(task);
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+            }
+            assertEquals(ExportStatus.PENDING, recordService.getByTaskId("T1").getStatus());
+
+            // 排队任务被取消后才放行执行中的任务，关闭过程必须等到它完成
+            Thread releaser = new Thread(() -> {
+                while (recordService.getByTaskId("T2").getStatus() != ExportStatus.FAILED) {
+                    Thread.yield();
+                }
+                release.countDown();
+            });
+            releaser.setDaemon(true);
+            releaser.start();
+
+            exportEngine.shutdown();
+            for (String taskId : Arrays.asList("T1", "T2")) {
+                ExportRecord record = recordService.getByTaskId(taskId);
+                assertEquals(ExportStatus.FAILED, record.getStatus(), taskId);
+                assertTrue(record.getErrorMsg().contains("排队中的导出任务已取消"), record.getErrorMsg());
+            }
+            assertEquals(ExportStatus.COMPLETED, recordService.getByTaskId("T0").getStatus());
+        } finally {
+            release.countDown();
+            taskExecutor.shutdown();
+            cleanupExecutor.shutdownNow();
+            FileUtil.del(storageDir.toFile());
+        }
+    }
+
+    /**
+     * 导出引擎关闭时，超过等待时间仍未完成的导出任务记录置为失败，不会停留在处理中
+     */
+    @Test
+    public void testEngineShutdownFailsTasksStillRunningAfterTimeout() throws IOException, InterruptedException {
+        Path storageDir = Files.createTempDirectory("silky-export-scheduler");
+        SilkyExcelProperties properties = new SilkyExcelProperties();
+        properties.getStorage().getLocal().setBasePath(storageDir.toString());
+        properties.getExport().getScheduler().setWorkerThreads(1);
+        properties.getExport().getScheduler().setAwaitTerminationSeconds(0);
+        StorageStrategyFactory storageStrategyFactory = new StorageStrategyFactory(
+                Collections.singletonList(new LocalStorageStrategy(properties)));
+        storageStrategyFactory.init();
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.initialize();
+        ScheduledExecutorService cleanupExecutor = Executors.newSingleThreadScheduledExecutor();
+        InMemoryExportRecordService recordService = new InMemoryExportRecordService();
+        ExportEngine exportEngine = new ExportEngine(storageStrategyFactory, recordService, properties,
+                taskExecutor, null, null, cleanupExecutor);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            ExportRequest<IdRow> request = ExportRequest.<IdRow>builder()
+                    .dataClass(IdRow.class)
+                    .fileName("scheduled.csv")
+                    .dataSupplier((pageNum, pageSize, params) -> {
+                        started.countDown();
+                        awaitQuietly(release);
+                        return new ExportPageData<>(Collections.singletonList(new IdRow()), false);
+                    })
+                    .build();
+            ExportTask<IdRow> task = new ExportTask<>();
+            task.setTaskId("T0");
+            task.setTaskType(TaskType.EXPORT);
+            task.setAsyncType(AsyncType.THREAD_POOL);
+            task.setRequest(request);
+            task.setCreateTime(System.currentTimeMillis());
+            exportEngine.exportAsync(task);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            exportEngine.shutdown();
+            ExportRecord record = recordService.getByTaskId("T0");
+            assertEquals(ExportStatus.FAILED, record.getStatus());
+            assertTrue(record.getErrorMsg().contains("未在等待时间内完成"), record.getErrorMsg());
+        } finally {
+            release.countDown();
+            taskExecutor.shutdown();
+            cleanupExecutor.shutdownNow();
+            FileUtil.del(storageDir.toFile());
+        }
+    }
+
+    /**
+     * 单个调度线程、只按行数准入（预算 150 行）的配置
+     */
+    private static SilkyExcelProperties admissionProperties(Path storageDir, long maxWaitSeconds) {
+        SilkyExcelProperties properties = new SilkyExcelProperties();
+        properties.getStorage().getLocal().setBasePath(storageDir.toString());
+        properties.getExport().getScheduler().setWorkerThreads(1);
+        SilkyExcelProperties.Export.Admission admission = properties.getExport().getAdmission();
+        admission.setEnabled(true);
+        admission.setMaxRunningRows(150);
+        admission.setMaxMemoryMb(0);
+        admission.setMaxDiskMb(0);
+        admission.setMaxWaitSeconds(maxWaitSeconds);
+        return properties;
+    }
+
+    /**
+     * 预估行数为 totalCount 的导出任务，拉取第一页时执行 onFetch；各任务属于不同租户
+     */
+    private static ExportTask<IdRow> countedTask(String taskId, long totalCount, AsyncType asyncType, Runnable onFetch) {
+        ExportRequest<IdRow> request = ExportRequest.<IdRow>builder()
+                .dataClass(IdRow.class)
+                .fileName(taskId + ".csv")
+                .tenantId(taskId)
+                .dataSupplier(new ExportDataSupplier<IdRow>() {
+                    @Override
+                    public ExportPageData<IdRow> getPageData(int pageNum, int pageSize, Map<String, Object> params) {
+                        onFetch.run();
+                        return new ExportPageData<>(Collections.singletonList(new IdRow()), false);
+                    }
+
+                    @Override
+                    public long getTotalCount(Map<String, Object> params) {
+                        return totalCount;
+                    }
+                })
+                .build();
+        ExportTask<IdRow> task = new ExportTask<>();
+        task.setTaskId(taskId);
+        task.setTaskType(TaskType.EXPORT);
+        task.setAsyncType(asyncType);
+        task.setRequest(request);
+        task.setCreateTime(System.currentTimeMillis());
+        return task;
+    }
+
+    private static void awaitStatus(InMemoryExportRecordService recordService, String taskId, ExportStatus status)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (System.currentTimeMillis() < deadline) {
+            ExportRecord record = recordService.getByTaskId(taskId);
+            if (record != null && record.getStatus() == status) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        ExportRecord record = recordService.getByTaskId(taskId);
+        fail(taskId + " 状态应为 " + status + "，实际为 " + (record != null ? record.getStatus() : null));
+    }
+
+    /**
+     * 提交一个阻塞唯一工作线程的任务，等其开始执行后返回放行开关
+     */
+    private static CountDownLatch blockWorker(ExportTaskScheduler scheduler) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        scheduler.submit("blocker", "blocker", ExportPriority.HIGH, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private static void submit(ExportTaskScheduler scheduler, String taskId, String tenant, ExportPriority priority,
+                               List<String> executed) {
+        scheduler.submit(taskId, tenant, priority, () -> executed.add(taskId));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Data
+    public static class IdRow {
+
+        @ExcelProperty("编号")
+        private Integer id = 1;
+    }
+}
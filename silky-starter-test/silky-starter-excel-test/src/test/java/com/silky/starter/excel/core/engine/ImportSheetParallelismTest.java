@@ -0,0 +1,176 @@
+package com.silky.starter.excel.core.engine;
+
+import cn.hutool.core.io.FileUtil;
+import cn.idev.excel.ExcelWriter;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelProperty;
+import cn.idev.excel.write.metadata.WriteSheet;
+import com.silky.starter.excel.core.model.imports.ImportRequest;
+import com.silky.starter.excel.core.model.imports.ImportResult;
+import com.silky.starter.excel.core.storage.factory.StorageStrategyFactory;
+import com.silky.starter.excel.core.storage.impl.LocalStorageStrategy;
+import com.silky.starter.excel.properties.SilkyExcelProperties;
+import com.silky.starter.excel.service.compression.impl.CompressionServiceImpl;
+import com.silky.starter.excel.service.imports.impl.InMemoryImportRecordService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 多Sheet并行导入测试：并行读取的Sheet共用一组导入工作线程，导入结果与逐个Sheet导入一致
+ *
+ * @author zy
+ */
+public class ImportSheetParallelismTest {
+
+    private static final int SHEET_COUNT = 4;
+
+    private static final int ROWS_PER_SHEET = 1500;
+
+    private static final int IMPORT_WORKERS = 3;
+
+    private Path storageDir;
+
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    private ScheduledExecutorService cleanupExecutor;
+
+    private ImportEngine importEngine;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        storageDir = Files.createTempDirectory("silky-import-sheets");
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(SHEET_COUNT * 2);
+        taskExecutor.initialize();
+        cleanupExecutor = Executors.newSingleThreadScheduledExecutor();
+
+        SilkyExcelProperties properties = new SilkyExcelProperties();
+        properties.getStorage().getLocal().setBasePath(storageDir.toString());
+        StorageStrategyFactory storageStrategyFactory = new StorageStrategyFactory(
+                Collections.singletonList(new LocalStorageStrategy(properties)));
+        storageStrategyFactory.init();
+        importEngine = new ImportEngine(new InMemoryImportRecordService(), taskExecutor,
+                new CompressionServiceImpl(properties), storageStrategyFactory, properties, cleanupExecutor);
+        writeWorkbook(storageDir.resolve("sheets.xlsx").toFile());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        importEngine.shutdown();
+        taskExecutor.shutdown();
+        cleanupExecutor.shutdownNow();
+        FileUtil.del(storageDir.toFile());
+    }
+
+    /**
+     * 并行读取多个Sheet时导入所有数据，导入线程数不超过 importWorkers，错误与逐个Sheet导入一致
+     */
+    @Test
+    public void testParallelSheetsShareImportWorkers() {
+        Collected serial = importSheets(1);
+        Collected parallel = importSheets(SHEET_COUNT);
+
+        assertEquals(SHEET_COUNT * ROWS_PER_SHEET - 1, serial.ids.size());
+        assertEquals(serial.ids, parallel.ids);
+        assertEquals(serial.errorRows, parallel.errorRows);
+        assertEquals(Collections.singletonList(8), parallel.errorRows);
+        assertEquals(Collections.singletonList("Sheet2"), parallel.errorSheets);
+        assertTrue(parallel.threads.size() <= IMPORT_WORKERS, "导入线程: " + parallel.threads);
+        for (String thread : parallel.threads) {
+            assertTrue(thread.startsWith("silky-excel-import-"), thread);
+        }
+    }
+
+    private Collected importSheets(int sheetParallelism) {
+        Collected collected = new Collected();
+        ImportRequest<ImportRow> request = ImportRequest.<ImportRow>builder()
+                .dataClass(ImportRow.class)
+                .fileName("sheets.xlsx")
+                .fileUrl("sheets.xlsx")
+                .pageSize(200)
+                .maxErrorCount(10)
+                .sheetParallelism(sheetParallelism)
+                .importWorkers(IMPORT_WORKERS)
+                .dataImporterSupplier((dataList, params) -> {
+                    collected.threads.add(Thread.currentThread().getName());
+                    for (ImportRow row : dataList) {
+                        assertTrue(collected.ids.add(row.getId()), "重复导入: " + row.getId());
+                    }
+                    return null;
+                })
+                .build();
+        ImportResult result = importEngine.importSync(request);
+        assertNotNull(result.getErrors(), result.getMessage());
+        for (ImportResult.ImportError error : result.getErrors()) {
+            collected.errorRows.add(error.getRowIndex());
+            collected.errorSheets.add(error.getSheetName());
+        }
+        return collected;
+    }
+
+    /**
+     * 写入多Sheet工作簿，Sheet2 第 8 行的数量不是数字
+     */
+    private static void writeWorkbook(File file) {
+        try (ExcelWriter writer = FastExcel.write(file, SourceRow.class).build()) {
+            for (int sheet = 0; sheet < SHEET_COUNT; sheet++) {
+                WriteSheet writeSheet = FastExcel.writerSheet(sheet, "Sheet" + sheet).build();
+                List<SourceRow> rows = new ArrayList<>();
+                for (int i = 0; i < ROWS_PER_SHEET; i++) {
+                    String quantity = sheet == 2 && i == 7 ? "x" : String.valueOf(i);
+                    rows.add(new SourceRow(sheet + "-" + i, quantity));
+                }
+                writer.write(rows, writeSheet);
+            }
+        }
+    }
+
+    private static class Collected {
+
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        final List<Integer> errorRows = new ArrayList<>();
+
+        final List<String> errorSheets = new ArrayList<>();
+    }
+
+    @Data
+    public static class ImportRow {
+
+        @ExcelProperty("编号")
+        private String id;
+
+        @ExcelProperty("数量")
+        private Integer quantity;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SourceRow {
+
+        @ExcelProperty("编号")
+        private String id;
+
+        @ExcelProperty("数量")
+        private String quantity;
+    }
+}
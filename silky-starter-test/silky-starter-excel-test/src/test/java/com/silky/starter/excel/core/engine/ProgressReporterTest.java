@@ -0,0 +1,112 @@
+package com.silky.starter.excel.core.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProgressReporter 测试：进度按行数增量和时间间隔合并写入，任务结束时强制写入最终进度
+ *
+ * @author zy
+ */
+public class ProgressReporterTest {
+
+    private ScheduledExecutorService scheduler;
+
+    @AfterEach
+    public void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 处理行数距上次写入达到增量时才写入，结束时写入最终进度，结束后的上报和重复结束不再写入
+     */
+    @Test
+    public void testRowDeltaCoalescesReports() {
+        ProgressReporter reporter = new ProgressReporter("test", null, 60_000, 100);
+        List<Long> writes = new CopyOnWriteArrayList<>();
+        ProgressReporter.TaskProgress progress = reporter.register("t1", (processed, success, failed) -> writes.add(processed));
+
+        for (long processed : new long[]{10, 50, 99}) {
+            progress.report(processed, processed, 0);
+        }
+        assertTrue(writes.isEmpty());
+        progress.report(100, 100, 0);
+        progress.report(150, 150, 0);
+        progress.report(199, 199, 0);
+        assertEquals(Collections.singletonList(100L), writes);
+        progress.report(200, 200, 0);
+        assertEquals(Arrays.asList(100L, 200L), writes);
+
+        progress.complete(230, 228, 2);
+        assertEquals(Arrays.asList(100L, 200L, 230L), writes);
+        assertEquals(0, reporter.getActiveTaskCount());
+
+        progress.report(300, 300, 0);
+        progress.complete();
+        reporter.flushAll();
+        assertEquals(Arrays.asList(100L, 200L, 230L), writes, "结束后不再写入");
+    }
+
+    /**
+     * 未达到行数增量的进度由后台线程按时间间隔合并写入，写入的是最新进度，没有新进度时不重复写入
+     */
+    @Test
+    public void testIntervalFlushWritesLatestProgress() throws InterruptedException {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        ProgressReporter reporter = new ProgressReporter("test", scheduler, 50, Long.MAX_VALUE);
+        List<long[]> writes = new CopyOnWriteArrayList<>();
+        ProgressReporter.TaskProgress progress = reporter.register("t1",
+                (processed, success, failed) -> writes.add(new long[]{processed, success, failed}));
+
+        for (int i = 1; i <= 1000; i++) {
+            progress.report(i, i - 1, 1);
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((writes.isEmpty() || writes.get(writes.size() - 1)[0] != 1000) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertArrayEquals(new long[]{1000, 999, 1}, writes.get(writes.size() - 1));
+        assertTrue(writes.size() < 1000, "上报合并写入，写入次数: " + writes.size());
+
+        int count = writes.size();
+        Thread.sleep(200);
+        assertEquals(count, writes.size(), "没有新进度时不重复写入");
+
+        progress.complete();
+        assertEquals(count, writes.size(), "已写入最新进度时结束不重复写入");
+        reporter.shutdown();
+    }
+
+    /**
+     * 定时写入之前任务结束，最终进度同步写入；关闭上报器时写入所有待写入的进度
+     */
+    @Test
+    public void testCompleteAndShutdownForceFinalWrite() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        ProgressReporter reporter = new ProgressReporter("test", scheduler, 60_000, 1000);
+        List<String> writes = new CopyOnWriteArrayList<>();
+        ProgressReporter.TaskProgress first = reporter.register("t1", (processed, success, failed) -> writes.add("t1:" + processed));
+        ProgressReporter.TaskProgress second = reporter.register("t2", (processed, success, failed) -> writes.add("t2:" + processed));
+
+        first.report(5, 5, 0);
+        second.report(8, 8, 0);
+        assertTrue(writes.isEmpty());
+
+        first.complete(7, 7, 0);
+        assertEquals(Collections.singletonList("t1:7"), writes);
+
+        reporter.shutdown();
+        assertEquals(Arrays.asList("t1:7", "t2:8"), writes);
+    }
+}
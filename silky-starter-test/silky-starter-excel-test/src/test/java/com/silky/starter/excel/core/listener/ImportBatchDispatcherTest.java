@@ -0,0 +1,147 @@
+package com.silky.starter.excel.core.listener;
+
+import com.silky.starter.excel.core.exception.ExcelExportException;
+import com.silky.starter.excel.core.model.AnalysisListenersContext;
+import com.silky.starter.excel.core.model.imports.DataImporterSupplier;
+import com.silky.starter.excel.core.model.imports.ImportRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 并行导入测试：监听器按批次交给 ImportBatchDispatcher 的导入工作线程，
+ * 末尾不足一页的数据也会导入，工作线程失败时中止解析，等待完成超时时中断工作线程
+ *
+ * @author zy
+ */
+public class ImportBatchDispatcherTest {
+
+    /**
+     * 末尾不足一页的数据在 doAfterAllAnalysed 时作为最后一个批次导入，并行与同步导入结果一致
+     */
+    @Test
+    public void testTrailingPartialBatchIsImported() {
+        for (int workers : new int[]{0, 2}) {
+            List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+            AnalysisListenersContext<Integer> context = context(3, workers, (dataList, params) -> {
+                batches.add(new ArrayList<>(dataList));
+                return null;
+            });
+            DefaultAnalysisListeners<Integer> listener = new DefaultAnalysisListeners<>(context);
+            try {
+                for (int i = 1; i <= 7; i++) {
+                    listener.invoke(i, null);
+                }
+                listener.doAfterAllAnalysed(null);
+                listener.awaitImportCompletion(5000);
+            } finally {
+                listener.close();
+            }
+
+            List<Integer> imported = new ArrayList<>();
+            List<Integer> sizes = new ArrayList<>();
+            for (List<Integer> batch : batches) {
+                imported.addAll(batch);
+                sizes.add(batch.size());
+            }
+            Collections.sort(imported);
+            Collections.sort(sizes);
+            assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7), imported, "importWorkers=" + workers);
+            assertEquals(Arrays.asList(1, 3, 3), sizes, "importWorkers=" + workers);
+            assertEquals(7, context.getTotalCount());
+            assertEquals(7, context.getSuccessCount());
+        }
+    }
+
+    /**
+     * 导入工作线程失败后，解析线程的行异常直接抛出中止解析，后续提交和等待完成都报告工作线程的异常
+     */
+    @Test
+    public void testWorkerFailureAbortsParsing() throws InterruptedException {
+        IllegalStateException workerError = new IllegalStateException("入库失败");
+        AnalysisListenersContext<Integer> context = context(2, 2, (dataList, params) -> {
+            throw workerError;
+        });
+        DefaultAnalysisListeners<Integer> listener = new DefaultAnalysisListeners<>(context);
+        try {
+            listener.invoke(1, null);
+            listener.invoke(2, null);
+            ImportBatchDispatcher<Integer> dispatcher = listener.getImportDispatcher();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!dispatcher.isFailed() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(dispatcher.isFailed());
+
+            RuntimeException rowError = new RuntimeException("第3行格式错误");
+            assertSame(rowError, assertThrows(RuntimeException.class, () -> listener.onException(rowError, null)),
+                    "工作线程已失败时不再记录行错误，直接中止解析");
+            assertEquals(0, listener.getFailCount().get());
+            assertTrue(listener.getAllErrors().isEmpty());
+
+            listener.invoke(3, null);
+            ExcelExportException submitError = assertThrows(ExcelExportException.class, () -> listener.invoke(4, null));
+            assertSame(workerError, submitError.getCause());
+            ExcelExportException awaitError = assertThrows(ExcelExportException.class,
+                    () -> listener.awaitImportCompletion(5000));
+            assertSame(workerError, awaitError.getCause());
+        } finally {
+            listener.close();
+        }
+    }
+
+    /**
+     * 等待导入完成超时时抛出异常并中断仍在入库的工作线程
+     */
+    @Test
+    public void testAwaitImportCompletionTimeout() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AnalysisListenersContext<Integer> context = context(1, 1, (dataList, params) -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+        DefaultAnalysisListeners<Integer> listener = new DefaultAnalysisListeners<>(context);
+        try {
+            listener.invoke(1, null);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            ExcelExportException error = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> assertThrows(ExcelExportException.class, () -> listener.awaitImportCompletion(100)));
+            assertTrue(error.getMessage().contains("超时"), error.getMessage());
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS), "超时后中断工作线程");
+        } finally {
+            listener.close();
+        }
+    }
+
+    private static AnalysisListenersContext<Integer> context(int pageSize, int importWorkers,
+                                                            DataImporterSupplier<Integer> importer) {
+        ImportRequest<Integer> request = ImportRequest.<Integer>builder()
+                .dataClass(Integer.class)
+                .dataImporterSupplier(importer)
+                .build();
+        return AnalysisListenersContext.<Integer>builder()
+                .request(request)
+                .taskId("dispatcher-test")
+                .pageSize(pageSize)
+                .maxErrorCount(10)
+                .importWorkers(importWorkers)
+                .importQueueCapacity(4)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.silky.starter.excel.core.resolve;
+
+import com.silky.starter.excel.core.annotation.ExcelDict;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DictFieldResolver 按页批量查询测试：每个字典编码每页只调用一次 batchQuery，
+ * 已查询和未命中的值在后续页不再查询，应用级字典缓存跨任务复用查询结果
+ *
+ * @author zy
+ */
+public class DictFieldResolverTest {
+
+    /**
+     * 同一页中多个字段、多行引用同一字典编码时，每个字典编码只查询一次，查询的字典值去重
+     */
+    @Test
+    public void testOneBatchQueryPerDictCodePerPage() {
+        RecordingProvider provider = new RecordingProvider();
+        ExcelFieldResolverPipeline pipeline = pipeline(provider, null);
+        List<DictRow> page = Arrays.asList(
+                new DictRow("1", "2", "A"), new DictRow("2", "1", "B"),
+                new DictRow("1", "9", "A"), new DictRow("2", "2", "Z"));
+
+        pipeline.resolve(page, DictRow.class, new ResolveContext());
+
+        assertEquals(2, provider.calls.size(), provider.calls.toString());
+        assertEquals(new TreeSet<>(Arrays.asList("1", "2", "9")), provider.keysOf("sex"));
+        assertEquals(new TreeSet<>(Arrays.asList("A", "B", "Z")), provider.keysOf("status"));
+        assertEquals(new DictRow("男", "女", "启用"), page.get(0));
+        assertEquals(new DictRow("女", "男", "禁用"), page.get(1));
+        assertEquals(new DictRow("男", "9", "启用"), page.get(2), "未命中时保留原值");
+        assertEquals(new DictRow("女", "女", "Z"), page.get(3));
+    }
+
+    /**
+     * 同一任务的后续页只查询新出现的字典值，已确认不存在的值不再查询；全部命中时不调用 batchQuery
+     */
+    @Test
+    public void testLaterPagesOnlyQueryNewCodes() {
+        RecordingProvider provider = new RecordingProvider();
+        ExcelFieldResolverPipeline pipeline = pipeline(provider, null);
+        ResolveContext context = new ResolveContext();
+
+        pipeline.resolve(new ArrayList<>(Arrays.asList(new DictRow("1", "9", "A"))), DictRow.class, context);
+        provider.calls.clear();
+
+        pipeline.resolve(new ArrayList<>(Arrays.asList(new DictRow("1", "9", "A"), new DictRow("2", "1", "A"))),
+                DictRow.class, context);
+        assertEquals(1, provider.calls.size(), provider.calls.toString());
+        assertEquals(Collections.singleton("2"), provider.keysOf("sex"));
+        provider.calls.clear();
+
+        pipeline.resolve(new ArrayList<>(Arrays.asList(new DictRow("2", "9", "A"))), DictRow.class, context);
+        assertTrue(provider.calls.isEmpty(), provider.calls.toString());
+    }
+
+    /**
+     * 并行解析时字典预加载仍在分块前完成，每个字典编码每页只查询一次
+     */
+    @Test
+    public void testParallelResolveStillQueriesOncePerDictCode() {
+        RecordingProvider provider = new RecordingProvider();
+        ExcelModelRegistry registry = new ExcelModelRegistry();
+        ExcelFieldResolverPipeline pipeline = new ExcelFieldResolverPipeline(
+                Collections.singletonList(new DictFieldResolver(provider, null, registry)), 4, 10, registry);
+        try {
+            List<DictRow> page = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                page.add(new DictRow(String.valueOf(i % 3), "1", i % 2 == 0 ? "A" : "B"));
+            }
+            pipeline.resolve(page, DictRow.class, new ResolveContext());
+
+            assertEquals(2, provider.calls.size(), provider.calls.toString());
+            assertEquals(new DictRow("女", "男", "启用"), page.get(2));
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+
+    /**
+     * 应用级字典缓存：新任务命中缓存（含未命中的负缓存）时不再查询 DictionaryProvider
+     */
+    @Test
+    public void testDictionaryCacheIsSharedAcrossTasks() {
+        RecordingProvider provider = new RecordingProvider();
+        DictionaryCache cache = new DictionaryCache(100, 60_000, null);
+        ExcelFieldResolverPipeline pipeline = pipeline(provider, cache);
+
+        pipeline.resolve(new ArrayList<>(Arrays.asList(new DictRow("1", "9", "A"))), DictRow.class, new ResolveContext());
+        assertEquals(2, provider.calls.size());
+        provider.calls.clear();
+
+        List<DictRow> page = new ArrayList<>(Arrays.asList(new DictRow("1", "9", "A"), new DictRow("2", "1", "A")));
+        pipeline.resolve(page, DictRow.class, new ResolveContext());
+        assertEquals(1, provider.calls.size(), provider.calls.toString());
+        assertEquals(Collections.singleton("2"), provider.keysOf("sex"));
+        assertEquals(new DictRow("男", "9", "启用"), page.get(0));
+        assertEquals(new DictRow("女", "男", "启用"), page.get(1));
+
+        cache.invalidate("sex");
+        provider.calls.clear();
+        pipeline.resolve(new ArrayList<>(Arrays.asList(new DictRow("1", "9", "A"))), DictRow.class, new ResolveContext());
+        assertEquals(1, provider.calls.size(), "失效后重新查询该字典编码");
+        assertEquals(new TreeSet<>(Arrays.asList("1", "9")), provider.keysOf("sex"));
+    }
+
+    private static ExcelFieldResolverPipeline pipeline(DictionaryProvider provider, DictionaryCache cache) {
+        ExcelModelRegistry registry = new ExcelModelRegistry();
+        return new ExcelFieldResolverPipeline(
+                Collections.singletonList(new DictFieldResolver(provider, cache, registry)), 0, 0, registry);
+    }
+
+    /**
+     * 记录每次 batchQuery 调用的字典提供者
+     */
+    private static class RecordingProvider implements DictionaryProvider {
+
+        private static final Map<String, Map<String, String>> DICTS = new HashMap<>();
+
+        static {
+            Map<String, String> sex = new HashMap<>();
+            sex.put("1", "男");
+            sex.put("2", "女");
+            sex.put("0", "未知");
+            Map<String, String> status = new HashMap<>();
+            status.put("A", "启用");
+            status.put("B", "禁用");
+            DICTS.put("sex", sex);
+            DICTS.put("status", status);
+        }
+
+        final List<Map.Entry<String, List<String>>> calls = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Map<String, String> batchQuery(String dictCode, List<String> codes) {
+            calls.add(new AbstractMap.SimpleEntry<>(dictCode, new ArrayList<>(codes)));
+            Map<String, String> result = new HashMap<>();
+            for (String code : codes) {
+                String label = DICTS.getOrDefault(dictCode, Collections.emptyMap()).get(code);
+                if (label != null) {
+                    result.put(code, label);
+                }
+            }
+            return result;
+        }
+
+        TreeSet<String> keysOf(String dictCode) {
+            TreeSet<String> keys = new TreeSet<>();
+            calls.stream().filter(call -> call.getKey().equals(dictCode)).forEach(call -> keys.addAll(call.getValue()));
+            return keys;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DictRow {
+
+        @ExcelDict(dictCode = "sex")
+        private String sex;
+
+        @ExcelDict(dictCode = "sex")
+        private String spouseSex;
+
+        @ExcelDict(dictCode = "status")
+        private String status;
+    }
+}
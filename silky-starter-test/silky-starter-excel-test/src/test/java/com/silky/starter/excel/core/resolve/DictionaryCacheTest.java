@@ -0,0 +1,99 @@
+package com.silky.starter.excel.core.resolve;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DictionaryCache 测试：按字典编码过期、超出容量按最久未访问淘汰、主动失效和负缓存
+ *
+ * @author zy
+ */
+public class DictionaryCacheTest {
+
+    /**
+     * 条目按字典编码的过期时间失效，未单独设置的字典编码使用默认过期时间
+     */
+    @Test
+    public void testEntriesExpireByDictCodeTtl() throws InterruptedException {
+        DictionaryCache cache = new DictionaryCache(100, 50, Collections.singletonMap("long", 60_000L));
+        cache.putAll("short", Collections.singletonList("1"), Collections.singletonMap("1", "男"));
+        cache.putAll("long", Collections.singletonList("1"), Collections.singletonMap("1", "启用"));
+        assertEquals(Collections.singletonMap("1", "男"), cache.getAll("short", Collections.singletonList("1")));
+
+        Thread.sleep(120);
+
+        assertTrue(cache.getAll("short", Collections.singletonList("1")).isEmpty(), "默认过期时间已过");
+        assertEquals(Collections.singletonMap("1", "启用"), cache.getAll("long", Collections.singletonList("1")));
+        assertEquals(1, cache.size(), "过期条目在访问时清理");
+    }
+
+    /**
+     * 超出容量时淘汰最久未访问的条目
+     */
+    @Test
+    public void testSizeLimitEvictsLeastRecentlyUsed() {
+        DictionaryCache cache = new DictionaryCache(3, 60_000, null);
+        cache.putAll("d", Arrays.asList("a", "b", "c"), labels("a", "b", "c"));
+        // 访问 a 后 b 成为最久未访问的条目
+        cache.getAll("d", Collections.singletonList("a"));
+
+        cache.putAll("d", Collections.singletonList("e"), labels("e"));
+
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(labels("a", "c", "e"), cache.getAll("d", Arrays.asList("a", "b", "c", "e")));
+    }
+
+    /**
+     * 查询了但未返回的字典值按不存在缓存，命中和未命中按字典值计数
+     */
+    @Test
+    public void testMissingCodesAreCachedAsAbsent() {
+        DictionaryCache cache = new DictionaryCache(100, 60_000, null);
+        cache.putAll("d", Arrays.asList("a", "x"), labels("a"));
+
+        Map<String, String> cached = cache.getAll("d", Arrays.asList("a", "x", "y"));
+
+        assertEquals(2, cached.size());
+        assertEquals("label-a", cached.get("a"));
+        assertTrue(cached.containsKey("x"));
+        assertNull(cached.get("x"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    /**
+     * 按字典编码、按字典值和全部失效
+     */
+    @Test
+    public void testInvalidate() {
+        DictionaryCache cache = new DictionaryCache(100, 60_000, null);
+        cache.putAll("d1", Arrays.asList("a", "b"), labels("a", "b"));
+        cache.putAll("d2", Arrays.asList("a", "b"), labels("a", "b"));
+
+        cache.invalidate("d1", "a");
+        assertEquals(labels("b"), cache.getAll("d1", Arrays.asList("a", "b")));
+
+        cache.invalidate("d1");
+        assertTrue(cache.getAll("d1", Arrays.asList("a", "b")).isEmpty());
+        assertEquals(labels("a", "b"), cache.getAll("d2", Arrays.asList("a", "b")), "其他字典编码不受影响");
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertTrue(cache.getAll("d2", Arrays.asList("a", "b")).isEmpty());
+    }
+
+    private static Map<String, String> labels(String... codes) {
+        Map<String, String> labels = new HashMap<>();
+        for (String code : codes) {
+            labels.put(code, "label-" + code);
+        }
+        return labels;
+    }
+}
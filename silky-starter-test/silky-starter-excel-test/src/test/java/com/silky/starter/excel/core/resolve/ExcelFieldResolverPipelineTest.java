@@ -0,0 +1,108 @@
+package com.silky.starter.excel.core.resolve;
+
+import com.silky.starter.excel.core.annotation.ExcelDict;
+import com.silky.starter.excel.core.annotation.ExcelMask;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExcelFieldResolverPipeline 测试：字段访问器写回解析值，页内并行解析与串行解析结果一致
+ *
+ * @author zy
+ */
+public class ExcelFieldResolverPipelineTest {
+
+    /**
+     * final 字段（Lombok @Value 数据类）与此前的反射写入一样可以回写脱敏值，不会使导出失败
+     */
+    @Test
+    public void testFinalFieldsAreWritten() {
+        ExcelModelRegistry registry = new ExcelModelRegistry();
+        ExcelFieldResolverPipeline pipeline = new ExcelFieldResolverPipeline(
+                Collections.singletonList(new MaskFieldResolver(registry)), 0, 0, registry);
+        List<ImmutableRow> rows = Arrays.asList(new ImmutableRow("13812345678", "张三丰"),
+                new ImmutableRow("13900001111", "李四"));
+
+        pipeline.resolve(rows, ImmutableRow.class, new ResolveContext());
+
+        assertEquals("138****5678", rows.get(0).getPhone());
+        assertEquals("张**", rows.get(0).getName());
+        assertEquals("139****1111", rows.get(1).getPhone());
+        assertEquals("李*", rows.get(1).getName());
+    }
+
+    /**
+     * 开启页内并行解析后，不足两个最小分块、刚好两个分块、分块不整除和超过线程数的各种页大小，
+     * 回写的字段值和解析值表都与串行解析一致
+     */
+    @Test
+    public void testParallelResolveMatchesSerial() {
+        ExcelModelRegistry registry = new ExcelModelRegistry();
+        List<ExcelFieldResolver> resolvers = Arrays.asList(new MaskFieldResolver(registry),
+                new DictFieldResolver(null, null, registry));
+        ExcelFieldResolverPipeline serial = new ExcelFieldResolverPipeline(resolvers, 0, 0, registry);
+        ExcelFieldResolverPipeline parallel = new ExcelFieldResolverPipeline(resolvers, 4, 10, registry);
+        try {
+            for (int size : new int[]{1, 19, 20, 21, 45, 1000}) {
+                List<MixedRow> expected = mixedRows(size);
+                List<MixedRow> actual = mixedRows(size);
+
+                ResolvedValueTable expectedTable = serial.resolvePage(expected, MixedRow.class, new ResolveContext());
+                ResolvedValueTable actualTable = parallel.resolvePage(actual, MixedRow.class, new ResolveContext());
+
+                assertEquals(expected, actual, "size=" + size);
+                for (int row = 0; row < size; row++) {
+                    assertEquals(expectedTable.get(row, "level"), actualTable.get(row, "level"), "size=" + size + ", row=" + row);
+                }
+                assertEquals(new MixedRow("138****0000", "停用", 0), actual.get(0));
+                assertEquals("L" + ((size - 1) % 3), actualTable.get(size - 1, "level"));
+            }
+        } finally {
+            parallel.shutdown();
+        }
+    }
+
+    private static List<MixedRow> mixedRows(int size) {
+        List<MixedRow> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // 每 7 行留一个空值，验证空值在各分块中同样被跳过
+            rows.add(new MixedRow(String.format("138%08d", i), i % 7 == 6 ? null : "状态" + (i % 2), i % 3));
+        }
+        return rows;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MixedRow {
+
+        @ExcelMask(strategy = ExcelMask.MaskStrategy.PHONE)
+        private String phone;
+
+        @ExcelDict(readConverterExp = "状态0=停用,状态1=启用")
+        private String status;
+
+        @ExcelDict(readConverterExp = "0=L0,1=L1,2=L2")
+        private Integer level;
+    }
+
+    @Value
+    public static class ImmutableRow {
+
+        @ExcelMask(strategy = ExcelMask.MaskStrategy.PHONE)
+        String phone;
+
+        @ExcelMask(strategy = ExcelMask.MaskStrategy.NAME)
+        String name;
+    }
+}
@@ -0,0 +1,115 @@
+package com.silky.starter.excel.core.resolve;
+
+import cn.hutool.core.util.DesensitizedUtil;
+import com.silky.starter.excel.core.annotation.ExcelMask;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MaskFieldResolver 测试：固定位置策略与 DesensitizedUtil 输出一致，自定义正则按分组保留首尾
+ *
+ * @author zy
+ */
+public class MaskFieldResolverTest {
+
+    private final MaskFieldResolver resolver = new MaskFieldResolver(new ExcelModelRegistry());
+
+    /**
+     * PHONE 策略与 DesensitizedUtil.mobilePhone 一致，maskChar 不影响输出
+     */
+    @Test
+    public void testPhoneMatchesDesensitizedUtil() {
+        for (String value : new String[]{"13812345678", "1381234", "12345", "1234", "8613812345678"}) {
+            assertEquals(DesensitizedUtil.mobilePhone(value), mask("phone", value), value);
+        }
+    }
+
+    /**
+     * ID_CARD 策略与 DesensitizedUtil.idCardNum(value, 3, 4) 一致，长度不足 7 位时为空串
+     */
+    @Test
+    public void testIdCardMatchesDesensitizedUtil() {
+        for (String value : new String[]{"110101199003071234", "11010119900307123X", "1234567", "123456", "1"}) {
+            assertEquals(DesensitizedUtil.idCardNum(value, 3, 4), mask("idCard", value), value);
+        }
+    }
+
+    /**
+     * NAME 策略与 DesensitizedUtil.chineseName 一致，含代理对字符时按码点脱敏
+     */
+    @Test
+    public void testNameMatchesDesensitizedUtil() {
+        for (String value : new String[]{"张三", "张三丰", "欧阳娜娜", "李", "𠮷一一"}) {
+            assertEquals(DesensitizedUtil.chineseName(value), mask("name", value), value);
+        }
+    }
+
+    /**
+     * 两个分组：保留分组1与最后一个分组，中间替换为 maskChar
+     */
+    @Test
+    public void testCustomPatternKeepsFirstAndLastGroup() {
+        assertEquals("138####5678", mask("twoGroups", "13812345678"));
+        assertEquals("a###e", mask("threeGroups", "abcde"));
+        assertEquals("abc", mask("twoGroups", "abc"), "不匹配时原样返回");
+    }
+
+    /**
+     * 一个分组时保留分组及其之前的内容，没有分组时整体脱敏
+     */
+    @Test
+    public void testCustomPatternWithOneOrNoGroup() {
+        assertEquals("138########", mask("oneGroup", "13812345678"));
+        assertEquals("#####", mask("noGroup", "12345"));
+        assertEquals("12a45", mask("noGroup", "12a45"), "不匹配时原样返回");
+    }
+
+    /**
+     * 无效正则不脱敏，空值和空串原样返回
+     */
+    @Test
+    public void testInvalidPatternAndEmptyValues() {
+        assertEquals("13812345678", mask("invalid", "13812345678"));
+        assertNull(mask("phone", null));
+        assertEquals("", mask("phone", ""));
+    }
+
+    private Object mask(String fieldName, String value) {
+        try {
+            Field field = MaskRow.class.getDeclaredField(fieldName);
+            return resolver.resolve(field, field.getAnnotation(ExcelMask.class), value, new ResolveContext());
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class MaskRow {
+
+        @ExcelMask(strategy = ExcelMask.MaskStrategy.PHONE, maskChar = '#')
+        private String phone;
+
+        @ExcelMask(strategy = ExcelMask.MaskStrategy.ID_CARD, maskChar = '#')
+        private String idCard;
+
+        @ExcelMask(strategy = ExcelMask.MaskStrategy.NAME, maskChar = '#')
+        private String name;
+
+        @ExcelMask(customPattern = "(\\d{3})\\d+(\\d{4})", maskChar = '#')
+        private String twoGroups;
+
+        @ExcelMask(customPattern = "(\\w)(\\w+)(\\w)", maskChar = '#')
+        private String threeGroups;
+
+        @ExcelMask(customPattern = "(\\d{3})\\d*", maskChar = '#')
+        private String oneGroup;
+
+        @ExcelMask(customPattern = "\\d+", maskChar = '#')
+        private String noGroup;
+
+        @ExcelMask(customPattern = "(\\d{3", maskChar = '#')
+        private String invalid;
+    }
+}
@@ -0,0 +1,144 @@
+package com.silky.starter.excel.core.resolve;
+
+import cn.hutool.core.io.FileUtil;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelProperty;
+import com.silky.starter.excel.core.annotation.ExcelDict;
+import com.silky.starter.excel.core.engine.EnhancedWriterWrapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResolvedValueTable 测试：类型不兼容的解析值按页存储，数据处理器过滤/重排后按对象对齐，
+ * 单页数据跨 Sheet 拆分写入时按行偏移取到对应行的解析值
+ *
+ * @author zy
+ */
+public class ResolvedValueTableTest {
+
+    private Path storageDir;
+
+    private ExcelFieldResolverPipeline pipeline;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        storageDir = Files.createTempDirectory("silky-resolved-values");
+        ExcelModelRegistry registry = new ExcelModelRegistry();
+        pipeline = new ExcelFieldResolverPipeline(
+                Collections.singletonList(new DictFieldResolver(null, null, registry)), 0, 0, registry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        FileUtil.del(storageDir.toFile());
+    }
+
+    /**
+     * Integer 字段的翻译结果存入解析值表，字段原值不变
+     */
+    @Test
+    public void testIncompatibleValuesAreStoredPerRow() {
+        List<LevelRow> page = rows(1, 5);
+
+        ResolvedValueTable table = pipeline.resolvePage(page, LevelRow.class, new ResolveContext());
+
+        assertFalse(table.isEmpty());
+        for (int i = 0; i < page.size(); i++) {
+            assertEquals(i + 1, page.get(i).getLevel());
+            assertEquals("L" + (i + 1), table.get(i, "level"));
+        }
+        assertNull(table.get(5, "level"), "超出行数");
+        assertNull(table.get(0, "name"), "未产生解析值的列");
+    }
+
+    /**
+     * 数据处理器过滤并重排数据后，解析值按对象引用对齐到实际写入的行，新增的行没有解析值
+     */
+    @Test
+    public void testAlignToFilteredAndReorderedRows() {
+        List<LevelRow> page = rows(1, 5);
+        ResolvedValueTable table = pipeline.resolvePage(page, LevelRow.class, new ResolveContext());
+
+        List<LevelRow> processed = new ArrayList<>(Arrays.asList(page.get(4), page.get(1), new LevelRow("new", 3)));
+        ResolvedValueTable aligned = table.alignTo(page, processed);
+
+        assertEquals("L5", aligned.get(0, "level"));
+        assertEquals("L2", aligned.get(1, "level"));
+        assertNull(aligned.get(2, "level"), "处理器新增的对象没有解析值");
+        assertNull(aligned.get(3, "level"));
+        assertSame(table, table.alignTo(page, page), "未经处理时不需要对齐");
+    }
+
+    /**
+     * 每个 Sheet 最多 3 行：第二页的第一行写入 Sheet1，其余三行写入 Sheet2，
+     * 各行写出的是自己的解析值而不是拆分后子列表首行的解析值
+     */
+    @Test
+    public void testPageSplitAcrossSheetsUsesRowOffset() {
+        File file = storageDir.resolve("split.xlsx").toFile();
+        List<LevelRow> first = rows(1, 2);
+        List<LevelRow> second = rows(3, 4);
+        ResolveContext context = new ResolveContext();
+
+        try (EnhancedWriterWrapper writer = new EnhancedWriterWrapper(file.getAbsolutePath(), 3, new ResolveCellWriteHandler())) {
+            writer.write(first, LevelRow.class, "数据", pipeline.resolvePage(first, LevelRow.class, context));
+            // 过滤掉第二页的 r4，对齐后仍按对象取值
+            List<LevelRow> processed = new ArrayList<>(second);
+            processed.remove(1);
+            writer.write(processed, LevelRow.class, "数据",
+                    pipeline.resolvePage(second, LevelRow.class, context).alignTo(second, processed));
+        }
+
+        List<Map<Integer, String>> sheet1 = FastExcel.read(file).sheet(0).doReadSync();
+        List<Map<Integer, String>> sheet2 = FastExcel.read(file).sheet(1).doReadSync();
+        assertEquals(Arrays.asList("r1", "r2", "r3"), column(sheet1, 0));
+        assertEquals(Arrays.asList("L1", "L2", "L3"), column(sheet1, 1));
+        assertEquals(Arrays.asList("r5", "r6"), column(sheet2, 0));
+        assertEquals(Arrays.asList("L5", "L6"), column(sheet2, 1));
+    }
+
+    private static List<LevelRow> rows(int from, int count) {
+        List<LevelRow> rows = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            rows.add(new LevelRow("r" + i, i));
+        }
+        return rows;
+    }
+
+    private static List<String> column(List<Map<Integer, String>> rows, int column) {
+        List<String> values = new ArrayList<>();
+        for (Map<Integer, String> row : rows) {
+            values.add(row.get(column));
+        }
+        return values;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LevelRow {
+
+        @ExcelProperty("名称")
+        private String name;
+
+        @ExcelProperty("等级")
+        @ExcelDict(readConverterExp = "1=L1,2=L2,3=L3,4=L4,5=L5,6=L6")
+        private Integer level;
+    }
+}
@@ -0,0 +1,155 @@
+package com.silky.starter.excel.service.compression.impl;
+
+import cn.hutool.core.io.IoUtil;
+import com.silky.starter.excel.enums.CompressionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParallelDeflateOutputStream 测试：并行压缩的输出能被 JDK 的 gzip/zip 解压还原
+ *
+ * @author zy
+ */
+public class ParallelDeflateOutputStreamTest {
+
+    private static final int BLOCK_SIZE = 32 * 1024;
+
+    private static final String ENTRY_NAME = "export.xlsx";
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 空输入、不足一块、恰好一块和多块输入经 GZIPInputStream 解压后与原文一致
+     */
+    @Test
+    public void testGzipRoundTrip() throws IOException {
+        for (byte[] data : samples()) {
+            byte[] compressed = compress(CompressionType.GZIP, data, executor);
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                assertArrayEquals(data, IoUtil.readBytes(in), "输入长度: " + data.length);
+            }
+        }
+    }
+
+    /**
+     * 空输入、不足一块、恰好一块和多块输入经 ZipInputStream 和 ZipFile（读取中央目录）解压后与原文一致
+     */
+    @Test
+    public void testZipRoundTrip() throws IOException {
+        for (byte[] data : samples()) {
+            byte[] compressed = compress(CompressionType.ZIP, data, executor);
+            try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(compressed))) {
+                ZipEntry entry = in.getNextEntry();
+                assertNotNull(entry);
+                assertEquals(ENTRY_NAME, entry.getName());
+                assertArrayEquals(data, IoUtil.readBytes(in, false), "输入长度: " + data.length);
+                assertNull(in.getNextEntry(), "只应包含一个条目");
+            }
+
+            File file = Files.createTempFile("parallel-deflate", ".zip").toFile();
+            try {
+                Files.write(file.toPath(), compressed);
+                try (ZipFile zipFile = new ZipFile(file)) {
+                    ZipEntry entry = zipFile.getEntry(ENTRY_NAME);
+                    assertEquals(data.length, entry.getSize());
+                    assertArrayEquals(data, IoUtil.readBytes(zipFile.getInputStream(entry)));
+                }
+            } finally {
+                assertTrue(file.delete());
+            }
+        }
+    }
+
+    /**
+     * 线程池拒绝时在写入线程压缩，逐字节写入和中途刷新不影响输出
+     */
+    @Test
+    public void testInlineCompressionWithSingleByteWritesAndFlush() throws IOException {
+        byte[] data = text(3 * BLOCK_SIZE + 123);
+        Executor rejecting = command -> {
+            throw new RejectedExecutionException("busy");
+        };
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (OutputStream out = new ParallelDeflateOutputStream(target, CompressionType.GZIP, ENTRY_NAME,
+                Deflater.DEFAULT_COMPRESSION, BLOCK_SIZE, 4, rejecting)) {
+            for (int i = 0; i < data.length; i++) {
+                out.write(data[i]);
+                if (i % 10000 == 0) {
+                    out.flush();
+                }
+            }
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(target.toByteArray()))) {
+            assertArrayEquals(data, IoUtil.readBytes(in));
+        }
+    }
+
+    private static byte[] compress(CompressionType type, byte[] data, Executor executor) throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (OutputStream out = new ParallelDeflateOutputStream(target, type, ENTRY_NAME,
+                Deflater.DEFAULT_COMPRESSION, BLOCK_SIZE, 4, executor)) {
+            // 以不对齐分块大小的片段写入
+            for (int off = 0; off < data.length; off += 10007) {
+                out.write(data, off, Math.min(10007, data.length - off));
+            }
+        }
+        return target.toByteArray();
+    }
+
+    private static byte[][] samples() {
+        byte[] random = new byte[5 * BLOCK_SIZE / 2];
+        new Random(42).nextBytes(random);
+        return new byte[][]{
+                new byte[0],
+                text(1),
+                text(BLOCK_SIZE - 1),
+                text(BLOCK_SIZE),
+                // 多块：重复文本使压缩引用跨越块边界
+                text(10 * BLOCK_SIZE + 77),
+                // 不可压缩的数据
+                random
+        };
+    }
+
+    private static byte[] text(int length) {
+        StringBuilder builder = new StringBuilder(length + 64);
+        for (int row = 0; builder.length() < length; row++) {
+            builder.append(row).append(",用户").append(row % 97).append(",13800000000,2024-01-01 00:00:00\r\n");
+        }
+        byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] result = new byte[length];
+        System.arraycopy(bytes, 0, result, 0, length);
+        return result;
+    }
+}
@@ -0,0 +1,156 @@
+package com.silky.starter.excel.service.store;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IndexedRecordStore 测试：状态/业务类型/创建时间索引与记录一致，已结束记录按容量和保留时间淘汰
+ *
+ * @author zy
+ */
+public class IndexedRecordStoreTest {
+
+    private static final String RUNNING = "RUNNING";
+
+    private static final String DONE = "DONE";
+
+    /**
+     * 写入、覆盖、更新和删除后，各索引的查询结果和统计与记录保持一致，列表按创建时间倒序
+     */
+    @Test
+    public void testIndexesFollowPutUpdateAndRemove() {
+        IndexedRecordStore<Rec, String> store = newStore(0, null);
+        LocalDateTime now = LocalDateTime.now();
+        store.put(new Rec("a", RUNNING, "order", now.minusMinutes(3)));
+        store.put(new Rec("b", RUNNING, "user", now.minusMinutes(2)));
+        store.put(new Rec("c", DONE, "order", now.minusMinutes(1)));
+
+        assertEquals(Arrays.asList("c", "b", "a"), ids(store.listRecent(10)));
+        assertEquals(Arrays.asList("b", "a"), ids(store.listByStatus(RUNNING)));
+        assertEquals(Arrays.asList("c", "a"), ids(store.listByBusinessType("order")));
+        assertEquals(counts(RUNNING, 2L, DONE, 1L), store.countByStatus());
+
+        // 覆盖写入同一ID时替换原有索引
+        store.put(new Rec("b", DONE, "order", now.minusMinutes(2)));
+        assertEquals(Collections.singletonList("a"), ids(store.listByStatus(RUNNING)));
+        assertTrue(store.listByBusinessType("user").isEmpty());
+        assertEquals(counts("order", 3L), store.countByBusinessType());
+
+        store.update("a", rec -> {
+            rec.setStatus(DONE);
+            rec.setBusinessType("user");
+        });
+        assertTrue(store.listByStatus(RUNNING).isEmpty());
+        assertEquals(Arrays.asList("c", "b", "a"), ids(store.listByStatus(DONE)));
+        assertEquals(counts(DONE, 3L), store.countByStatus(), "计数归零的状态不出现在统计中");
+        assertEquals(counts("order", 2L, "user", 1L), store.countByBusinessType());
+
+        assertEquals("c", store.remove("c").getId());
+        assertNull(store.remove("c"));
+        assertEquals(1, store.removeCreatedBefore(now.minusMinutes(2).minusSeconds(30)));
+        assertEquals(Collections.singletonList("b"), ids(store.listRecent(10)));
+        assertEquals(counts(DONE, 1L), store.countByStatus());
+        assertEquals(counts("order", 1L), store.countByBusinessType());
+        assertEquals(1, store.size());
+        assertNull(store.update("a", rec -> rec.setStatus(RUNNING)));
+    }
+
+    /**
+     * 超出容量时从最早的已结束记录开始淘汰，进行中的记录即使更早也不淘汰
+     */
+    @Test
+    public void testMaxRecordsEvictsOldestFinishedRecords() {
+        IndexedRecordStore<Rec, String> store = newStore(3, null);
+        LocalDateTime now = LocalDateTime.now();
+        store.put(new Rec("r1", RUNNING, "order", now.minusMinutes(10)));
+        store.put(new Rec("d1", DONE, "order", now.minusMinutes(9)));
+        store.put(new Rec("d2", DONE, "order", now.minusMinutes(8)));
+        store.put(new Rec("d3", DONE, "order", now.minusMinutes(7)));
+
+        assertEquals(Arrays.asList("d3", "d2", "r1"), ids(store.listRecent(10)));
+        assertEquals(1, store.getEvictionCount());
+
+        // 写入进行中的记录时同样淘汰最早的已结束记录，进行中的记录保留
+        store.put(new Rec("r2", RUNNING, "order", now.minusMinutes(6)));
+        store.put(new Rec("r3", RUNNING, "order", now.minusMinutes(5)));
+        assertEquals(Arrays.asList("r3", "r2", "r1"), ids(store.listRecent(10)));
+        assertEquals(3, store.getEvictionCount());
+
+        // 进行中的记录结束后成为淘汰候选，更新时即淘汰
+        store.put(new Rec("r4", RUNNING, "order", now.minusMinutes(4)));
+        assertEquals(4, store.size());
+        store.update("r1", rec -> rec.setStatus(DONE));
+        assertEquals(Arrays.asList("r4", "r3", "r2"), ids(store.listRecent(10)));
+        assertEquals(4, store.getEvictionCount());
+        assertEquals(counts(RUNNING, 3L), store.countByStatus());
+    }
+
+    /**
+     * 超过保留时间的已结束记录在写入、更新和查询时淘汰，进行中的记录保留
+     */
+    @Test
+    public void testRetentionEvictsExpiredFinishedRecords() throws InterruptedException {
+        IndexedRecordStore<Rec, String> store = newStore(0, Duration.ofMinutes(30));
+        LocalDateTime old = LocalDateTime.now().minusHours(1);
+        store.put(new Rec("old-done", DONE, "order", old));
+        store.put(new Rec("old-running", RUNNING, "order", old));
+        assertNull(store.get("old-done"), "写入时淘汰过期记录");
+        assertNotNull(store.get("old-running"));
+
+        store.update("old-running", rec -> rec.setStatus(DONE));
+        assertNull(store.get("old-running"), "记录结束时已过保留时间，更新时淘汰");
+        assertEquals(0, store.size());
+
+        // 没有后续写入时，查询也会淘汰到期的记录
+        IndexedRecordStore<Rec, String> shortLived = newStore(0, Duration.ofMillis(100));
+        shortLived.put(new Rec("done", DONE, "order", LocalDateTime.now()));
+        shortLived.put(new Rec("running", RUNNING, "order", LocalDateTime.now()));
+        assertEquals(2, shortLived.listRecent(10).size());
+        Thread.sleep(200);
+        assertEquals(Collections.singletonList("running"), ids(shortLived.listRecent(10)));
+        assertEquals(counts(RUNNING, 1L), shortLived.countByStatus());
+        assertEquals(1, shortLived.getEvictionCount());
+    }
+
+    private static IndexedRecordStore<Rec, String> newStore(int maxSize, Duration ttl) {
+        return new IndexedRecordStore<>(Rec::getId, Rec::getStatus, Rec::getBusinessType, Rec::getCreateTime,
+                rec -> DONE.equals(rec.getStatus()), maxSize, ttl);
+    }
+
+    private static List<String> ids(List<Rec> records) {
+        return records.stream().map(Rec::getId).collect(Collectors.toList());
+    }
+
+    private static Map<String, Long> counts(Object... entries) {
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            counts.put((String) entries[i], (Long) entries[i + 1]);
+        }
+        return counts;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Rec {
+
+        private String id;
+
+        private String status;
+
+        private String businessType;
+
+        private LocalDateTime createTime;
+    }
+}
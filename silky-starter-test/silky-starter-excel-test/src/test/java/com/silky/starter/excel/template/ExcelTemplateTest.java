@@ -12,6 +12,7 @@ import com.silky.starter.excel.core.model.imports.DataImporterSupplier;
 import com.silky.starter.excel.core.model.imports.ImportRequest;
 import com.silky.starter.excel.core.model.imports.ImportResult;
 import com.silky.starter.excel.core.resolve.EnumFieldResolver;
+import com.silky.starter.excel.core.resolve.ExcelModelRegistry;
 import com.silky.starter.excel.core.resolve.MaskFieldResolver;
 import com.silky.starter.excel.core.resolve.ResolveContext;
 import com.silky.starter.excel.core.storage.StorageObject;
@@ -151,6 +152,27 @@ public class ExcelTemplateTest extends ExcelApplicationTest {
         assertNotEquals("zhangsan@example.com", emailResult);
     }
 
+    /**
+     * 验证 maskChar 仅作用于 PARTIAL 和 CUSTOM 策略，手机号、身份证号、姓名与 DesensitizedUtil 一致使用 *。
+     */
+    @Test
+    public void testMaskCharOnlyAppliesToPartialAndCustom() throws NoSuchFieldException {
+        MaskFieldResolver resolver = new MaskFieldResolver(new ExcelModelRegistry());
+        ResolveContext context = new ResolveContext();
+
+        assertEquals("138****5678", maskHashField(resolver, "phone", "13812345678", context));
+        assertEquals("110***********1234", maskHashField(resolver, "idCard", "110101199001011234", context));
+        assertEquals("张**", maskHashField(resolver, "name", "张三丰", context));
+        assertEquals("a###z", maskHashField(resolver, "code", "abcdz", context));
+        assertEquals("138####5678", maskHashField(resolver, "custom", "13812345678", context));
+    }
+
+    private static Object maskHashField(MaskFieldResolver resolver, String fieldName, String value,
+                                        ResolveContext context) throws NoSuchFieldException {
+        Field field = HashMaskRow.class.getDeclaredField(fieldName);
+        return resolver.resolve(field, field.getAnnotation(ExcelMask.class), value, context);
+    }
+
     /**
      * 验证枚举翻译解析器。
      */
@@ -389,4 +411,25 @@ public class ExcelTemplateTest extends ExcelApplicationTest {
         }
         return list;
     }
+
+    /**
+     * 所有脱敏字段都指定 maskChar 为 #
+     */
+    private static class HashMaskRow {
+
+        @ExcelMask(strategy = ExcelMask.MaskStrategy.PHONE, maskChar = '#')
+        private String phone;
+
+        @ExcelMask(strategy = ExcelMask.MaskStrategy.ID_CARD, maskChar = '#')
+        private String idCard;
+
+        @ExcelMask(strategy = ExcelMask.MaskStrategy.NAME, maskChar = '#')
+        private String name;
+
+        @ExcelMask(strategy = ExcelMask.MaskStrategy.PARTIAL, maskChar = '#')
+        private String code;
+
+        @ExcelMask(customPattern = "(\\d{3})\\d{4}(\\d{4})", maskChar = '#')
+        private String custom;
+    }
 }